@@ -0,0 +1,180 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.ReplicaWharf;
+import com.trs.pacifica.async.thread.ExecutorGroup;
+import com.trs.pacifica.async.thread.MpscSingleThreadExecutor;
+import com.trs.pacifica.async.thread.MpscSingleThreadExecutorGroup;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
+import com.trs.pacifica.core.ReplicaImpl;
+import com.trs.pacifica.core.ReplicaState;
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.model.ReplicaGroup;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.rpc.JPacificaRpcServerFactory;
+import com.trs.pacifica.rpc.node.DefaultEndpointManager;
+import com.trs.pacifica.rpc.node.Endpoint;
+import com.trs.pacifica.rpc.service.DefaultReplicaServiceManager;
+import com.trs.pacifica.util.NamedThreadFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * one ReplicaGroup of which the replicas are on the nodes in the same JVM, connected by {@link InJvmRpcClient}.
+ * The first node is the Primary, and the others join as Secondary after recovering one by one.
+ */
+public class InJvmCluster {
+
+    static final String LOCAL_IP = "127.0.0.1";
+
+    static final int BASE_PORT = 18800;
+
+    static final int REPLICATION_THREAD_NUM = 2;
+
+    private final String groupName;
+
+    private final int replicaNum;
+
+    private final Path dataPath;
+
+    private final InMemoryConfigurationClient configurationClient;
+
+    private final DefaultEndpointManager endpointManager = new DefaultEndpointManager();
+
+    private final Map<Endpoint, InJvmRpcServer> rpcServers = new ConcurrentHashMap<>();
+
+    private final List<ReplicaWharf> replicaWharves = new ArrayList<>();
+
+    private final List<ExecutorGroup> replicationExecutorGroups = new ArrayList<>();
+
+    public InJvmCluster(final String groupName, final int replicaNum, final Path dataPath) {
+        this.groupName = groupName;
+        this.replicaNum = replicaNum;
+        this.dataPath = dataPath;
+        this.configurationClient = new InMemoryConfigurationClient(groupName, nodeId(0));
+    }
+
+    static String nodeId(final int index) {
+        return "node" + (index + 1);
+    }
+
+    public void start(final long timeoutMs) throws PacificaException, IOException, InterruptedException {
+        // one Candidate after another, the concurrent recoveries conflict on the version of the ReplicaGroup
+        for (int i = 0; i < replicaNum; i++) {
+            startReplica(i);
+            awaitReady(timeoutMs);
+        }
+    }
+
+    private void startReplica(final int index) throws PacificaException, IOException {
+        final String nodeId = nodeId(index);
+        final Endpoint endpoint = new Endpoint(LOCAL_IP, BASE_PORT + index);
+        this.endpointManager.registerEndpoint(nodeId, endpoint);
+
+        final DefaultReplicaServiceManager replicaServiceManager = new DefaultReplicaServiceManager();
+        final InJvmRpcServer rpcServer = new InJvmRpcServer(endpoint);
+        // the nodes do not share the replication threads as they are in separate processes,
+        // otherwise the Primary handling ReplicaRecoverRequest may wait for the PingReplicaRequest queued behind it.
+        final ExecutorGroup replicationExecutorGroup = newReplicationExecutorGroup(nodeId);
+        this.replicationExecutorGroups.add(replicationExecutorGroup);
+        final JPacificaRpcServerFactory.HandlerExecutorOption handlerExecutorOption = new JPacificaRpcServerFactory.HandlerExecutorOption();
+        handlerExecutorOption.setReplicationExecutor(replicationExecutorGroup);
+        JPacificaRpcServerFactory.addPacificaRequestHandlers(rpcServer, replicaServiceManager, handlerExecutorOption);
+        rpcServer.init(null);
+        rpcServer.startup();
+
+        final ReplicaId replicaId = new ReplicaId(groupName, nodeId);
+        final Path logStoragePath = Files.createDirectories(dataPath.resolve(nodeId).resolve("wal"));
+        final Path snapshotStoragePath = Files.createDirectories(dataPath.resolve(nodeId).resolve("snapshot"));
+        final ReplicaWharf replicaWharf = ReplicaWharf.newBuilder(replicaId)//
+                .stateMachine(new NoopStateMachine())//
+                .logStoragePath(logStoragePath.toString())//
+                .snapshotStoragePath(snapshotStoragePath.toString())//
+                .configurationClient(this.configurationClient)//
+                .rpcServer(rpcServer)//
+                .rpcClient(new InJvmRpcClient(endpoint.toString(), this.rpcServers))//
+                .endpointFactory(this.endpointManager)//
+                .recoverIntervalMs(100)//
+                .build();
+        replicaServiceManager.registerReplicaService(replicaId, replicaWharf.getReplicaImpl());
+        this.rpcServers.put(endpoint, rpcServer);
+        replicaWharf.start();
+        this.replicaWharves.add(replicaWharf);
+    }
+
+    private static ExecutorGroup newReplicationExecutorGroup(final String nodeId) {
+        final NamedThreadFactory threadFactory = new NamedThreadFactory("in-jvm-rpc-replication-" + nodeId + "-", true);
+        final SingleThreadExecutor[] children = new SingleThreadExecutor[REPLICATION_THREAD_NUM];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = new MpscSingleThreadExecutor(MpscSingleThreadExecutorGroup._DEFAULT_MAX_PENDING_TASKS_PER_THREAD, threadFactory);
+        }
+        return new MpscSingleThreadExecutorGroup(children);
+    }
+
+    private void awaitReady(final long timeoutMs) throws PacificaException, InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (!isReady()) {
+            if (System.nanoTime() > deadline) {
+                throw new PacificaException(PacificaErrorCode.TIMEOUT, "timeout to wait for the replicas of " + groupName + " ready");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private boolean isReady() {
+        final ReplicaGroup replicaGroup = this.configurationClient.getReplicaGroup(groupName);
+        if (replicaGroup.listSecondary().size() != this.replicaWharves.size() - 1) {
+            return false;
+        }
+        for (ReplicaWharf replicaWharf : this.replicaWharves) {
+            final ReplicaState state = replicaWharf.getReplicaImpl().getReplicaState();
+            if (state != ReplicaState.Primary && state != ReplicaState.Secondary) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ReplicaImpl getPrimary() {
+        return this.replicaWharves.get(0).getReplicaImpl();
+    }
+
+    public void shutdown() throws PacificaException {
+        for (ReplicaWharf replicaWharf : this.replicaWharves) {
+            replicaWharf.shutdown();
+        }
+        this.replicaWharves.clear();
+        for (InJvmRpcServer rpcServer : this.rpcServers.values()) {
+            rpcServer.shutdown();
+        }
+        this.rpcServers.clear();
+        for (ExecutorGroup executorGroup : this.replicationExecutorGroups) {
+            executorGroup.shutdownGracefully();
+        }
+        this.replicationExecutorGroups.clear();
+    }
+}
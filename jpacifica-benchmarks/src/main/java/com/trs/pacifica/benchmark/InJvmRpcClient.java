@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.rpc.client.InvokeCallback;
+import com.trs.pacifica.rpc.client.RpcClient;
+import com.trs.pacifica.rpc.node.Endpoint;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * RpcClient sending the requests to the {@link InJvmRpcServer} of the endpoint.
+ * timeoutMs of invokeAsync is ignored, the RpcHandlers of pacifica always respond.
+ */
+public class InJvmRpcClient implements RpcClient {
+
+    private final String localAddress;
+
+    private final Map<Endpoint, InJvmRpcServer> rpcServers;
+
+    /**
+     * @param localAddress address of the client, to see RpcContext#getRemoteAddress()
+     * @param rpcServers   shared by all clients of the cluster
+     */
+    public InJvmRpcClient(final String localAddress, final Map<Endpoint, InJvmRpcServer> rpcServers) {
+        this.localAddress = localAddress;
+        this.rpcServers = rpcServers;
+    }
+
+    @Override
+    public boolean checkConnection(Endpoint endpoint, boolean createIfAbsent) {
+        return this.rpcServers.containsKey(endpoint);
+    }
+
+    @Override
+    public void invokeAsync(Endpoint endpoint, Object request, InvokeCallback callback, long timeoutMs) {
+        final InJvmRpcServer rpcServer = this.rpcServers.get(endpoint);
+        if (rpcServer == null) {
+            InJvmRpcServer.complete(callback, null, new PacificaException(PacificaErrorCode.UNAVAILABLE, "not found RpcServer of " + endpoint));
+            return;
+        }
+        rpcServer.handleRequest(request, this.localAddress, callback);
+    }
+
+    @Override
+    public Object invokeSync(Endpoint endpoint, Object request, long timeoutMs) throws PacificaException {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        invokeAsync(endpoint, request, new InvokeCallback() {
+            @Override
+            public void complete(Object result, Throwable err) {
+                if (err != null) {
+                    future.completeExceptionally(err);
+                } else {
+                    future.complete(result);
+                }
+            }
+
+            @Override
+            public Executor executor() {
+                return null;
+            }
+        }, timeoutMs);
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PacificaException(PacificaErrorCode.INTERRUPTED, "interrupted", e);
+        } catch (ExecutionException e) {
+            throw new PacificaException(PacificaErrorCode.UNAVAILABLE, e.getCause());
+        } catch (TimeoutException e) {
+            throw new PacificaException(PacificaErrorCode.TIMEOUT, "timeout", e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.rpc.RpcContext;
+import com.trs.pacifica.rpc.RpcHandler;
+import com.trs.pacifica.rpc.RpcServer;
+import com.trs.pacifica.rpc.client.InvokeCallback;
+import com.trs.pacifica.rpc.node.Endpoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * RpcServer in the same JVM with the {@link InJvmRpcClient}, the requests and responses are passed by reference
+ * without serialization, so that the cost of the replication is measured without the network.
+ */
+public class InJvmRpcServer implements RpcServer {
+
+    private final Endpoint endpoint;
+
+    private final Map<String, RpcHandler<?, ?>> rpcHandlers = new ConcurrentHashMap<>();
+
+    /**
+     * in place of the worker threads of the rpc framework, for the RpcHandler without executor.
+     */
+    private ExecutorService workerExecutor;
+
+    public InJvmRpcServer(final Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public void registerRpcHandler(RpcHandler<?, ?> rpcHandler) {
+        this.rpcHandlers.put(rpcHandler.interest(), rpcHandler);
+    }
+
+    @Override
+    public void init(Object option) throws PacificaException {
+    }
+
+    @Override
+    public synchronized void startup() throws PacificaException {
+        if (this.workerExecutor == null) {
+            this.workerExecutor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "in-jvm-rpc-" + endpoint.getPort());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() throws PacificaException {
+        if (this.workerExecutor != null) {
+            this.workerExecutor.shutdownNow();
+            this.workerExecutor = null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void handleRequest(final Object request, final String remoteAddress, final InvokeCallback callback) {
+        final ExecutorService workerExecutor = this.workerExecutor;
+        final RpcHandler rpcHandler = this.rpcHandlers.get(request.getClass().getName());
+        if (workerExecutor == null || rpcHandler == null) {
+            complete(callback, null, new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("%s not found RpcHandler of %s", endpoint, request.getClass().getName())));
+            return;
+        }
+        final RpcContext<Object> rpcContext = new RpcContext<Object>() {
+            @Override
+            public void sendResponse(Object response) {
+                complete(callback, response, null);
+            }
+
+            @Override
+            public String getRemoteAddress() {
+                return remoteAddress;
+            }
+        };
+        Executor executor = rpcHandler.executor(request);
+        if (executor == null) {
+            executor = workerExecutor;
+        }
+        executor.execute(() -> {
+            try {
+                rpcHandler.handleRequest(rpcContext, request);
+            } catch (Throwable throwable) {
+                complete(callback, null, throwable);
+            }
+        });
+    }
+
+    static void complete(final InvokeCallback callback, final Object result, final Throwable error) {
+        final Executor executor = callback.executor();
+        if (executor == null) {
+            callback.complete(result, error);
+        } else {
+            executor.execute(() -> callback.complete(result, error));
+        }
+    }
+
+}
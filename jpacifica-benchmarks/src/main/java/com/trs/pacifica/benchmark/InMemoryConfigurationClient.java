@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.ConfigurationClient;
+import com.trs.pacifica.model.ReplicaGroup;
+import com.trs.pacifica.model.ReplicaGroupImpl;
+import com.trs.pacifica.model.ReplicaId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ConfigurationClient of one ReplicaGroup in memory, every change is compare-and-set on the version.
+ */
+public class InMemoryConfigurationClient implements ConfigurationClient {
+
+    private final String groupName;
+
+    private ReplicaId primary;
+
+    private final List<ReplicaId> secondaries = new ArrayList<>();
+
+    private long version = 1L;
+
+    private long term = 1L;
+
+    public InMemoryConfigurationClient(final String groupName, final String primaryNodeId) {
+        this.groupName = groupName;
+        this.primary = new ReplicaId(groupName, primaryNodeId);
+    }
+
+    @Override
+    public synchronized ReplicaGroup getReplicaGroup(String groupName) {
+        if (!this.groupName.equals(groupName)) {
+            return null;
+        }
+        return new ReplicaGroupImpl(groupName, this.version, this.term, this.primary, new ArrayList<>(this.secondaries));
+    }
+
+    @Override
+    public synchronized boolean addSecondary(long version, ReplicaId replicaId) {
+        if (version != this.version) {
+            return false;
+        }
+        if (!this.secondaries.contains(replicaId)) {
+            this.secondaries.add(replicaId);
+        }
+        this.version++;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeSecondary(long version, ReplicaId replicaId) {
+        if (version != this.version) {
+            return false;
+        }
+        this.secondaries.remove(replicaId);
+        this.version++;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean changePrimary(long version, ReplicaId replicaId) {
+        if (version != this.version || !this.secondaries.remove(replicaId)) {
+            return false;
+        }
+        // the old primary becomes Candidate
+        this.primary = replicaId;
+        this.version++;
+        this.term++;
+        return true;
+    }
+}
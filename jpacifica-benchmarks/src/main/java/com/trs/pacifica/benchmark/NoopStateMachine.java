@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.core.fsm.BaseStateMachine;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.model.LogId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * StateMachine doing nothing but finishing the Operation.
+ */
+public class NoopStateMachine extends BaseStateMachine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NoopStateMachine.class);
+
+    @Override
+    public void doApply(LogId logId, ByteBuffer logData, Callback callback) throws Exception {
+        if (callback != null) {
+            callback.run(Finished.success());
+        }
+    }
+
+    @Override
+    public void onError(PacificaException fault) {
+        LOGGER.error("the StateMachine occurs error.", fault);
+    }
+}
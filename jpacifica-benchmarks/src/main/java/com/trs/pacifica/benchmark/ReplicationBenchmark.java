@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.benchmark;
+
+import com.trs.pacifica.model.Operation;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * end-to-end replication of the {@link InJvmCluster}: apply the Operation on the Primary and wait until it is committed.
+ * SampleTime reports the percentiles of the latency, and more client threads are given by "-t".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReplicationBenchmark {
+
+    static final String GROUP_NAME = "benchmark_group";
+
+    static final long APPLY_TIMEOUT_MS = 10_000;
+
+    @Param({"3"})
+    private int replicaNum;
+
+    @Param({"128", "1024", "16384"})
+    private int payloadSize;
+
+    private Path dataPath;
+
+    private InJvmCluster cluster;
+
+    private ByteBuffer logData;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.dataPath = BenchmarkUtils.createTempDir("replication_benchmark");
+        this.cluster = new InJvmCluster(GROUP_NAME, replicaNum, dataPath);
+        this.cluster.start(60_000);
+        this.logData = BenchmarkUtils.randomLogData(payloadSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.cluster.shutdown();
+        BenchmarkUtils.deleteDir(this.dataPath);
+    }
+
+    @Benchmark
+    public void apply() throws Exception {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final Operation operation = new Operation();
+        operation.setLogData(this.logData.duplicate());
+        operation.setOnFinish(finished -> {
+            if (finished.isOk()) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(finished.error());
+            }
+        });
+        this.cluster.getPrimary().apply(operation);
+        future.get(APPLY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+}
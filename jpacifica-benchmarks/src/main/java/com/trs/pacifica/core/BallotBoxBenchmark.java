@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.core;
+
+import com.trs.pacifica.BallotBox;
+import com.trs.pacifica.LifeCycle;
+import com.trs.pacifica.LogManager;
+import com.trs.pacifica.Replica;
+import com.trs.pacifica.StateMachineCaller;
+import com.trs.pacifica.model.ReplicaGroup;
+import com.trs.pacifica.model.ReplicaGroupImpl;
+import com.trs.pacifica.model.ReplicaId;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BallotBoxImpl} on the Primary: initiate the ballots and grant them by all replicas of the group.
+ * "baseline" is {@link BaselineBallotBox}, the BallotBoxImpl with one map of granters per log index,
+ * "current" is {@link BallotBoxImpl}.
+ * Run with "-prof gc" for the bytes allocated per ballot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BallotBoxBenchmark {
+
+    static final String GROUP_NAME = "benchmark_group";
+
+    @Param({"baseline", "current"})
+    private String impl;
+
+    @Param({"2", "4", "8"})
+    private int secondaryNum;
+
+    @Param({"1", "32"})
+    private int batchSize;
+
+    private BallotBox ballotBox;
+
+    private LifeCycle<BallotBoxImpl.Option> lifeCycle;
+
+    private ReplicaGroup replicaGroup;
+
+    private List<ReplicaId> granters;
+
+    private long nextLogIndex;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        final ReplicaId primary = new ReplicaId(GROUP_NAME, "primary");
+        final List<ReplicaId> secondaries = new ArrayList<>(secondaryNum);
+        for (int i = 0; i < secondaryNum; i++) {
+            secondaries.add(new ReplicaId(GROUP_NAME, "secondary" + i));
+        }
+        this.replicaGroup = new ReplicaGroupImpl(GROUP_NAME, 1L, 1L, primary, secondaries);
+        this.granters = new ArrayList<>(secondaries.size() + 1);
+        this.granters.add(primary);
+        this.granters.addAll(secondaries);
+
+        final Replica replica = stub(Replica.class, primary);
+        if ("baseline".equals(impl)) {
+            final BaselineBallotBox baselineBallotBox = new BaselineBallotBox(replica);
+            this.ballotBox = baselineBallotBox;
+            this.lifeCycle = baselineBallotBox;
+        } else {
+            final BallotBoxImpl ballotBoxImpl = new BallotBoxImpl(replica);
+            this.ballotBox = ballotBoxImpl;
+            this.lifeCycle = ballotBoxImpl;
+        }
+        final BallotBoxImpl.Option option = new BallotBoxImpl.Option();
+        option.setFsmCaller(stub(StateMachineCaller.class, null));
+        option.setLogManager(stub(LogManager.class, null));
+        this.lifeCycle.init(option);
+        this.lifeCycle.startup();
+        this.nextLogIndex = 1;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        this.lifeCycle.shutdown();
+    }
+
+    /**
+     * initiate {@link #batchSize} ballots, then every replica grants them at once.
+     */
+    @Benchmark
+    @OperationsPerInvocation(32)
+    public long initiateAndBallotBy() {
+        for (int n = 0; n < 32; n += batchSize) {
+            final long startLogIndex = this.nextLogIndex;
+            final long endLogIndex = startLogIndex + batchSize - 1;
+            for (long logIndex = startLogIndex; logIndex <= endLogIndex; logIndex++) {
+                this.ballotBox.initiateBallot(logIndex, this.replicaGroup);
+            }
+            for (ReplicaId granter : this.granters) {
+                this.ballotBox.ballotBy(granter, startLogIndex, endLogIndex);
+            }
+            this.nextLogIndex = endLogIndex + 1;
+        }
+        return this.ballotBox.getLastCommittedLogIndex();
+    }
+
+    /**
+     * @param clazz       interface
+     * @param replicaId   returned by getReplicaId()
+     * @return a stub returning zero for the primitive types and null for others
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(final Class<T> clazz, final ReplicaId replicaId) {
+        return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) -> {
+            final Class<?> returnType = method.getReturnType();
+            if ("getReplicaId".equals(method.getName())) {
+                return replicaId;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == boolean.class) {
+                return true;
+            }
+            return null;
+        });
+    }
+
+}
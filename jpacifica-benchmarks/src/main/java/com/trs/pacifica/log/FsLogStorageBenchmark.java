@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log;
+
+import com.trs.pacifica.benchmark.BenchmarkUtils;
+import com.trs.pacifica.log.codec.DefaultLogEntryCodecFactory;
+import com.trs.pacifica.log.codec.LogEntryCodecFactory;
+import com.trs.pacifica.model.LogEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * throughput of {@link FsLogStorage#appendLogEntries(List)} and {@link FsLogStorage#getLogEntry(long)}.
+ * A new log storage is opened for each iteration, so that the disk usage is bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FsLogStorageBenchmark {
+
+    static final int PRELOAD_LOG_ENTRY_NUM = 4096;
+
+    @Param({"128", "1024", "16384"})
+    private int entrySize;
+
+    @Param({"1", "32"})
+    private int batchSize;
+
+    private final LogEntryCodecFactory codecFactory = new DefaultLogEntryCodecFactory();
+
+    private Path path;
+
+    private FsLogStorage logStorage;
+
+    private ByteBuffer logData;
+
+    private long nextLogIndex;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        this.path = BenchmarkUtils.createTempDir("fs_log_storage_benchmark");
+        this.logStorage = new FsLogStorage(path.toString(), codecFactory.getLogEntryEncoder(), codecFactory.getLogEntryDecoder());
+        this.logStorage.open();
+        this.logData = BenchmarkUtils.randomLogData(entrySize);
+        this.nextLogIndex = 1;
+        while (this.nextLogIndex <= PRELOAD_LOG_ENTRY_NUM) {
+            this.logStorage.appendLogEntries(nextBatch());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        this.logStorage.close();
+        BenchmarkUtils.deleteDir(this.path);
+    }
+
+    private List<LogEntry> nextBatch() {
+        final List<LogEntry> logEntries = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final LogEntry logEntry = new LogEntry(this.nextLogIndex++, 1L, LogEntry.Type.OP_DATA);
+            logEntry.setLogData(this.logData.duplicate());
+            logEntries.add(logEntry);
+        }
+        return logEntries;
+    }
+
+    @Benchmark
+    public int appendLogEntries() {
+        return this.logStorage.appendLogEntries(nextBatch());
+    }
+
+    @Benchmark
+    public LogEntry getLogEntry() {
+        final long logIndex = 1 + ThreadLocalRandom.current().nextInt(PRELOAD_LOG_ENTRY_NUM);
+        return this.logStorage.getLogEntry(logIndex);
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log.codec;
+
+import com.trs.pacifica.benchmark.BenchmarkUtils;
+import com.trs.pacifica.model.LogEntry;
+import com.trs.pacifica.util.io.ByteDataBuffer;
+import com.trs.pacifica.util.io.DataBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * encode and decode of {@link DefaultLogEntryCodecFactory}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogEntryCodecBenchmark {
+
+    @Param({"128", "1024", "16384"})
+    private int entrySize;
+
+    private final LogEntryCodecFactory codecFactory = new DefaultLogEntryCodecFactory();
+
+    private LogEntryEncoder encoder;
+
+    private LogEntryDecoder decoder;
+
+    private ByteBuffer logData;
+
+    private byte[] encodedBytes;
+
+    @Setup
+    public void setup() {
+        this.encoder = codecFactory.getLogEntryEncoder();
+        this.decoder = codecFactory.getLogEntryDecoder();
+        this.logData = BenchmarkUtils.randomLogData(entrySize);
+        this.encodedBytes = encoder.encode(newLogEntry()).readRemain();
+    }
+
+    private LogEntry newLogEntry() {
+        final LogEntry logEntry = new LogEntry(1001L, 1L, LogEntry.Type.OP_DATA);
+        // the encoder consumes the log data
+        logEntry.setLogData(this.logData.duplicate());
+        return logEntry;
+    }
+
+    @Benchmark
+    public DataBuffer encode() {
+        return this.encoder.encode(newLogEntry());
+    }
+
+    @Benchmark
+    public LogEntry decode() {
+        return this.decoder.decode(new ByteDataBuffer(this.encodedBytes));
+    }
+
+}
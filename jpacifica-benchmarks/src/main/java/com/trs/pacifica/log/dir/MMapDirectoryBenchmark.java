@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log.dir;
+
+import com.trs.pacifica.benchmark.BenchmarkUtils;
+import com.trs.pacifica.log.io.InOutput;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * read and write of the file mapped by {@link MMapDirectory}, at sequential positions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MMapDirectoryBenchmark {
+
+    static final String FILENAME = "mmap_directory_benchmark";
+
+    static final int FILE_SIZE = 64 * 1024 * 1024;
+
+    @Param({"128", "4096", "65536"})
+    private int size;
+
+    private Path path;
+
+    private FsDirectory directory;
+
+    private InOutput inOutput;
+
+    private byte[] writeBytes;
+
+    private byte[] readBytes;
+
+    private int writePosition = 0;
+
+    private int readPosition = 0;
+
+    @Setup
+    public void setup() throws IOException {
+        this.path = BenchmarkUtils.createTempDir("mmap_directory_benchmark");
+        this.directory = MMapDirectory.open(path);
+        this.directory.createFile(FILENAME, FILE_SIZE);
+        this.inOutput = this.directory.openInOutput(FILENAME);
+        this.writeBytes = BenchmarkUtils.randomBytes(size);
+        this.readBytes = new byte[size];
+        for (int position = 0; position + size <= FILE_SIZE; position += size) {
+            this.inOutput.writeBytes(position, this.writeBytes);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.inOutput.close();
+        this.directory.close();
+        BenchmarkUtils.deleteDir(this.path);
+    }
+
+    private int nextPosition(final int position) {
+        final int next = position + this.size;
+        return next + this.size > FILE_SIZE ? 0 : next;
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        this.inOutput.writeBytes(this.writePosition, this.writeBytes);
+        this.writePosition = nextPosition(this.writePosition);
+    }
+
+    @Benchmark
+    public byte[] read() throws IOException {
+        this.inOutput.seek(this.readPosition);
+        this.inOutput.readBytes(this.readBytes);
+        this.readPosition = nextPosition(this.readPosition);
+        return this.readBytes;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log.store;
+
+import com.trs.pacifica.benchmark.BenchmarkUtils;
+import com.trs.pacifica.log.FsLogStorage;
+import com.trs.pacifica.log.FsLogStorageOption;
+import com.trs.pacifica.log.codec.DefaultLogEntryCodecFactory;
+import com.trs.pacifica.log.codec.LogEntryCodecFactory;
+import com.trs.pacifica.model.LogEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * random-read throughput of {@link FsLogStorage#getLogEntry(long)} when the index and segment stores
+ * have more than {@link #fileNum} files each, which measures the file lookups of {@link AbstractStore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AbstractStoreLookupBenchmark {
+
+    static final int INDEX_ENTRY_COUNT_PER_FILE = 16;
+
+    static final int SEGMENT_FILE_SIZE = 2048;
+
+    static final int ENTRY_SIZE = 128;
+
+    static final int BATCH_SIZE = 64;
+
+    @Param({"1024", "4096"})
+    private int fileNum;
+
+    private final LogEntryCodecFactory codecFactory = new DefaultLogEntryCodecFactory();
+
+    private Path path;
+
+    private FsLogStorage logStorage;
+
+    private int logEntryNum;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.path = BenchmarkUtils.createTempDir("abstract_store_lookup_benchmark");
+        final FsLogStorageOption option = new FsLogStorageOption();
+        option.setIndexEntryCountPerFile(INDEX_ENTRY_COUNT_PER_FILE);
+        option.setSegmentFileSize(SEGMENT_FILE_SIZE);
+        option.setPreallocateFileNum(0);
+        this.logStorage = new FsLogStorage(path.toString(), codecFactory.getLogEntryEncoder(), codecFactory.getLogEntryDecoder(), option);
+        this.logStorage.open();
+        // one segment file holds less LogEntries than one index file
+        this.logEntryNum = fileNum * INDEX_ENTRY_COUNT_PER_FILE;
+        final ByteBuffer logData = BenchmarkUtils.randomLogData(ENTRY_SIZE);
+        long logIndex = 1;
+        while (logIndex <= this.logEntryNum) {
+            final List<LogEntry> logEntries = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE && logIndex <= this.logEntryNum; i++) {
+                final LogEntry logEntry = new LogEntry(logIndex++, 1L, LogEntry.Type.OP_DATA);
+                logEntry.setLogData(logData.duplicate());
+                logEntries.add(logEntry);
+            }
+            this.logStorage.appendLogEntries(logEntries);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.logStorage.close();
+        BenchmarkUtils.deleteDir(this.path);
+    }
+
+    private long randomLogIndex() {
+        return 1 + ThreadLocalRandom.current().nextInt(this.logEntryNum);
+    }
+
+    @Benchmark
+    public LogEntry getLogEntry() {
+        return this.logStorage.getLogEntry(randomLogIndex());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public LogEntry getLogEntryConcurrently() {
+        return this.logStorage.getLogEntry(randomLogIndex());
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc.impl.grpc;
+
+import com.google.protobuf.Message;
+import com.trs.pacifica.proto.RpcRequest;
+import io.grpc.MethodDescriptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * the MethodDescriptor cached by {@link GrpcClient#getCallMethod(Object)} against one built for each call,
+ * which looks up the marshallers from the MarshallerManagers as the client did before the cache.
+ * Run with "-prof gc" for the bytes allocated per call, eg:
+ * ./gradlew :jpacifica-benchmarks:jmh -Pjmh.args="GrpcClientBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcClientBenchmark {
+
+    private GrpcClient grpcClient;
+
+    private RpcRequest.AppendEntriesRequest request;
+
+    @Setup
+    public void setup() {
+        this.grpcClient = (GrpcClient) new GrpcFactory().createRpcClient();
+        this.request = RpcRequest.AppendEntriesRequest.getDefaultInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.grpcClient.shutdown();
+    }
+
+    @Benchmark
+    public MethodDescriptor<Message, Message> cachedCallMethod() {
+        return this.grpcClient.getCallMethod(this.request);
+    }
+
+    @Benchmark
+    public MethodDescriptor<Message, Message> newCallMethod() {
+        final String requestClzName = this.request.getClass().getName();
+        return MethodDescriptor //
+                .<Message, Message>newBuilder() //
+                .setType(MethodDescriptor.MethodType.UNARY) //
+                .setFullMethodName(this.grpcClient.getFullMethodName(requestClzName)) //
+                .setRequestMarshaller(this.grpcClient.getRequestMarshaller(requestClzName)) //
+                .setResponseMarshaller(this.grpcClient.getResponseMarshaller(requestClzName)) //
+                .build();
+    }
+
+}
@@ -2559,6 +2559,44 @@ public final class RpcRequest {
      * @return The lastLogIndex.
      */
     long getLastLogIndex();
+
+    /**
+     * <pre>
+     * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_term = 7;</code>
+     * @return Whether the conflictTerm field is set.
+     */
+    boolean hasConflictTerm();
+    /**
+     * <pre>
+     * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_term = 7;</code>
+     * @return The conflictTerm.
+     */
+    long getConflictTerm();
+
+    /**
+     * <pre>
+     * the first log index of conflict_term in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_first_index = 8;</code>
+     * @return Whether the conflictFirstIndex field is set.
+     */
+    boolean hasConflictFirstIndex();
+    /**
+     * <pre>
+     * the first log index of conflict_term in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_first_index = 8;</code>
+     * @return The conflictFirstIndex.
+     */
+    long getConflictFirstIndex();
   }
   /**
    * Protobuf type {@code jpacifica.AppendEntriesResponse}
@@ -2717,6 +2755,60 @@ public final class RpcRequest {
       return lastLogIndex_;
     }
 
+    public static final int CONFLICT_TERM_FIELD_NUMBER = 7;
+    private long conflictTerm_ = 0L;
+    /**
+     * <pre>
+     * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_term = 7;</code>
+     * @return Whether the conflictTerm field is set.
+     */
+    @java.lang.Override
+    public boolean hasConflictTerm() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_term = 7;</code>
+     * @return The conflictTerm.
+     */
+    @java.lang.Override
+    public long getConflictTerm() {
+      return conflictTerm_;
+    }
+
+    public static final int CONFLICT_FIRST_INDEX_FIELD_NUMBER = 8;
+    private long conflictFirstIndex_ = 0L;
+    /**
+     * <pre>
+     * the first log index of conflict_term in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_first_index = 8;</code>
+     * @return Whether the conflictFirstIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasConflictFirstIndex() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <pre>
+     * the first log index of conflict_term in the Secondary's log
+     * </pre>
+     *
+     * <code>optional int64 conflict_first_index = 8;</code>
+     * @return The conflictFirstIndex.
+     */
+    @java.lang.Override
+    public long getConflictFirstIndex() {
+      return conflictFirstIndex_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2749,6 +2841,12 @@ public final class RpcRequest {
       if (((bitField0_ & 0x00000020) != 0)) {
         output.writeInt64(6, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(7, conflictTerm_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, conflictFirstIndex_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2782,6 +2880,14 @@ public final class RpcRequest {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(6, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, conflictTerm_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, conflictFirstIndex_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2827,6 +2933,16 @@ public final class RpcRequest {
         if (getLastLogIndex()
             != other.getLastLogIndex()) return false;
       }
+      if (hasConflictTerm() != other.hasConflictTerm()) return false;
+      if (hasConflictTerm()) {
+        if (getConflictTerm()
+            != other.getConflictTerm()) return false;
+      }
+      if (hasConflictFirstIndex() != other.hasConflictFirstIndex()) return false;
+      if (hasConflictFirstIndex()) {
+        if (getConflictFirstIndex()
+            != other.getConflictFirstIndex()) return false;
+      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2867,6 +2983,16 @@ public final class RpcRequest {
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getLastLogIndex());
       }
+      if (hasConflictTerm()) {
+        hash = (37 * hash) + CONFLICT_TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getConflictTerm());
+      }
+      if (hasConflictFirstIndex()) {
+        hash = (37 * hash) + CONFLICT_FIRST_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getConflictFirstIndex());
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3014,6 +3140,8 @@ public final class RpcRequest {
         version_ = 0L;
         commitPoint_ = 0L;
         lastLogIndex_ = 0L;
+        conflictTerm_ = 0L;
+        conflictFirstIndex_ = 0L;
         return this;
       }
 
@@ -3074,6 +3202,14 @@ public final class RpcRequest {
           result.lastLogIndex_ = lastLogIndex_;
           to_bitField0_ |= 0x00000020;
         }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.conflictTerm_ = conflictTerm_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.conflictFirstIndex_ = conflictFirstIndex_;
+          to_bitField0_ |= 0x00000080;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -3139,6 +3275,12 @@ public final class RpcRequest {
         if (other.hasLastLogIndex()) {
           setLastLogIndex(other.getLastLogIndex());
         }
+        if (other.hasConflictTerm()) {
+          setConflictTerm(other.getConflictTerm());
+        }
+        if (other.hasConflictFirstIndex()) {
+          setConflictFirstIndex(other.getConflictFirstIndex());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -3197,6 +3339,16 @@ public final class RpcRequest {
                 bitField0_ |= 0x00000020;
                 break;
               } // case 48
+              case 56: {
+                conflictTerm_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                conflictFirstIndex_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3534,6 +3686,118 @@ public final class RpcRequest {
         onChanged();
         return this;
       }
+
+      private long conflictTerm_ ;
+      /**
+       * <pre>
+       * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_term = 7;</code>
+       * @return Whether the conflictTerm field is set.
+       */
+      @java.lang.Override
+      public boolean hasConflictTerm() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_term = 7;</code>
+       * @return The conflictTerm.
+       */
+      @java.lang.Override
+      public long getConflictTerm() {
+        return conflictTerm_;
+      }
+      /**
+       * <pre>
+       * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_term = 7;</code>
+       * @param value The conflictTerm to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConflictTerm(long value) {
+
+        conflictTerm_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the term of the conflicting LogEntry at prev_log_index in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_term = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConflictTerm() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        conflictTerm_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long conflictFirstIndex_ ;
+      /**
+       * <pre>
+       * the first log index of conflict_term in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_first_index = 8;</code>
+       * @return Whether the conflictFirstIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasConflictFirstIndex() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * the first log index of conflict_term in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_first_index = 8;</code>
+       * @return The conflictFirstIndex.
+       */
+      @java.lang.Override
+      public long getConflictFirstIndex() {
+        return conflictFirstIndex_;
+      }
+      /**
+       * <pre>
+       * the first log index of conflict_term in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_first_index = 8;</code>
+       * @param value The conflictFirstIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConflictFirstIndex(long value) {
+
+        conflictFirstIndex_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the first log index of conflict_term in the Secondary's log
+       * </pre>
+       *
+       * <code>optional int64 conflict_first_index = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConflictFirstIndex() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        conflictFirstIndex_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3598,156 +3862,113 @@ public final class RpcRequest {
 
   }
 
-  public interface ReplicaRecoverRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.ReplicaRecoverRequest)
+  public interface BatchAppendEntriesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.BatchAppendEntriesRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     * @return Whether the recoverId field is set.
-     */
-    boolean hasRecoverId();
-    /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     * @return The recoverId.
-     */
-    com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId();
-    /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     */
-    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder();
-
-    /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-     * @return Whether the primaryId field is set.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
-    boolean hasPrimaryId();
+    java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> 
+        getRequestsList();
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-     * @return The primaryId.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId();
+    com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest getRequests(int index);
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder();
-
+    int getRequestsCount();
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
-    boolean hasTerm();
+    java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder> 
+        getRequestsOrBuilderList();
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
-    long getTerm();
+    com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder getRequestsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code jpacifica.ReplicaRecoverRequest}
+   * <pre>
+   * AppendEntriesRequests without LogEntry (heartbeat) of the replica groups on the same node
+   * </pre>
+   *
+   * Protobuf type {@code jpacifica.BatchAppendEntriesRequest}
    */
-  public static final class ReplicaRecoverRequest extends
+  public static final class BatchAppendEntriesRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.ReplicaRecoverRequest)
-      ReplicaRecoverRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.BatchAppendEntriesRequest)
+      BatchAppendEntriesRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ReplicaRecoverRequest.newBuilder() to construct.
-    private ReplicaRecoverRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use BatchAppendEntriesRequest.newBuilder() to construct.
+    private BatchAppendEntriesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ReplicaRecoverRequest() {
+    private BatchAppendEntriesRequest() {
+      requests_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ReplicaRecoverRequest();
+      return new BatchAppendEntriesRequest();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int RECOVER_ID_FIELD_NUMBER = 1;
-    private com.trs.pacifica.proto.RpcCommon.ReplicaId recoverId_;
-    /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     * @return Whether the recoverId field is set.
-     */
-    @java.lang.Override
-    public boolean hasRecoverId() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     * @return The recoverId.
-     */
-    @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId() {
-      return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
-    }
-    /**
-     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-     */
-    @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder() {
-      return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
+              com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.class, com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.Builder.class);
     }
 
-    public static final int PRIMARY_ID_FIELD_NUMBER = 2;
-    private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> requests_;
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-     * @return Whether the primaryId field is set.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
     @java.lang.Override
-    public boolean hasPrimaryId() {
-      return ((bitField0_ & 0x00000002) != 0);
+    public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> getRequestsList() {
+      return requests_;
     }
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-     * @return The primaryId.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
-      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    public java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
     }
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
-      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    public int getRequestsCount() {
+      return requests_.size();
     }
-
-    public static final int TERM_FIELD_NUMBER = 3;
-    private long term_ = 0L;
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
     @java.lang.Override
-    public boolean hasTerm() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest getRequests(int index) {
+      return requests_.get(index);
     }
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
      */
     @java.lang.Override
-    public long getTerm() {
-      return term_;
+    public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3764,14 +3985,8 @@ public final class RpcRequest {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeMessage(1, getRecoverId());
-      }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeMessage(2, getPrimaryId());
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeInt64(3, term_);
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -3782,17 +3997,9 @@ public final class RpcRequest {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getRecoverId());
-      }
-      if (((bitField0_ & 0x00000002) != 0)) {
+      for (int i = 0; i < requests_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getPrimaryId());
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(3, term_);
+          .computeMessageSize(1, requests_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -3804,26 +4011,13 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest other = (com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest) obj;
+      com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest other = (com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest) obj;
 
-      if (hasRecoverId() != other.hasRecoverId()) return false;
-      if (hasRecoverId()) {
-        if (!getRecoverId()
-            .equals(other.getRecoverId())) return false;
-      }
-      if (hasPrimaryId() != other.hasPrimaryId()) return false;
-      if (hasPrimaryId()) {
-        if (!getPrimaryId()
-            .equals(other.getPrimaryId())) return false;
-      }
-      if (hasTerm() != other.hasTerm()) return false;
-      if (hasTerm()) {
-        if (getTerm()
-            != other.getTerm()) return false;
-      }
+      if (!getRequestsList()
+          .equals(other.getRequestsList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3835,62 +4029,53 @@ public final class RpcRequest {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasRecoverId()) {
-        hash = (37 * hash) + RECOVER_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getRecoverId().hashCode();
-      }
-      if (hasPrimaryId()) {
-        hash = (37 * hash) + PRIMARY_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getPrimaryId().hashCode();
-      }
-      if (hasTerm()) {
-        hash = (37 * hash) + TERM_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTerm());
+      if (getRequestsCount() > 0) {
+        hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+        hash = (53 * hash) + getRequestsList().hashCode();
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3898,26 +4083,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3930,7 +4115,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3946,74 +4131,67 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.ReplicaRecoverRequest}
+     * <pre>
+     * AppendEntriesRequests without LogEntry (heartbeat) of the replica groups on the same node
+     * </pre>
+     *
+     * Protobuf type {@code jpacifica.BatchAppendEntriesRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.ReplicaRecoverRequest)
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.BatchAppendEntriesRequest)
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.class, com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getRecoverIdFieldBuilder();
-          getPrimaryIdFieldBuilder();
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        recoverId_ = null;
-        if (recoverIdBuilder_ != null) {
-          recoverIdBuilder_.dispose();
-          recoverIdBuilder_ = null;
-        }
-        primaryId_ = null;
-        if (primaryIdBuilder_ != null) {
-          primaryIdBuilder_.dispose();
-          primaryIdBuilder_ = null;
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+        } else {
+          requests_ = null;
+          requestsBuilder_.clear();
         }
-        term_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest build() {
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest build() {
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4021,33 +4199,28 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest(this);
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest result = new com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result) {
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.recoverId_ = recoverIdBuilder_ == null
-              ? recoverId_
-              : recoverIdBuilder_.build();
-          to_bitField0_ |= 0x00000001;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.primaryId_ = primaryIdBuilder_ == null
-              ? primaryId_
-              : primaryIdBuilder_.build();
-          to_bitField0_ |= 0x00000002;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.term_ = term_;
-          to_bitField0_ |= 0x00000004;
+      private void buildPartialRepeatedFields(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest result) {
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
         }
-        result.bitField0_ |= to_bitField0_;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest result) {
+        int from_bitField0_ = bitField0_;
       }
 
       @java.lang.Override
@@ -4084,24 +4257,41 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.getDefaultInstance()) return this;
-        if (other.hasRecoverId()) {
-          mergeRecoverId(other.getRecoverId());
-        }
-        if (other.hasPrimaryId()) {
-          mergePrimaryId(other.getPrimaryId());
-        }
-        if (other.hasTerm()) {
-          setTerm(other.getTerm());
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -4130,24 +4320,18 @@ public final class RpcRequest {
                 done = true;
                 break;
               case 10: {
-                input.readMessage(
-                    getRecoverIdFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                bitField0_ |= 0x00000001;
+                com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest m =
+                    input.readMessage(
+                        com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.parser(),
+                        extensionRegistry);
+                if (requestsBuilder_ == null) {
+                  ensureRequestsIsMutable();
+                  requests_.add(m);
+                } else {
+                  requestsBuilder_.addMessage(m);
+                }
                 break;
               } // case 10
-              case 18: {
-                input.readMessage(
-                    getPrimaryIdFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 24: {
-                term_ = input.readInt64();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4165,286 +4349,244 @@ public final class RpcRequest {
       }
       private int bitField0_;
 
-      private com.trs.pacifica.proto.RpcCommon.ReplicaId recoverId_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> recoverIdBuilder_;
+      private java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          requests_ = new java.util.ArrayList<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder> requestsBuilder_;
+
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-       * @return Whether the recoverId field is set.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public boolean hasRecoverId() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-       * @return The recoverId.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId() {
-        if (recoverIdBuilder_ == null) {
-          return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
         } else {
-          return recoverIdBuilder_.getMessage();
+          return requestsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder setRecoverId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (recoverIdBuilder_ == null) {
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
+       */
+      public Builder setRequests(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest value) {
+        if (requestsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          recoverId_ = value;
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
         } else {
-          recoverIdBuilder_.setMessage(value);
+          requestsBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000001;
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder setRecoverId(
-          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
-        if (recoverIdBuilder_ == null) {
-          recoverId_ = builderForValue.build();
+      public Builder setRequests(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
         } else {
-          recoverIdBuilder_.setMessage(builderForValue.build());
+          requestsBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000001;
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder mergeRecoverId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (recoverIdBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0) &&
-            recoverId_ != null &&
-            recoverId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
-            getRecoverIdBuilder().mergeFrom(value);
-          } else {
-            recoverId_ = value;
+      public Builder addRequests(com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-        } else {
-          recoverIdBuilder_.mergeFrom(value);
-        }
-        if (recoverId_ != null) {
-          bitField0_ |= 0x00000001;
+          ensureRequestsIsMutable();
+          requests_.add(value);
           onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder clearRecoverId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        recoverId_ = null;
-        if (recoverIdBuilder_ != null) {
-          recoverIdBuilder_.dispose();
-          recoverIdBuilder_ = null;
+      public Builder addRequests(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
         }
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
-       */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getRecoverIdBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getRecoverIdFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder() {
-        if (recoverIdBuilder_ != null) {
-          return recoverIdBuilder_.getMessageOrBuilder();
+      public Builder addRequests(
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
         } else {
-          return recoverId_ == null ?
-              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
+          requestsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
-          getRecoverIdFieldBuilder() {
-        if (recoverIdBuilder_ == null) {
-          recoverIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
-                  getRecoverId(),
-                  getParentForChildren(),
-                  isClean());
-          recoverId_ = null;
+      public Builder addRequests(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
         }
-        return recoverIdBuilder_;
-      }
-
-      private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> primaryIdBuilder_;
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-       * @return Whether the primaryId field is set.
-       */
-      public boolean hasPrimaryId() {
-        return ((bitField0_ & 0x00000002) != 0);
+        return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-       * @return The primaryId.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
-        if (primaryIdBuilder_ == null) {
-          return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
         } else {
-          return primaryIdBuilder_.getMessage();
+          requestsBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder setPrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (primaryIdBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          primaryId_ = value;
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
         } else {
-          primaryIdBuilder_.setMessage(value);
+          requestsBuilder_.clear();
         }
-        bitField0_ |= 0x00000002;
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder setPrimaryId(
-          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
-        if (primaryIdBuilder_ == null) {
-          primaryId_ = builderForValue.build();
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
         } else {
-          primaryIdBuilder_.setMessage(builderForValue.build());
+          requestsBuilder_.remove(index);
         }
-        bitField0_ |= 0x00000002;
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder mergePrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (primaryIdBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) != 0) &&
-            primaryId_ != null &&
-            primaryId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
-            getPrimaryIdBuilder().mergeFrom(value);
-          } else {
-            primaryId_ = value;
-          }
-        } else {
-          primaryIdBuilder_.mergeFrom(value);
-        }
-        if (primaryId_ != null) {
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        return this;
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder clearPrimaryId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        primaryId_ = null;
-        if (primaryIdBuilder_ != null) {
-          primaryIdBuilder_.dispose();
-          primaryIdBuilder_ = null;
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
         }
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-       */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getPrimaryIdBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getPrimaryIdFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
-        if (primaryIdBuilder_ != null) {
-          return primaryIdBuilder_.getMessageOrBuilder();
+      public java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
         } else {
-          return primaryId_ == null ?
-              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
-        }
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
-          getPrimaryIdFieldBuilder() {
-        if (primaryIdBuilder_ == null) {
-          primaryIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
-                  getPrimaryId(),
-                  getParentForChildren(),
-                  isClean());
-          primaryId_ = null;
+          return java.util.Collections.unmodifiableList(requests_);
         }
-        return primaryIdBuilder_;
       }
-
-      private long term_ ;
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return Whether the term field is set.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      @java.lang.Override
-      public boolean hasTerm() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.getDefaultInstance());
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return The term.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      @java.lang.Override
-      public long getTerm() {
-        return term_;
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.getDefaultInstance());
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @param value The term to set.
-       * @return This builder for chaining.
+       * <code>repeated .jpacifica.AppendEntriesRequest requests = 1;</code>
        */
-      public Builder setTerm(long value) {
-
-        term_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
+      public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
       }
-      /**
-       * <code>optional int64 term = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearTerm() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        term_ = 0L;
-        onChanged();
-        return this;
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequest.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesRequestOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -4459,23 +4601,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.ReplicaRecoverRequest)
+      // @@protoc_insertion_point(builder_scope:jpacifica.BatchAppendEntriesRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.ReplicaRecoverRequest)
-    private static final com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.BatchAppendEntriesRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ReplicaRecoverRequest>
-        PARSER = new com.google.protobuf.AbstractParser<ReplicaRecoverRequest>() {
+    private static final com.google.protobuf.Parser<BatchAppendEntriesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchAppendEntriesRequest>() {
       @java.lang.Override
-      public ReplicaRecoverRequest parsePartialFrom(
+      public BatchAppendEntriesRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4494,24 +4636,24 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<ReplicaRecoverRequest> parser() {
+    public static com.google.protobuf.Parser<BatchAppendEntriesRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ReplicaRecoverRequest> getParserForType() {
+    public com.google.protobuf.Parser<BatchAppendEntriesRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ReplicaRecoverResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.ReplicaRecoverResponse)
+  public interface BatchAppendEntriesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.BatchAppendEntriesResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4530,71 +4672,83 @@ public final class RpcRequest {
     com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder();
 
     /**
-     * <code>optional bool success = 2;</code>
-     * @return Whether the success field is set.
-     */
-    boolean hasSuccess();
-    /**
-     * <code>optional bool success = 2;</code>
-     * @return The success.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
-    boolean getSuccess();
-
+    java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> 
+        getResponsesList();
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
-    boolean hasTerm();
+    com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse getResponses(int index);
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
-    long getTerm();
-
+    int getResponsesCount();
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
-    boolean hasVersion();
+    java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder> 
+        getResponsesOrBuilderList();
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
-    long getVersion();
+    com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder getResponsesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code jpacifica.ReplicaRecoverResponse}
+   * Protobuf type {@code jpacifica.BatchAppendEntriesResponse}
    */
-  public static final class ReplicaRecoverResponse extends
+  public static final class BatchAppendEntriesResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.ReplicaRecoverResponse)
-      ReplicaRecoverResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.BatchAppendEntriesResponse)
+      BatchAppendEntriesResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ReplicaRecoverResponse.newBuilder() to construct.
-    private ReplicaRecoverResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use BatchAppendEntriesResponse.newBuilder() to construct.
+    private BatchAppendEntriesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ReplicaRecoverResponse() {
+    private BatchAppendEntriesResponse() {
+      responses_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ReplicaRecoverResponse();
+      return new BatchAppendEntriesResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.class, com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.Builder.class);
     }
 
     private int bitField0_;
@@ -4624,61 +4778,65 @@ public final class RpcRequest {
       return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
     }
 
-    public static final int SUCCESS_FIELD_NUMBER = 2;
-    private boolean success_ = false;
-    /**
-     * <code>optional bool success = 2;</code>
-     * @return Whether the success field is set.
-     */
-    @java.lang.Override
-    public boolean hasSuccess() {
-      return ((bitField0_ & 0x00000002) != 0);
-    }
+    public static final int RESPONSES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> responses_;
     /**
-     * <code>optional bool success = 2;</code>
-     * @return The success.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
     @java.lang.Override
-    public boolean getSuccess() {
-      return success_;
+    public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> getResponsesList() {
+      return responses_;
     }
-
-    public static final int TERM_FIELD_NUMBER = 3;
-    private long term_ = 0L;
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
     @java.lang.Override
-    public boolean hasTerm() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
     }
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
     @java.lang.Override
-    public long getTerm() {
-      return term_;
+    public int getResponsesCount() {
+      return responses_.size();
     }
-
-    public static final int VERSION_FIELD_NUMBER = 4;
-    private long version_ = 0L;
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
     @java.lang.Override
-    public boolean hasVersion() {
-      return ((bitField0_ & 0x00000008) != 0);
+    public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse getResponses(int index) {
+      return responses_.get(index);
     }
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
+     * <pre>
+     * in the same order as the requests
+     * </pre>
+     *
+     * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
      */
     @java.lang.Override
-    public long getVersion() {
-      return version_;
+    public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4698,14 +4856,8 @@ public final class RpcRequest {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeMessage(1, getError());
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeBool(2, success_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeInt64(3, term_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeInt64(4, version_);
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(2, responses_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -4720,17 +4872,9 @@ public final class RpcRequest {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, getError());
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, success_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(3, term_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
+      for (int i = 0; i < responses_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(4, version_);
+          .computeMessageSize(2, responses_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -4742,31 +4886,18 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse other = (com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse) obj;
+      com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse other = (com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse) obj;
 
       if (hasError() != other.hasError()) return false;
       if (hasError()) {
         if (!getError()
             .equals(other.getError())) return false;
       }
-      if (hasSuccess() != other.hasSuccess()) return false;
-      if (hasSuccess()) {
-        if (getSuccess()
-            != other.getSuccess()) return false;
-      }
-      if (hasTerm() != other.hasTerm()) return false;
-      if (hasTerm()) {
-        if (getTerm()
-            != other.getTerm()) return false;
-      }
-      if (hasVersion() != other.hasVersion()) return false;
-      if (hasVersion()) {
-        if (getVersion()
-            != other.getVersion()) return false;
-      }
+      if (!getResponsesList()
+          .equals(other.getResponsesList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -4782,64 +4913,53 @@ public final class RpcRequest {
         hash = (37 * hash) + ERROR_FIELD_NUMBER;
         hash = (53 * hash) + getError().hashCode();
       }
-      if (hasSuccess()) {
-        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getSuccess());
-      }
-      if (hasTerm()) {
-        hash = (37 * hash) + TERM_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTerm());
-      }
-      if (hasVersion()) {
-        hash = (37 * hash) + VERSION_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getVersion());
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4847,26 +4967,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4879,7 +4999,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4895,26 +5015,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.ReplicaRecoverResponse}
+     * Protobuf type {@code jpacifica.BatchAppendEntriesResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.ReplicaRecoverResponse)
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.BatchAppendEntriesResponse)
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.class, com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4928,6 +5048,7 @@ public final class RpcRequest {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
           getErrorFieldBuilder();
+          getResponsesFieldBuilder();
         }
       }
       @java.lang.Override
@@ -4939,26 +5060,30 @@ public final class RpcRequest {
           errorBuilder_.dispose();
           errorBuilder_ = null;
         }
-        success_ = false;
-        term_ = 0L;
-        version_ = 0L;
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+        } else {
+          responses_ = null;
+          responsesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_BatchAppendEntriesResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse build() {
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse build() {
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4966,14 +5091,27 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse(this);
+      public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse result = new com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result) {
+      private void buildPartialRepeatedFields(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse result) {
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -4982,18 +5120,6 @@ public final class RpcRequest {
               : errorBuilder_.build();
           to_bitField0_ |= 0x00000001;
         }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.success_ = success_;
-          to_bitField0_ |= 0x00000002;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.term_ = term_;
-          to_bitField0_ |= 0x00000004;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.version_ = version_;
-          to_bitField0_ |= 0x00000008;
-        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -5031,27 +5157,44 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse.getDefaultInstance()) return this;
         if (other.hasError()) {
           mergeError(other.getError());
         }
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
-        }
-        if (other.hasTerm()) {
-          setTerm(other.getTerm());
-        }
-        if (other.hasVersion()) {
-          setVersion(other.getVersion());
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -5086,21 +5229,19 @@ public final class RpcRequest {
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
-              case 16: {
-                success_ = input.readBool();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 16
-              case 24: {
-                term_ = input.readInt64();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 24
-              case 32: {
-                version_ = input.readInt64();
-                bitField0_ |= 0x00000008;
+              case 18: {
+                com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse m =
+                    input.readMessage(
+                        com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.parser(),
+                        extensionRegistry);
+                if (responsesBuilder_ == null) {
+                  ensureResponsesIsMutable();
+                  responses_.add(m);
+                } else {
+                  responsesBuilder_.addMessage(m);
+                }
                 break;
-              } // case 32
+              } // case 18
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -5239,125 +5380,317 @@ public final class RpcRequest {
         return errorBuilder_;
       }
 
-      private boolean success_ ;
+      private java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          responses_ = new java.util.ArrayList<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse>(responses_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder> responsesBuilder_;
+
       /**
-       * <code>optional bool success = 2;</code>
-       * @return Whether the success field is set.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public boolean hasSuccess() {
-        return ((bitField0_ & 0x00000002) != 0);
+      public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional bool success = 2;</code>
-       * @return The success.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public boolean getSuccess() {
-        return success_;
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
       }
       /**
-       * <code>optional bool success = 2;</code>
-       * @param value The success to set.
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder setSuccess(boolean value) {
-
-        success_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>optional bool success = 2;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        success_ = false;
-        onChanged();
+      public Builder setResponses(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      private long term_ ;
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return Whether the term field is set.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public boolean hasTerm() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public Builder setResponses(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return The term.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public long getTerm() {
-        return term_;
+      public Builder addResponses(com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @param value The term to set.
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder setTerm(long value) {
-
-        term_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
+      public Builder addResponses(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder clearTerm() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        term_ = 0L;
-        onChanged();
+      public Builder addResponses(
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
-
-      private long version_ ;
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return Whether the version field is set.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public boolean hasVersion() {
-        return ((bitField0_ & 0x00000008) != 0);
+      public Builder addResponses(
+          int index, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return The version.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      @java.lang.Override
-      public long getVersion() {
-        return version_;
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @param value The version to set.
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder setVersion(long value) {
-
-        version_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
        */
-      public Builder clearVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        version_ = 0L;
-        onChanged();
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public java.util.List<? extends com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * in the same order as the requests
+       * </pre>
+       *
+       * <code>repeated .jpacifica.AppendEntriesResponse responses = 2;</code>
+       */
+      public java.util.List<com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponse.Builder, com.trs.pacifica.proto.RpcRequest.AppendEntriesResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5371,23 +5704,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.ReplicaRecoverResponse)
+      // @@protoc_insertion_point(builder_scope:jpacifica.BatchAppendEntriesResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.ReplicaRecoverResponse)
-    private static final com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.BatchAppendEntriesResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ReplicaRecoverResponse>
-        PARSER = new com.google.protobuf.AbstractParser<ReplicaRecoverResponse>() {
+    private static final com.google.protobuf.Parser<BatchAppendEntriesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchAppendEntriesResponse>() {
       @java.lang.Override
-      public ReplicaRecoverResponse parsePartialFrom(
+      public BatchAppendEntriesResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5406,55 +5739,55 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<ReplicaRecoverResponse> parser() {
+    public static com.google.protobuf.Parser<BatchAppendEntriesResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ReplicaRecoverResponse> getParserForType() {
+    public com.google.protobuf.Parser<BatchAppendEntriesResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.BatchAppendEntriesResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InstallSnapshotRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.InstallSnapshotRequest)
+  public interface ReplicaRecoverRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.ReplicaRecoverRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-     * @return Whether the primaryId field is set.
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+     * @return Whether the recoverId field is set.
      */
-    boolean hasPrimaryId();
+    boolean hasRecoverId();
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-     * @return The primaryId.
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+     * @return The recoverId.
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId();
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId();
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder();
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder();
 
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
-     * @return Whether the targetId field is set.
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return Whether the primaryId field is set.
      */
-    boolean hasTargetId();
+    boolean hasPrimaryId();
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
-     * @return The targetId.
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return The primaryId.
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId();
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId();
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder();
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder();
 
     /**
      * <code>optional int64 term = 3;</code>
@@ -5466,137 +5799,93 @@ public final class RpcRequest {
      * @return The term.
      */
     long getTerm();
-
-    /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
-     */
-    boolean hasVersion();
-    /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
-     */
-    long getVersion();
-
-    /**
-     * <code>optional int64 snapshot_log_index = 5;</code>
-     * @return Whether the snapshotLogIndex field is set.
-     */
-    boolean hasSnapshotLogIndex();
-    /**
-     * <code>optional int64 snapshot_log_index = 5;</code>
-     * @return The snapshotLogIndex.
-     */
-    long getSnapshotLogIndex();
-
-    /**
-     * <code>optional int64 snapshot_log_term = 6;</code>
-     * @return Whether the snapshotLogTerm field is set.
-     */
-    boolean hasSnapshotLogTerm();
-    /**
-     * <code>optional int64 snapshot_log_term = 6;</code>
-     * @return The snapshotLogTerm.
-     */
-    long getSnapshotLogTerm();
-
-    /**
-     * <code>optional int64 readerId = 7;</code>
-     * @return Whether the readerId field is set.
-     */
-    boolean hasReaderId();
-    /**
-     * <code>optional int64 readerId = 7;</code>
-     * @return The readerId.
-     */
-    long getReaderId();
   }
   /**
-   * Protobuf type {@code jpacifica.InstallSnapshotRequest}
+   * Protobuf type {@code jpacifica.ReplicaRecoverRequest}
    */
-  public static final class InstallSnapshotRequest extends
+  public static final class ReplicaRecoverRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.InstallSnapshotRequest)
-      InstallSnapshotRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.ReplicaRecoverRequest)
+      ReplicaRecoverRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotRequest.newBuilder() to construct.
-    private InstallSnapshotRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ReplicaRecoverRequest.newBuilder() to construct.
+    private ReplicaRecoverRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InstallSnapshotRequest() {
+    private ReplicaRecoverRequest() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new InstallSnapshotRequest();
+      return new ReplicaRecoverRequest();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.Builder.class);
     }
 
     private int bitField0_;
-    public static final int PRIMARY_ID_FIELD_NUMBER = 1;
-    private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+    public static final int RECOVER_ID_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId recoverId_;
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-     * @return Whether the primaryId field is set.
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+     * @return Whether the recoverId field is set.
      */
     @java.lang.Override
-    public boolean hasPrimaryId() {
+    public boolean hasRecoverId() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-     * @return The primaryId.
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+     * @return The recoverId.
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
-      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId() {
+      return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
     }
     /**
-     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
-      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder() {
+      return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
     }
 
-    public static final int TARGET_ID_FIELD_NUMBER = 2;
-    private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+    public static final int PRIMARY_ID_FIELD_NUMBER = 2;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
-     * @return Whether the targetId field is set.
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return Whether the primaryId field is set.
      */
     @java.lang.Override
-    public boolean hasTargetId() {
+    public boolean hasPrimaryId() {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
-     * @return The targetId.
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return The primaryId.
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
-      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
     }
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
-      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
     }
 
     public static final int TERM_FIELD_NUMBER = 3;
@@ -5618,82 +5907,6 @@ public final class RpcRequest {
       return term_;
     }
 
-    public static final int VERSION_FIELD_NUMBER = 4;
-    private long version_ = 0L;
-    /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
-     */
-    @java.lang.Override
-    public boolean hasVersion() {
-      return ((bitField0_ & 0x00000008) != 0);
-    }
-    /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
-     */
-    @java.lang.Override
-    public long getVersion() {
-      return version_;
-    }
-
-    public static final int SNAPSHOT_LOG_INDEX_FIELD_NUMBER = 5;
-    private long snapshotLogIndex_ = 0L;
-    /**
-     * <code>optional int64 snapshot_log_index = 5;</code>
-     * @return Whether the snapshotLogIndex field is set.
-     */
-    @java.lang.Override
-    public boolean hasSnapshotLogIndex() {
-      return ((bitField0_ & 0x00000010) != 0);
-    }
-    /**
-     * <code>optional int64 snapshot_log_index = 5;</code>
-     * @return The snapshotLogIndex.
-     */
-    @java.lang.Override
-    public long getSnapshotLogIndex() {
-      return snapshotLogIndex_;
-    }
-
-    public static final int SNAPSHOT_LOG_TERM_FIELD_NUMBER = 6;
-    private long snapshotLogTerm_ = 0L;
-    /**
-     * <code>optional int64 snapshot_log_term = 6;</code>
-     * @return Whether the snapshotLogTerm field is set.
-     */
-    @java.lang.Override
-    public boolean hasSnapshotLogTerm() {
-      return ((bitField0_ & 0x00000020) != 0);
-    }
-    /**
-     * <code>optional int64 snapshot_log_term = 6;</code>
-     * @return The snapshotLogTerm.
-     */
-    @java.lang.Override
-    public long getSnapshotLogTerm() {
-      return snapshotLogTerm_;
-    }
-
-    public static final int READERID_FIELD_NUMBER = 7;
-    private long readerId_ = 0L;
-    /**
-     * <code>optional int64 readerId = 7;</code>
-     * @return Whether the readerId field is set.
-     */
-    @java.lang.Override
-    public boolean hasReaderId() {
-      return ((bitField0_ & 0x00000040) != 0);
-    }
-    /**
-     * <code>optional int64 readerId = 7;</code>
-     * @return The readerId.
-     */
-    @java.lang.Override
-    public long getReaderId() {
-      return readerId_;
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5709,26 +5922,14 @@ public final class RpcRequest {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeMessage(1, getPrimaryId());
+        output.writeMessage(1, getRecoverId());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeMessage(2, getTargetId());
+        output.writeMessage(2, getPrimaryId());
       }
       if (((bitField0_ & 0x00000004) != 0)) {
         output.writeInt64(3, term_);
       }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeInt64(4, version_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        output.writeInt64(5, snapshotLogIndex_);
-      }
-      if (((bitField0_ & 0x00000020) != 0)) {
-        output.writeInt64(6, snapshotLogTerm_);
-      }
-      if (((bitField0_ & 0x00000040) != 0)) {
-        output.writeInt64(7, readerId_);
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5740,32 +5941,16 @@ public final class RpcRequest {
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getPrimaryId());
+          .computeMessageSize(1, getRecoverId());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getTargetId());
+          .computeMessageSize(2, getPrimaryId());
       }
       if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(3, term_);
       }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(4, version_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(5, snapshotLogIndex_);
-      }
-      if (((bitField0_ & 0x00000020) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(6, snapshotLogTerm_);
-      }
-      if (((bitField0_ & 0x00000040) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(7, readerId_);
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -5776,46 +5961,26 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest other = (com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest) obj;
+      com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest other = (com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest) obj;
 
+      if (hasRecoverId() != other.hasRecoverId()) return false;
+      if (hasRecoverId()) {
+        if (!getRecoverId()
+            .equals(other.getRecoverId())) return false;
+      }
       if (hasPrimaryId() != other.hasPrimaryId()) return false;
       if (hasPrimaryId()) {
         if (!getPrimaryId()
             .equals(other.getPrimaryId())) return false;
       }
-      if (hasTargetId() != other.hasTargetId()) return false;
-      if (hasTargetId()) {
-        if (!getTargetId()
-            .equals(other.getTargetId())) return false;
-      }
       if (hasTerm() != other.hasTerm()) return false;
       if (hasTerm()) {
         if (getTerm()
             != other.getTerm()) return false;
       }
-      if (hasVersion() != other.hasVersion()) return false;
-      if (hasVersion()) {
-        if (getVersion()
-            != other.getVersion()) return false;
-      }
-      if (hasSnapshotLogIndex() != other.hasSnapshotLogIndex()) return false;
-      if (hasSnapshotLogIndex()) {
-        if (getSnapshotLogIndex()
-            != other.getSnapshotLogIndex()) return false;
-      }
-      if (hasSnapshotLogTerm() != other.hasSnapshotLogTerm()) return false;
-      if (hasSnapshotLogTerm()) {
-        if (getSnapshotLogTerm()
-            != other.getSnapshotLogTerm()) return false;
-      }
-      if (hasReaderId() != other.hasReaderId()) return false;
-      if (hasReaderId()) {
-        if (getReaderId()
-            != other.getReaderId()) return false;
-      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5827,82 +5992,4226 @@ public final class RpcRequest {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasRecoverId()) {
+        hash = (37 * hash) + RECOVER_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getRecoverId().hashCode();
+      }
       if (hasPrimaryId()) {
         hash = (37 * hash) + PRIMARY_ID_FIELD_NUMBER;
         hash = (53 * hash) + getPrimaryId().hashCode();
       }
-      if (hasTargetId()) {
-        hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getTargetId().hashCode();
-      }
       if (hasTerm()) {
         hash = (37 * hash) + TERM_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getTerm());
       }
-      if (hasVersion()) {
-        hash = (37 * hash) + VERSION_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getVersion());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code jpacifica.ReplicaRecoverRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:jpacifica.ReplicaRecoverRequest)
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
       }
-      if (hasSnapshotLogIndex()) {
-        hash = (37 * hash) + SNAPSHOT_LOG_INDEX_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getSnapshotLogIndex());
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.Builder.class);
+      }
+
+      // Construct using com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getRecoverIdFieldBuilder();
+          getPrimaryIdFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        recoverId_ = null;
+        if (recoverIdBuilder_ != null) {
+          recoverIdBuilder_.dispose();
+          recoverIdBuilder_ = null;
+        }
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
+        }
+        term_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest build() {
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.recoverId_ = recoverIdBuilder_ == null
+              ? recoverId_
+              : recoverIdBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.primaryId_ = primaryIdBuilder_ == null
+              ? primaryId_
+              : primaryIdBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest.getDefaultInstance()) return this;
+        if (other.hasRecoverId()) {
+          mergeRecoverId(other.getRecoverId());
+        }
+        if (other.hasPrimaryId()) {
+          mergePrimaryId(other.getPrimaryId());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getRecoverIdFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getPrimaryIdFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId recoverId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> recoverIdBuilder_;
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * @return Whether the recoverId field is set.
+       */
+      public boolean hasRecoverId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       * @return The recoverId.
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getRecoverId() {
+        if (recoverIdBuilder_ == null) {
+          return recoverId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
+        } else {
+          return recoverIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public Builder setRecoverId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (recoverIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          recoverId_ = value;
+        } else {
+          recoverIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public Builder setRecoverId(
+          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
+        if (recoverIdBuilder_ == null) {
+          recoverId_ = builderForValue.build();
+        } else {
+          recoverIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public Builder mergeRecoverId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (recoverIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            recoverId_ != null &&
+            recoverId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getRecoverIdBuilder().mergeFrom(value);
+          } else {
+            recoverId_ = value;
+          }
+        } else {
+          recoverIdBuilder_.mergeFrom(value);
+        }
+        if (recoverId_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public Builder clearRecoverId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        recoverId_ = null;
+        if (recoverIdBuilder_ != null) {
+          recoverIdBuilder_.dispose();
+          recoverIdBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getRecoverIdBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getRecoverIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getRecoverIdOrBuilder() {
+        if (recoverIdBuilder_ != null) {
+          return recoverIdBuilder_.getMessageOrBuilder();
+        } else {
+          return recoverId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : recoverId_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId recover_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
+          getRecoverIdFieldBuilder() {
+        if (recoverIdBuilder_ == null) {
+          recoverIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
+                  getRecoverId(),
+                  getParentForChildren(),
+                  isClean());
+          recoverId_ = null;
+        }
+        return recoverIdBuilder_;
+      }
+
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> primaryIdBuilder_;
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * @return Whether the primaryId field is set.
+       */
+      public boolean hasPrimaryId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * @return The primaryId.
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+        if (primaryIdBuilder_ == null) {
+          return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+        } else {
+          return primaryIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder setPrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          primaryId_ = value;
+        } else {
+          primaryIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder setPrimaryId(
+          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
+        if (primaryIdBuilder_ == null) {
+          primaryId_ = builderForValue.build();
+        } else {
+          primaryIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder mergePrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            primaryId_ != null &&
+            primaryId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getPrimaryIdBuilder().mergeFrom(value);
+          } else {
+            primaryId_ = value;
+          }
+        } else {
+          primaryIdBuilder_.mergeFrom(value);
+        }
+        if (primaryId_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder clearPrimaryId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getPrimaryIdBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getPrimaryIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+        if (primaryIdBuilder_ != null) {
+          return primaryIdBuilder_.getMessageOrBuilder();
+        } else {
+          return primaryId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
+          getPrimaryIdFieldBuilder() {
+        if (primaryIdBuilder_ == null) {
+          primaryIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
+                  getPrimaryId(),
+                  getParentForChildren(),
+                  isClean());
+          primaryId_ = null;
+        }
+        return primaryIdBuilder_;
+      }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:jpacifica.ReplicaRecoverRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:jpacifica.ReplicaRecoverRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest();
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ReplicaRecoverRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ReplicaRecoverRequest>() {
+      @java.lang.Override
+      public ReplicaRecoverRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ReplicaRecoverRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReplicaRecoverRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ReplicaRecoverResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.ReplicaRecoverResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return The error.
+     */
+    com.trs.pacifica.proto.RpcRequest.ErrorResponse getError();
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     */
+    com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder();
+
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
+     */
+    boolean hasSuccess();
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    long getTerm();
+
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    long getVersion();
+  }
+  /**
+   * Protobuf type {@code jpacifica.ReplicaRecoverResponse}
+   */
+  public static final class ReplicaRecoverResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:jpacifica.ReplicaRecoverResponse)
+      ReplicaRecoverResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ReplicaRecoverResponse.newBuilder() to construct.
+    private ReplicaRecoverResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ReplicaRecoverResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ReplicaRecoverResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcRequest.ErrorResponse error_;
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    @java.lang.Override
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return The error.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ErrorResponse getError() {
+      return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+    }
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder() {
+      return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_ = false;
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
+     */
+    @java.lang.Override
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 3;
+    private long term_ = 0L;
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    @java.lang.Override
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public long getTerm() {
+      return term_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    private long version_ = 0L;
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getError());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, version_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getError());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, version_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse)) {
+        return super.equals(obj);
+      }
+      com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse other = (com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse) obj;
+
+      if (hasError() != other.hasError()) return false;
+      if (hasError()) {
+        if (!getError()
+            .equals(other.getError())) return false;
+      }
+      if (hasSuccess() != other.hasSuccess()) return false;
+      if (hasSuccess()) {
+        if (getSuccess()
+            != other.getSuccess()) return false;
+      }
+      if (hasTerm() != other.hasTerm()) return false;
+      if (hasTerm()) {
+        if (getTerm()
+            != other.getTerm()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasError()) {
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+      }
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasTerm()) {
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTerm());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code jpacifica.ReplicaRecoverResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:jpacifica.ReplicaRecoverResponse)
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.class, com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.Builder.class);
+      }
+
+      // Construct using com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getErrorFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        error_ = null;
+        if (errorBuilder_ != null) {
+          errorBuilder_.dispose();
+          errorBuilder_ = null;
+        }
+        success_ = false;
+        term_ = 0L;
+        version_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_ReplicaRecoverResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse build() {
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.error_ = errorBuilder_ == null
+              ? error_
+              : errorBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.success_ = success_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          mergeError(other.getError());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getErrorFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                version_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.trs.pacifica.proto.RpcRequest.ErrorResponse error_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder> errorBuilder_;
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       * @return Whether the error field is set.
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       * @return The error.
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponse getError() {
+        if (errorBuilder_ == null) {
+          return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+        } else {
+          return errorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder setError(com.trs.pacifica.proto.RpcRequest.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          error_ = value;
+        } else {
+          errorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder setError(
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder builderForValue) {
+        if (errorBuilder_ == null) {
+          error_ = builderForValue.build();
+        } else {
+          errorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder mergeError(com.trs.pacifica.proto.RpcRequest.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            error_ != null &&
+            error_ != com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance()) {
+            getErrorBuilder().mergeFrom(value);
+          } else {
+            error_ = value;
+          }
+        } else {
+          errorBuilder_.mergeFrom(value);
+        }
+        if (error_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder clearError() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        error_ = null;
+        if (errorBuilder_ != null) {
+          errorBuilder_.dispose();
+          errorBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder getErrorBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getErrorFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder() {
+        if (errorBuilder_ != null) {
+          return errorBuilder_.getMessageOrBuilder();
+        } else {
+          return error_ == null ?
+              com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder> 
+          getErrorFieldBuilder() {
+        if (errorBuilder_ == null) {
+          errorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder>(
+                  getError(),
+                  getParentForChildren(),
+                  isClean());
+          error_ = null;
+        }
+        return errorBuilder_;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return Whether the success field is set.
+       */
+      @java.lang.Override
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:jpacifica.ReplicaRecoverResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:jpacifica.ReplicaRecoverResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse();
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ReplicaRecoverResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ReplicaRecoverResponse>() {
+      @java.lang.Override
+      public ReplicaRecoverResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ReplicaRecoverResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReplicaRecoverResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ReplicaRecoverResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.InstallSnapshotRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * @return Whether the primaryId field is set.
+     */
+    boolean hasPrimaryId();
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * @return The primaryId.
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId();
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder();
+
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * @return Whether the targetId field is set.
+     */
+    boolean hasTargetId();
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * @return The targetId.
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId();
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder();
+
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    long getTerm();
+
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    long getVersion();
+
+    /**
+     * <code>optional int64 snapshot_log_index = 5;</code>
+     * @return Whether the snapshotLogIndex field is set.
+     */
+    boolean hasSnapshotLogIndex();
+    /**
+     * <code>optional int64 snapshot_log_index = 5;</code>
+     * @return The snapshotLogIndex.
+     */
+    long getSnapshotLogIndex();
+
+    /**
+     * <code>optional int64 snapshot_log_term = 6;</code>
+     * @return Whether the snapshotLogTerm field is set.
+     */
+    boolean hasSnapshotLogTerm();
+    /**
+     * <code>optional int64 snapshot_log_term = 6;</code>
+     * @return The snapshotLogTerm.
+     */
+    long getSnapshotLogTerm();
+
+    /**
+     * <code>optional int64 readerId = 7;</code>
+     * @return Whether the readerId field is set.
+     */
+    boolean hasReaderId();
+    /**
+     * <code>optional int64 readerId = 7;</code>
+     * @return The readerId.
+     */
+    long getReaderId();
+  }
+  /**
+   * Protobuf type {@code jpacifica.InstallSnapshotRequest}
+   */
+  public static final class InstallSnapshotRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:jpacifica.InstallSnapshotRequest)
+      InstallSnapshotRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotRequest.newBuilder() to construct.
+    private InstallSnapshotRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstallSnapshotRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PRIMARY_ID_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * @return Whether the primaryId field is set.
+     */
+    @java.lang.Override
+    public boolean hasPrimaryId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     * @return The primaryId.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    }
+
+    public static final int TARGET_ID_FIELD_NUMBER = 2;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * @return Whether the targetId field is set.
+     */
+    @java.lang.Override
+    public boolean hasTargetId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     * @return The targetId.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
+      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
+      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 3;
+    private long term_ = 0L;
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    @java.lang.Override
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public long getTerm() {
+      return term_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    private long version_ = 0L;
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    public static final int SNAPSHOT_LOG_INDEX_FIELD_NUMBER = 5;
+    private long snapshotLogIndex_ = 0L;
+    /**
+     * <code>optional int64 snapshot_log_index = 5;</code>
+     * @return Whether the snapshotLogIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnapshotLogIndex() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 snapshot_log_index = 5;</code>
+     * @return The snapshotLogIndex.
+     */
+    @java.lang.Override
+    public long getSnapshotLogIndex() {
+      return snapshotLogIndex_;
+    }
+
+    public static final int SNAPSHOT_LOG_TERM_FIELD_NUMBER = 6;
+    private long snapshotLogTerm_ = 0L;
+    /**
+     * <code>optional int64 snapshot_log_term = 6;</code>
+     * @return Whether the snapshotLogTerm field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnapshotLogTerm() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int64 snapshot_log_term = 6;</code>
+     * @return The snapshotLogTerm.
+     */
+    @java.lang.Override
+    public long getSnapshotLogTerm() {
+      return snapshotLogTerm_;
+    }
+
+    public static final int READERID_FIELD_NUMBER = 7;
+    private long readerId_ = 0L;
+    /**
+     * <code>optional int64 readerId = 7;</code>
+     * @return Whether the readerId field is set.
+     */
+    @java.lang.Override
+    public boolean hasReaderId() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional int64 readerId = 7;</code>
+     * @return The readerId.
+     */
+    @java.lang.Override
+    public long getReaderId() {
+      return readerId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getPrimaryId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getTargetId());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(5, snapshotLogIndex_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt64(6, snapshotLogTerm_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(7, readerId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getPrimaryId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getTargetId());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, snapshotLogIndex_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, snapshotLogTerm_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, readerId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest)) {
+        return super.equals(obj);
+      }
+      com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest other = (com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest) obj;
+
+      if (hasPrimaryId() != other.hasPrimaryId()) return false;
+      if (hasPrimaryId()) {
+        if (!getPrimaryId()
+            .equals(other.getPrimaryId())) return false;
+      }
+      if (hasTargetId() != other.hasTargetId()) return false;
+      if (hasTargetId()) {
+        if (!getTargetId()
+            .equals(other.getTargetId())) return false;
+      }
+      if (hasTerm() != other.hasTerm()) return false;
+      if (hasTerm()) {
+        if (getTerm()
+            != other.getTerm()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (hasSnapshotLogIndex() != other.hasSnapshotLogIndex()) return false;
+      if (hasSnapshotLogIndex()) {
+        if (getSnapshotLogIndex()
+            != other.getSnapshotLogIndex()) return false;
+      }
+      if (hasSnapshotLogTerm() != other.hasSnapshotLogTerm()) return false;
+      if (hasSnapshotLogTerm()) {
+        if (getSnapshotLogTerm()
+            != other.getSnapshotLogTerm()) return false;
+      }
+      if (hasReaderId() != other.hasReaderId()) return false;
+      if (hasReaderId()) {
+        if (getReaderId()
+            != other.getReaderId()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPrimaryId()) {
+        hash = (37 * hash) + PRIMARY_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getPrimaryId().hashCode();
+      }
+      if (hasTargetId()) {
+        hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetId().hashCode();
+      }
+      if (hasTerm()) {
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTerm());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      if (hasSnapshotLogIndex()) {
+        hash = (37 * hash) + SNAPSHOT_LOG_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSnapshotLogIndex());
+      }
+      if (hasSnapshotLogTerm()) {
+        hash = (37 * hash) + SNAPSHOT_LOG_TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSnapshotLogTerm());
+      }
+      if (hasReaderId()) {
+        hash = (37 * hash) + READERID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getReaderId());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code jpacifica.InstallSnapshotRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:jpacifica.InstallSnapshotRequest)
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.Builder.class);
+      }
+
+      // Construct using com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPrimaryIdFieldBuilder();
+          getTargetIdFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
+        }
+        targetId_ = null;
+        if (targetIdBuilder_ != null) {
+          targetIdBuilder_.dispose();
+          targetIdBuilder_ = null;
+        }
+        term_ = 0L;
+        version_ = 0L;
+        snapshotLogIndex_ = 0L;
+        snapshotLogTerm_ = 0L;
+        readerId_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest build() {
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.primaryId_ = primaryIdBuilder_ == null
+              ? primaryId_
+              : primaryIdBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.targetId_ = targetIdBuilder_ == null
+              ? targetId_
+              : targetIdBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.snapshotLogIndex_ = snapshotLogIndex_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.snapshotLogTerm_ = snapshotLogTerm_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.readerId_ = readerId_;
+          to_bitField0_ |= 0x00000040;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.getDefaultInstance()) return this;
+        if (other.hasPrimaryId()) {
+          mergePrimaryId(other.getPrimaryId());
+        }
+        if (other.hasTargetId()) {
+          mergeTargetId(other.getTargetId());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasSnapshotLogIndex()) {
+          setSnapshotLogIndex(other.getSnapshotLogIndex());
+        }
+        if (other.hasSnapshotLogTerm()) {
+          setSnapshotLogTerm(other.getSnapshotLogTerm());
+        }
+        if (other.hasReaderId()) {
+          setReaderId(other.getReaderId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getPrimaryIdFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getTargetIdFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                version_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                snapshotLogIndex_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                snapshotLogTerm_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                readerId_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> primaryIdBuilder_;
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       * @return Whether the primaryId field is set.
+       */
+      public boolean hasPrimaryId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       * @return The primaryId.
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+        if (primaryIdBuilder_ == null) {
+          return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+        } else {
+          return primaryIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public Builder setPrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          primaryId_ = value;
+        } else {
+          primaryIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public Builder setPrimaryId(
+          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
+        if (primaryIdBuilder_ == null) {
+          primaryId_ = builderForValue.build();
+        } else {
+          primaryIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public Builder mergePrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            primaryId_ != null &&
+            primaryId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getPrimaryIdBuilder().mergeFrom(value);
+          } else {
+            primaryId_ = value;
+          }
+        } else {
+          primaryIdBuilder_.mergeFrom(value);
+        }
+        if (primaryId_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public Builder clearPrimaryId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getPrimaryIdBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getPrimaryIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+        if (primaryIdBuilder_ != null) {
+          return primaryIdBuilder_.getMessageOrBuilder();
+        } else {
+          return primaryId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
+          getPrimaryIdFieldBuilder() {
+        if (primaryIdBuilder_ == null) {
+          primaryIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
+                  getPrimaryId(),
+                  getParentForChildren(),
+                  isClean());
+          primaryId_ = null;
+        }
+        return primaryIdBuilder_;
+      }
+
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> targetIdBuilder_;
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * @return Whether the targetId field is set.
+       */
+      public boolean hasTargetId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * @return The targetId.
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
+        if (targetIdBuilder_ == null) {
+          return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+        } else {
+          return targetIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public Builder setTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (targetIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          targetId_ = value;
+        } else {
+          targetIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public Builder setTargetId(
+          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
+        if (targetIdBuilder_ == null) {
+          targetId_ = builderForValue.build();
+        } else {
+          targetIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public Builder mergeTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (targetIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            targetId_ != null &&
+            targetId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getTargetIdBuilder().mergeFrom(value);
+          } else {
+            targetId_ = value;
+          }
+        } else {
+          targetIdBuilder_.mergeFrom(value);
+        }
+        if (targetId_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public Builder clearTargetId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        targetId_ = null;
+        if (targetIdBuilder_ != null) {
+          targetIdBuilder_.dispose();
+          targetIdBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getTargetIdBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getTargetIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
+        if (targetIdBuilder_ != null) {
+          return targetIdBuilder_.getMessageOrBuilder();
+        } else {
+          return targetId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
+          getTargetIdFieldBuilder() {
+        if (targetIdBuilder_ == null) {
+          targetIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
+                  getTargetId(),
+                  getParentForChildren(),
+                  isClean());
+          targetId_ = null;
+        }
+        return targetIdBuilder_;
+      }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long snapshotLogIndex_ ;
+      /**
+       * <code>optional int64 snapshot_log_index = 5;</code>
+       * @return Whether the snapshotLogIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasSnapshotLogIndex() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 snapshot_log_index = 5;</code>
+       * @return The snapshotLogIndex.
+       */
+      @java.lang.Override
+      public long getSnapshotLogIndex() {
+        return snapshotLogIndex_;
+      }
+      /**
+       * <code>optional int64 snapshot_log_index = 5;</code>
+       * @param value The snapshotLogIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotLogIndex(long value) {
+
+        snapshotLogIndex_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 snapshot_log_index = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotLogIndex() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        snapshotLogIndex_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long snapshotLogTerm_ ;
+      /**
+       * <code>optional int64 snapshot_log_term = 6;</code>
+       * @return Whether the snapshotLogTerm field is set.
+       */
+      @java.lang.Override
+      public boolean hasSnapshotLogTerm() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int64 snapshot_log_term = 6;</code>
+       * @return The snapshotLogTerm.
+       */
+      @java.lang.Override
+      public long getSnapshotLogTerm() {
+        return snapshotLogTerm_;
+      }
+      /**
+       * <code>optional int64 snapshot_log_term = 6;</code>
+       * @param value The snapshotLogTerm to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotLogTerm(long value) {
+
+        snapshotLogTerm_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 snapshot_log_term = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotLogTerm() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        snapshotLogTerm_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long readerId_ ;
+      /**
+       * <code>optional int64 readerId = 7;</code>
+       * @return Whether the readerId field is set.
+       */
+      @java.lang.Override
+      public boolean hasReaderId() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional int64 readerId = 7;</code>
+       * @return The readerId.
+       */
+      @java.lang.Override
+      public long getReaderId() {
+        return readerId_;
+      }
+      /**
+       * <code>optional int64 readerId = 7;</code>
+       * @param value The readerId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReaderId(long value) {
+
+        readerId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 readerId = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReaderId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        readerId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:jpacifica.InstallSnapshotRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:jpacifica.InstallSnapshotRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest();
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotRequest>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRequest>() {
+      @java.lang.Override
+      public InstallSnapshotRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.InstallSnapshotResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return The error.
+     */
+    com.trs.pacifica.proto.RpcRequest.ErrorResponse getError();
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     */
+    com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder();
+
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
+     */
+    boolean hasSuccess();
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    long getTerm();
+
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    long getVersion();
+  }
+  /**
+   * Protobuf type {@code jpacifica.InstallSnapshotResponse}
+   */
+  public static final class InstallSnapshotResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:jpacifica.InstallSnapshotResponse)
+      InstallSnapshotResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotResponse.newBuilder() to construct.
+    private InstallSnapshotResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InstallSnapshotResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcRequest.ErrorResponse error_;
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    @java.lang.Override
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     * @return The error.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ErrorResponse getError() {
+      return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+    }
+    /**
+     * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder() {
+      return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_ = false;
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
+     */
+    @java.lang.Override
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool success = 2;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 3;
+    private long term_ = 0L;
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    @java.lang.Override
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public long getTerm() {
+      return term_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    private long version_ = 0L;
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getError());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, version_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getError());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, version_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse)) {
+        return super.equals(obj);
+      }
+      com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse other = (com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse) obj;
+
+      if (hasError() != other.hasError()) return false;
+      if (hasError()) {
+        if (!getError()
+            .equals(other.getError())) return false;
+      }
+      if (hasSuccess() != other.hasSuccess()) return false;
+      if (hasSuccess()) {
+        if (getSuccess()
+            != other.getSuccess()) return false;
+      }
+      if (hasTerm() != other.hasTerm()) return false;
+      if (hasTerm()) {
+        if (getTerm()
+            != other.getTerm()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasError()) {
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+      }
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasTerm()) {
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTerm());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code jpacifica.InstallSnapshotResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:jpacifica.InstallSnapshotResponse)
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.Builder.class);
+      }
+
+      // Construct using com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getErrorFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        error_ = null;
+        if (errorBuilder_ != null) {
+          errorBuilder_.dispose();
+          errorBuilder_ = null;
+        }
+        success_ = false;
+        term_ = 0L;
+        version_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse build() {
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.error_ = errorBuilder_ == null
+              ? error_
+              : errorBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.success_ = success_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          mergeError(other.getError());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getErrorFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                version_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.trs.pacifica.proto.RpcRequest.ErrorResponse error_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder> errorBuilder_;
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       * @return Whether the error field is set.
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       * @return The error.
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponse getError() {
+        if (errorBuilder_ == null) {
+          return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+        } else {
+          return errorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder setError(com.trs.pacifica.proto.RpcRequest.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          error_ = value;
+        } else {
+          errorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder setError(
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder builderForValue) {
+        if (errorBuilder_ == null) {
+          error_ = builderForValue.build();
+        } else {
+          errorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder mergeError(com.trs.pacifica.proto.RpcRequest.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            error_ != null &&
+            error_ != com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance()) {
+            getErrorBuilder().mergeFrom(value);
+          } else {
+            error_ = value;
+          }
+        } else {
+          errorBuilder_.mergeFrom(value);
+        }
+        if (error_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public Builder clearError() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        error_ = null;
+        if (errorBuilder_ != null) {
+          errorBuilder_.dispose();
+          errorBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder getErrorBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getErrorFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder() {
+        if (errorBuilder_ != null) {
+          return errorBuilder_.getMessageOrBuilder();
+        } else {
+          return error_ == null ?
+              com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ErrorResponse error = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder> 
+          getErrorFieldBuilder() {
+        if (errorBuilder_ == null) {
+          errorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcRequest.ErrorResponse, com.trs.pacifica.proto.RpcRequest.ErrorResponse.Builder, com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder>(
+                  getError(),
+                  getParentForChildren(),
+                  isClean());
+          error_ = null;
+        }
+        return errorBuilder_;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return Whether the success field is set.
+       */
+      @java.lang.Override
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:jpacifica.InstallSnapshotResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:jpacifica.InstallSnapshotResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse();
+    }
+
+    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotResponse>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResponse>() {
+      @java.lang.Override
+      public InstallSnapshotResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetFileRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.GetFileRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * @return Whether the targetId field is set.
+     */
+    boolean hasTargetId();
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * @return The targetId.
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId();
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder();
+
+    /**
+     * <code>optional int64 reader_id = 2;</code>
+     * @return Whether the readerId field is set.
+     */
+    boolean hasReaderId();
+    /**
+     * <code>optional int64 reader_id = 2;</code>
+     * @return The readerId.
+     */
+    long getReaderId();
+
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return Whether the filename field is set.
+     */
+    boolean hasFilename();
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return The filename.
+     */
+    java.lang.String getFilename();
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return The bytes for filename.
+     */
+    com.google.protobuf.ByteString
+        getFilenameBytes();
+
+    /**
+     * <code>optional int64 offset = 4;</code>
+     * @return Whether the offset field is set.
+     */
+    boolean hasOffset();
+    /**
+     * <code>optional int64 offset = 4;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <code>optional int32 length = 5;</code>
+     * @return Whether the length field is set.
+     */
+    boolean hasLength();
+    /**
+     * <code>optional int32 length = 5;</code>
+     * @return The length.
+     */
+    int getLength();
+  }
+  /**
+   * Protobuf type {@code jpacifica.GetFileRequest}
+   */
+  public static final class GetFileRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:jpacifica.GetFileRequest)
+      GetFileRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetFileRequest.newBuilder() to construct.
+    private GetFileRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetFileRequest() {
+      filename_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetFileRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.trs.pacifica.proto.RpcRequest.GetFileRequest.class, com.trs.pacifica.proto.RpcRequest.GetFileRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TARGET_ID_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * @return Whether the targetId field is set.
+     */
+    @java.lang.Override
+    public boolean hasTargetId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * @return The targetId.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
+      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
+      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    }
+
+    public static final int READER_ID_FIELD_NUMBER = 2;
+    private long readerId_ = 0L;
+    /**
+     * <code>optional int64 reader_id = 2;</code>
+     * @return Whether the readerId field is set.
+     */
+    @java.lang.Override
+    public boolean hasReaderId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 reader_id = 2;</code>
+     * @return The readerId.
+     */
+    @java.lang.Override
+    public long getReaderId() {
+      return readerId_;
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object filename_ = "";
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return Whether the filename field is set.
+     */
+    @java.lang.Override
+    public boolean hasFilename() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return The filename.
+     */
+    @java.lang.Override
+    public java.lang.String getFilename() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        filename_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string filename = 3;</code>
+     * @return The bytes for filename.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFilenameBytes() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        filename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 4;
+    private long offset_ = 0L;
+    /**
+     * <code>optional int64 offset = 4;</code>
+     * @return Whether the offset field is set.
+     */
+    @java.lang.Override
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 offset = 4;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 5;
+    private int length_ = 0;
+    /**
+     * <code>optional int32 length = 5;</code>
+     * @return Whether the length field is set.
+     */
+    @java.lang.Override
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 length = 5;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public int getLength() {
+      return length_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getTargetId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, readerId_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, filename_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, offset_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, length_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getTargetId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, readerId_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, filename_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, offset_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, length_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetFileRequest)) {
+        return super.equals(obj);
+      }
+      com.trs.pacifica.proto.RpcRequest.GetFileRequest other = (com.trs.pacifica.proto.RpcRequest.GetFileRequest) obj;
+
+      if (hasTargetId() != other.hasTargetId()) return false;
+      if (hasTargetId()) {
+        if (!getTargetId()
+            .equals(other.getTargetId())) return false;
+      }
+      if (hasReaderId() != other.hasReaderId()) return false;
+      if (hasReaderId()) {
+        if (getReaderId()
+            != other.getReaderId()) return false;
+      }
+      if (hasFilename() != other.hasFilename()) return false;
+      if (hasFilename()) {
+        if (!getFilename()
+            .equals(other.getFilename())) return false;
+      }
+      if (hasOffset() != other.hasOffset()) return false;
+      if (hasOffset()) {
+        if (getOffset()
+            != other.getOffset()) return false;
+      }
+      if (hasLength() != other.hasLength()) return false;
+      if (hasLength()) {
+        if (getLength()
+            != other.getLength()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      if (hasSnapshotLogTerm()) {
-        hash = (37 * hash) + SNAPSHOT_LOG_TERM_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getSnapshotLogTerm());
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTargetId()) {
+        hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetId().hashCode();
       }
       if (hasReaderId()) {
-        hash = (37 * hash) + READERID_FIELD_NUMBER;
+        hash = (37 * hash) + READER_ID_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getReaderId());
       }
+      if (hasFilename()) {
+        hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFilename().hashCode();
+      }
+      if (hasOffset()) {
+        hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getOffset());
+      }
+      if (hasLength()) {
+        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + getLength();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5910,26 +10219,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5942,7 +10251,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetFileRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5958,26 +10267,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.InstallSnapshotRequest}
+     * Protobuf type {@code jpacifica.GetFileRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.InstallSnapshotRequest)
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.GetFileRequest)
+        com.trs.pacifica.proto.RpcRequest.GetFileRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.GetFileRequest.class, com.trs.pacifica.proto.RpcRequest.GetFileRequest.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.GetFileRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5990,7 +10299,6 @@ public final class RpcRequest {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getPrimaryIdFieldBuilder();
           getTargetIdFieldBuilder();
         }
       }
@@ -5998,38 +10306,32 @@ public final class RpcRequest {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        primaryId_ = null;
-        if (primaryIdBuilder_ != null) {
-          primaryIdBuilder_.dispose();
-          primaryIdBuilder_ = null;
-        }
         targetId_ = null;
         if (targetIdBuilder_ != null) {
           targetIdBuilder_.dispose();
           targetIdBuilder_ = null;
         }
-        term_ = 0L;
-        version_ = 0L;
-        snapshotLogIndex_ = 0L;
-        snapshotLogTerm_ = 0L;
         readerId_ = 0L;
+        filename_ = "";
+        offset_ = 0L;
+        length_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.GetFileRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest build() {
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.GetFileRequest build() {
+        com.trs.pacifica.proto.RpcRequest.GetFileRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6037,48 +10339,38 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest(this);
+      public com.trs.pacifica.proto.RpcRequest.GetFileRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.GetFileRequest result = new com.trs.pacifica.proto.RpcRequest.GetFileRequest(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest result) {
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetFileRequest result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.primaryId_ = primaryIdBuilder_ == null
-              ? primaryId_
-              : primaryIdBuilder_.build();
-          to_bitField0_ |= 0x00000001;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
           result.targetId_ = targetIdBuilder_ == null
               ? targetId_
               : targetIdBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.readerId_ = readerId_;
           to_bitField0_ |= 0x00000002;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.term_ = term_;
+          result.filename_ = filename_;
           to_bitField0_ |= 0x00000004;
         }
         if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.version_ = version_;
+          result.offset_ = offset_;
           to_bitField0_ |= 0x00000008;
         }
         if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.snapshotLogIndex_ = snapshotLogIndex_;
+          result.length_ = length_;
           to_bitField0_ |= 0x00000010;
         }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.snapshotLogTerm_ = snapshotLogTerm_;
-          to_bitField0_ |= 0x00000020;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.readerId_ = readerId_;
-          to_bitField0_ |= 0x00000040;
-        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -6116,36 +10408,32 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetFileRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetFileRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest.getDefaultInstance()) return this;
-        if (other.hasPrimaryId()) {
-          mergePrimaryId(other.getPrimaryId());
-        }
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetFileRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.GetFileRequest.getDefaultInstance()) return this;
         if (other.hasTargetId()) {
           mergeTargetId(other.getTargetId());
         }
-        if (other.hasTerm()) {
-          setTerm(other.getTerm());
-        }
-        if (other.hasVersion()) {
-          setVersion(other.getVersion());
+        if (other.hasReaderId()) {
+          setReaderId(other.getReaderId());
         }
-        if (other.hasSnapshotLogIndex()) {
-          setSnapshotLogIndex(other.getSnapshotLogIndex());
+        if (other.hasFilename()) {
+          filename_ = other.filename_;
+          bitField0_ |= 0x00000004;
+          onChanged();
         }
-        if (other.hasSnapshotLogTerm()) {
-          setSnapshotLogTerm(other.getSnapshotLogTerm());
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
         }
-        if (other.hasReaderId()) {
-          setReaderId(other.getReaderId());
+        if (other.hasLength()) {
+          setLength(other.getLength());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -6175,193 +10463,60 @@ public final class RpcRequest {
                 break;
               case 10: {
                 input.readMessage(
-                    getPrimaryIdFieldBuilder().getBuilder(),
+                    getTargetIdFieldBuilder().getBuilder(),
                     extensionRegistry);
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
-              case 18: {
-                input.readMessage(
-                    getTargetIdFieldBuilder().getBuilder(),
-                    extensionRegistry);
+              case 16: {
+                readerId_ = input.readInt64();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 18
-              case 24: {
-                term_ = input.readInt64();
+              } // case 16
+              case 26: {
+                filename_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000004;
                 break;
-              } // case 24
+              } // case 26
               case 32: {
-                version_ = input.readInt64();
+                offset_ = input.readInt64();
                 bitField0_ |= 0x00000008;
                 break;
               } // case 32
               case 40: {
-                snapshotLogIndex_ = input.readInt64();
+                length_ = input.readInt32();
                 bitField0_ |= 0x00000010;
                 break;
               } // case 40
-              case 48: {
-                snapshotLogTerm_ = input.readInt64();
-                bitField0_ |= 0x00000020;
-                break;
-              } // case 48
-              case 56: {
-                readerId_ = input.readInt64();
-                bitField0_ |= 0x00000040;
-                break;
-              } // case 56
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
                 }
                 break;
               } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> primaryIdBuilder_;
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       * @return Whether the primaryId field is set.
-       */
-      public boolean hasPrimaryId() {
-        return ((bitField0_ & 0x00000001) != 0);
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       * @return The primaryId.
-       */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
-        if (primaryIdBuilder_ == null) {
-          return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
-        } else {
-          return primaryIdBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public Builder setPrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (primaryIdBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          primaryId_ = value;
-        } else {
-          primaryIdBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public Builder setPrimaryId(
-          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
-        if (primaryIdBuilder_ == null) {
-          primaryId_ = builderForValue.build();
-        } else {
-          primaryIdBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public Builder mergePrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (primaryIdBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0) &&
-            primaryId_ != null &&
-            primaryId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
-            getPrimaryIdBuilder().mergeFrom(value);
-          } else {
-            primaryId_ = value;
-          }
-        } else {
-          primaryIdBuilder_.mergeFrom(value);
-        }
-        if (primaryId_ != null) {
-          bitField0_ |= 0x00000001;
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
           onChanged();
-        }
-        return this;
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public Builder clearPrimaryId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        primaryId_ = null;
-        if (primaryIdBuilder_ != null) {
-          primaryIdBuilder_.dispose();
-          primaryIdBuilder_ = null;
-        }
-        onChanged();
+        } // finally
         return this;
       }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getPrimaryIdBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getPrimaryIdFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
-        if (primaryIdBuilder_ != null) {
-          return primaryIdBuilder_.getMessageOrBuilder();
-        } else {
-          return primaryId_ == null ?
-              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
-        }
-      }
-      /**
-       * <code>optional .jpacifica.ReplicaId primary_id = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
-          getPrimaryIdFieldBuilder() {
-        if (primaryIdBuilder_ == null) {
-          primaryIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
-                  getPrimaryId(),
-                  getParentForChildren(),
-                  isClean());
-          primaryId_ = null;
-        }
-        return primaryIdBuilder_;
-      }
+      private int bitField0_;
 
       private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
       private com.google.protobuf.SingleFieldBuilderV3<
           com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> targetIdBuilder_;
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        * @return Whether the targetId field is set.
        */
       public boolean hasTargetId() {
-        return ((bitField0_ & 0x00000002) != 0);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        * @return The targetId.
        */
       public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
@@ -6372,7 +10527,7 @@ public final class RpcRequest {
         }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public Builder setTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
         if (targetIdBuilder_ == null) {
@@ -6383,12 +10538,12 @@ public final class RpcRequest {
         } else {
           targetIdBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000002;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public Builder setTargetId(
           com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
@@ -6397,16 +10552,16 @@ public final class RpcRequest {
         } else {
           targetIdBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000002;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public Builder mergeTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
         if (targetIdBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) != 0) &&
+          if (((bitField0_ & 0x00000001) != 0) &&
             targetId_ != null &&
             targetId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
             getTargetIdBuilder().mergeFrom(value);
@@ -6417,16 +10572,16 @@ public final class RpcRequest {
           targetIdBuilder_.mergeFrom(value);
         }
         if (targetId_ != null) {
-          bitField0_ |= 0x00000002;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public Builder clearTargetId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
+        bitField0_ = (bitField0_ & ~0x00000001);
         targetId_ = null;
         if (targetIdBuilder_ != null) {
           targetIdBuilder_.dispose();
@@ -6436,15 +10591,15 @@ public final class RpcRequest {
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getTargetIdBuilder() {
-        bitField0_ |= 0x00000002;
+        bitField0_ |= 0x00000001;
         onChanged();
         return getTargetIdFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
         if (targetIdBuilder_ != null) {
@@ -6455,7 +10610,7 @@ public final class RpcRequest {
         }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 2;</code>
+       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
@@ -6471,202 +10626,201 @@ public final class RpcRequest {
         return targetIdBuilder_;
       }
 
-      private long term_ ;
+      private long readerId_ ;
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return Whether the term field is set.
+       * <code>optional int64 reader_id = 2;</code>
+       * @return Whether the readerId field is set.
        */
       @java.lang.Override
-      public boolean hasTerm() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public boolean hasReaderId() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return The term.
+       * <code>optional int64 reader_id = 2;</code>
+       * @return The readerId.
        */
       @java.lang.Override
-      public long getTerm() {
-        return term_;
+      public long getReaderId() {
+        return readerId_;
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @param value The term to set.
+       * <code>optional int64 reader_id = 2;</code>
+       * @param value The readerId to set.
        * @return This builder for chaining.
        */
-      public Builder setTerm(long value) {
+      public Builder setReaderId(long value) {
 
-        term_ = value;
-        bitField0_ |= 0x00000004;
+        readerId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 term = 3;</code>
+       * <code>optional int64 reader_id = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTerm() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        term_ = 0L;
+      public Builder clearReaderId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        readerId_ = 0L;
         onChanged();
         return this;
       }
 
-      private long version_ ;
+      private java.lang.Object filename_ = "";
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return Whether the version field is set.
+       * <code>optional string filename = 3;</code>
+       * @return Whether the filename field is set.
        */
-      @java.lang.Override
-      public boolean hasVersion() {
-        return ((bitField0_ & 0x00000008) != 0);
+      public boolean hasFilename() {
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return The version.
+       * <code>optional string filename = 3;</code>
+       * @return The filename.
        */
-      @java.lang.Override
-      public long getVersion() {
-        return version_;
+      public java.lang.String getFilename() {
+        java.lang.Object ref = filename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          filename_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @param value The version to set.
-       * @return This builder for chaining.
+       * <code>optional string filename = 3;</code>
+       * @return The bytes for filename.
        */
-      public Builder setVersion(long value) {
-
-        version_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
+      public com.google.protobuf.ByteString
+          getFilenameBytes() {
+        java.lang.Object ref = filename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          filename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
       /**
-       * <code>optional int64 version = 4;</code>
+       * <code>optional string filename = 3;</code>
+       * @param value The filename to set.
        * @return This builder for chaining.
        */
-      public Builder clearVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        version_ = 0L;
+      public Builder setFilename(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        filename_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
-
-      private long snapshotLogIndex_ ;
-      /**
-       * <code>optional int64 snapshot_log_index = 5;</code>
-       * @return Whether the snapshotLogIndex field is set.
-       */
-      @java.lang.Override
-      public boolean hasSnapshotLogIndex() {
-        return ((bitField0_ & 0x00000010) != 0);
-      }
-      /**
-       * <code>optional int64 snapshot_log_index = 5;</code>
-       * @return The snapshotLogIndex.
-       */
-      @java.lang.Override
-      public long getSnapshotLogIndex() {
-        return snapshotLogIndex_;
-      }
       /**
-       * <code>optional int64 snapshot_log_index = 5;</code>
-       * @param value The snapshotLogIndex to set.
+       * <code>optional string filename = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder setSnapshotLogIndex(long value) {
-
-        snapshotLogIndex_ = value;
-        bitField0_ |= 0x00000010;
+      public Builder clearFilename() {
+        filename_ = getDefaultInstance().getFilename();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 snapshot_log_index = 5;</code>
+       * <code>optional string filename = 3;</code>
+       * @param value The bytes for filename to set.
        * @return This builder for chaining.
        */
-      public Builder clearSnapshotLogIndex() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        snapshotLogIndex_ = 0L;
+      public Builder setFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        filename_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
 
-      private long snapshotLogTerm_ ;
+      private long offset_ ;
       /**
-       * <code>optional int64 snapshot_log_term = 6;</code>
-       * @return Whether the snapshotLogTerm field is set.
+       * <code>optional int64 offset = 4;</code>
+       * @return Whether the offset field is set.
        */
       @java.lang.Override
-      public boolean hasSnapshotLogTerm() {
-        return ((bitField0_ & 0x00000020) != 0);
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
-       * <code>optional int64 snapshot_log_term = 6;</code>
-       * @return The snapshotLogTerm.
+       * <code>optional int64 offset = 4;</code>
+       * @return The offset.
        */
       @java.lang.Override
-      public long getSnapshotLogTerm() {
-        return snapshotLogTerm_;
+      public long getOffset() {
+        return offset_;
       }
       /**
-       * <code>optional int64 snapshot_log_term = 6;</code>
-       * @param value The snapshotLogTerm to set.
+       * <code>optional int64 offset = 4;</code>
+       * @param value The offset to set.
        * @return This builder for chaining.
        */
-      public Builder setSnapshotLogTerm(long value) {
+      public Builder setOffset(long value) {
 
-        snapshotLogTerm_ = value;
-        bitField0_ |= 0x00000020;
+        offset_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 snapshot_log_term = 6;</code>
+       * <code>optional int64 offset = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearSnapshotLogTerm() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        snapshotLogTerm_ = 0L;
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        offset_ = 0L;
         onChanged();
         return this;
       }
 
-      private long readerId_ ;
+      private int length_ ;
       /**
-       * <code>optional int64 readerId = 7;</code>
-       * @return Whether the readerId field is set.
+       * <code>optional int32 length = 5;</code>
+       * @return Whether the length field is set.
        */
       @java.lang.Override
-      public boolean hasReaderId() {
-        return ((bitField0_ & 0x00000040) != 0);
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
-       * <code>optional int64 readerId = 7;</code>
-       * @return The readerId.
+       * <code>optional int32 length = 5;</code>
+       * @return The length.
        */
       @java.lang.Override
-      public long getReaderId() {
-        return readerId_;
+      public int getLength() {
+        return length_;
       }
       /**
-       * <code>optional int64 readerId = 7;</code>
-       * @param value The readerId to set.
+       * <code>optional int32 length = 5;</code>
+       * @param value The length to set.
        * @return This builder for chaining.
        */
-      public Builder setReaderId(long value) {
+      public Builder setLength(int value) {
 
-        readerId_ = value;
-        bitField0_ |= 0x00000040;
+        length_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 readerId = 7;</code>
+       * <code>optional int32 length = 5;</code>
        * @return This builder for chaining.
        */
-      public Builder clearReaderId() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        readerId_ = 0L;
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        length_ = 0;
         onChanged();
         return this;
       }
@@ -6683,23 +10837,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.InstallSnapshotRequest)
+      // @@protoc_insertion_point(builder_scope:jpacifica.GetFileRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.InstallSnapshotRequest)
-    private static final com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.GetFileRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.GetFileRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetFileRequest();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotRequest>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRequest>() {
+    private static final com.google.protobuf.Parser<GetFileRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetFileRequest>() {
       @java.lang.Override
-      public InstallSnapshotRequest parsePartialFrom(
+      public GetFileRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6718,24 +10872,24 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotRequest> parser() {
+    public static com.google.protobuf.Parser<GetFileRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotRequest> getParserForType() {
+    public com.google.protobuf.Parser<GetFileRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InstallSnapshotResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.InstallSnapshotResponse)
+  public interface GetFileResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.GetFileResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -6754,71 +10908,72 @@ public final class RpcRequest {
     com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder();
 
     /**
-     * <code>optional bool success = 2;</code>
-     * @return Whether the success field is set.
+     * <code>optional bool eof = 2;</code>
+     * @return Whether the eof field is set.
      */
-    boolean hasSuccess();
+    boolean hasEof();
     /**
-     * <code>optional bool success = 2;</code>
-     * @return The success.
+     * <code>optional bool eof = 2;</code>
+     * @return The eof.
      */
-    boolean getSuccess();
+    boolean getEof();
 
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <code>optional bytes data = 3;</code>
+     * @return Whether the data field is set.
      */
-    boolean hasTerm();
+    boolean hasData();
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <code>optional bytes data = 3;</code>
+     * @return The data.
      */
-    long getTerm();
+    com.google.protobuf.ByteString getData();
 
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
+     * <code>optional int64 read_length = 4;</code>
+     * @return Whether the readLength field is set.
      */
-    boolean hasVersion();
+    boolean hasReadLength();
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
+     * <code>optional int64 read_length = 4;</code>
+     * @return The readLength.
      */
-    long getVersion();
+    long getReadLength();
   }
   /**
-   * Protobuf type {@code jpacifica.InstallSnapshotResponse}
+   * Protobuf type {@code jpacifica.GetFileResponse}
    */
-  public static final class InstallSnapshotResponse extends
+  public static final class GetFileResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.InstallSnapshotResponse)
-      InstallSnapshotResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.GetFileResponse)
+      GetFileResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotResponse.newBuilder() to construct.
-    private InstallSnapshotResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetFileResponse.newBuilder() to construct.
+    private GetFileResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InstallSnapshotResponse() {
+    private GetFileResponse() {
+      data_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new InstallSnapshotResponse();
+      return new GetFileResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.GetFileResponse.class, com.trs.pacifica.proto.RpcRequest.GetFileResponse.Builder.class);
     }
 
     private int bitField0_;
@@ -6848,61 +11003,61 @@ public final class RpcRequest {
       return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
     }
 
-    public static final int SUCCESS_FIELD_NUMBER = 2;
-    private boolean success_ = false;
+    public static final int EOF_FIELD_NUMBER = 2;
+    private boolean eof_ = false;
     /**
-     * <code>optional bool success = 2;</code>
-     * @return Whether the success field is set.
+     * <code>optional bool eof = 2;</code>
+     * @return Whether the eof field is set.
      */
     @java.lang.Override
-    public boolean hasSuccess() {
+    public boolean hasEof() {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>optional bool success = 2;</code>
-     * @return The success.
+     * <code>optional bool eof = 2;</code>
+     * @return The eof.
      */
     @java.lang.Override
-    public boolean getSuccess() {
-      return success_;
+    public boolean getEof() {
+      return eof_;
     }
 
-    public static final int TERM_FIELD_NUMBER = 3;
-    private long term_ = 0L;
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return Whether the term field is set.
+     * <code>optional bytes data = 3;</code>
+     * @return Whether the data field is set.
      */
     @java.lang.Override
-    public boolean hasTerm() {
+    public boolean hasData() {
       return ((bitField0_ & 0x00000004) != 0);
     }
     /**
-     * <code>optional int64 term = 3;</code>
-     * @return The term.
+     * <code>optional bytes data = 3;</code>
+     * @return The data.
      */
     @java.lang.Override
-    public long getTerm() {
-      return term_;
+    public com.google.protobuf.ByteString getData() {
+      return data_;
     }
 
-    public static final int VERSION_FIELD_NUMBER = 4;
-    private long version_ = 0L;
+    public static final int READ_LENGTH_FIELD_NUMBER = 4;
+    private long readLength_ = 0L;
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return Whether the version field is set.
+     * <code>optional int64 read_length = 4;</code>
+     * @return Whether the readLength field is set.
      */
     @java.lang.Override
-    public boolean hasVersion() {
+    public boolean hasReadLength() {
       return ((bitField0_ & 0x00000008) != 0);
     }
     /**
-     * <code>optional int64 version = 4;</code>
-     * @return The version.
+     * <code>optional int64 read_length = 4;</code>
+     * @return The readLength.
      */
     @java.lang.Override
-    public long getVersion() {
-      return version_;
+    public long getReadLength() {
+      return readLength_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6923,13 +11078,13 @@ public final class RpcRequest {
         output.writeMessage(1, getError());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeBool(2, success_);
+        output.writeBool(2, eof_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeInt64(3, term_);
+        output.writeBytes(3, data_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeInt64(4, version_);
+        output.writeInt64(4, readLength_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -6946,15 +11101,15 @@ public final class RpcRequest {
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, success_);
+          .computeBoolSize(2, eof_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(3, term_);
+          .computeBytesSize(3, data_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(4, version_);
+          .computeInt64Size(4, readLength_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -6966,30 +11121,30 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetFileResponse)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse other = (com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse) obj;
+      com.trs.pacifica.proto.RpcRequest.GetFileResponse other = (com.trs.pacifica.proto.RpcRequest.GetFileResponse) obj;
 
       if (hasError() != other.hasError()) return false;
       if (hasError()) {
         if (!getError()
             .equals(other.getError())) return false;
       }
-      if (hasSuccess() != other.hasSuccess()) return false;
-      if (hasSuccess()) {
-        if (getSuccess()
-            != other.getSuccess()) return false;
+      if (hasEof() != other.hasEof()) return false;
+      if (hasEof()) {
+        if (getEof()
+            != other.getEof()) return false;
       }
-      if (hasTerm() != other.hasTerm()) return false;
-      if (hasTerm()) {
-        if (getTerm()
-            != other.getTerm()) return false;
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
       }
-      if (hasVersion() != other.hasVersion()) return false;
-      if (hasVersion()) {
-        if (getVersion()
-            != other.getVersion()) return false;
+      if (hasReadLength() != other.hasReadLength()) return false;
+      if (hasReadLength()) {
+        if (getReadLength()
+            != other.getReadLength()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -7006,64 +11161,63 @@ public final class RpcRequest {
         hash = (37 * hash) + ERROR_FIELD_NUMBER;
         hash = (53 * hash) + getError().hashCode();
       }
-      if (hasSuccess()) {
-        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      if (hasEof()) {
+        hash = (37 * hash) + EOF_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getSuccess());
+            getEof());
       }
-      if (hasTerm()) {
-        hash = (37 * hash) + TERM_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTerm());
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
       }
-      if (hasVersion()) {
-        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      if (hasReadLength()) {
+        hash = (37 * hash) + READ_LENGTH_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getVersion());
+            getReadLength());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7071,26 +11225,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7103,7 +11257,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetFileResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7119,26 +11273,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.InstallSnapshotResponse}
+     * Protobuf type {@code jpacifica.GetFileResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.InstallSnapshotResponse)
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.GetFileResponse)
+        com.trs.pacifica.proto.RpcRequest.GetFileResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.class, com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.GetFileResponse.class, com.trs.pacifica.proto.RpcRequest.GetFileResponse.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.GetFileResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7163,26 +11317,26 @@ public final class RpcRequest {
           errorBuilder_.dispose();
           errorBuilder_ = null;
         }
-        success_ = false;
-        term_ = 0L;
-        version_ = 0L;
+        eof_ = false;
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        readLength_ = 0L;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_InstallSnapshotResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.GetFileResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse build() {
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.GetFileResponse build() {
+        com.trs.pacifica.proto.RpcRequest.GetFileResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7190,14 +11344,14 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse(this);
+      public com.trs.pacifica.proto.RpcRequest.GetFileResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.GetFileResponse result = new com.trs.pacifica.proto.RpcRequest.GetFileResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse result) {
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetFileResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -7207,15 +11361,15 @@ public final class RpcRequest {
           to_bitField0_ |= 0x00000001;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.success_ = success_;
+          result.eof_ = eof_;
           to_bitField0_ |= 0x00000002;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.term_ = term_;
+          result.data_ = data_;
           to_bitField0_ |= 0x00000004;
         }
         if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.version_ = version_;
+          result.readLength_ = readLength_;
           to_bitField0_ |= 0x00000008;
         }
         result.bitField0_ |= to_bitField0_;
@@ -7255,27 +11409,27 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetFileResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetFileResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetFileResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.GetFileResponse.getDefaultInstance()) return this;
         if (other.hasError()) {
           mergeError(other.getError());
         }
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
+        if (other.hasEof()) {
+          setEof(other.getEof());
         }
-        if (other.hasTerm()) {
-          setTerm(other.getTerm());
+        if (other.hasData()) {
+          setData(other.getData());
         }
-        if (other.hasVersion()) {
-          setVersion(other.getVersion());
+        if (other.hasReadLength()) {
+          setReadLength(other.getReadLength());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -7311,17 +11465,17 @@ public final class RpcRequest {
                 break;
               } // case 10
               case 16: {
-                success_ = input.readBool();
+                eof_ = input.readBool();
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
-              case 24: {
-                term_ = input.readInt64();
+              case 26: {
+                data_ = input.readBytes();
                 bitField0_ |= 0x00000004;
                 break;
-              } // case 24
+              } // case 26
               case 32: {
-                version_ = input.readInt64();
+                readLength_ = input.readInt64();
                 bitField0_ |= 0x00000008;
                 break;
               } // case 32
@@ -7463,122 +11617,122 @@ public final class RpcRequest {
         return errorBuilder_;
       }
 
-      private boolean success_ ;
+      private boolean eof_ ;
       /**
-       * <code>optional bool success = 2;</code>
-       * @return Whether the success field is set.
+       * <code>optional bool eof = 2;</code>
+       * @return Whether the eof field is set.
        */
       @java.lang.Override
-      public boolean hasSuccess() {
+      public boolean hasEof() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>optional bool success = 2;</code>
-       * @return The success.
+       * <code>optional bool eof = 2;</code>
+       * @return The eof.
        */
       @java.lang.Override
-      public boolean getSuccess() {
-        return success_;
+      public boolean getEof() {
+        return eof_;
       }
       /**
-       * <code>optional bool success = 2;</code>
-       * @param value The success to set.
+       * <code>optional bool eof = 2;</code>
+       * @param value The eof to set.
        * @return This builder for chaining.
        */
-      public Builder setSuccess(boolean value) {
+      public Builder setEof(boolean value) {
 
-        success_ = value;
+        eof_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool success = 2;</code>
+       * <code>optional bool eof = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearSuccess() {
+      public Builder clearEof() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        success_ = false;
+        eof_ = false;
         onChanged();
         return this;
       }
 
-      private long term_ ;
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return Whether the term field is set.
+       * <code>optional bytes data = 3;</code>
+       * @return Whether the data field is set.
        */
       @java.lang.Override
-      public boolean hasTerm() {
+      public boolean hasData() {
         return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @return The term.
+       * <code>optional bytes data = 3;</code>
+       * @return The data.
        */
       @java.lang.Override
-      public long getTerm() {
-        return term_;
+      public com.google.protobuf.ByteString getData() {
+        return data_;
       }
       /**
-       * <code>optional int64 term = 3;</code>
-       * @param value The term to set.
+       * <code>optional bytes data = 3;</code>
+       * @param value The data to set.
        * @return This builder for chaining.
        */
-      public Builder setTerm(long value) {
-
-        term_ = value;
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        data_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 term = 3;</code>
+       * <code>optional bytes data = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTerm() {
+      public Builder clearData() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        term_ = 0L;
+        data_ = getDefaultInstance().getData();
         onChanged();
         return this;
       }
 
-      private long version_ ;
+      private long readLength_ ;
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return Whether the version field is set.
+       * <code>optional int64 read_length = 4;</code>
+       * @return Whether the readLength field is set.
        */
       @java.lang.Override
-      public boolean hasVersion() {
+      public boolean hasReadLength() {
         return ((bitField0_ & 0x00000008) != 0);
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @return The version.
+       * <code>optional int64 read_length = 4;</code>
+       * @return The readLength.
        */
       @java.lang.Override
-      public long getVersion() {
-        return version_;
+      public long getReadLength() {
+        return readLength_;
       }
       /**
-       * <code>optional int64 version = 4;</code>
-       * @param value The version to set.
+       * <code>optional int64 read_length = 4;</code>
+       * @param value The readLength to set.
        * @return This builder for chaining.
        */
-      public Builder setVersion(long value) {
+      public Builder setReadLength(long value) {
 
-        version_ = value;
+        readLength_ = value;
         bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 version = 4;</code>
+       * <code>optional int64 read_length = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearVersion() {
+      public Builder clearReadLength() {
         bitField0_ = (bitField0_ & ~0x00000008);
-        version_ = 0L;
+        readLength_ = 0L;
         onChanged();
         return this;
       }
@@ -7595,23 +11749,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.InstallSnapshotResponse)
+      // @@protoc_insertion_point(builder_scope:jpacifica.GetFileResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.InstallSnapshotResponse)
-    private static final com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.GetFileResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.GetFileResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetFileResponse();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotResponse>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResponse>() {
+    private static final com.google.protobuf.Parser<GetFileResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetFileResponse>() {
       @java.lang.Override
-      public InstallSnapshotResponse parsePartialFrom(
+      public GetFileResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7630,24 +11784,24 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotResponse> parser() {
+    public static com.google.protobuf.Parser<GetFileResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotResponse> getParserForType() {
+    public com.google.protobuf.Parser<GetFileResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetFileRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.GetFileRequest)
+  public interface PingReplicaRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.PingReplicaRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -7664,91 +11818,40 @@ public final class RpcRequest {
      * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
      */
     com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder();
-
-    /**
-     * <code>optional int64 reader_id = 2;</code>
-     * @return Whether the readerId field is set.
-     */
-    boolean hasReaderId();
-    /**
-     * <code>optional int64 reader_id = 2;</code>
-     * @return The readerId.
-     */
-    long getReaderId();
-
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return Whether the filename field is set.
-     */
-    boolean hasFilename();
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return The filename.
-     */
-    java.lang.String getFilename();
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return The bytes for filename.
-     */
-    com.google.protobuf.ByteString
-        getFilenameBytes();
-
-    /**
-     * <code>optional int32 offset = 4;</code>
-     * @return Whether the offset field is set.
-     */
-    boolean hasOffset();
-    /**
-     * <code>optional int32 offset = 4;</code>
-     * @return The offset.
-     */
-    int getOffset();
-
-    /**
-     * <code>optional int32 length = 5;</code>
-     * @return Whether the length field is set.
-     */
-    boolean hasLength();
-    /**
-     * <code>optional int32 length = 5;</code>
-     * @return The length.
-     */
-    int getLength();
   }
   /**
-   * Protobuf type {@code jpacifica.GetFileRequest}
+   * Protobuf type {@code jpacifica.PingReplicaRequest}
    */
-  public static final class GetFileRequest extends
+  public static final class PingReplicaRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.GetFileRequest)
-      GetFileRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.PingReplicaRequest)
+      PingReplicaRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetFileRequest.newBuilder() to construct.
-    private GetFileRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PingReplicaRequest.newBuilder() to construct.
+    private PingReplicaRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetFileRequest() {
-      filename_ = "";
+    private PingReplicaRequest() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetFileRequest();
+      return new PingReplicaRequest();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.GetFileRequest.class, com.trs.pacifica.proto.RpcRequest.GetFileRequest.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.class, com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.Builder.class);
     }
 
     private int bitField0_;
@@ -7778,110 +11881,6 @@ public final class RpcRequest {
       return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
     }
 
-    public static final int READER_ID_FIELD_NUMBER = 2;
-    private long readerId_ = 0L;
-    /**
-     * <code>optional int64 reader_id = 2;</code>
-     * @return Whether the readerId field is set.
-     */
-    @java.lang.Override
-    public boolean hasReaderId() {
-      return ((bitField0_ & 0x00000002) != 0);
-    }
-    /**
-     * <code>optional int64 reader_id = 2;</code>
-     * @return The readerId.
-     */
-    @java.lang.Override
-    public long getReaderId() {
-      return readerId_;
-    }
-
-    public static final int FILENAME_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object filename_ = "";
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return Whether the filename field is set.
-     */
-    @java.lang.Override
-    public boolean hasFilename() {
-      return ((bitField0_ & 0x00000004) != 0);
-    }
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return The filename.
-     */
-    @java.lang.Override
-    public java.lang.String getFilename() {
-      java.lang.Object ref = filename_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        filename_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string filename = 3;</code>
-     * @return The bytes for filename.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getFilenameBytes() {
-      java.lang.Object ref = filename_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        filename_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int OFFSET_FIELD_NUMBER = 4;
-    private int offset_ = 0;
-    /**
-     * <code>optional int32 offset = 4;</code>
-     * @return Whether the offset field is set.
-     */
-    @java.lang.Override
-    public boolean hasOffset() {
-      return ((bitField0_ & 0x00000008) != 0);
-    }
-    /**
-     * <code>optional int32 offset = 4;</code>
-     * @return The offset.
-     */
-    @java.lang.Override
-    public int getOffset() {
-      return offset_;
-    }
-
-    public static final int LENGTH_FIELD_NUMBER = 5;
-    private int length_ = 0;
-    /**
-     * <code>optional int32 length = 5;</code>
-     * @return Whether the length field is set.
-     */
-    @java.lang.Override
-    public boolean hasLength() {
-      return ((bitField0_ & 0x00000010) != 0);
-    }
-    /**
-     * <code>optional int32 length = 5;</code>
-     * @return The length.
-     */
-    @java.lang.Override
-    public int getLength() {
-      return length_;
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7899,18 +11898,6 @@ public final class RpcRequest {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeMessage(1, getTargetId());
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeInt64(2, readerId_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, filename_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeInt32(4, offset_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        output.writeInt32(5, length_);
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7924,21 +11911,6 @@ public final class RpcRequest {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, getTargetId());
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, readerId_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, filename_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, offset_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(5, length_);
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7949,36 +11921,16 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetFileRequest)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaRequest)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.GetFileRequest other = (com.trs.pacifica.proto.RpcRequest.GetFileRequest) obj;
+      com.trs.pacifica.proto.RpcRequest.PingReplicaRequest other = (com.trs.pacifica.proto.RpcRequest.PingReplicaRequest) obj;
 
       if (hasTargetId() != other.hasTargetId()) return false;
       if (hasTargetId()) {
         if (!getTargetId()
             .equals(other.getTargetId())) return false;
       }
-      if (hasReaderId() != other.hasReaderId()) return false;
-      if (hasReaderId()) {
-        if (getReaderId()
-            != other.getReaderId()) return false;
-      }
-      if (hasFilename() != other.hasFilename()) return false;
-      if (hasFilename()) {
-        if (!getFilename()
-            .equals(other.getFilename())) return false;
-      }
-      if (hasOffset() != other.hasOffset()) return false;
-      if (hasOffset()) {
-        if (getOffset()
-            != other.getOffset()) return false;
-      }
-      if (hasLength() != other.hasLength()) return false;
-      if (hasLength()) {
-        if (getLength()
-            != other.getLength()) return false;
-      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -7994,66 +11946,49 @@ public final class RpcRequest {
         hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
         hash = (53 * hash) + getTargetId().hashCode();
       }
-      if (hasReaderId()) {
-        hash = (37 * hash) + READER_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getReaderId());
-      }
-      if (hasFilename()) {
-        hash = (37 * hash) + FILENAME_FIELD_NUMBER;
-        hash = (53 * hash) + getFilename().hashCode();
-      }
-      if (hasOffset()) {
-        hash = (37 * hash) + OFFSET_FIELD_NUMBER;
-        hash = (53 * hash) + getOffset();
-      }
-      if (hasLength()) {
-        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
-        hash = (53 * hash) + getLength();
-      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8061,26 +11996,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8093,7 +12028,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetFileRequest prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8109,26 +12044,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.GetFileRequest}
+     * Protobuf type {@code jpacifica.PingReplicaRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.GetFileRequest)
-        com.trs.pacifica.proto.RpcRequest.GetFileRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.PingReplicaRequest)
+        com.trs.pacifica.proto.RpcRequest.PingReplicaRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.GetFileRequest.class, com.trs.pacifica.proto.RpcRequest.GetFileRequest.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.class, com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.GetFileRequest.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8153,27 +12088,23 @@ public final class RpcRequest {
           targetIdBuilder_.dispose();
           targetIdBuilder_ = null;
         }
-        readerId_ = 0L;
-        filename_ = "";
-        offset_ = 0;
-        length_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.GetFileRequest.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileRequest build() {
-        com.trs.pacifica.proto.RpcRequest.GetFileRequest result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest build() {
+        com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8181,37 +12112,21 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileRequest buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.GetFileRequest result = new com.trs.pacifica.proto.RpcRequest.GetFileRequest(this);
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result = new com.trs.pacifica.proto.RpcRequest.PingReplicaRequest(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetFileRequest result) {
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.targetId_ = targetIdBuilder_ == null
-              ? targetId_
-              : targetIdBuilder_.build();
-          to_bitField0_ |= 0x00000001;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.readerId_ = readerId_;
-          to_bitField0_ |= 0x00000002;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.filename_ = filename_;
-          to_bitField0_ |= 0x00000004;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.offset_ = offset_;
-          to_bitField0_ |= 0x00000008;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.length_ = length_;
-          to_bitField0_ |= 0x00000010;
+        return result;
+      }
+
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.targetId_ = targetIdBuilder_ == null
+              ? targetId_
+              : targetIdBuilder_.build();
+          to_bitField0_ |= 0x00000001;
         }
         result.bitField0_ |= to_bitField0_;
       }
@@ -8250,33 +12165,19 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetFileRequest) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetFileRequest)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.PingReplicaRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetFileRequest other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.GetFileRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.getDefaultInstance()) return this;
         if (other.hasTargetId()) {
           mergeTargetId(other.getTargetId());
         }
-        if (other.hasReaderId()) {
-          setReaderId(other.getReaderId());
-        }
-        if (other.hasFilename()) {
-          filename_ = other.filename_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (other.hasOffset()) {
-          setOffset(other.getOffset());
-        }
-        if (other.hasLength()) {
-          setLength(other.getLength());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -8310,26 +12211,6 @@ public final class RpcRequest {
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
-              case 16: {
-                readerId_ = input.readInt64();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 16
-              case 26: {
-                filename_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 32: {
-                offset_ = input.readInt32();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 32
-              case 40: {
-                length_ = input.readInt32();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 40
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -8467,205 +12348,6 @@ public final class RpcRequest {
         }
         return targetIdBuilder_;
       }
-
-      private long readerId_ ;
-      /**
-       * <code>optional int64 reader_id = 2;</code>
-       * @return Whether the readerId field is set.
-       */
-      @java.lang.Override
-      public boolean hasReaderId() {
-        return ((bitField0_ & 0x00000002) != 0);
-      }
-      /**
-       * <code>optional int64 reader_id = 2;</code>
-       * @return The readerId.
-       */
-      @java.lang.Override
-      public long getReaderId() {
-        return readerId_;
-      }
-      /**
-       * <code>optional int64 reader_id = 2;</code>
-       * @param value The readerId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setReaderId(long value) {
-
-        readerId_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int64 reader_id = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearReaderId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        readerId_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object filename_ = "";
-      /**
-       * <code>optional string filename = 3;</code>
-       * @return Whether the filename field is set.
-       */
-      public boolean hasFilename() {
-        return ((bitField0_ & 0x00000004) != 0);
-      }
-      /**
-       * <code>optional string filename = 3;</code>
-       * @return The filename.
-       */
-      public java.lang.String getFilename() {
-        java.lang.Object ref = filename_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          filename_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string filename = 3;</code>
-       * @return The bytes for filename.
-       */
-      public com.google.protobuf.ByteString
-          getFilenameBytes() {
-        java.lang.Object ref = filename_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          filename_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string filename = 3;</code>
-       * @param value The filename to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFilename(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        filename_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string filename = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFilename() {
-        filename_ = getDefaultInstance().getFilename();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string filename = 3;</code>
-       * @param value The bytes for filename to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFilenameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        filename_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      private int offset_ ;
-      /**
-       * <code>optional int32 offset = 4;</code>
-       * @return Whether the offset field is set.
-       */
-      @java.lang.Override
-      public boolean hasOffset() {
-        return ((bitField0_ & 0x00000008) != 0);
-      }
-      /**
-       * <code>optional int32 offset = 4;</code>
-       * @return The offset.
-       */
-      @java.lang.Override
-      public int getOffset() {
-        return offset_;
-      }
-      /**
-       * <code>optional int32 offset = 4;</code>
-       * @param value The offset to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOffset(int value) {
-
-        offset_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int32 offset = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOffset() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        offset_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private int length_ ;
-      /**
-       * <code>optional int32 length = 5;</code>
-       * @return Whether the length field is set.
-       */
-      @java.lang.Override
-      public boolean hasLength() {
-        return ((bitField0_ & 0x00000010) != 0);
-      }
-      /**
-       * <code>optional int32 length = 5;</code>
-       * @return The length.
-       */
-      @java.lang.Override
-      public int getLength() {
-        return length_;
-      }
-      /**
-       * <code>optional int32 length = 5;</code>
-       * @param value The length to set.
-       * @return This builder for chaining.
-       */
-      public Builder setLength(int value) {
-
-        length_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int32 length = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearLength() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        length_ = 0;
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -8679,23 +12361,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.GetFileRequest)
+      // @@protoc_insertion_point(builder_scope:jpacifica.PingReplicaRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.GetFileRequest)
-    private static final com.trs.pacifica.proto.RpcRequest.GetFileRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.PingReplicaRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.PingReplicaRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetFileRequest();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.PingReplicaRequest();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
-
-    private static final com.google.protobuf.Parser<GetFileRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetFileRequest>() {
+
+    private static final com.google.protobuf.Parser<PingReplicaRequest>
+        PARSER = new com.google.protobuf.AbstractParser<PingReplicaRequest>() {
       @java.lang.Override
-      public GetFileRequest parsePartialFrom(
+      public PingReplicaRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8714,24 +12396,24 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<GetFileRequest> parser() {
+    public static com.google.protobuf.Parser<PingReplicaRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetFileRequest> getParserForType() {
+    public com.google.protobuf.Parser<PingReplicaRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.GetFileRequest getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetFileResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.GetFileResponse)
+  public interface PingReplicaResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.PingReplicaResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -8750,72 +12432,49 @@ public final class RpcRequest {
     com.trs.pacifica.proto.RpcRequest.ErrorResponseOrBuilder getErrorOrBuilder();
 
     /**
-     * <code>optional bool eof = 2;</code>
-     * @return Whether the eof field is set.
-     */
-    boolean hasEof();
-    /**
-     * <code>optional bool eof = 2;</code>
-     * @return The eof.
-     */
-    boolean getEof();
-
-    /**
-     * <code>optional bytes data = 3;</code>
-     * @return Whether the data field is set.
-     */
-    boolean hasData();
-    /**
-     * <code>optional bytes data = 3;</code>
-     * @return The data.
-     */
-    com.google.protobuf.ByteString getData();
-
-    /**
-     * <code>optional int64 read_length = 4;</code>
-     * @return Whether the readLength field is set.
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
      */
-    boolean hasReadLength();
+    boolean hasSuccess();
     /**
-     * <code>optional int64 read_length = 4;</code>
-     * @return The readLength.
+     * <code>optional bool success = 2;</code>
+     * @return The success.
      */
-    long getReadLength();
+    boolean getSuccess();
   }
   /**
-   * Protobuf type {@code jpacifica.GetFileResponse}
+   * Protobuf type {@code jpacifica.PingReplicaResponse}
    */
-  public static final class GetFileResponse extends
+  public static final class PingReplicaResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.GetFileResponse)
-      GetFileResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.PingReplicaResponse)
+      PingReplicaResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetFileResponse.newBuilder() to construct.
-    private GetFileResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PingReplicaResponse.newBuilder() to construct.
+    private PingReplicaResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetFileResponse() {
-      data_ = com.google.protobuf.ByteString.EMPTY;
+    private PingReplicaResponse() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetFileResponse();
+      return new PingReplicaResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.GetFileResponse.class, com.trs.pacifica.proto.RpcRequest.GetFileResponse.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.class, com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.Builder.class);
     }
 
     private int bitField0_;
@@ -8845,61 +12504,23 @@ public final class RpcRequest {
       return error_ == null ? com.trs.pacifica.proto.RpcRequest.ErrorResponse.getDefaultInstance() : error_;
     }
 
-    public static final int EOF_FIELD_NUMBER = 2;
-    private boolean eof_ = false;
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_ = false;
     /**
-     * <code>optional bool eof = 2;</code>
-     * @return Whether the eof field is set.
+     * <code>optional bool success = 2;</code>
+     * @return Whether the success field is set.
      */
     @java.lang.Override
-    public boolean hasEof() {
+    public boolean hasSuccess() {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>optional bool eof = 2;</code>
-     * @return The eof.
-     */
-    @java.lang.Override
-    public boolean getEof() {
-      return eof_;
-    }
-
-    public static final int DATA_FIELD_NUMBER = 3;
-    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-    /**
-     * <code>optional bytes data = 3;</code>
-     * @return Whether the data field is set.
-     */
-    @java.lang.Override
-    public boolean hasData() {
-      return ((bitField0_ & 0x00000004) != 0);
-    }
-    /**
-     * <code>optional bytes data = 3;</code>
-     * @return The data.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
-    }
-
-    public static final int READ_LENGTH_FIELD_NUMBER = 4;
-    private long readLength_ = 0L;
-    /**
-     * <code>optional int64 read_length = 4;</code>
-     * @return Whether the readLength field is set.
-     */
-    @java.lang.Override
-    public boolean hasReadLength() {
-      return ((bitField0_ & 0x00000008) != 0);
-    }
-    /**
-     * <code>optional int64 read_length = 4;</code>
-     * @return The readLength.
+     * <code>optional bool success = 2;</code>
+     * @return The success.
      */
     @java.lang.Override
-    public long getReadLength() {
-      return readLength_;
+    public boolean getSuccess() {
+      return success_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8920,13 +12541,7 @@ public final class RpcRequest {
         output.writeMessage(1, getError());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeBool(2, eof_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeBytes(3, data_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeInt64(4, readLength_);
+        output.writeBool(2, success_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -8943,15 +12558,7 @@ public final class RpcRequest {
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, eof_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, data_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(4, readLength_);
+          .computeBoolSize(2, success_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -8963,30 +12570,20 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetFileResponse)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaResponse)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.GetFileResponse other = (com.trs.pacifica.proto.RpcRequest.GetFileResponse) obj;
+      com.trs.pacifica.proto.RpcRequest.PingReplicaResponse other = (com.trs.pacifica.proto.RpcRequest.PingReplicaResponse) obj;
 
       if (hasError() != other.hasError()) return false;
       if (hasError()) {
         if (!getError()
             .equals(other.getError())) return false;
       }
-      if (hasEof() != other.hasEof()) return false;
-      if (hasEof()) {
-        if (getEof()
-            != other.getEof()) return false;
-      }
-      if (hasData() != other.hasData()) return false;
-      if (hasData()) {
-        if (!getData()
-            .equals(other.getData())) return false;
-      }
-      if (hasReadLength() != other.hasReadLength()) return false;
-      if (hasReadLength()) {
-        if (getReadLength()
-            != other.getReadLength()) return false;
+      if (hasSuccess() != other.hasSuccess()) return false;
+      if (hasSuccess()) {
+        if (getSuccess()
+            != other.getSuccess()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -9003,63 +12600,54 @@ public final class RpcRequest {
         hash = (37 * hash) + ERROR_FIELD_NUMBER;
         hash = (53 * hash) + getError().hashCode();
       }
-      if (hasEof()) {
-        hash = (37 * hash) + EOF_FIELD_NUMBER;
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getEof());
-      }
-      if (hasData()) {
-        hash = (37 * hash) + DATA_FIELD_NUMBER;
-        hash = (53 * hash) + getData().hashCode();
-      }
-      if (hasReadLength()) {
-        hash = (37 * hash) + READ_LENGTH_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getReadLength());
+            getSuccess());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9067,26 +12655,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9099,7 +12687,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetFileResponse prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9115,26 +12703,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.GetFileResponse}
+     * Protobuf type {@code jpacifica.PingReplicaResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.GetFileResponse)
-        com.trs.pacifica.proto.RpcRequest.GetFileResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.PingReplicaResponse)
+        com.trs.pacifica.proto.RpcRequest.PingReplicaResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.GetFileResponse.class, com.trs.pacifica.proto.RpcRequest.GetFileResponse.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.class, com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.GetFileResponse.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9159,26 +12747,24 @@ public final class RpcRequest {
           errorBuilder_.dispose();
           errorBuilder_ = null;
         }
-        eof_ = false;
-        data_ = com.google.protobuf.ByteString.EMPTY;
-        readLength_ = 0L;
+        success_ = false;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetFileResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.GetFileResponse.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileResponse build() {
-        com.trs.pacifica.proto.RpcRequest.GetFileResponse result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse build() {
+        com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9186,14 +12772,14 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.GetFileResponse buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.GetFileResponse result = new com.trs.pacifica.proto.RpcRequest.GetFileResponse(this);
+      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result = new com.trs.pacifica.proto.RpcRequest.PingReplicaResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetFileResponse result) {
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -9203,17 +12789,9 @@ public final class RpcRequest {
           to_bitField0_ |= 0x00000001;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.eof_ = eof_;
+          result.success_ = success_;
           to_bitField0_ |= 0x00000002;
         }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.data_ = data_;
-          to_bitField0_ |= 0x00000004;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.readLength_ = readLength_;
-          to_bitField0_ |= 0x00000008;
-        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -9250,28 +12828,22 @@ public final class RpcRequest {
         return super.addRepeatedField(field, value);
       }
       @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetFileResponse) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetFileResponse)other);
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.PingReplicaResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetFileResponse other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.GetFileResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.getDefaultInstance()) return this;
         if (other.hasError()) {
           mergeError(other.getError());
         }
-        if (other.hasEof()) {
-          setEof(other.getEof());
-        }
-        if (other.hasData()) {
-          setData(other.getData());
-        }
-        if (other.hasReadLength()) {
-          setReadLength(other.getReadLength());
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -9307,20 +12879,10 @@ public final class RpcRequest {
                 break;
               } // case 10
               case 16: {
-                eof_ = input.readBool();
+                success_ = input.readBool();
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
-              case 26: {
-                data_ = input.readBytes();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 32: {
-                readLength_ = input.readInt64();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -9459,122 +13021,42 @@ public final class RpcRequest {
         return errorBuilder_;
       }
 
-      private boolean eof_ ;
+      private boolean success_ ;
       /**
-       * <code>optional bool eof = 2;</code>
-       * @return Whether the eof field is set.
+       * <code>optional bool success = 2;</code>
+       * @return Whether the success field is set.
        */
       @java.lang.Override
-      public boolean hasEof() {
+      public boolean hasSuccess() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>optional bool eof = 2;</code>
-       * @return The eof.
+       * <code>optional bool success = 2;</code>
+       * @return The success.
        */
       @java.lang.Override
-      public boolean getEof() {
-        return eof_;
+      public boolean getSuccess() {
+        return success_;
       }
       /**
-       * <code>optional bool eof = 2;</code>
-       * @param value The eof to set.
+       * <code>optional bool success = 2;</code>
+       * @param value The success to set.
        * @return This builder for chaining.
        */
-      public Builder setEof(boolean value) {
+      public Builder setSuccess(boolean value) {
 
-        eof_ = value;
+        success_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool eof = 2;</code>
+       * <code>optional bool success = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearEof() {
+      public Builder clearSuccess() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        eof_ = false;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>optional bytes data = 3;</code>
-       * @return Whether the data field is set.
-       */
-      @java.lang.Override
-      public boolean hasData() {
-        return ((bitField0_ & 0x00000004) != 0);
-      }
-      /**
-       * <code>optional bytes data = 3;</code>
-       * @return The data.
-       */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
-      }
-      /**
-       * <code>optional bytes data = 3;</code>
-       * @param value The data to set.
-       * @return This builder for chaining.
-       */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        data_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional bytes data = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearData() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        data_ = getDefaultInstance().getData();
-        onChanged();
-        return this;
-      }
-
-      private long readLength_ ;
-      /**
-       * <code>optional int64 read_length = 4;</code>
-       * @return Whether the readLength field is set.
-       */
-      @java.lang.Override
-      public boolean hasReadLength() {
-        return ((bitField0_ & 0x00000008) != 0);
-      }
-      /**
-       * <code>optional int64 read_length = 4;</code>
-       * @return The readLength.
-       */
-      @java.lang.Override
-      public long getReadLength() {
-        return readLength_;
-      }
-      /**
-       * <code>optional int64 read_length = 4;</code>
-       * @param value The readLength to set.
-       * @return This builder for chaining.
-       */
-      public Builder setReadLength(long value) {
-
-        readLength_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int64 read_length = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearReadLength() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        readLength_ = 0L;
+        success_ = false;
         onChanged();
         return this;
       }
@@ -9591,23 +13073,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.GetFileResponse)
+      // @@protoc_insertion_point(builder_scope:jpacifica.PingReplicaResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.GetFileResponse)
-    private static final com.trs.pacifica.proto.RpcRequest.GetFileResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.PingReplicaResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.PingReplicaResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetFileResponse();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.PingReplicaResponse();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetFileResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetFileResponse>() {
+    private static final com.google.protobuf.Parser<PingReplicaResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PingReplicaResponse>() {
       @java.lang.Override
-      public GetFileResponse parsePartialFrom(
+      public PingReplicaResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9626,101 +13108,172 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<GetFileResponse> parser() {
+    public static com.google.protobuf.Parser<PingReplicaResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetFileResponse> getParserForType() {
+    public com.google.protobuf.Parser<PingReplicaResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.GetFileResponse getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PingReplicaRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.PingReplicaRequest)
+  public interface GetCommitPointRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.GetCommitPointRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-     * @return Whether the targetId field is set.
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+     * @return Whether the readerId field is set.
      */
-    boolean hasTargetId();
+    boolean hasReaderId();
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-     * @return The targetId.
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+     * @return The readerId.
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId();
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getReaderId();
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
      */
-    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder();
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getReaderIdOrBuilder();
+
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return Whether the primaryId field is set.
+     */
+    boolean hasPrimaryId();
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return The primaryId.
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId();
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     */
+    com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder();
+
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    long getTerm();
   }
   /**
-   * Protobuf type {@code jpacifica.PingReplicaRequest}
+   * Protobuf type {@code jpacifica.GetCommitPointRequest}
    */
-  public static final class PingReplicaRequest extends
+  public static final class GetCommitPointRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.PingReplicaRequest)
-      PingReplicaRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.GetCommitPointRequest)
+      GetCommitPointRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PingReplicaRequest.newBuilder() to construct.
-    private PingReplicaRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetCommitPointRequest.newBuilder() to construct.
+    private GetCommitPointRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PingReplicaRequest() {
+    private GetCommitPointRequest() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PingReplicaRequest();
+      return new GetCommitPointRequest();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.class, com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.class, com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.Builder.class);
     }
 
     private int bitField0_;
-    public static final int TARGET_ID_FIELD_NUMBER = 1;
-    private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+    public static final int READER_ID_FIELD_NUMBER = 1;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId readerId_;
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-     * @return Whether the targetId field is set.
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+     * @return Whether the readerId field is set.
      */
     @java.lang.Override
-    public boolean hasTargetId() {
+    public boolean hasReaderId() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-     * @return The targetId.
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+     * @return The readerId.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getReaderId() {
+      return readerId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : readerId_;
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getReaderIdOrBuilder() {
+      return readerId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : readerId_;
+    }
+
+    public static final int PRIMARY_ID_FIELD_NUMBER = 2;
+    private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return Whether the primaryId field is set.
+     */
+    @java.lang.Override
+    public boolean hasPrimaryId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     * @return The primaryId.
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    }
+    /**
+     * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+      return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+    }
+
+    public static final int TERM_FIELD_NUMBER = 3;
+    private long term_ = 0L;
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
-      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
-     * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
      */
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
-      return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+    public long getTerm() {
+      return term_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -9738,7 +13291,13 @@ public final class RpcRequest {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeMessage(1, getTargetId());
+        output.writeMessage(1, getReaderId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getPrimaryId());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, term_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -9751,7 +13310,15 @@ public final class RpcRequest {
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getTargetId());
+          .computeMessageSize(1, getReaderId());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getPrimaryId());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, term_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -9763,15 +13330,25 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaRequest)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.PingReplicaRequest other = (com.trs.pacifica.proto.RpcRequest.PingReplicaRequest) obj;
+      com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest other = (com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest) obj;
 
-      if (hasTargetId() != other.hasTargetId()) return false;
-      if (hasTargetId()) {
-        if (!getTargetId()
-            .equals(other.getTargetId())) return false;
+      if (hasReaderId() != other.hasReaderId()) return false;
+      if (hasReaderId()) {
+        if (!getReaderId()
+            .equals(other.getReaderId())) return false;
+      }
+      if (hasPrimaryId() != other.hasPrimaryId()) return false;
+      if (hasPrimaryId()) {
+        if (!getPrimaryId()
+            .equals(other.getPrimaryId())) return false;
+      }
+      if (hasTerm() != other.hasTerm()) return false;
+      if (hasTerm()) {
+        if (getTerm()
+            != other.getTerm()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -9784,53 +13361,62 @@ public final class RpcRequest {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasTargetId()) {
-        hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getTargetId().hashCode();
+      if (hasReaderId()) {
+        hash = (37 * hash) + READER_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getReaderId().hashCode();
+      }
+      if (hasPrimaryId()) {
+        hash = (37 * hash) + PRIMARY_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getPrimaryId().hashCode();
+      }
+      if (hasTerm()) {
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTerm());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9838,26 +13424,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9870,7 +13456,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9886,26 +13472,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.PingReplicaRequest}
+     * Protobuf type {@code jpacifica.GetCommitPointRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.PingReplicaRequest)
-        com.trs.pacifica.proto.RpcRequest.PingReplicaRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.GetCommitPointRequest)
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.class, com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.class, com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9918,35 +13504,42 @@ public final class RpcRequest {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getTargetIdFieldBuilder();
+          getReaderIdFieldBuilder();
+          getPrimaryIdFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        targetId_ = null;
-        if (targetIdBuilder_ != null) {
-          targetIdBuilder_.dispose();
-          targetIdBuilder_ = null;
+        readerId_ = null;
+        if (readerIdBuilder_ != null) {
+          readerIdBuilder_.dispose();
+          readerIdBuilder_ = null;
+        }
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
         }
+        term_ = 0L;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaRequest_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointRequest_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest build() {
-        com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest build() {
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9954,22 +13547,32 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result = new com.trs.pacifica.proto.RpcRequest.PingReplicaRequest(this);
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest result = new com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest result) {
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.targetId_ = targetIdBuilder_ == null
-              ? targetId_
-              : targetIdBuilder_.build();
+          result.readerId_ = readerIdBuilder_ == null
+              ? readerId_
+              : readerIdBuilder_.build();
           to_bitField0_ |= 0x00000001;
         }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.primaryId_ = primaryIdBuilder_ == null
+              ? primaryId_
+              : primaryIdBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -10007,18 +13610,24 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaRequest) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.PingReplicaRequest)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.PingReplicaRequest other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.PingReplicaRequest.getDefaultInstance()) return this;
-        if (other.hasTargetId()) {
-          mergeTargetId(other.getTargetId());
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest.getDefaultInstance()) return this;
+        if (other.hasReaderId()) {
+          mergeReaderId(other.getReaderId());
+        }
+        if (other.hasPrimaryId()) {
+          mergePrimaryId(other.getPrimaryId());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -10048,11 +13657,23 @@ public final class RpcRequest {
                 break;
               case 10: {
                 input.readMessage(
-                    getTargetIdFieldBuilder().getBuilder(),
+                    getReaderIdFieldBuilder().getBuilder(),
                     extensionRegistry);
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
+              case 18: {
+                input.readMessage(
+                    getPrimaryIdFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -10070,125 +13691,286 @@ public final class RpcRequest {
       }
       private int bitField0_;
 
-      private com.trs.pacifica.proto.RpcCommon.ReplicaId targetId_;
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId readerId_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> targetIdBuilder_;
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> readerIdBuilder_;
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-       * @return Whether the targetId field is set.
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       * @return Whether the readerId field is set.
        */
-      public boolean hasTargetId() {
+      public boolean hasReaderId() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
-       * @return The targetId.
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       * @return The readerId.
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId getTargetId() {
-        if (targetIdBuilder_ == null) {
-          return targetId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getReaderId() {
+        if (readerIdBuilder_ == null) {
+          return readerId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : readerId_;
         } else {
-          return targetIdBuilder_.getMessage();
+          return readerIdBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
        */
-      public Builder setTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (targetIdBuilder_ == null) {
+      public Builder setReaderId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (readerIdBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          targetId_ = value;
+          readerId_ = value;
         } else {
-          targetIdBuilder_.setMessage(value);
+          readerIdBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
        */
-      public Builder setTargetId(
+      public Builder setReaderId(
           com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
-        if (targetIdBuilder_ == null) {
-          targetId_ = builderForValue.build();
+        if (readerIdBuilder_ == null) {
+          readerId_ = builderForValue.build();
         } else {
-          targetIdBuilder_.setMessage(builderForValue.build());
+          readerIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       */
+      public Builder mergeReaderId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (readerIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            readerId_ != null &&
+            readerId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getReaderIdBuilder().mergeFrom(value);
+          } else {
+            readerId_ = value;
+          }
+        } else {
+          readerIdBuilder_.mergeFrom(value);
+        }
+        if (readerId_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       */
+      public Builder clearReaderId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        readerId_ = null;
+        if (readerIdBuilder_ != null) {
+          readerIdBuilder_.dispose();
+          readerIdBuilder_ = null;
         }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getReaderIdBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
+        return getReaderIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getReaderIdOrBuilder() {
+        if (readerIdBuilder_ != null) {
+          return readerIdBuilder_.getMessageOrBuilder();
+        } else {
+          return readerId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : readerId_;
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId reader_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
+          getReaderIdFieldBuilder() {
+        if (readerIdBuilder_ == null) {
+          readerIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
+                  getReaderId(),
+                  getParentForChildren(),
+                  isClean());
+          readerId_ = null;
+        }
+        return readerIdBuilder_;
+      }
+
+      private com.trs.pacifica.proto.RpcCommon.ReplicaId primaryId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> primaryIdBuilder_;
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * @return Whether the primaryId field is set.
+       */
+      public boolean hasPrimaryId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       * @return The primaryId.
+       */
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId getPrimaryId() {
+        if (primaryIdBuilder_ == null) {
+          return primaryId_ == null ? com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
+        } else {
+          return primaryIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder setPrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          primaryId_ = value;
+        } else {
+          primaryIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
+       */
+      public Builder setPrimaryId(
+          com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder builderForValue) {
+        if (primaryIdBuilder_ == null) {
+          primaryId_ = builderForValue.build();
+        } else {
+          primaryIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
        */
-      public Builder mergeTargetId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
-        if (targetIdBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0) &&
-            targetId_ != null &&
-            targetId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
-            getTargetIdBuilder().mergeFrom(value);
+      public Builder mergePrimaryId(com.trs.pacifica.proto.RpcCommon.ReplicaId value) {
+        if (primaryIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            primaryId_ != null &&
+            primaryId_ != com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance()) {
+            getPrimaryIdBuilder().mergeFrom(value);
           } else {
-            targetId_ = value;
+            primaryId_ = value;
           }
         } else {
-          targetIdBuilder_.mergeFrom(value);
+          primaryIdBuilder_.mergeFrom(value);
         }
-        if (targetId_ != null) {
-          bitField0_ |= 0x00000001;
+        if (primaryId_ != null) {
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
        */
-      public Builder clearTargetId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        targetId_ = null;
-        if (targetIdBuilder_ != null) {
-          targetIdBuilder_.dispose();
-          targetIdBuilder_ = null;
+      public Builder clearPrimaryId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        primaryId_ = null;
+        if (primaryIdBuilder_ != null) {
+          primaryIdBuilder_.dispose();
+          primaryIdBuilder_ = null;
         }
         onChanged();
         return this;
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getTargetIdBuilder() {
-        bitField0_ |= 0x00000001;
+      public com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder getPrimaryIdBuilder() {
+        bitField0_ |= 0x00000002;
         onChanged();
-        return getTargetIdFieldBuilder().getBuilder();
+        return getPrimaryIdFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
        */
-      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getTargetIdOrBuilder() {
-        if (targetIdBuilder_ != null) {
-          return targetIdBuilder_.getMessageOrBuilder();
+      public com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder getPrimaryIdOrBuilder() {
+        if (primaryIdBuilder_ != null) {
+          return primaryIdBuilder_.getMessageOrBuilder();
         } else {
-          return targetId_ == null ?
-              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : targetId_;
+          return primaryId_ == null ?
+              com.trs.pacifica.proto.RpcCommon.ReplicaId.getDefaultInstance() : primaryId_;
         }
       }
       /**
-       * <code>optional .jpacifica.ReplicaId target_id = 1;</code>
+       * <code>optional .jpacifica.ReplicaId primary_id = 2;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder> 
-          getTargetIdFieldBuilder() {
-        if (targetIdBuilder_ == null) {
-          targetIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+          getPrimaryIdFieldBuilder() {
+        if (primaryIdBuilder_ == null) {
+          primaryIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               com.trs.pacifica.proto.RpcCommon.ReplicaId, com.trs.pacifica.proto.RpcCommon.ReplicaId.Builder, com.trs.pacifica.proto.RpcCommon.ReplicaIdOrBuilder>(
-                  getTargetId(),
+                  getPrimaryId(),
                   getParentForChildren(),
                   isClean());
-          targetId_ = null;
+          primaryId_ = null;
         }
-        return targetIdBuilder_;
+        return primaryIdBuilder_;
+      }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -10203,23 +13985,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.PingReplicaRequest)
+      // @@protoc_insertion_point(builder_scope:jpacifica.GetCommitPointRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.PingReplicaRequest)
-    private static final com.trs.pacifica.proto.RpcRequest.PingReplicaRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.GetCommitPointRequest)
+    private static final com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.PingReplicaRequest();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PingReplicaRequest>
-        PARSER = new com.google.protobuf.AbstractParser<PingReplicaRequest>() {
+    private static final com.google.protobuf.Parser<GetCommitPointRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetCommitPointRequest>() {
       @java.lang.Override
-      public PingReplicaRequest parsePartialFrom(
+      public GetCommitPointRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10238,24 +14020,24 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<PingReplicaRequest> parser() {
+    public static com.google.protobuf.Parser<GetCommitPointRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PingReplicaRequest> getParserForType() {
+    public com.google.protobuf.Parser<GetCommitPointRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.PingReplicaRequest getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PingReplicaResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:jpacifica.PingReplicaResponse)
+  public interface GetCommitPointResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:jpacifica.GetCommitPointResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -10283,40 +14065,81 @@ public final class RpcRequest {
      * @return The success.
      */
     boolean getSuccess();
+
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    long getTerm();
+
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    long getVersion();
+
+    /**
+     * <pre>
+     * the commit point confirmed by the Primary holding the lease
+     * </pre>
+     *
+     * <code>optional int64 commit_point = 5;</code>
+     * @return Whether the commitPoint field is set.
+     */
+    boolean hasCommitPoint();
+    /**
+     * <pre>
+     * the commit point confirmed by the Primary holding the lease
+     * </pre>
+     *
+     * <code>optional int64 commit_point = 5;</code>
+     * @return The commitPoint.
+     */
+    long getCommitPoint();
   }
   /**
-   * Protobuf type {@code jpacifica.PingReplicaResponse}
+   * Protobuf type {@code jpacifica.GetCommitPointResponse}
    */
-  public static final class PingReplicaResponse extends
+  public static final class GetCommitPointResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:jpacifica.PingReplicaResponse)
-      PingReplicaResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:jpacifica.GetCommitPointResponse)
+      GetCommitPointResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PingReplicaResponse.newBuilder() to construct.
-    private PingReplicaResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetCommitPointResponse.newBuilder() to construct.
+    private GetCommitPointResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PingReplicaResponse() {
+    private GetCommitPointResponse() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PingReplicaResponse();
+      return new GetCommitPointResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable
+      return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.class, com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.Builder.class);
+              com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.class, com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.Builder.class);
     }
 
     private int bitField0_;
@@ -10365,6 +14188,71 @@ public final class RpcRequest {
       return success_;
     }
 
+    public static final int TERM_FIELD_NUMBER = 3;
+    private long term_ = 0L;
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return Whether the term field is set.
+     */
+    @java.lang.Override
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 term = 3;</code>
+     * @return The term.
+     */
+    @java.lang.Override
+    public long getTerm() {
+      return term_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    private long version_ = 0L;
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    public static final int COMMIT_POINT_FIELD_NUMBER = 5;
+    private long commitPoint_ = 0L;
+    /**
+     * <pre>
+     * the commit point confirmed by the Primary holding the lease
+     * </pre>
+     *
+     * <code>optional int64 commit_point = 5;</code>
+     * @return Whether the commitPoint field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommitPoint() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * the commit point confirmed by the Primary holding the lease
+     * </pre>
+     *
+     * <code>optional int64 commit_point = 5;</code>
+     * @return The commitPoint.
+     */
+    @java.lang.Override
+    public long getCommitPoint() {
+      return commitPoint_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10385,6 +14273,15 @@ public final class RpcRequest {
       if (((bitField0_ & 0x00000002) != 0)) {
         output.writeBool(2, success_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(5, commitPoint_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10402,6 +14299,18 @@ public final class RpcRequest {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(2, success_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, term_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, commitPoint_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10412,10 +14321,10 @@ public final class RpcRequest {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaResponse)) {
+      if (!(obj instanceof com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse)) {
         return super.equals(obj);
       }
-      com.trs.pacifica.proto.RpcRequest.PingReplicaResponse other = (com.trs.pacifica.proto.RpcRequest.PingReplicaResponse) obj;
+      com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse other = (com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse) obj;
 
       if (hasError() != other.hasError()) return false;
       if (hasError()) {
@@ -10427,6 +14336,21 @@ public final class RpcRequest {
         if (getSuccess()
             != other.getSuccess()) return false;
       }
+      if (hasTerm() != other.hasTerm()) return false;
+      if (hasTerm()) {
+        if (getTerm()
+            != other.getTerm()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (hasCommitPoint() != other.hasCommitPoint()) return false;
+      if (hasCommitPoint()) {
+        if (getCommitPoint()
+            != other.getCommitPoint()) return false;
+      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -10447,49 +14371,64 @@ public final class RpcRequest {
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
             getSuccess());
       }
+      if (hasTerm()) {
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTerm());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      if (hasCommitPoint()) {
+        hash = (37 * hash) + COMMIT_POINT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCommitPoint());
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(byte[] data)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10497,26 +14436,26 @@ public final class RpcRequest {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseDelimitedFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse parseFrom(
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10529,7 +14468,7 @@ public final class RpcRequest {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse prototype) {
+    public static Builder newBuilder(com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -10545,26 +14484,26 @@ public final class RpcRequest {
       return builder;
     }
     /**
-     * Protobuf type {@code jpacifica.PingReplicaResponse}
+     * Protobuf type {@code jpacifica.GetCommitPointResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:jpacifica.PingReplicaResponse)
-        com.trs.pacifica.proto.RpcRequest.PingReplicaResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:jpacifica.GetCommitPointResponse)
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.class, com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.Builder.class);
+                com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.class, com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.Builder.class);
       }
 
-      // Construct using com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.newBuilder()
+      // Construct using com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10590,23 +14529,26 @@ public final class RpcRequest {
           errorBuilder_ = null;
         }
         success_ = false;
+        term_ = 0L;
+        version_ = 0L;
+        commitPoint_ = 0L;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_PingReplicaResponse_descriptor;
+        return com.trs.pacifica.proto.RpcRequest.internal_static_jpacifica_GetCommitPointResponse_descriptor;
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstanceForType() {
-        return com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.getDefaultInstance();
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse getDefaultInstanceForType() {
+        return com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse build() {
-        com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result = buildPartial();
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse build() {
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -10614,14 +14556,14 @@ public final class RpcRequest {
       }
 
       @java.lang.Override
-      public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse buildPartial() {
-        com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result = new com.trs.pacifica.proto.RpcRequest.PingReplicaResponse(this);
+      public com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse buildPartial() {
+        com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse result = new com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse result) {
+      private void buildPartial0(com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -10634,6 +14576,18 @@ public final class RpcRequest {
           result.success_ = success_;
           to_bitField0_ |= 0x00000002;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.term_ = term_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.commitPoint_ = commitPoint_;
+          to_bitField0_ |= 0x00000010;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -10671,22 +14625,31 @@ public final class RpcRequest {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.trs.pacifica.proto.RpcRequest.PingReplicaResponse) {
-          return mergeFrom((com.trs.pacifica.proto.RpcRequest.PingReplicaResponse)other);
+        if (other instanceof com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse) {
+          return mergeFrom((com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.PingReplicaResponse other) {
-        if (other == com.trs.pacifica.proto.RpcRequest.PingReplicaResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse other) {
+        if (other == com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse.getDefaultInstance()) return this;
         if (other.hasError()) {
           mergeError(other.getError());
         }
         if (other.hasSuccess()) {
           setSuccess(other.getSuccess());
         }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasCommitPoint()) {
+          setCommitPoint(other.getCommitPoint());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -10725,6 +14688,21 @@ public final class RpcRequest {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
+              case 24: {
+                term_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                version_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                commitPoint_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -10902,6 +14880,142 @@ public final class RpcRequest {
         onChanged();
         return this;
       }
+
+      private long term_ ;
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return Whether the term field is set.
+       */
+      @java.lang.Override
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return The term.
+       */
+      @java.lang.Override
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @param value The term to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTerm(long value) {
+
+        term_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 term = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long commitPoint_ ;
+      /**
+       * <pre>
+       * the commit point confirmed by the Primary holding the lease
+       * </pre>
+       *
+       * <code>optional int64 commit_point = 5;</code>
+       * @return Whether the commitPoint field is set.
+       */
+      @java.lang.Override
+      public boolean hasCommitPoint() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * the commit point confirmed by the Primary holding the lease
+       * </pre>
+       *
+       * <code>optional int64 commit_point = 5;</code>
+       * @return The commitPoint.
+       */
+      @java.lang.Override
+      public long getCommitPoint() {
+        return commitPoint_;
+      }
+      /**
+       * <pre>
+       * the commit point confirmed by the Primary holding the lease
+       * </pre>
+       *
+       * <code>optional int64 commit_point = 5;</code>
+       * @param value The commitPoint to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommitPoint(long value) {
+
+        commitPoint_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the commit point confirmed by the Primary holding the lease
+       * </pre>
+       *
+       * <code>optional int64 commit_point = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommitPoint() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        commitPoint_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -10915,23 +15029,23 @@ public final class RpcRequest {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:jpacifica.PingReplicaResponse)
+      // @@protoc_insertion_point(builder_scope:jpacifica.GetCommitPointResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:jpacifica.PingReplicaResponse)
-    private static final com.trs.pacifica.proto.RpcRequest.PingReplicaResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:jpacifica.GetCommitPointResponse)
+    private static final com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.PingReplicaResponse();
+      DEFAULT_INSTANCE = new com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse();
     }
 
-    public static com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstance() {
+    public static com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PingReplicaResponse>
-        PARSER = new com.google.protobuf.AbstractParser<PingReplicaResponse>() {
+    private static final com.google.protobuf.Parser<GetCommitPointResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetCommitPointResponse>() {
       @java.lang.Override
-      public PingReplicaResponse parsePartialFrom(
+      public GetCommitPointResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10950,17 +15064,17 @@ public final class RpcRequest {
       }
     };
 
-    public static com.google.protobuf.Parser<PingReplicaResponse> parser() {
+    public static com.google.protobuf.Parser<GetCommitPointResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PingReplicaResponse> getParserForType() {
+    public com.google.protobuf.Parser<GetCommitPointResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.trs.pacifica.proto.RpcRequest.PingReplicaResponse getDefaultInstanceForType() {
+    public com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -10981,6 +15095,16 @@ public final class RpcRequest {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_jpacifica_AppendEntriesResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_jpacifica_BatchAppendEntriesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_jpacifica_BatchAppendEntriesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_jpacifica_BatchAppendEntriesResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_jpacifica_BatchAppendEntriesResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_jpacifica_ReplicaRecoverRequest_descriptor;
   private static final 
@@ -11021,6 +15145,16 @@ public final class RpcRequest {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_jpacifica_GetCommitPointRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_jpacifica_GetCommitPointRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_jpacifica_GetCommitPointResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_jpacifica_GetCommitPointResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -11043,52 +15177,70 @@ public final class RpcRequest {
       "eta\022\025\n\010log_data\030\t \001(\014H\007\210\001\001B\r\n\013_primary_i" +
       "dB\014\n\n_target_idB\021\n\017_prev_log_indexB\020\n\016_p" +
       "rev_log_termB\017\n\r_commit_pointB\007\n\005_termB\n" +
-      "\n\010_versionB\013\n\t_log_data\"\213\002\n\025AppendEntrie" +
+      "\n\010_versionB\013\n\t_log_data\"\365\002\n\025AppendEntrie" +
       "sResponse\022,\n\005error\030\001 \001(\0132\030.jpacifica.Err" +
       "orResponseH\000\210\001\001\022\024\n\007success\030\002 \001(\010H\001\210\001\001\022\021\n" +
       "\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007version\030\004 \001(\003H\003\210\001\001\022\031" +
       "\n\014commit_point\030\005 \001(\003H\004\210\001\001\022\033\n\016last_log_in" +
-      "dex\030\006 \001(\003H\005\210\001\001B\010\n\006_errorB\n\n\010_successB\007\n\005" +
-      "_termB\n\n\010_versionB\017\n\r_commit_pointB\021\n\017_l" +
-      "ast_log_index\"\257\001\n\025ReplicaRecoverRequest\022" +
-      "-\n\nrecover_id\030\001 \001(\0132\024.jpacifica.ReplicaI" +
-      "dH\000\210\001\001\022-\n\nprimary_id\030\002 \001(\0132\024.jpacifica.R" +
-      "eplicaIdH\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001B\r\n\013_rec" +
-      "over_idB\r\n\013_primary_idB\007\n\005_term\"\260\001\n\026Repl" +
-      "icaRecoverResponse\022,\n\005error\030\001 \001(\0132\030.jpac" +
-      "ifica.ErrorResponseH\000\210\001\001\022\024\n\007success\030\002 \001(" +
-      "\010H\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007version\030\004 \001" +
-      "(\003H\003\210\001\001B\010\n\006_errorB\n\n\010_successB\007\n\005_termB\n" +
-      "\n\010_version\"\342\002\n\026InstallSnapshotRequest\022-\n" +
-      "\nprimary_id\030\001 \001(\0132\024.jpacifica.ReplicaIdH" +
-      "\000\210\001\001\022,\n\ttarget_id\030\002 \001(\0132\024.jpacifica.Repl" +
-      "icaIdH\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007version" +
-      "\030\004 \001(\003H\003\210\001\001\022\037\n\022snapshot_log_index\030\005 \001(\003H" +
-      "\004\210\001\001\022\036\n\021snapshot_log_term\030\006 \001(\003H\005\210\001\001\022\025\n\010" +
-      "readerId\030\007 \001(\003H\006\210\001\001B\r\n\013_primary_idB\014\n\n_t" +
-      "arget_idB\007\n\005_termB\n\n\010_versionB\025\n\023_snapsh" +
-      "ot_log_indexB\024\n\022_snapshot_log_termB\013\n\t_r" +
-      "eaderId\"\261\001\n\027InstallSnapshotResponse\022,\n\005e" +
-      "rror\030\001 \001(\0132\030.jpacifica.ErrorResponseH\000\210\001" +
-      "\001\022\024\n\007success\030\002 \001(\010H\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210" +
-      "\001\001\022\024\n\007version\030\004 \001(\003H\003\210\001\001B\010\n\006_errorB\n\n\010_s" +
-      "uccessB\007\n\005_termB\n\n\010_version\"\326\001\n\016GetFileR" +
-      "equest\022,\n\ttarget_id\030\001 \001(\0132\024.jpacifica.Re" +
-      "plicaIdH\000\210\001\001\022\026\n\treader_id\030\002 \001(\003H\001\210\001\001\022\025\n\010" +
-      "filename\030\003 \001(\tH\002\210\001\001\022\023\n\006offset\030\004 \001(\005H\003\210\001\001" +
-      "\022\023\n\006length\030\005 \001(\005H\004\210\001\001B\014\n\n_target_idB\014\n\n_" +
-      "reader_idB\013\n\t_filenameB\t\n\007_offsetB\t\n\007_le" +
-      "ngth\"\251\001\n\017GetFileResponse\022,\n\005error\030\001 \001(\0132" +
-      "\030.jpacifica.ErrorResponseH\000\210\001\001\022\020\n\003eof\030\002 " +
-      "\001(\010H\001\210\001\001\022\021\n\004data\030\003 \001(\014H\002\210\001\001\022\030\n\013read_leng" +
-      "th\030\004 \001(\003H\003\210\001\001B\010\n\006_errorB\006\n\004_eofB\007\n\005_data" +
-      "B\016\n\014_read_length\"P\n\022PingReplicaRequest\022," +
-      "\n\ttarget_id\030\001 \001(\0132\024.jpacifica.ReplicaIdH" +
-      "\000\210\001\001B\014\n\n_target_id\"o\n\023PingReplicaRespons" +
+      "dex\030\006 \001(\003H\005\210\001\001\022\032\n\rconflict_term\030\007 \001(\003H\006\210" +
+      "\001\001\022!\n\024conflict_first_index\030\010 \001(\003H\007\210\001\001B\010\n" +
+      "\006_errorB\n\n\010_successB\007\n\005_termB\n\n\010_version" +
+      "B\017\n\r_commit_pointB\021\n\017_last_log_indexB\020\n\016" +
+      "_conflict_termB\027\n\025_conflict_first_index\"" +
+      "N\n\031BatchAppendEntriesRequest\0221\n\010requests" +
+      "\030\001 \003(\0132\037.jpacifica.AppendEntriesRequest\"" +
+      "\211\001\n\032BatchAppendEntriesResponse\022,\n\005error\030" +
+      "\001 \001(\0132\030.jpacifica.ErrorResponseH\000\210\001\001\0223\n\t" +
+      "responses\030\002 \003(\0132 .jpacifica.AppendEntrie" +
+      "sResponseB\010\n\006_error\"\257\001\n\025ReplicaRecoverRe" +
+      "quest\022-\n\nrecover_id\030\001 \001(\0132\024.jpacifica.Re" +
+      "plicaIdH\000\210\001\001\022-\n\nprimary_id\030\002 \001(\0132\024.jpaci" +
+      "fica.ReplicaIdH\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001B\r" +
+      "\n\013_recover_idB\r\n\013_primary_idB\007\n\005_term\"\260\001" +
+      "\n\026ReplicaRecoverResponse\022,\n\005error\030\001 \001(\0132" +
+      "\030.jpacifica.ErrorResponseH\000\210\001\001\022\024\n\007succes" +
+      "s\030\002 \001(\010H\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007versi" +
+      "on\030\004 \001(\003H\003\210\001\001B\010\n\006_errorB\n\n\010_successB\007\n\005_" +
+      "termB\n\n\010_version\"\342\002\n\026InstallSnapshotRequ" +
+      "est\022-\n\nprimary_id\030\001 \001(\0132\024.jpacifica.Repl" +
+      "icaIdH\000\210\001\001\022,\n\ttarget_id\030\002 \001(\0132\024.jpacific" +
+      "a.ReplicaIdH\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007v" +
+      "ersion\030\004 \001(\003H\003\210\001\001\022\037\n\022snapshot_log_index\030" +
+      "\005 \001(\003H\004\210\001\001\022\036\n\021snapshot_log_term\030\006 \001(\003H\005\210" +
+      "\001\001\022\025\n\010readerId\030\007 \001(\003H\006\210\001\001B\r\n\013_primary_id" +
+      "B\014\n\n_target_idB\007\n\005_termB\n\n\010_versionB\025\n\023_" +
+      "snapshot_log_indexB\024\n\022_snapshot_log_term" +
+      "B\013\n\t_readerId\"\261\001\n\027InstallSnapshotRespons" +
       "e\022,\n\005error\030\001 \001(\0132\030.jpacifica.ErrorRespon" +
-      "seH\000\210\001\001\022\024\n\007success\030\002 \001(\010H\001\210\001\001B\010\n\006_errorB" +
-      "\n\n\010_successB$\n\026com.trs.pacifica.protoB\nR" +
-      "pcRequestb\006proto3"
+      "seH\000\210\001\001\022\024\n\007success\030\002 \001(\010H\001\210\001\001\022\021\n\004term\030\003 " +
+      "\001(\003H\002\210\001\001\022\024\n\007version\030\004 \001(\003H\003\210\001\001B\010\n\006_error" +
+      "B\n\n\010_successB\007\n\005_termB\n\n\010_version\"\326\001\n\016Ge" +
+      "tFileRequest\022,\n\ttarget_id\030\001 \001(\0132\024.jpacif" +
+      "ica.ReplicaIdH\000\210\001\001\022\026\n\treader_id\030\002 \001(\003H\001\210" +
+      "\001\001\022\025\n\010filename\030\003 \001(\tH\002\210\001\001\022\023\n\006offset\030\004 \001(" +
+      "\003H\003\210\001\001\022\023\n\006length\030\005 \001(\005H\004\210\001\001B\014\n\n_target_i" +
+      "dB\014\n\n_reader_idB\013\n\t_filenameB\t\n\007_offsetB" +
+      "\t\n\007_length\"\251\001\n\017GetFileResponse\022,\n\005error\030" +
+      "\001 \001(\0132\030.jpacifica.ErrorResponseH\000\210\001\001\022\020\n\003" +
+      "eof\030\002 \001(\010H\001\210\001\001\022\021\n\004data\030\003 \001(\014H\002\210\001\001\022\030\n\013rea" +
+      "d_length\030\004 \001(\003H\003\210\001\001B\010\n\006_errorB\006\n\004_eofB\007\n" +
+      "\005_dataB\016\n\014_read_length\"P\n\022PingReplicaReq" +
+      "uest\022,\n\ttarget_id\030\001 \001(\0132\024.jpacifica.Repl" +
+      "icaIdH\000\210\001\001B\014\n\n_target_id\"o\n\023PingReplicaR" +
+      "esponse\022,\n\005error\030\001 \001(\0132\030.jpacifica.Error" +
+      "ResponseH\000\210\001\001\022\024\n\007success\030\002 \001(\010H\001\210\001\001B\010\n\006_" +
+      "errorB\n\n\010_success\"\255\001\n\025GetCommitPointRequ" +
+      "est\022,\n\treader_id\030\001 \001(\0132\024.jpacifica.Repli" +
+      "caIdH\000\210\001\001\022-\n\nprimary_id\030\002 \001(\0132\024.jpacific" +
+      "a.ReplicaIdH\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001B\014\n\n_" +
+      "reader_idB\r\n\013_primary_idB\007\n\005_term\"\334\001\n\026Ge" +
+      "tCommitPointResponse\022,\n\005error\030\001 \001(\0132\030.jp" +
+      "acifica.ErrorResponseH\000\210\001\001\022\024\n\007success\030\002 " +
+      "\001(\010H\001\210\001\001\022\021\n\004term\030\003 \001(\003H\002\210\001\001\022\024\n\007version\030\004" +
+      " \001(\003H\003\210\001\001\022\031\n\014commit_point\030\005 \001(\003H\004\210\001\001B\010\n\006" +
+      "_errorB\n\n\010_successB\007\n\005_termB\n\n\010_versionB" +
+      "\017\n\r_commit_pointB$\n\026com.trs.pacifica.pro" +
+      "toB\nRpcRequestb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -11112,55 +15264,79 @@ public final class RpcRequest {
     internal_static_jpacifica_AppendEntriesResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_AppendEntriesResponse_descriptor,
-        new java.lang.String[] { "Error", "Success", "Term", "Version", "CommitPoint", "LastLogIndex", });
-    internal_static_jpacifica_ReplicaRecoverRequest_descriptor =
+        new java.lang.String[] { "Error", "Success", "Term", "Version", "CommitPoint", "LastLogIndex", "ConflictTerm", "ConflictFirstIndex", });
+    internal_static_jpacifica_BatchAppendEntriesRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_jpacifica_BatchAppendEntriesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_jpacifica_BatchAppendEntriesRequest_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_jpacifica_BatchAppendEntriesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_jpacifica_BatchAppendEntriesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_jpacifica_BatchAppendEntriesResponse_descriptor,
+        new java.lang.String[] { "Error", "Responses", });
+    internal_static_jpacifica_ReplicaRecoverRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_jpacifica_ReplicaRecoverRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_ReplicaRecoverRequest_descriptor,
         new java.lang.String[] { "RecoverId", "PrimaryId", "Term", });
     internal_static_jpacifica_ReplicaRecoverResponse_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_jpacifica_ReplicaRecoverResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_ReplicaRecoverResponse_descriptor,
         new java.lang.String[] { "Error", "Success", "Term", "Version", });
     internal_static_jpacifica_InstallSnapshotRequest_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_jpacifica_InstallSnapshotRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_InstallSnapshotRequest_descriptor,
         new java.lang.String[] { "PrimaryId", "TargetId", "Term", "Version", "SnapshotLogIndex", "SnapshotLogTerm", "ReaderId", });
     internal_static_jpacifica_InstallSnapshotResponse_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_jpacifica_InstallSnapshotResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_InstallSnapshotResponse_descriptor,
         new java.lang.String[] { "Error", "Success", "Term", "Version", });
     internal_static_jpacifica_GetFileRequest_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_jpacifica_GetFileRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_GetFileRequest_descriptor,
         new java.lang.String[] { "TargetId", "ReaderId", "Filename", "Offset", "Length", });
     internal_static_jpacifica_GetFileResponse_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_jpacifica_GetFileResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_GetFileResponse_descriptor,
         new java.lang.String[] { "Error", "Eof", "Data", "ReadLength", });
     internal_static_jpacifica_PingReplicaRequest_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_jpacifica_PingReplicaRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_PingReplicaRequest_descriptor,
         new java.lang.String[] { "TargetId", });
     internal_static_jpacifica_PingReplicaResponse_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_jpacifica_PingReplicaResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_jpacifica_PingReplicaResponse_descriptor,
         new java.lang.String[] { "Error", "Success", });
+    internal_static_jpacifica_GetCommitPointRequest_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_jpacifica_GetCommitPointRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_jpacifica_GetCommitPointRequest_descriptor,
+        new java.lang.String[] { "ReaderId", "PrimaryId", "Term", });
+    internal_static_jpacifica_GetCommitPointResponse_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_jpacifica_GetCommitPointResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_jpacifica_GetCommitPointResponse_descriptor,
+        new java.lang.String[] { "Error", "Success", "Term", "Version", "CommitPoint", });
     com.trs.pacifica.proto.RpcCommon.getDescriptor();
   }
 
@@ -64,6 +64,58 @@ public interface LogManager {
      */
     long getLogTermAt(final long logIndex);
 
+    /**
+     * find the first log index of the term in [fromLogIndex, toLogIndex].
+     * The terms of LogEntries are non-decreasing, so we binary search.
+     *
+     * @param term         term
+     * @param fromLogIndex fromLogIndex
+     * @param toLogIndex   toLogIndex
+     * @return 0 if not found
+     */
+    default long findFirstLogIndexOfTerm(final long term, final long fromLogIndex, final long toLogIndex) {
+        long lo = Math.max(1, fromLogIndex);
+        long hi = toLogIndex;
+        if (lo > hi) {
+            return 0L;
+        }
+        while (lo < hi) {
+            final long mid = (lo + hi) >>> 1;
+            if (getLogTermAt(mid) < term) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return getLogTermAt(lo) == term ? lo : 0L;
+    }
+
+    /**
+     * find the last log index of the term in [fromLogIndex, toLogIndex].
+     * The terms of LogEntries are non-decreasing, so we binary search.
+     *
+     * @param term         term
+     * @param fromLogIndex fromLogIndex
+     * @param toLogIndex   toLogIndex
+     * @return 0 if not found
+     */
+    default long findLastLogIndexOfTerm(final long term, final long fromLogIndex, final long toLogIndex) {
+        long lo = Math.max(1, fromLogIndex);
+        long hi = toLogIndex;
+        if (lo > hi) {
+            return 0L;
+        }
+        while (lo < hi) {
+            final long mid = (lo + hi + 1) >>> 1;
+            if (getLogTermAt(mid) > term) {
+                hi = mid - 1;
+            } else {
+                lo = mid;
+            }
+        }
+        return getLogTermAt(lo) == term ? lo : 0L;
+    }
+
     /**
      * Get first log id on disk
      *
@@ -117,6 +169,15 @@ public interface LogManager {
         public void setAppendCount(int appendCount) {
             this.appendCount = appendCount;
         }
+
+        /**
+         * called when the LogEntries are assigned log indexes but before they are persisted, in the lock of LogManager.
+         * the LogEntries may be read from {@link LogManager#getLogEntryAt(long)} while they are cached.
+         * run is called after they are persisted.
+         */
+        public void beforePersist() {
+
+        }
     }
 
 }
@@ -17,6 +17,8 @@
 
 package com.trs.pacifica;
 
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.model.LogEntry;
 import com.trs.pacifica.model.LogId;
@@ -26,7 +28,9 @@ import java.util.List;
 public interface LogStorage {
 
     /**
-     * get the LogEntry at index
+     * get the LogEntry at index.
+     * It may be called concurrently with the truncation, so the returned LogEntry must not refer to
+     * the storage which may be released by the truncation, such as a mapped file.
      *
      * @param index index of log entry
      * @return null if it does not exist or index less than or equal to 0
@@ -76,6 +80,24 @@ public interface LogStorage {
      */
     int appendLogEntries(final List<LogEntry> logEntries);
 
+    /**
+     * append LogEntry in bulk like {@link #appendLogEntries(List)}, but do not wait for them to be flushed.
+     * flushedCallback is run when they are durable and readable,
+     * so that the implementation may flush the appends of many calls by one sync.
+     * flushedCallback is run only if all the LogEntries are appended.
+     *
+     * @param logEntries      logEntries
+     * @param flushedCallback run after the LogEntries are flushed, maybe in other thread
+     * @return number of success
+     */
+    default int appendLogEntries(final List<LogEntry> logEntries, final Callback flushedCallback) {
+        final int count = appendLogEntries(logEntries);
+        if (count == logEntries.size()) {
+            flushedCallback.run(Finished.success());
+        }
+        return count;
+    }
+
 
     /**
      * truncate logs from storage's head, [first_log_index, first_index_kept) will be discarded.
@@ -17,10 +17,13 @@
 
 package com.trs.pacifica;
 
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.log.codec.LogEntryDecoder;
 import com.trs.pacifica.log.codec.LogEntryEncoder;
 
+import javax.annotation.Nullable;
+
 public interface LogStorageFactory {
 
     /**
@@ -34,4 +37,19 @@ public interface LogStorageFactory {
      */
     LogStorage newLogStorage(final String path, final LogEntryEncoder logEntryEncoder, final LogEntryDecoder logEntryDecoder) throws PacificaException;
 
+    /**
+     * create LogStorage for path, which records its metrics in the MetricRegistry of the replica
+     *
+     * @param path path of LogStorage
+     * @param logEntryEncoder logEntryEncoder
+     * @param logEntryDecoder logEntryDecoder
+     * @param metricRegistry MetricRegistry of the replica, nullable
+     * @return  LogStorage
+     * @throws PacificaException if error
+     */
+    default LogStorage newLogStorage(final String path, final LogEntryEncoder logEntryEncoder, final LogEntryDecoder logEntryDecoder,
+                                     @Nullable final MetricRegistry metricRegistry) throws PacificaException {
+        return newLogStorage(path, logEntryEncoder, logEntryDecoder);
+    }
+
 }
@@ -82,6 +82,32 @@ public interface Replica {
     void apply(Operation operation);
 
 
+    /**
+     * called by user.
+     * linearizable read without writing the log.
+     * The read index is the commit point confirmed by the lease of the Primary,
+     * the Secondary gets it from the Primary by rpc.
+     * The callback is executed after the LogEntry at read index is applied to the local state machine,
+     * so the user can read the state machine in the callback.
+     * The concurrent requests are served in batch.
+     *
+     * @param callback callback
+     */
+    void readIndex(ReadIndexCallback callback);
+
+    /**
+     * called by user.
+     * bounded-staleness read.
+     * The Secondary executes the callback at once with the last applied log index as read index,
+     * if it received request from the Primary within maxStalenessMs,
+     * otherwise it is the same as {@link #readIndex(ReadIndexCallback)}.
+     *
+     * @param maxStalenessMs maxStalenessMs, negative if linearizable read is needed
+     * @param callback       callback
+     */
+    void readIndex(long maxStalenessMs, ReadIndexCallback callback);
+
+
     /**
      * The snapshot is started immediately,
      * and the callback is executed when the snapshot is completed.
@@ -132,4 +158,23 @@ public interface Replica {
     public LogId getLastLogId();
 
 
+    abstract class ReadIndexCallback implements Callback {
+
+        private long readIndex = 0L;
+
+        /**
+         * get the read index
+         *
+         * @return 0 if failed to get
+         */
+        public long getReadIndex() {
+            return readIndex;
+        }
+
+        public void setReadIndex(long readIndex) {
+            this.readIndex = readIndex;
+        }
+    }
+
+
 }
@@ -23,12 +23,15 @@ import com.trs.pacifica.core.ReplicaOption;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.fs.FileServiceFactory;
 import com.trs.pacifica.log.codec.LogEntryCodecFactory;
+import com.trs.pacifica.metrics.MetricReporterFactory;
 import com.trs.pacifica.model.ReplicaId;
 import com.trs.pacifica.rpc.RpcServer;
 import com.trs.pacifica.rpc.client.RpcClient;
 import com.trs.pacifica.rpc.node.EndpointManager;
+import com.trs.pacifica.sender.HeartbeatMultiplexer;
 import com.trs.pacifica.util.timer.TimerFactory;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -121,8 +124,24 @@ public class ReplicaWharf {
 
         private Integer maxOperationNumPerBatch = null;
 
+        private Integer minOperationNumPerBatch = null;
+
+        private Integer maxOperationBytesPerBatch = null;
+
+        private Integer operationBatchLingerMs = null;
+
+        private Integer maxLogEntryCacheNum = null;
+
+        private Integer maxLogEntryCacheBytes = null;
+
         private Integer downloadSnapshotTimeoutMs = null;
 
+        private Integer downloadSnapshotChunkSize = null;
+
+        private Integer downloadSnapshotMaxInflightChunks = null;
+
+        private Integer downloadSnapshotParallelFiles = null;
+
         private Boolean enableLogEntryChecksum = null;
 
         private String logStoragePath = null;
@@ -137,8 +156,12 @@ public class ReplicaWharf {
         private ExecutorGroup senderExecutorGroup = null;
         private ScheduledExecutorService senderScheduler = null;
 
+        private HeartbeatMultiplexer heartbeatMultiplexer = null;
+
         private Executor downloadSnapshotExecutor = null;
 
+        private List<MetricReporterFactory> metricReporterFactories = null;
+
         private LogEntryCodecFactory logEntryCodecFactory = null;
 
         private FileServiceFactory fileServiceFactory = null;
@@ -214,11 +237,51 @@ public class ReplicaWharf {
             return this;
         }
 
+        public Builder minOperationNumPerBatch(int minOperationNumPerBatch) {
+            this.minOperationNumPerBatch = minOperationNumPerBatch;
+            return this;
+        }
+
+        public Builder maxOperationBytesPerBatch(int maxOperationBytesPerBatch) {
+            this.maxOperationBytesPerBatch = maxOperationBytesPerBatch;
+            return this;
+        }
+
+        public Builder operationBatchLingerMs(int operationBatchLingerMs) {
+            this.operationBatchLingerMs = operationBatchLingerMs;
+            return this;
+        }
+
+        public Builder maxLogEntryCacheNum(int maxLogEntryCacheNum) {
+            this.maxLogEntryCacheNum = maxLogEntryCacheNum;
+            return this;
+        }
+
+        public Builder maxLogEntryCacheBytes(int maxLogEntryCacheBytes) {
+            this.maxLogEntryCacheBytes = maxLogEntryCacheBytes;
+            return this;
+        }
+
         public Builder downloadSnapshotTimeoutMs(int downloadSnapshotTimeoutMs) {
             this.downloadSnapshotTimeoutMs = downloadSnapshotTimeoutMs;
             return this;
         }
 
+        public Builder downloadSnapshotChunkSize(int downloadSnapshotChunkSize) {
+            this.downloadSnapshotChunkSize = downloadSnapshotChunkSize;
+            return this;
+        }
+
+        public Builder downloadSnapshotMaxInflightChunks(int downloadSnapshotMaxInflightChunks) {
+            this.downloadSnapshotMaxInflightChunks = downloadSnapshotMaxInflightChunks;
+            return this;
+        }
+
+        public Builder downloadSnapshotParallelFiles(int downloadSnapshotParallelFiles) {
+            this.downloadSnapshotParallelFiles = downloadSnapshotParallelFiles;
+            return this;
+        }
+
         public Builder logStoragePath(String logStoragePath) {
             this.logStoragePath = logStoragePath;
             return this;
@@ -254,6 +317,16 @@ public class ReplicaWharf {
             return this;
         }
 
+        public Builder heartbeatMultiplexer(HeartbeatMultiplexer heartbeatMultiplexer) {
+            this.heartbeatMultiplexer = heartbeatMultiplexer;
+            return this;
+        }
+
+        public Builder metricReporterFactories(List<MetricReporterFactory> metricReporterFactories) {
+            this.metricReporterFactories = metricReporterFactories;
+            return this;
+        }
+
         public Builder downloadSnapshotExecutor(Executor downloadSnapshotExecutor) {
             this.downloadSnapshotExecutor = downloadSnapshotExecutor;
             return this;
@@ -321,9 +394,33 @@ public class ReplicaWharf {
             if (this.maxOperationNumPerBatch != null) {
                 this.replicaOption.setMaxOperationNumPerBatch(maxOperationNumPerBatch);
             }
+            if (this.minOperationNumPerBatch != null) {
+                this.replicaOption.setMinOperationNumPerBatch(minOperationNumPerBatch);
+            }
+            if (this.maxOperationBytesPerBatch != null) {
+                this.replicaOption.setMaxOperationBytesPerBatch(maxOperationBytesPerBatch);
+            }
+            if (this.operationBatchLingerMs != null) {
+                this.replicaOption.setOperationBatchLingerMs(operationBatchLingerMs);
+            }
+            if (this.maxLogEntryCacheNum != null) {
+                this.replicaOption.setMaxLogEntryCacheNum(maxLogEntryCacheNum);
+            }
+            if (this.maxLogEntryCacheBytes != null) {
+                this.replicaOption.setMaxLogEntryCacheBytes(maxLogEntryCacheBytes);
+            }
             if (this.downloadSnapshotTimeoutMs != null) {
                 this.replicaOption.setDownloadSnapshotTimeoutMs(downloadSnapshotTimeoutMs);
             }
+            if (this.downloadSnapshotChunkSize != null) {
+                this.replicaOption.setDownloadSnapshotChunkSize(downloadSnapshotChunkSize);
+            }
+            if (this.downloadSnapshotMaxInflightChunks != null) {
+                this.replicaOption.setDownloadSnapshotMaxInflightChunks(downloadSnapshotMaxInflightChunks);
+            }
+            if (this.downloadSnapshotParallelFiles != null) {
+                this.replicaOption.setDownloadSnapshotParallelFiles(downloadSnapshotParallelFiles);
+            }
             if (this.enableLogEntryChecksum != null) {
                 this.replicaOption.setEnableLogEntryChecksum(enableLogEntryChecksum);
             }
@@ -349,9 +446,14 @@ public class ReplicaWharf {
             if (this.senderScheduler != null) {
                 this.replicaOption.setSenderScheduler(senderScheduler);
             }
+            // null disables the coalescing of heartbeats
+            this.replicaOption.setHeartbeatMultiplexer(heartbeatMultiplexer);
             if (this.downloadSnapshotExecutor != null) {
                 this.replicaOption.setDownloadSnapshotExecutor(downloadSnapshotExecutor);
             }
+            if (this.metricReporterFactories != null) {
+                this.replicaOption.setMetricReporterFactories(metricReporterFactories);
+            }
             if (this.logEntryCodecFactory != null) {
                 this.replicaOption.setLogEntryCodecFactory(logEntryCodecFactory);
             }
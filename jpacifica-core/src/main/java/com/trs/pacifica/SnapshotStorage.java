@@ -77,6 +77,12 @@ public interface SnapshotStorage {
 
         private int timeoutMs = ReplicaOption.DEFAULT_DOWNLOAD_SNAPSHOT_TIMEOUT_MS;
 
+        private int chunkSize = ReplicaOption.DEFAULT_DOWNLOAD_SNAPSHOT_CHUNK_SIZE;
+
+        private int maxInflightChunks = ReplicaOption.DEFAULT_DOWNLOAD_SNAPSHOT_MAX_INFLIGHT_CHUNKS;
+
+        private int parallelFiles = ReplicaOption.DEFAULT_DOWNLOAD_SNAPSHOT_PARALLEL_FILES;
+
         public DownloadContext(LogId downloadLogId, long readerId, PacificaClient pacificaClient, ReplicaId remoteId) {
             this.downloadLogId = downloadLogId;
             this.readerId = readerId;
@@ -115,6 +121,30 @@ public interface SnapshotStorage {
         public void setTimeoutMs(int timeoutMs) {
             this.timeoutMs = timeoutMs;
         }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxInflightChunks() {
+            return maxInflightChunks;
+        }
+
+        public void setMaxInflightChunks(int maxInflightChunks) {
+            this.maxInflightChunks = maxInflightChunks;
+        }
+
+        public int getParallelFiles() {
+            return parallelFiles;
+        }
+
+        public void setParallelFiles(int parallelFiles) {
+            this.parallelFiles = parallelFiles;
+        }
     }
 
 }
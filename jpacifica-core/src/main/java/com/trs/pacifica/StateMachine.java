@@ -17,6 +17,8 @@
 
 package com.trs.pacifica;
 
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.core.fsm.OperationIterator;
 import com.trs.pacifica.snapshot.SnapshotReader;
@@ -43,6 +45,25 @@ public interface StateMachine {
      */
     void onSnapshotSave(final SnapshotWriter snapshotWriter) throws PacificaException;
 
+    /**
+     * User defined asynchronous snapshot save function.
+     * It is called on the thread applying the operations, so no operation is applied until it returns.
+     * The implementation should capture a point-in-time image of the state quickly,
+     * write it into snapshotWriter in the background, and then run onFinish.
+     * By default, it saves the snapshot synchronously by {@link #onSnapshotSave(SnapshotWriter)}.
+     *
+     * @param snapshotWriter snapshotWriter
+     * @param onFinish       must be called once, when the snapshot files are written, or failure
+     */
+    default void onSnapshotSave(final SnapshotWriter snapshotWriter, final Callback onFinish) {
+        try {
+            onSnapshotSave(snapshotWriter);
+            onFinish.run(Finished.success());
+        } catch (Throwable e) {
+            onFinish.run(Finished.failure(e));
+        }
+    }
+
     /**
      * Invoked once when the replica was shutdown.
      */
@@ -56,6 +56,17 @@ public interface StateMachineCaller {
      */
     long getLastCommittedLogIndex();
 
+    /**
+     * Wait until the LogEntry at logIndex is applied to the state machine,
+     * the callback is executed at once if it has been applied.
+     * It fails if the StateMachineCaller has an error or is shutdown before.
+     *
+     * @param logIndex logIndex
+     * @param onApplied callback
+     * @return true if success to submit AwaitApplied task
+     */
+    boolean awaitApplied(final long logIndex, final Callback onApplied);
+
     /**
      * Snapshot loading event.
      * Triggered when first started or after the Candidate
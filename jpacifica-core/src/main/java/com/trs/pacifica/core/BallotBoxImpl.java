@@ -17,6 +17,9 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.trs.pacifica.*;
 import com.trs.pacifica.model.ReplicaGroup;
 import com.trs.pacifica.model.ReplicaId;
@@ -24,25 +27,52 @@ import com.trs.pacifica.util.OnlyForTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * PacificA requires the ballot of all replicas (the Primary and all Secondaries) to commit a LogEntry.
+ * So instead of one ballot per LogEntry, we keep the acknowledged log index of each granter,
+ * and the commit point is the minimum of them.
+ * The LogEntries acknowledged by a granter must be continuous,
+ * a granter joining at log index N (see {@link #recoverBallot(ReplicaId, long)}) is considered to have acknowledged N - 1.
+ */
 public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option> {
     static final Logger LOGGER = LoggerFactory.getLogger(BallotBoxImpl.class);
 
+    static final int DEFAULT_GRANTER_NUM = 4;
+
+    static final int DEFAULT_PENDING_BALLOT_NUM = 1024;
+
     private final Replica replica;
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final Lock readLock = lock.readLock();
     private final Lock writeLock = lock.writeLock();
-    private long pendingLogIndex = 0; //pendingLogIndex = last_log_index + 1
+    private long pendingLogIndex = 0; //pendingLogIndex = last_committed_log_index + 1
+    private long lastBallotLogIndex = 0; // log index of the last initiated ballot
     private volatile long lastCommittedLogIndex = 0; //lastCommittedLogIndex
     private StateMachineCaller fsmCaller;
     private LogManager logManager;
-    private final LinkedList<Ballot> ballotQueue = new LinkedList<>();
+
+    private ReplicaId[] granters = new ReplicaId[DEFAULT_GRANTER_NUM];
+    /**
+     * acknowledged log index of the granter at the same position of granters
+     */
+    private long[] ackLogIndexes = new long[DEFAULT_GRANTER_NUM];
+    private int granterNum = 0;
+
+    /**
+     * time the ballot was initiated of the log index in [pendingLogIndex, lastBallotLogIndex],
+     * at position logIndex & (length - 1). it is null if there is no metrics.
+     */
+    private long[] ballotStartNanos = null;
+
+    private Timer ballotTimer = null;
 
     public BallotBoxImpl(Replica replica) {
         this.replica = replica;
@@ -55,6 +85,7 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
         try {
             this.fsmCaller = Objects.requireNonNull(option.getFsmCaller(), "option.getFsmCaller()");
             this.logManager = Objects.requireNonNull(option.getLogManager(), "logManager");
+            registerMetrics(option.getMetricRegistry());
         } finally {
             this.writeLock.unlock();
         }
@@ -66,6 +97,7 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
         try {
             this.lastCommittedLogIndex = this.logManager.getLastLogIndex();
             this.pendingLogIndex = this.lastCommittedLogIndex + 1;
+            this.lastBallotLogIndex = this.lastCommittedLogIndex;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("{} start BallotBox, pending_log_index={}, last_committed_log_index={}", this.replica.getReplicaId(),
                         this.pendingLogIndex, this.lastCommittedLogIndex);
@@ -89,14 +121,20 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
     public boolean initiateBallot(final long logIndex, ReplicaGroup replicaGroup) {
         final ReplicaId primary = replicaGroup.getPrimary();
         final List<ReplicaId> secondaryList = replicaGroup.listSecondary();
-        final Ballot ballot = new Ballot(primary);
-        secondaryList.forEach(replicaId -> ballot.addGranter(replicaId));
         this.writeLock.lock();
         try {
-            if (logIndex != this.pendingLogIndex + ballotQueue.size()) {
+            if (this.pendingLogIndex == 0 || logIndex != this.lastBallotLogIndex + 1) {
                 return false;
             }
-            this.ballotQueue.add(ballot);
+            // the replica joining the group since this ballot
+            addGranter(primary, logIndex - 1);
+            for (ReplicaId secondary : secondaryList) {
+                addGranter(secondary, logIndex - 1);
+            }
+            this.lastBallotLogIndex = logIndex;
+            if (this.ballotStartNanos != null) {
+                markBallotStart(logIndex);
+            }
             return true;
         } finally {
             this.writeLock.unlock();
@@ -106,49 +144,45 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
     @Override
     public boolean cancelBallot(ReplicaId replicaId) {
         Objects.requireNonNull(replicaId, "replicaId");
-        this.readLock.lock();
-        long lastCommittedLogIndex = this.lastCommittedLogIndex;
+        this.writeLock.lock();
         try {
             if (this.pendingLogIndex == 0) {
                 return false;
             }
-            if (this.ballotQueue.isEmpty()) {
-                return true;
-            }
-            int index = 0;
-            for (Ballot ballot : this.ballotQueue) {
-                if (ballot.removeGranter(replicaId) && ballot.isGranted()) {
-                    lastCommittedLogIndex += index;
-                }
-                index++;
-            }
-            if (lastCommittedLogIndex == this.lastCommittedLogIndex) {
-                return true;
+            final int index = indexOfGranter(replicaId);
+            if (index >= 0) {
+                final int last = --this.granterNum;
+                this.granters[index] = this.granters[last];
+                this.ackLogIndexes[index] = this.ackLogIndexes[last];
+                this.granters[last] = null;
+                // the ballots may be granted without it
+                tryCommit();
             }
-
+            return true;
         } finally {
-            this.readLock.unlock();
+            this.writeLock.unlock();
         }
-        setLastCommittedLogIndex(lastCommittedLogIndex);
-        return true;
     }
 
     @Override
     public boolean recoverBallot(final ReplicaId replicaId, long startLogIndex) {
         Objects.requireNonNull(replicaId, "replicaId");
-        this.readLock.lock();
+        this.writeLock.lock();
         try {
             if (startLogIndex <= this.lastCommittedLogIndex) {
                 //
                 return false;
             }
             startLogIndex = Math.max(startLogIndex, this.pendingLogIndex);
-            final int fromIndex = (int) Math.max(0, startLogIndex - pendingLogIndex);
-            final int toIndex = this.ballotQueue.size();
-            List<Ballot> recoverList = this.ballotQueue.subList(fromIndex, toIndex);
-            recoverList.forEach(ballot -> ballot.addGranter(replicaId));
+            final int index = indexOfGranter(replicaId);
+            if (index >= 0) {
+                // it must ballot for [startLogIndex, ...]
+                this.ackLogIndexes[index] = Math.min(this.ackLogIndexes[index], startLogIndex - 1);
+            } else {
+                addGranter(replicaId, startLogIndex - 1);
+            }
         } finally {
-            this.readLock.unlock();
+            this.writeLock.unlock();
         }
         return true;
     }
@@ -159,38 +193,34 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
         if (startLogIndex > endLogIndex) {
             throw new IllegalArgumentException(String.format("startLogIndex(%d) greater than endLogIndex(%d).", startLogIndex, endLogIndex));
         }
-        this.readLock.lock();
-        long lastCommittedLogIndex = this.lastCommittedLogIndex;
+        this.writeLock.lock();
         try {
             if (this.pendingLogIndex == 0) {
                 return false;
             }
-            if (this.ballotQueue.isEmpty()) {
+            if (this.pendingLogIndex > this.lastBallotLogIndex) {
+                // no ballot
                 return false;
             }
-            if (endLogIndex < pendingLogIndex) {
+            if (endLogIndex < this.pendingLogIndex) {
                 return false;
             }
-            startLogIndex = Math.max(this.pendingLogIndex, startLogIndex);
-            endLogIndex = Math.min(endLogIndex, this.pendingLogIndex + this.ballotQueue.size());
-            final int fromIndex = (int) Math.max(0, startLogIndex - pendingLogIndex);
-            final int toIndex = (int) Math.max(1, endLogIndex - pendingLogIndex + 1);
-            List<Ballot> commitList = this.ballotQueue.subList(fromIndex, toIndex);
-            int index = 0;
-            for (Ballot ballot : commitList) {
-                index++;
-                if (ballot.grant(replicaId)) {
-                    lastCommittedLogIndex += index;
-                }
+            final int index = indexOfGranter(replicaId);
+            if (index < 0) {
+                return true;
             }
-            if (lastCommittedLogIndex == this.lastCommittedLogIndex) {
+            final long ackLogIndex = this.ackLogIndexes[index];
+            endLogIndex = Math.min(endLogIndex, this.lastBallotLogIndex);
+            if (startLogIndex > ackLogIndex + 1 || endLogIndex <= ackLogIndex) {
+                // not continuous or granted already
                 return true;
             }
+            this.ackLogIndexes[index] = endLogIndex;
+            tryCommit();
+            return true;
         } finally {
-            this.readLock.unlock();
+            this.writeLock.unlock();
         }
-        setLastCommittedLogIndex(lastCommittedLogIndex);
-        return true;
     }
 
     @Override
@@ -209,144 +239,167 @@ public class BallotBoxImpl implements BallotBox, LifeCycle<BallotBoxImpl.Option>
     }
 
     @OnlyForTest
-    LinkedList<Ballot> getBallotQueue() {
-        return this.ballotQueue;
+    long getLastBallotLogIndex() {
+        return this.lastBallotLogIndex;
     }
 
-    private void setLastCommittedLogIndex(final long lastCommittedLogIndex) {
-        this.writeLock.lock();
+    /**
+     * @param logIndex logIndex
+     * @return number of granters which have not granted the ballot at logIndex
+     */
+    @OnlyForTest
+    int getQuorum(final long logIndex) {
+        this.readLock.lock();
         try {
-            if (lastCommittedLogIndex >= this.lastCommittedLogIndex) {
-                this.lastCommittedLogIndex = lastCommittedLogIndex;
-                this.fsmCaller.commitAt(lastCommittedLogIndex);
-            }
-            while (this.pendingLogIndex <= lastCommittedLogIndex) {
-                this.ballotQueue.poll();
-                this.pendingLogIndex++;
-            }
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(" {} after set last_committed_log_index={}, pending_log_index={}", this.replica.getReplicaId(), lastCommittedLogIndex, this.pendingLogIndex);
+            int quorum = 0;
+            for (int i = 0; i < this.granterNum; i++) {
+                if (this.ackLogIndexes[i] < logIndex) {
+                    quorum++;
+                }
             }
+            return quorum;
         } finally {
-            this.writeLock.unlock();
+            this.readLock.unlock();
         }
     }
 
-    void reset() {
-        this.pendingLogIndex = 0;
-        this.lastCommittedLogIndex = 0;
-        this.ballotQueue.clear();
-    }
-
-
-    public static class Option {
-
-        private StateMachineCaller fsmCaller;
-        private LogManager logManager;
-
-        public StateMachineCaller getFsmCaller() {
-            return fsmCaller;
+    private void registerMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
         }
+        this.ballotTimer = metricRegistry.timer("ballot-box.ballot");
+        this.ballotStartNanos = new long[DEFAULT_PENDING_BALLOT_NUM];
+        metricRegistry.gauge("ballot-box.pending-ballots", () -> (Gauge<Long>) this::getPendingBallotNum);
+    }
 
-        public void setFsmCaller(StateMachineCaller fsmCaller) {
-            this.fsmCaller = fsmCaller;
+    private long getPendingBallotNum() {
+        this.readLock.lock();
+        try {
+            return Math.max(0, this.lastBallotLogIndex - this.pendingLogIndex + 1);
+        } finally {
+            this.readLock.unlock();
         }
+    }
 
-        public LogManager getLogManager() {
-            return logManager;
+    private void markBallotStart(final long logIndex) {
+        final long pendingNum = logIndex - this.pendingLogIndex + 1;
+        if (pendingNum > this.ballotStartNanos.length) {
+            int newLength = this.ballotStartNanos.length;
+            while (newLength < pendingNum) {
+                newLength <<= 1;
+            }
+            final long[] newStartNanos = new long[newLength];
+            for (long i = this.pendingLogIndex; i < logIndex; i++) {
+                newStartNanos[(int) (i & (newLength - 1))] = this.ballotStartNanos[(int) (i & (this.ballotStartNanos.length - 1))];
+            }
+            this.ballotStartNanos = newStartNanos;
         }
+        this.ballotStartNanos[(int) (logIndex & (this.ballotStartNanos.length - 1))] = System.nanoTime();
+    }
 
-        public void setLogManager(LogManager logManager) {
-            this.logManager = logManager;
+    /**
+     * one sample for the batch of committed ballots, it is the latency of the oldest ballot in the batch.
+     */
+    private void updateBallotTimer(final long endLogIndex) {
+        if (this.pendingLogIndex > endLogIndex) {
+            return;
         }
+        final int mask = this.ballotStartNanos.length - 1;
+        this.ballotTimer.update(System.nanoTime() - this.ballotStartNanos[(int) (this.pendingLogIndex & mask)], TimeUnit.NANOSECONDS);
     }
 
-    static class Ballot {
-
-        static final int DEFAULT_GRANTER_NUM = 3;
-        static final AtomicIntegerFieldUpdater<Ballot> ATOMIC_QUORUM = AtomicIntegerFieldUpdater.newUpdater(Ballot.class, "quorum");
-        private volatile int quorum = 0;
-
-        private Map<ReplicaId, Granter> granters = Collections.synchronizedMap(new HashMap<>(DEFAULT_GRANTER_NUM));
-
-        Ballot() {
-
+    private int indexOfGranter(final ReplicaId replicaId) {
+        for (int i = 0; i < this.granterNum; i++) {
+            if (replicaId.equals(this.granters[i])) {
+                return i;
+            }
         }
+        return -1;
+    }
 
-        Ballot(ReplicaId... replicaIds) {
-            this(Arrays.asList(replicaIds));
+    private void addGranter(final ReplicaId replicaId, final long ackLogIndex) {
+        if (indexOfGranter(replicaId) >= 0) {
+            return;
         }
-
-        Ballot(Collection<ReplicaId> replicaIds) {
-            for (ReplicaId replicaId : replicaIds) {
-                addGranter(replicaId);
-            }
+        if (this.granterNum == this.granters.length) {
+            final int newLength = this.granterNum << 1;
+            this.granters = Arrays.copyOf(this.granters, newLength);
+            this.ackLogIndexes = Arrays.copyOf(this.ackLogIndexes, newLength);
         }
+        this.granters[this.granterNum] = replicaId;
+        this.ackLogIndexes[this.granterNum] = ackLogIndex;
+        this.granterNum++;
+    }
 
-        @OnlyForTest
-        int getQuorum() {
-            return this.quorum;
+    /**
+     * commit at the minimum acknowledged log index of all granters, must hold the write lock.
+     */
+    private void tryCommit() {
+        long commitLogIndex = this.lastBallotLogIndex;
+        for (int i = 0; i < this.granterNum; i++) {
+            commitLogIndex = Math.min(commitLogIndex, this.ackLogIndexes[i]);
         }
-
-        public boolean isGranted() {
-            return quorum == 0;
+        if (commitLogIndex >= this.pendingLogIndex) {
+            setLastCommittedLogIndex(commitLogIndex);
         }
+    }
 
-        /**
-         * @param replicaId
-         * @return {@link #isGranted()}
-         */
-        public boolean grant(final ReplicaId replicaId) {
-            final Granter granter = this.granters.get(replicaId);
-            if (granter != null && granter.grant()) {
-                ATOMIC_QUORUM.decrementAndGet(this);
-            }
-            return isGranted();
+    private void setLastCommittedLogIndex(final long lastCommittedLogIndex) {
+        if (this.ballotStartNanos != null) {
+            updateBallotTimer(Math.min(lastCommittedLogIndex, this.lastBallotLogIndex));
         }
-
-        public boolean addGranter(final ReplicaId replicaId) {
-            if (granters.containsKey(replicaId)) {
-                return true;
-            }
-            final Granter granter = granters.putIfAbsent(replicaId, new Granter(replicaId));
-            if (granter == null) {
-                ATOMIC_QUORUM.incrementAndGet(this);
-            }
-            return true;
+        if (lastCommittedLogIndex >= this.lastCommittedLogIndex) {
+            this.lastCommittedLogIndex = lastCommittedLogIndex;
+            this.fsmCaller.commitAt(lastCommittedLogIndex);
         }
-
-        public boolean removeGranter(final ReplicaId replicaId) {
-            final Granter granter = granters.remove(replicaId);
-            if (granter == null) {
-                return false;
-            }
-            if (granter.grant()) {
-                ATOMIC_QUORUM.decrementAndGet(this);
-            }
-            return true;
+        this.pendingLogIndex = Math.max(this.pendingLogIndex, lastCommittedLogIndex + 1);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(" {} after set last_committed_log_index={}, pending_log_index={}", this.replica.getReplicaId(), lastCommittedLogIndex, this.pendingLogIndex);
         }
+    }
 
+    void reset() {
+        this.pendingLogIndex = 0;
+        this.lastBallotLogIndex = 0;
+        this.lastCommittedLogIndex = 0;
+        Arrays.fill(this.granters, null);
+        this.granterNum = 0;
     }
 
 
-    static class Granter {
+    public static class Option {
 
-        private final ReplicaId replicaId;
+        private StateMachineCaller fsmCaller;
+        private LogManager logManager;
 
-        private AtomicBoolean granted = new AtomicBoolean(false);
+        /**
+         * the wait of the ballots is recorded in it if not null
+         */
+        private MetricRegistry metricRegistry = null;
+
+        public StateMachineCaller getFsmCaller() {
+            return fsmCaller;
+        }
+
+        public void setFsmCaller(StateMachineCaller fsmCaller) {
+            this.fsmCaller = fsmCaller;
+        }
 
-        Granter(ReplicaId replicaId) {
-            this.replicaId = replicaId;
+        public LogManager getLogManager() {
+            return logManager;
         }
 
-        boolean hasGranted() {
-            return granted.get();
+        public void setLogManager(LogManager logManager) {
+            this.logManager = logManager;
         }
 
-        boolean grant() {
-            return this.granted.compareAndSet(false, true);
+        public MetricRegistry getMetricRegistry() {
+            return metricRegistry;
         }
 
+        public void setMetricRegistry(MetricRegistry metricRegistry) {
+            this.metricRegistry = metricRegistry;
+        }
     }
 
 }
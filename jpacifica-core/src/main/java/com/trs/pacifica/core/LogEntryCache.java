@@ -0,0 +1,218 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.core;
+
+import com.trs.pacifica.model.LogEntry;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.nio.ByteBuffer;
+
+/**
+ * bounded cache of the most recently appended LogEntries, keyed by continuous log index.
+ * It is bounded by the number of LogEntries and by the bytes of log data,
+ * the oldest LogEntries are evicted first.
+ * The caller is responsible for the synchronization.
+ */
+@NotThreadSafe
+public class LogEntryCache {
+
+    static final int MIN_CAPACITY = 16;
+
+    /**
+     * estimated bytes of a LogEntry object except its log data
+     */
+    static final int LOG_ENTRY_OVERHEAD_BYTES = 64;
+
+    private final int maxNum;
+
+    private final long maxBytes;
+
+    private LogEntry[] entries;
+
+    private int head = 0;
+
+    private int size = 0;
+
+    private long firstLogIndex = 0L;
+
+    private long bytes = 0L;
+
+    public LogEntryCache(final int maxNum, final long maxBytes) {
+        this.maxNum = Math.max(0, maxNum);
+        this.maxBytes = Math.max(0, maxBytes);
+        this.entries = new LogEntry[MIN_CAPACITY];
+    }
+
+    /**
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return this.maxNum > 0 && this.maxBytes > 0;
+    }
+
+    /**
+     * append LogEntry at the tail,
+     * the cache is cleared first if the log index is not continuous.
+     *
+     * @param logEntry logEntry
+     */
+    public void append(final LogEntry logEntry) {
+        if (!isEnabled()) {
+            return;
+        }
+        final long logIndex = logEntry.getLogId().getIndex();
+        if (this.size > 0 && logIndex != getLastLogIndex() + 1) {
+            clear();
+        }
+        if (this.size == 0) {
+            this.firstLogIndex = logIndex;
+        }
+        if (this.size == this.entries.length) {
+            grow();
+        }
+        final LogEntry cached = copyOf(logEntry);
+        this.entries[(this.head + this.size) & (this.entries.length - 1)] = cached;
+        this.size++;
+        this.bytes += sizeOf(cached);
+        while (this.size > 0 && (this.size > this.maxNum || this.bytes > this.maxBytes)) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * @param logIndex logIndex
+     * @return a view of LogEntry at the log index, or null if not in the cache
+     */
+    @Nullable
+    public LogEntry get(final long logIndex) {
+        if (this.size == 0 || logIndex < this.firstLogIndex || logIndex > getLastLogIndex()) {
+            return null;
+        }
+        final int offset = (int) (logIndex - this.firstLogIndex);
+        final LogEntry logEntry = this.entries[(this.head + offset) & (this.entries.length - 1)];
+        return copyOf(logEntry);
+    }
+
+    /**
+     * @param logIndex logIndex
+     * @return term of LogEntry at the log index, or 0 if not in the cache
+     */
+    public long getLogTerm(final long logIndex) {
+        if (this.size == 0 || logIndex < this.firstLogIndex || logIndex > getLastLogIndex()) {
+            return 0L;
+        }
+        final int offset = (int) (logIndex - this.firstLogIndex);
+        return this.entries[(this.head + offset) & (this.entries.length - 1)].getLogId().getTerm();
+    }
+
+    /**
+     * remove LogEntries whose log index less than firstIndexKept
+     *
+     * @param firstIndexKept firstIndexKept
+     */
+    public void truncatePrefix(final long firstIndexKept) {
+        while (this.size > 0 && this.firstLogIndex < firstIndexKept) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * remove LogEntries whose log index greater than lastIndexKept
+     *
+     * @param lastIndexKept lastIndexKept
+     */
+    public void truncateSuffix(final long lastIndexKept) {
+        while (this.size > 0 && getLastLogIndex() > lastIndexKept) {
+            final int position = (this.head + this.size - 1) & (this.entries.length - 1);
+            this.bytes -= sizeOf(this.entries[position]);
+            this.entries[position] = null;
+            this.size--;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.entries[(this.head + i) & (this.entries.length - 1)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.bytes = 0L;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * @return first log index in the cache, undefined if the cache is empty
+     */
+    public long getFirstLogIndex() {
+        return this.firstLogIndex;
+    }
+
+    /**
+     * @return last log index in the cache, undefined if the cache is empty
+     */
+    public long getLastLogIndex() {
+        return this.firstLogIndex + this.size - 1;
+    }
+
+    private void removeFirst() {
+        this.bytes -= sizeOf(this.entries[this.head]);
+        this.entries[this.head] = null;
+        this.head = (this.head + 1) & (this.entries.length - 1);
+        this.size--;
+        this.firstLogIndex++;
+    }
+
+    private void grow() {
+        final LogEntry[] newEntries = new LogEntry[this.entries.length << 1];
+        for (int i = 0; i < this.size; i++) {
+            newEntries[i] = this.entries[(this.head + i) & (this.entries.length - 1)];
+        }
+        this.entries = newEntries;
+        this.head = 0;
+    }
+
+    private static long sizeOf(final LogEntry logEntry) {
+        final ByteBuffer logData = logEntry.getLogData();
+        return LOG_ENTRY_OVERHEAD_BYTES + (logData == null ? 0 : logData.remaining());
+    }
+
+    /**
+     * The position of log data will be changed by the reader,
+     * so we share the content and hold independent position and limit.
+     */
+    private static LogEntry copyOf(final LogEntry logEntry) {
+        final ByteBuffer logData = logEntry.getLogData();
+        final LogEntry copy = new LogEntry(logEntry.getLogId().getIndex(), logEntry.getLogId().getTerm(), logEntry.getType());
+        if (logData != null) {
+            copy.setLogData(logData.duplicate());
+        }
+        if (logEntry.hasChecksum()) {
+            copy.setChecksum(logEntry.getChecksum());
+        }
+        return copy;
+    }
+
+}
@@ -17,6 +17,10 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.trs.pacifica.*;
 import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.Finished;
@@ -30,10 +34,14 @@ import com.trs.pacifica.log.codec.LogEntryEncoder;
 import com.trs.pacifica.model.LogEntry;
 import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.SystemPropertyUtil;
 import com.trs.pacifica.util.thread.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -45,12 +53,13 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * impl of LogManager
- * TODO LogEntry Cache Support
  */
 public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Option> {
 
     static final Logger LOGGER = LoggerFactory.getLogger(LogManagerImpl.class);
 
+    static final int MAX_STORE_LOG_ENTRIES_NUM_PER_BATCH = SystemPropertyUtil.getInt("pacifica.max.store.log.entries.num.per.batch", 1024);
+
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final Lock readLock = lock.readLock();
     private final Lock writeLock = lock.writeLock();
@@ -62,6 +71,11 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     private LogStorageFactory logStorageFactory;
     private LogEntryCodecFactory logEntryCodecFactory;
 
+    /**
+     * the recently appended LogEntries, guarded by lock
+     */
+    private LogEntryCache logEntryCache;
+
 
     /**
      * first log index
@@ -78,11 +92,47 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
      */
     private LogId lastLogIdOnDisk = new LogId(0, 0);
 
+    /**
+     * last log index written to LogStorage, it may be not flushed yet. guarded by lock
+     */
+    private long lastLogIndexWritten = 0L;
+
+    /**
+     * changed when the LogStorage is truncated suffix or reset,
+     * so that the flushed notification of the LogEntries written before is ignored. guarded by lock
+     */
+    private long storeVersion = 0L;
+
+    /**
+     * set when LogStorage fails to flush, lastLogIdOnDisk never moves forward and no LogEntries are stored after it,
+     * since the later flush does not cover the LogEntries failed to flush. guarded by lock
+     */
+    private PacificaException flushError = null;
+
+    /**
+     * StoreLogEntriesEvents waiting in eventExecutor, the first executed one drains the followings
+     * and writes them to LogStorage at once. guarded by itself
+     */
+    private final ArrayDeque<StoreLogEntriesEvent> pendingStoreEvents = new ArrayDeque<>();
+
+    /**
+     * increased when other events are submitted, StoreLogEntriesEvents are never coalesced across them.
+     * guarded by pendingStoreEvents
+     */
+    private long eventBarrier = 0L;
+
     /**
      * last log id on snapshot save
      */
     private LogId lastSnapshotLogId = new LogId(0, 0);
 
+    /**
+     * from the LogEntries submitted to be stored to flushed
+     */
+    private Timer appendTimer = null;
+
+    private Histogram storeBatchHistogram = null;
+
 
     public LogManagerImpl(ReplicaImpl replica) {
         this.replica = replica;
@@ -97,11 +147,39 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
             this.logStorageFactory = Objects.requireNonNull(option.getLogStorageFactory(), "log storage factory");
             this.logEntryCodecFactory = Objects.requireNonNull(option.getLogEntryCodecFactory(), "logEntryCodecFactory");
             this.stateMachineCaller = Objects.requireNonNull(option.getStateMachineCaller(), "stateMachineCaller");
+            final ReplicaOption replicaOption = option.getReplicaOption();
+            this.logEntryCache = new LogEntryCache(replicaOption.getMaxLogEntryCacheNum(), replicaOption.getMaxLogEntryCacheBytes());
+            registerMetrics(option.getMetricRegistry());
         } finally {
             this.writeLock.unlock();
         }
     }
 
+    private void registerMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
+        }
+        this.appendTimer = metricRegistry.timer("log-manager.append");
+        this.storeBatchHistogram = metricRegistry.histogram("log-manager.store-batch");
+        metricRegistry.gauge("log-manager.pending-store-events", () -> (Gauge<Integer>) this::getPendingStoreEventNum);
+    }
+
+    int getPendingStoreEventNum() {
+        synchronized (this.pendingStoreEvents) {
+            return this.pendingStoreEvents.size();
+        }
+    }
+
+    @OnlyForTest
+    LogId getLastLogIdOnDisk() {
+        this.readLock.lock();
+        try {
+            return this.lastLogIdOnDisk;
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
     @Override
     public void startup() throws PacificaException {
         this.writeLock.lock();
@@ -109,7 +187,7 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
             if (this.logStorage == null) {
                 final LogEntryEncoder logEntryEncoder = Objects.requireNonNull(logEntryCodecFactory.getLogEntryEncoder());
                 final LogEntryDecoder logEntryDecoder = Objects.requireNonNull(logEntryCodecFactory.getLogEntryDecoder());
-                this.logStorage = Objects.requireNonNull(logStorageFactory.newLogStorage(option.getLogStoragePath(), logEntryEncoder, logEntryDecoder), "log storage");
+                this.logStorage = Objects.requireNonNull(logStorageFactory.newLogStorage(option.getLogStoragePath(), logEntryEncoder, logEntryDecoder, option.getMetricRegistry()), "log storage");
             }
             this.logStorage.open();
             final LogId firstLogId = this.logStorage.getFirstLogId();
@@ -119,6 +197,7 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
             final LogId lastLogId = this.logStorage.getLastLogId();
             if (lastLogId != null) {
                 this.lastLogIdOnDisk = lastLogId;
+                this.lastLogIndexWritten = lastLogId.getIndex();
                 this.lastLogIndex = lastLogId.getIndex();
             }
             if (LOGGER.isDebugEnabled()) {
@@ -135,10 +214,13 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
         this.writeLock.lock();
         try {
             this.logStorage.close();
+            this.logEntryCache.clear();
             this.firstLogIndex = 0L;
             this.lastLogIndex = 0L;
             this.lastLogIdOnDisk = new LogId(0, 0);
+            this.lastLogIndexWritten = 0L;
             this.lastSnapshotLogId = new LogId(0, 0);
+            this.flushError = null;
         } finally {
             this.writeLock.unlock();
         }
@@ -217,6 +299,10 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
         }
         this.writeLock.lock();
         try {
+            if (this.flushError != null) {
+                ThreadUtil.runCallback(callback, Finished.failure(this.flushError));
+                return;
+            }
             // check resolve conflict
             if (!checkAndResolveConflict(logEntries, callback)) {
                 return;
@@ -231,9 +317,11 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
                     }
                 });
             }
+            cacheLogEntries(logEntries);
             final LogEntry firstLogEntry = logEntries.get(0);
             callback.setFirstLogIndex(firstLogEntry.getLogId().getIndex());
             callback.setAppendCount(logEntries.size());
+            callback.beforePersist();
             // store log entries
             storeLogEntries(logEntries, callback);
         } finally {
@@ -242,6 +330,24 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     }
 
 
+    /**
+     * Cache the LogEntries to be stored, and evict the LogEntries that no longer need:
+     * they have been applied and written to LogStorage, which on the Primary also means that they have been acknowledged by all Secondaries.
+     * should be in write lock
+     *
+     * @param logEntries logEntries
+     */
+    private void cacheLogEntries(final List<LogEntry> logEntries) {
+        if (!this.logEntryCache.isEnabled()) {
+            return;
+        }
+        final long lastEvictedLogIndex = Math.min(this.stateMachineCaller.getLastAppliedLogIndex(), this.lastLogIndexWritten);
+        this.logEntryCache.truncatePrefix(lastEvictedLogIndex + 1);
+        for (LogEntry logEntry : logEntries) {
+            this.logEntryCache.append(logEntry);
+        }
+    }
+
     @Override
     public LogEntry getLogEntryAt(final long logIndex) {
         if (logIndex < this.firstLogIndex || logIndex > this.lastLogIndex) {
@@ -249,6 +355,14 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
         }
         this.readLock.lock();
         try {
+            // the LogEntries not written to LogStorage yet are only in the cache
+            final LogEntry cachedLogEntry = this.logEntryCache.get(logIndex);
+            if (cachedLogEntry != null) {
+                return cachedLogEntry;
+            }
+            if (logIndex > this.lastLogIndexWritten) {
+                return null;
+            }
             final LogEntry logEntry = this.logStorage.getLogEntry(logIndex);
             if (logEntry != null && this.option.getReplicaOption().isEnableLogEntryChecksum() && logEntry.isCorrupted()) {
                 throw new LogEntryCorruptedException(String.format("corrupted LogEntry(%s), actual_checksum=%d", logEntry, logEntry.checksum()));
@@ -269,7 +383,14 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
             if (this.lastSnapshotLogId.getIndex() == logIndex) {
                 return this.lastSnapshotLogId.getTerm();
             }
-            if (logIndex < this.firstLogIndex || logIndex > this.lastLogIdOnDisk.getIndex()) {
+            if (logIndex < this.firstLogIndex || logIndex > this.lastLogIndex) {
+                return 0L;
+            }
+            final long cachedLogTerm = this.logEntryCache.getLogTerm(logIndex);
+            if (cachedLogTerm != 0L) {
+                return cachedLogTerm;
+            }
+            if (logIndex > this.lastLogIndexWritten) {
                 return 0L;
             }
             return getLogTermFromStorage(logIndex);
@@ -359,6 +480,11 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     }
 
 
+    @OnlyForTest
+    LogEntryCache getLogEntryCache() {
+        return this.logEntryCache;
+    }
+
     @OnlyForTest
     LogId getLastSnapshotLogId() {
         return this.lastSnapshotLogId;
@@ -368,25 +494,103 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
         // TODO
         this.firstLogIndex = nextLogIndex;
         this.lastLogIndex = nextLogIndex - 1;
+        this.logEntryCache.clear();
+        this.storeVersion++;
+        this.lastLogIndexWritten = nextLogIndex - 1;
         return this.logStorage.reset(nextLogIndex);
     }
 
     void storeLogEntries(final List<LogEntry> logEntries, final AppendLogEntriesCallback callback) {
-        this.eventExecutor.execute(new StoreLogEntriesEvent(logEntries, callback));
+        synchronized (this.pendingStoreEvents) {
+            final StoreLogEntriesEvent event = new StoreLogEntriesEvent(logEntries, callback, this.eventBarrier);
+            this.pendingStoreEvents.add(event);
+            try {
+                this.eventExecutor.execute(event);
+                return;
+            } catch (RejectedExecutionException e) {
+                // it is the tail, otherwise the events submitted after it wait for it at the head forever
+                this.pendingStoreEvents.removeLast();
+                LOGGER.warn("{} reject to submit StoreLogEntriesEvent.", this.replica.getReplicaId(), e);
+            }
+        }
+        ThreadUtil.runCallback(callback, Finished.failure(new PacificaException(PacificaErrorCode.INTERNAL, "reject to submit StoreLogEntriesEvent")));
     }
 
     /**
-     * @param logEntries
+     * drain the StoreLogEntriesEvents from the head of pending queue,
+     * which are submitted after the same event as the first one.
+     *
+     * @param first the executing StoreLogEntriesEvent
+     * @return empty if the first has been drained by the former
+     */
+    private List<StoreLogEntriesEvent> drainStoreEvents(final StoreLogEntriesEvent first) {
+        synchronized (this.pendingStoreEvents) {
+            if (this.pendingStoreEvents.peek() != first) {
+                return Collections.emptyList();
+            }
+            final List<StoreLogEntriesEvent> events = new ArrayList<>();
+            int logEntryCount = 0;
+            StoreLogEntriesEvent event;
+            while ((event = this.pendingStoreEvents.peek()) != null && event.barrier == first.barrier) {
+                if (!events.isEmpty() && logEntryCount + event.logEntries.size() > MAX_STORE_LOG_ENTRIES_NUM_PER_BATCH) {
+                    break;
+                }
+                this.pendingStoreEvents.poll();
+                events.add(event);
+                logEntryCount += event.logEntries.size();
+            }
+            return events;
+        }
+    }
+
+    /**
+     * write the LogEntries of the events to LogStorage by one call, the LogStorage may flush them later with others.
+     * lastLogIdOnDisk moves forward and the callbacks are run in order in {@link LogEntriesFlushedEvent}.
+     *
+     * @param events StoreLogEntriesEvents
      */
-    private void doStoreLogEntries(final List<LogEntry> logEntries, AppendLogEntriesCallback callback) throws PacificaException{
+    private void doStoreLogEntries(final List<StoreLogEntriesEvent> events) throws PacificaException {
+        assert !events.isEmpty();
+        final List<LogEntry> logEntries;
+        final List<AppendLogEntriesCallback> callbacks = new ArrayList<>(events.size());
+        if (events.size() == 1) {
+            logEntries = events.get(0).logEntries;
+            callbacks.add(events.get(0).callback);
+        } else {
+            logEntries = new ArrayList<>();
+            for (StoreLogEntriesEvent event : events) {
+                logEntries.addAll(event.logEntries);
+                callbacks.add(event.callback);
+            }
+        }
         assert !logEntries.isEmpty();
-        assert logEntries.get(0).getLogId().getIndex() == this.lastLogIdOnDisk.getIndex() + 1;
 
         this.writeLock.lock();
         try {
-            final int count = this.logStorage.appendLogEntries(logEntries);
-            callback.setAppendCount(count);
-            this.lastLogIdOnDisk = logEntries.get(count - 1).getLogId().copy();
+            if (this.flushError != null) {
+                throw this.flushError;
+            }
+            assert logEntries.get(0).getLogId().getIndex() == this.lastLogIndexWritten + 1;
+            final LogId lastLogId = logEntries.get(logEntries.size() - 1).getLogId().copy();
+            final long storeVersion = this.storeVersion;
+            final long startNanos = events.get(0).startNanos;
+            if (this.storeBatchHistogram != null) {
+                this.storeBatchHistogram.update(logEntries.size());
+            }
+            final int count = this.logStorage.appendLogEntries(logEntries, finished -> {
+                if (!submitEvent(new LogEntriesFlushedEvent(lastLogId, storeVersion, callbacks, finished, startNanos), false)) {
+                    final Finished failure = Finished.failure(new PacificaException(PacificaErrorCode.INTERNAL, "reject to submit LogEntriesFlushedEvent"));
+                    callbacks.forEach(callback -> ThreadUtil.runCallback(callback, failure));
+                }
+            });
+            int remaining = count;
+            for (StoreLogEntriesEvent event : events) {
+                event.callback.setAppendCount(Math.min(remaining, event.logEntries.size()));
+                remaining = Math.max(0, remaining - event.logEntries.size());
+            }
+            if (count > 0) {
+                this.lastLogIndexWritten = logEntries.get(count - 1).getLogId().getIndex();
+            }
             if (count != logEntries.size()) {
                 throw new PacificaException(PacificaErrorCode.INTERNAL, String.format(
                         "Failed to append log entries, but real_append_count=%d, expect_append_count=%d", count, logEntries.size()));
@@ -414,7 +618,14 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     }
 
     boolean truncateSuffix(final long lastIndexKept, final Callback callback) {
-        return submitEvent(new TruncateSuffixEvent(lastIndexKept, callback));
+        this.writeLock.lock();
+        try {
+            // invalidate at once, the following LogEntries will be appended to the cache before the event is executed
+            this.logEntryCache.truncateSuffix(lastIndexKept);
+            return submitEvent(new TruncateSuffixEvent(lastIndexKept, callback));
+        } finally {
+            this.writeLock.unlock();
+        }
     }
 
     private void doTruncateSuffix(final long lastIndexKept) {
@@ -427,8 +638,11 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
                 return;
             }
             final LogId lastLogId = this.logStorage.truncateSuffix(lastIndexKept);
-            if (lastLogId != null && lastLogId.getIndex() < this.lastLogIndex) {
+            if (lastLogId != null) {
+                // the LogEntries written before have been flushed by LogStorage
                 this.lastLogIdOnDisk = lastLogId.copy();
+                this.lastLogIndexWritten = lastLogId.getIndex();
+                this.storeVersion++;
             }
         } finally {
             this.writeLock.unlock();
@@ -436,7 +650,13 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     }
 
     boolean truncatePrefix(final long firstIndexKept, final Callback callback) {
-        return submitEvent(new TruncatePrefixEvent(firstIndexKept, callback));
+        this.writeLock.lock();
+        try {
+            this.logEntryCache.truncatePrefix(firstIndexKept);
+            return submitEvent(new TruncatePrefixEvent(firstIndexKept, callback));
+        } finally {
+            this.writeLock.unlock();
+        }
     }
 
     private void doTruncatePrefix(final long firstLogIndexKept) {
@@ -461,9 +681,25 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
     }
 
     private boolean submitEvent(final Runnable run) {
+        return submitEvent(run, true);
+    }
+
+    /**
+     * @param run     event
+     * @param barrier true if the StoreLogEntriesEvents submitted before and after it should not be coalesced
+     * @return true if success
+     */
+    private boolean submitEvent(final Runnable run, final boolean barrier) {
         assert run != null;
         try {
-            this.eventExecutor.execute(run);
+            if (barrier) {
+                synchronized (this.pendingStoreEvents) {
+                    this.eventBarrier++;
+                    this.eventExecutor.execute(run);
+                }
+            } else {
+                this.eventExecutor.execute(run);
+            }
         } catch (RejectedExecutionException e) {
             LOGGER.warn("{} reject to submit event.", this.replica.getReplicaId(), e);
             return false;
@@ -485,19 +721,84 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
 
         private final AppendLogEntriesCallback callback;
 
-        StoreLogEntriesEvent(List<LogEntry> logEntries, AppendLogEntriesCallback callback) {
+        private final long barrier;
+
+        private final long startNanos = System.nanoTime();
+
+        StoreLogEntriesEvent(List<LogEntry> logEntries, AppendLogEntriesCallback callback, long barrier) {
             this.logEntries = logEntries;
             this.callback = callback;
+            this.barrier = barrier;
         }
 
         @Override
         public void run() {
+            final List<StoreLogEntriesEvent> events = drainStoreEvents(this);
+            if (events.isEmpty()) {
+                return;
+            }
             try {
-                doStoreLogEntries(logEntries, callback);
-                ThreadUtil.runCallback(callback, Finished.success());
+                doStoreLogEntries(events);
             } catch (Throwable e) {
-                LOGGER.error("{} failed to append log entries.", e);
-                ThreadUtil.runCallback(callback, Finished.failure(e));
+                LOGGER.error("{} failed to append log entries.", replica.getReplicaId(), e);
+                final Finished failure = Finished.failure(e);
+                events.forEach(event -> ThreadUtil.runCallback(event.callback, failure));
+            }
+        }
+    }
+
+    class LogEntriesFlushedEvent implements Runnable {
+
+        private final LogId lastLogId;
+
+        private final long storeVersion;
+
+        private final List<AppendLogEntriesCallback> callbacks;
+
+        private final Finished finished;
+
+        /**
+         * when the oldest of the LogEntries is submitted
+         */
+        private final long startNanos;
+
+        LogEntriesFlushedEvent(LogId lastLogId, long storeVersion, List<AppendLogEntriesCallback> callbacks, Finished finished, long startNanos) {
+            this.lastLogId = lastLogId;
+            this.storeVersion = storeVersion;
+            this.callbacks = callbacks;
+            this.finished = finished;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void run() {
+            Finished result = this.finished;
+            PacificaException error = null;
+            writeLock.lock();
+            try {
+                if (!result.isOk() && flushError == null) {
+                    error = new PacificaException(PacificaErrorCode.IO, String.format("failed to flush log entries(last_log_id=%s)", this.lastLogId), result.error());
+                    flushError = error;
+                }
+                if (flushError != null) {
+                    // the LogEntries failed to flush before may be not on disk
+                    if (result.isOk()) {
+                        result = Finished.failure(flushError);
+                    }
+                } else if (this.storeVersion == LogManagerImpl.this.storeVersion && this.lastLogId.getIndex() > lastLogIdOnDisk.getIndex()) {
+                    lastLogIdOnDisk = this.lastLogId;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            if (error != null) {
+                LOGGER.error("{} failed to flush log entries(last_log_id={}).", replica.getReplicaId(), lastLogId, error);
+                reportError(error);
+            } else if (result.isOk() && appendTimer != null) {
+                appendTimer.update(System.nanoTime() - this.startNanos, TimeUnit.NANOSECONDS);
+            }
+            for (AppendLogEntriesCallback callback : this.callbacks) {
+                ThreadUtil.runCallback(callback, result);
             }
         }
     }
@@ -577,6 +878,8 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
 
         StateMachineCaller stateMachineCaller;
 
+        MetricRegistry metricRegistry;
+
         public SingleThreadExecutor getLogManagerExecutor() {
             return logManagerExecutor;
         }
@@ -624,6 +927,14 @@ public class LogManagerImpl implements LogManager, LifeCycle<LogManagerImpl.Opti
         public void setLogEntryCodecFactory(LogEntryCodecFactory logEntryCodecFactory) {
             this.logEntryCodecFactory = logEntryCodecFactory;
         }
+
+        public MetricRegistry getMetricRegistry() {
+            return metricRegistry;
+        }
+
+        public void setMetricRegistry(MetricRegistry metricRegistry) {
+            this.metricRegistry = metricRegistry;
+        }
     }
 
 
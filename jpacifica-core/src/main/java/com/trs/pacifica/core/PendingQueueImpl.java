@@ -23,187 +23,225 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * growable ring buffer, the element at log index N is at the slot (head + N - pendingIndex).
+ * poll(index) is O(1) and no wrapper object is allocated for the element.
+ * All modifications are under one lock, getPendingIndex, size and isEmpty are lock-free.
+ *
+ * @param <E> Element
+ */
 @ThreadSafe
 public class PendingQueueImpl<E> implements PendingQueue<E> {
 
-    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    private final Lock readLock = readWriteLock.readLock();
-    private final Lock writeLock = readWriteLock.writeLock();
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private final Lock lock = new ReentrantLock();
+
+    private Object[] elements;
+
+    /**
+     * slot of the element at pendingIndex
+     */
+    private int head = 0;
 
-    private final Queue<NodeContext<E>> queue;
+    private volatile int size = 0;
 
-    private long pendingIndex = 1;
+    private volatile long pendingIndex = 1;
 
     public PendingQueueImpl() {
-        this.queue = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PendingQueueImpl(final int initialCapacity) {
+        this.elements = new Object[tableSizeFor(Math.max(2, initialCapacity))];
     }
 
     @Override
     public long getPendingIndex() {
-        this.readLock.lock();
-        try {
-            return this.pendingIndex;
-        } finally {
-            this.readLock.unlock();
-        }
+        return this.pendingIndex;
     }
 
     @Override
     public Collection<E> reset(long pendIndex) {
-        this.writeLock.lock();
-        try{
+        this.lock.lock();
+        try {
             long oldPendingIndex = this.pendingIndex;
             this.pendingIndex = pendIndex;
             if (oldPendingIndex < pendIndex) {
-                List<E> abandonedElements = new ArrayList<>();
-                while (!this.queue.isEmpty() && oldPendingIndex < pendIndex) {
-                    NodeContext<E> nodeContext = this.queue.poll();
-                    if (nodeContext != null && nodeContext.e != null) {
-                        abandonedElements.add(nodeContext.e);
-                    }
-                    oldPendingIndex++;
-                }
+                final int abandonedNum = (int) Math.min(this.size, pendIndex - oldPendingIndex);
+                final List<E> abandonedElements = new ArrayList<>(abandonedNum);
+                drainTo(abandonedElements, abandonedNum);
                 return abandonedElements;
             } else {
                 return Collections.emptyList();
             }
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Override
     public Collection<E> clear() {
-        this.writeLock.lock();
+        this.lock.lock();
         try {
-            List<E> elements = new ArrayList<>();
-            for (NodeContext<E> nodeContext : this.queue) {
-                if (nodeContext.e != null) {
-                    elements.add(nodeContext.e);
-                }
-            }
-            this.queue.clear();
+            final List<E> elements = new ArrayList<>(this.size);
+            drainTo(elements, this.size);
+            this.head = 0;
             this.pendingIndex = 0;
             return elements;
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Override
     public boolean add(@Nullable E e) {
-        this.writeLock.lock();
+        this.lock.lock();
         try {
-            return queue.add(new NodeContext<>(e));
+            final int size = this.size;
+            if (size == this.elements.length) {
+                grow();
+            }
+            this.elements[(this.head + size) & (this.elements.length - 1)] = e;
+            this.size = size + 1;
+            return true;
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Nullable
     @Override
     public E poll() {
-        this.writeLock.lock();
+        this.lock.lock();
         try {
-            final NodeContext<E> nodeContext = queue.poll();
-            if (nodeContext != null) {
-                advancePendingIndex();
-                return nodeContext.e;
+            if (this.size == 0) {
+                return null;
             }
-            return null;
+            this.pendingIndex++;
+            return pollHead();
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Override
     public E poll(long index) {
-        this.writeLock.lock();
+        if (index != this.pendingIndex || this.size == 0) {
+            // fast path without lock
+            return null;
+        }
+        this.lock.lock();
         try {
             if (index == this.pendingIndex) {
                 return poll();
             }
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
         return null;
     }
 
     @Override
     public List<E> pollUntil(final long endIndex) {
-        this.writeLock.lock();
+        this.lock.lock();
         try {
-            List<E> list = new ArrayList<>();
-            while (!this.isEmpty() && this.pendingIndex <= endIndex) {
-                list.add(poll());
+            final long num = Math.min(this.size, endIndex - this.pendingIndex + 1);
+            if (num <= 0) {
+                return new ArrayList<>(0);
             }
+            final List<E> list = new ArrayList<>((int) num);
+            for (int i = 0; i < num; i++) {
+                list.add(pollHead());
+            }
+            this.pendingIndex += num;
             return list;
         } finally {
-            this.writeLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Nullable
     @Override
     public E peek() {
-        this.readLock.lock();
+        this.lock.lock();
         try {
-            final NodeContext<E> nodeContext = this.queue.peek();
-            if (nodeContext != null) {
-                return nodeContext.e;
+            if (this.size == 0) {
+                return null;
             }
-            return null;
+            return elementAt(this.head);
         } finally {
-            this.readLock.unlock();
+            this.lock.unlock();
         }
     }
 
     @Override
     public int size() {
-        this.readLock.lock();
-        try {
-            return queue.size();
-        } finally {
-            this.readLock.unlock();
-        }
+        return this.size;
     }
 
     @Override
     public boolean isEmpty() {
-        return queue.isEmpty();
-    }
-
-    private void advancePendingIndex(){
-        this.pendingIndex++;
+        return this.size == 0;
     }
 
+    /**
+     * weakly consistent iterator over a snapshot of the elements
+     */
     @Override
     public Iterator<E> iterator() {
-        Iterator<NodeContext<E>> iterator = PendingQueueImpl.this.queue.iterator();
-        return new Iterator<E>() {
-            @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
+        this.lock.lock();
+        try {
+            final List<E> snapshot = new ArrayList<>(this.size);
+            final int mask = this.elements.length - 1;
+            for (int i = 0; i < this.size; i++) {
+                snapshot.add(elementAt((this.head + i) & mask));
             }
+            return snapshot.iterator();
+        } finally {
+            this.lock.unlock();
+        }
+    }
 
-            @Override
-            public E next() {
-                final NodeContext<E> nodeContext = iterator.next();
-                if (nodeContext != null) {
-                    return nodeContext.e;
-                }
-                return null;
-            }
-        };
+    @SuppressWarnings("unchecked")
+    private E elementAt(final int slot) {
+        return (E) this.elements[slot];
     }
 
-    static final class NodeContext<E> {
-        private final E e;
+    private E pollHead() {
+        final E e = elementAt(this.head);
+        this.elements[this.head] = null;
+        this.head = (this.head + 1) & (this.elements.length - 1);
+        this.size--;
+        return e;
+    }
 
-        NodeContext(@Nullable E e) {
-            this.e = e;
+    /**
+     * poll num elements except null to the list, the pending index is not changed
+     */
+    private void drainTo(final List<E> list, final int num) {
+        for (int i = 0; i < num; i++) {
+            final E e = pollHead();
+            if (e != null) {
+                list.add(e);
+            }
         }
     }
+
+    private void grow() {
+        final int oldCapacity = this.elements.length;
+        final Object[] newElements = new Object[oldCapacity << 1];
+        // unwrap the ring from head
+        final int firstPart = oldCapacity - this.head;
+        System.arraycopy(this.elements, this.head, newElements, 0, firstPart);
+        System.arraycopy(this.elements, 0, newElements, firstPart, this.head);
+        this.elements = newElements;
+        this.head = 0;
+    }
+
+    private static int tableSizeFor(final int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
 }
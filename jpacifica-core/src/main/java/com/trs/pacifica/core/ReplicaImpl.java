@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.*;
 import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.Finished;
@@ -30,6 +32,8 @@ import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.fs.FileService;
 import com.trs.pacifica.fs.FileServiceFactory;
 import com.trs.pacifica.log.codec.LogEntryCodecFactory;
+import com.trs.pacifica.metrics.MetricReporter;
+import com.trs.pacifica.metrics.MetricReporterFactory;
 import com.trs.pacifica.model.*;
 import com.trs.pacifica.proto.RpcRequest;
 import com.trs.pacifica.rpc.ExecutorRequestFinished;
@@ -42,6 +46,8 @@ import com.trs.pacifica.rpc.node.EndpointManager;
 import com.trs.pacifica.sender.BaseOnCaughtUp;
 import com.trs.pacifica.sender.SenderGroupImpl;
 import com.trs.pacifica.sender.SenderType;
+import com.trs.pacifica.util.AdaptiveBatchSizer;
+import com.trs.pacifica.util.OnlyForTest;
 import com.trs.pacifica.util.QueueUtil;
 import com.trs.pacifica.util.RpcUtil;
 import com.trs.pacifica.util.TimeUtils;
@@ -51,7 +57,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -74,6 +82,16 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
     private final AtomicBoolean recovering = new AtomicBoolean(false);
     private final Queue<OperationContext> operationContextQueue = QueueUtil.newMpscQueue();
 
+    private final AtomicBoolean operationLingering = new AtomicBoolean(false);
+
+    private final Queue<ReadIndexCallback> readIndexQueue = QueueUtil.newMpscQueue();
+
+    private AdaptiveBatchSizer operationBatchSizer;
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private final List<MetricReporter> metricReporters = new ArrayList<>();
+
     private final PendingQueue<Callback> callbackPendingQueue = new PendingQueueImpl<>();
 
     private volatile ReplicaState state = ReplicaState.Uninitialized;
@@ -116,10 +134,31 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
      */
     private volatile long lastPrimaryVisit = TimeUtils.monotonicMs();
 
+    /**
+     * last timestamp receive the commit point from primary with the matched log, 0 if not received since started.
+     * the Secondary serves the read within the max staleness by it.
+     */
+    private volatile long lastPrimarySync = 0L;
+
     public ReplicaImpl(ReplicaId replicaId) {
         this.replicaId = replicaId;
     }
 
+    /**
+     * the given components are used by {@link #init(ReplicaOption)} instead of the new ones.
+     */
+    @OnlyForTest
+    ReplicaImpl(ReplicaId replicaId, PacificaClient pacificaClient, LogManagerImpl logManager, SnapshotManagerImpl snapshotManager,
+                StateMachineCallerImpl stateMachineCaller, SenderGroupImpl senderGroup, BallotBoxImpl ballotBox) {
+        this.replicaId = replicaId;
+        this.pacificaClient = pacificaClient;
+        this.logManager = logManager;
+        this.snapshotManager = snapshotManager;
+        this.stateMachineCaller = stateMachineCaller;
+        this.senderGroup = senderGroup;
+        this.ballotBox = ballotBox;
+    }
+
 
     private void initLogManager(ReplicaOption option) throws PacificaException {
         final ExecutorGroup logExecutorGroup = Objects.requireNonNull(option.getLogManagerExecutorGroup(), "LogManagerExecutorGroup");
@@ -133,6 +172,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         logManagerOption.setLogManagerExecutor(logExecutorGroup.chooseExecutor());
         logManagerOption.setStateMachineCaller(this.stateMachineCaller);
         logManagerOption.setLogEntryCodecFactory(logEntryCodecFactory);
+        logManagerOption.setMetricRegistry(this.metricRegistry);
         this.logManager.init(logManagerOption);
     }
 
@@ -145,6 +185,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         snapshotManagerOption.setLogManager(this.logManager);
         snapshotManagerOption.setPacificaClient(this.pacificaClient);
         snapshotManagerOption.setDownloadSnapshotTimeoutMs(option.getDownloadSnapshotTimeoutMs());
+        snapshotManagerOption.setMetricRegistry(this.metricRegistry);
         this.snapshotManager.init(snapshotManagerOption);
     }
 
@@ -161,6 +202,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         senderGroupOption.setHeartBeatFactor(option.getHeartBeatFactor());
         senderGroupOption.setTimerFactory(Objects.requireNonNull(option.getTimerFactory()));
         senderGroupOption.setSenderScheduler(Objects.requireNonNull(option.getSenderScheduler()));
+        senderGroupOption.setHeartbeatMultiplexer(option.getHeartbeatMultiplexer());
         this.senderGroup.init(senderGroupOption);
     }
 
@@ -168,12 +210,21 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
     private void initApplyExecutor(ReplicaOption option) throws PacificaException {
         this.executorGroup = Objects.requireNonNull(option.getApplyExecutorGroup(), "executorGroup");
         this.applyExecutor = Objects.requireNonNull(this.executorGroup.chooseExecutor());
+        final AdaptiveBatchSizer.Option batchOption = new AdaptiveBatchSizer.Option();
+        batchOption.setMinBatchNum(option.getMinOperationNumPerBatch());
+        batchOption.setMaxBatchNum(option.getMaxOperationNumPerBatch());
+        batchOption.setMinBatchBytes(option.getMinOperationBytesPerBatch());
+        batchOption.setMaxBatchBytes(option.getMaxOperationBytesPerBatch());
+        batchOption.setTargetLatencyMs(option.getOperationBatchTargetLatencyMs());
+        batchOption.setLingerMs(option.getOperationBatchLingerMs());
+        this.operationBatchSizer = new AdaptiveBatchSizer(batchOption, this.metricRegistry, "operation");
     }
 
     private void initBallotBox(ReplicaOption option) throws PacificaException {
         final BallotBoxImpl.Option ballotBoxOption = new BallotBoxImpl.Option();
         ballotBoxOption.setFsmCaller(Objects.requireNonNull(this.stateMachineCaller));
         ballotBoxOption.setLogManager(this.logManager);
+        ballotBoxOption.setMetricRegistry(this.metricRegistry);
         ballotBox.init(ballotBoxOption);
     }
 
@@ -185,6 +236,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         final ExecutorGroup fsmExecutorGroup = Objects.requireNonNull(option.getFsmCallerExecutorGroup(), "fsm executor group");
         fsmOption.setExecutor(Objects.requireNonNull(fsmExecutorGroup.chooseExecutor(), "fsm executor"));
         fsmOption.setCallbackPendingQueue(this.callbackPendingQueue);
+        fsmOption.setMetricRegistry(this.metricRegistry);
         this.stateMachineCaller.init(fsmOption);
     }
 
@@ -224,6 +276,38 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
 
     }
 
+    private void registerMetrics() {
+        this.metricRegistry.gauge("replica.operation-queue-depth", () -> (Gauge<Integer>) this.operationContextQueue::size);
+        this.metricRegistry.gauge("replica.read-index-queue-depth", () -> (Gauge<Integer>) this.readIndexQueue::size);
+    }
+
+    private void startMetricReporters() {
+        final List<MetricReporterFactory> factories = this.option.getMetricReporterFactories();
+        if (factories == null) {
+            return;
+        }
+        for (MetricReporterFactory factory : factories) {
+            try {
+                final MetricReporter metricReporter = factory.newMetricReporter(this.replicaId, this.metricRegistry);
+                metricReporter.start();
+                this.metricReporters.add(metricReporter);
+            } catch (Throwable e) {
+                LOGGER.warn("{} failed to start MetricReporter of {}.", this.replicaId, factory.getClass().getName(), e);
+            }
+        }
+    }
+
+    private void stopMetricReporters() {
+        for (MetricReporter metricReporter : this.metricReporters) {
+            try {
+                metricReporter.close();
+            } catch (Throwable e) {
+                LOGGER.warn("{} failed to close MetricReporter.", this.replicaId, e);
+            }
+        }
+        this.metricReporters.clear();
+    }
+
     @Override
     public void init(ReplicaOption option) throws PacificaException {
         this.writeLock.lock();
@@ -236,14 +320,26 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 });
                 this.rpcClient = Objects.requireNonNull(option.getRpcClient(), "rpcClient");
                 this.endpointManager = Objects.requireNonNull(option.getEndpointFactory(), "nodeManager");
-                this.pacificaClient = new DefaultPacificaClient(this.rpcClient, this.endpointManager);
+                if (this.pacificaClient == null) {
+                    this.pacificaClient = new DefaultPacificaClient(this.rpcClient, this.endpointManager);
+                }
                 final FileServiceFactory fileServiceFactory = Objects.requireNonNull(option.getFileServiceFactory());
                 this.fileService = Objects.requireNonNull(fileServiceFactory.newFileService());
-                this.logManager = new LogManagerImpl(this);
-                this.snapshotManager = new SnapshotManagerImpl(this);
-                this.stateMachineCaller = new StateMachineCallerImpl(this);
-                this.senderGroup = new SenderGroupImpl(this, this.pacificaClient);
-                this.ballotBox = new BallotBoxImpl(this);
+                if (this.logManager == null) {
+                    this.logManager = new LogManagerImpl(this);
+                }
+                if (this.snapshotManager == null) {
+                    this.snapshotManager = new SnapshotManagerImpl(this);
+                }
+                if (this.stateMachineCaller == null) {
+                    this.stateMachineCaller = new StateMachineCallerImpl(this);
+                }
+                if (this.senderGroup == null) {
+                    this.senderGroup = new SenderGroupImpl(this, this.pacificaClient);
+                }
+                if (this.ballotBox == null) {
+                    this.ballotBox = new BallotBoxImpl(this);
+                }
                 initApplyExecutor(option);
                 initLogManager(option);
                 initStateMachineCall(option);
@@ -251,6 +347,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 initBallotBox(option);
                 initSenderGroup(option);
                 initRepeatedTimers(option);
+                registerMetrics();
                 this.state = ReplicaState.Shutdown;
             }
         } finally {
@@ -266,6 +363,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 this.logManager.startup();
                 this.stateMachineCaller.startup();
                 this.snapshotManager.startup();
+                startMetricReporters();
 
                 onReplicaStateChange();
             }
@@ -294,6 +392,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 ThreadUtil.runCallback(callback, Finished.failure(new PacificaException(PacificaErrorCode.SHUTDOWN, "it is shutdown.")));
             }
             SingleThreadExecutorUtil.shutdownIfNeed(this.applyExecutor);
+            stopMetricReporters();
         } finally {
             this.writeLock.unlock();
         }
@@ -304,6 +403,13 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         return this.replicaId;
     }
 
+    /**
+     * @return registry of the metrics of this replica
+     */
+    public MetricRegistry getMetricRegistry() {
+        return this.metricRegistry;
+    }
+
     @Override
     public ReplicaState getReplicaState(final boolean block) {
         if (block) {
@@ -338,6 +444,39 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
     }
 
 
+    @Override
+    public void readIndex(ReadIndexCallback callback) {
+        Objects.requireNonNull(callback, "param: callback is null");
+        try {
+            ensureActive();
+            offerReadIndex(callback);
+        } catch (PacificaException e) {
+            ThreadUtil.runCallback(callback, Finished.failure(e));
+            LOGGER.error("{} failed to read index.", this.replicaId);
+        }
+    }
+
+    @Override
+    public void readIndex(long maxStalenessMs, ReadIndexCallback callback) {
+        Objects.requireNonNull(callback, "param: callback is null");
+        if (maxStalenessMs >= 0 && this.state == ReplicaState.Secondary
+                && this.lastPrimarySync > 0 && TimeUtils.monotonicMs() - this.lastPrimarySync <= maxStalenessMs) {
+            // the Secondary caught up with the commit point of the Primary recently, so what it has applied is fresh enough
+            callback.setReadIndex(this.stateMachineCaller.getLastAppliedLogIndex());
+            ThreadUtil.runCallback(callback, Finished.success());
+            return;
+        }
+        readIndex(callback);
+    }
+
+    private void offerReadIndex(final ReadIndexCallback callback) throws PacificaException {
+        if (this.readIndexQueue.offer(callback)) {
+            this.applyExecutor.execute(new ReadIndexConsumer());
+        } else {
+            throw new PacificaException(PacificaErrorCode.BUSY, "read index queue is overload.");
+        }
+    }
+
     @Override
     public void snapshot(Callback onFinish) {
         doSnapshot(onFinish);
@@ -421,11 +560,20 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
             if (prevLogTerm != localPrevLogTerm) {
                 final long lastLogIndex = this.logManager.getLastLogId().getIndex();
                 LOGGER.warn("{} reject unmatched term at prevLogIndex={}, request_prev_log_term={}, local_prev_log_term={}", this.replicaId, prevLogIndex, prevLogTerm, localPrevLogTerm);
-                return RpcRequest.AppendEntriesResponse.newBuilder()//
+                final RpcRequest.AppendEntriesResponse.Builder responseBuilder = RpcRequest.AppendEntriesResponse.newBuilder()//
                         .setSuccess(false)//
                         .setTerm(primaryTerm)//
-                        .setLastLogIndex(lastLogIndex)//
-                        .build();
+                        .setLastLogIndex(lastLogIndex);
+                if (localPrevLogTerm != 0) {
+                    // conflict hints, so that the Primary is able to skip the whole conflicting term
+                    final long firstLogIndex = this.logManager.getFirstLogId().getIndex();
+                    final long conflictFirstIndex = this.logManager.findFirstLogIndexOfTerm(localPrevLogTerm, firstLogIndex, prevLogIndex);
+                    if (conflictFirstIndex > 0) {
+                        responseBuilder.setConflictTerm(localPrevLogTerm);
+                        responseBuilder.setConflictFirstIndex(conflictFirstIndex);
+                    }
+                }
+                return responseBuilder.build();
             }
 
             if (request.hasCommitPoint()) {
@@ -436,6 +584,9 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("receive append logEntry request, and commit at {} = min(primaryCommitPoint={}, prevLogIndex={})", commitPoint, request.getCommitPoint(), prevLogIndex);
                 }
+                if (request.getCommitPoint() <= prevLogIndex) {
+                    this.lastPrimarySync = TimeUtils.monotonicMs();
+                }
             }
             if (request.getLogMetaCount() == 0) {
                 final long lastLogIndex = this.logManager.getLastLogId().getIndex();
@@ -540,6 +691,38 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         return null;
     }
 
+    @Override
+    public RpcRequest.GetCommitPointResponse handleGetCommitPointRequest(RpcRequest.GetCommitPointRequest request, RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback) throws PacificaException {
+        //Primary received GetCommitPointRequest from Secondary
+        this.readLock.lock();
+        try {
+            ensureActive();
+            if (this.state != ReplicaState.Primary) {
+                throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("replica=%s is not Primary, state=%s", this.replicaId, this.state));
+            }
+            final ReplicaId primaryId = RpcUtil.toReplicaId(request.getPrimaryId());
+            if (!this.replicaId.equals(primaryId)) {
+                throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("mismatched primary id. expect=%s, actual=%s.", this.replicaId, primaryId));
+            }
+            final long version = this.replicaGroup.getVersion();
+            final long localTerm = this.replicaGroup.getPrimaryTerm();
+            if (request.getTerm() != localTerm) {
+                return RpcRequest.GetCommitPointResponse.newBuilder()//
+                        .setSuccess(false)//
+                        .setTerm(localTerm)//
+                        .setVersion(version)//
+                        .build();
+            }
+            // share the lease check with the read requests of the Primary
+            offerReadIndex(new CommitPointCallback(localTerm, version, callback));
+        } catch (Throwable throwable) {
+            ThreadUtil.runCallback(callback, Finished.failure(throwable));
+        } finally {
+            this.readLock.unlock();
+        }
+        return null;
+    }
+
     @Override
     public RpcRequest.GetFileResponse handleGetFileRequest(RpcRequest.GetFileRequest request, RpcRequestFinished<RpcRequest.GetFileResponse> callback) throws PacificaException {
         this.readLock.lock();
@@ -559,8 +742,9 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
      * apply batch operation only by primary
      *
      * @param oneBatch
+     * @param batchBytes bytes of log data of the batch
      */
-    private void applyOperationBatch(List<OperationContext> oneBatch) {
+    private void applyOperationBatch(List<OperationContext> oneBatch, final long batchBytes) {
         assert oneBatch != null;
         this.writeLock.lock();
         try {
@@ -585,7 +769,7 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                 callbackList.add(callback);
             }
             //log manager append log
-            this.logManager.appendLogEntries(logEntries, new PrimaryAppendLogEntriesCallback(callbackList));
+            this.logManager.appendLogEntries(logEntries, new PrimaryAppendLogEntriesCallback(callbackList, batchBytes));
 
         } finally {
             this.writeLock.unlock();
@@ -687,6 +871,15 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         }
     }
 
+    private void lingerOperationConsumer(final long delayNanos) {
+        if (this.operationLingering.compareAndSet(false, true)) {
+            this.option.getSenderScheduler().schedule(() -> {
+                this.operationLingering.set(false);
+                this.applyExecutor.execute(new OperationConsumer());
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private void apply(final LogEntry logEntry, final Callback onFinish) throws PacificaException {
         final OperationContext context = new OperationContext(logEntry, onFinish);
         if (this.operationContextQueue.offer(context)) {
@@ -698,6 +891,142 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         }
     }
 
+    /**
+     * The read index of the batch of read requests is got once,
+     * the Primary checks its lease, and the Secondary asks the Primary for the commit point.
+     * They are executed after the state machine applies the LogEntry at read index.
+     *
+     * @param callbacks callbacks
+     */
+    private void readIndexBatch(final List<ReadIndexCallback> callbacks) {
+        final long readIndex;
+        this.readLock.lock();
+        try {
+            switch (this.state) {
+                case Primary: {
+                    readIndex = unsafeGetReadIndex();
+                    break;
+                }
+                case Secondary: {
+                    unsafeGetCommitPointFromPrimary(callbacks);
+                    return;
+                }
+                default: {
+                    throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("replica=%s can not read, state=%s", this.replicaId, this.state));
+                }
+            }
+        } catch (Throwable e) {
+            failReadIndex(callbacks, e);
+            return;
+        } finally {
+            this.readLock.unlock();
+        }
+        final List<ReadIndexCallback> localCallbacks = new ArrayList<>(callbacks.size());
+        for (ReadIndexCallback callback : callbacks) {
+            callback.setReadIndex(readIndex);
+            if (callback instanceof CommitPointCallback) {
+                // the Secondary waits for applying by itself
+                ThreadUtil.runCallback(callback, Finished.success());
+            } else {
+                localCallbacks.add(callback);
+            }
+        }
+        if (!localCallbacks.isEmpty()) {
+            awaitReadIndexApplied(readIndex, localCallbacks);
+        }
+    }
+
+    private void awaitReadIndexApplied(final long readIndex, final List<ReadIndexCallback> callbacks) {
+        try {
+            final Callback onApplied = finished -> {
+                for (ReadIndexCallback callback : callbacks) {
+                    ThreadUtil.runCallback(callback, finished);
+                }
+            };
+            if (!this.stateMachineCaller.awaitApplied(readIndex, onApplied)) {
+                throw new PacificaException(PacificaErrorCode.BUSY, "failed to wait for read index applied.");
+            }
+        } catch (Throwable e) {
+            failReadIndex(callbacks, e);
+        }
+    }
+
+    /**
+     * The Secondary asks the Primary for the commit point confirmed by its lease.
+     * should be in lock
+     *
+     * @param callbacks callbacks
+     */
+    private void unsafeGetCommitPointFromPrimary(final List<ReadIndexCallback> callbacks) {
+        final ReplicaId primaryId = this.replicaGroup.getPrimary();
+        final long term = this.replicaGroup.getPrimaryTerm();
+        final RpcRequest.GetCommitPointRequest request = RpcRequest.GetCommitPointRequest.newBuilder()//
+                .setReaderId(RpcUtil.protoReplicaId(this.replicaId))//
+                .setPrimaryId(RpcUtil.protoReplicaId(primaryId))//
+                .setTerm(term)//
+                .build();
+        this.pacificaClient.getCommitPoint(request, new ExecutorRequestFinished<RpcRequest.GetCommitPointResponse>() {
+            @Override
+            protected void doRun(Finished finished) {
+                handleGetCommitPointResponse(finished, getRpcResponse(), callbacks);
+            }
+        });
+    }
+
+    private void handleGetCommitPointResponse(final Finished finished, final RpcRequest.GetCommitPointResponse response, final List<ReadIndexCallback> callbacks) {
+        if (!finished.isOk()) {
+            failReadIndex(callbacks, finished.error());
+            return;
+        }
+        assert response != null;
+        if (!response.getSuccess()) {
+            onReceiveHigherTerm(response.getTerm());
+            failReadIndex(callbacks, new PacificaException(PacificaErrorCode.NO_MATCH_TERM, String.format("Received a response that the Primary failed to get commit point, term=%d", response.getTerm())));
+            return;
+        }
+        final long readIndex = response.getCommitPoint();
+        for (ReadIndexCallback callback : callbacks) {
+            callback.setReadIndex(readIndex);
+        }
+        awaitReadIndexApplied(readIndex, callbacks);
+    }
+
+    /**
+     * The Primary holds the lease while every Secondary responded within the lease period,
+     * because a Secondary does not ask to be the Primary until its grace period expires.
+     * The commit point is the read index only if the Primary has committed the LogEntry in its term.
+     * should be in lock
+     *
+     * @return read index
+     * @throws PacificaException if the lease is not held.
+     */
+    private long unsafeGetReadIndex() throws PacificaException {
+        if (this.state != ReplicaState.Primary) {
+            throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("replica=%s is not Primary, state=%s", this.replicaId, this.state));
+        }
+        final List<ReplicaId> secondaries = this.replicaGroup.listSecondary();
+        if (secondaries == null) {
+            throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("replica=%s failed to get replica group.", this.replicaId));
+        }
+        for (ReplicaId secondary : secondaries) {
+            if (!isAlive(secondary)) {
+                throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("the lease of Primary=%s may be expired, because Secondary=%s is not alive.", this.replicaId, secondary));
+            }
+        }
+        final long commitLogIndex = this.ballotBox.getLastCommittedLogIndex();
+        final long primaryTerm = this.replicaGroup.getPrimaryTerm();
+        if (this.logManager.getLogTermAt(commitLogIndex) != primaryTerm) {
+            throw new PacificaException(PacificaErrorCode.UNAVAILABLE, String.format("Primary=%s has not committed LogEntry in term=%d.", this.replicaId, primaryTerm));
+        }
+        return commitLogIndex;
+    }
+
+    private static void failReadIndex(final List<ReadIndexCallback> callbacks, final Throwable error) {
+        for (ReadIndexCallback callback : callbacks) {
+            ThreadUtil.runCallback(callback, Finished.failure(error));
+        }
+    }
+
     /**
      * call by Primary for reconciliation
      * should be in write lock
@@ -1207,6 +1536,8 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
 
         final Callback callback;
 
+        final long enqueueNanos = System.nanoTime();
+
         int expectedTerm = -1;
 
         public OperationContext(LogEntry logEntry, Callback callback) {
@@ -1214,6 +1545,11 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
             this.callback = callback;
         }
 
+        int getLogDataBytes() {
+            final ByteBuffer logData = this.logEntry.getLogData();
+            return logData == null ? 0 : logData.remaining();
+        }
+
         public LogEntry getLogEntry() {
             return this.logEntry;
         }
@@ -1264,19 +1600,28 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
 
         private final List<Callback> callbacks;
 
-        PrimaryAppendLogEntriesCallback(List<Callback> callbacks) {
+        private final long batchBytes;
+
+        private final long startNanos = System.nanoTime();
+
+        /**
+         * number of the operations whose ballot has been initiated
+         */
+        private volatile int initiatedCount = 0;
+
+        PrimaryAppendLogEntriesCallback(List<Callback> callbacks, long batchBytes) {
             this.callbacks = callbacks;
+            this.batchBytes = batchBytes;
         }
 
-
         @Override
-        public void run(final Finished finished) {
+        public void beforePersist() {
             // When you've reached this point,
-            // it means that the Primary has persisted the op-log, or failure
+            // it means that the op-log has been assigned log index, but not persisted.
+            // we initiate ballot and replicate it to the Secondaries while the Primary is persisting it.
             final long startLogIndex = this.getFirstLogIndex();
-            int appendCount = this.getAppendCount();
-            int index = 0;
-            for (; index < appendCount; index++) {
+            final int appendCount = this.getAppendCount();
+            for (int index = 0; index < appendCount; index++) {
                 final Callback callback = this.callbacks.get(index);
                 //initiate ballot to ballotBox
                 if (!ReplicaImpl.this.ballotBox.initiateBallot(startLogIndex + index, ReplicaImpl.this.replicaGroup)) {
@@ -1287,11 +1632,33 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
                     ThreadUtil.runCallback(callback, Finished.failure(new PacificaException(PacificaErrorCode.INTERNAL, String.format("replica=%s failed to append callback", ReplicaImpl.this.replicaId))));
                 }
             }
-            //
-            final long endLogIndex = startLogIndex + appendCount - 1;
-            ReplicaImpl.this.senderGroup.continueAppendLogEntry(endLogIndex);
-            ReplicaImpl.this.ballotBox.ballotBy(replicaId, startLogIndex, endLogIndex);
-            for (; index < this.callbacks.size(); index++) {
+            this.initiatedCount = appendCount;
+            ReplicaImpl.this.senderGroup.continueAppendLogEntry(startLogIndex + appendCount - 1);
+        }
+
+        @Override
+        public void run(final Finished finished) {
+            // When you've reached this point,
+            // it means that the Primary has persisted the op-log, or failure
+            final int initiatedCount = this.initiatedCount;
+            if (initiatedCount > 0) {
+                final long startLogIndex = this.getFirstLogIndex();
+                final long endLogIndex = startLogIndex + initiatedCount - 1;
+                if (finished.isOk()) {
+                    ReplicaImpl.this.operationBatchSizer.onComplete(this.callbacks.size(), this.batchBytes,
+                            System.nanoTime() - this.startNanos, ReplicaImpl.this.operationContextQueue.size());
+                    // in case that the op-log is evicted from the cache before persisted
+                    ReplicaImpl.this.senderGroup.continueAppendLogEntry(endLogIndex);
+                    // the Primary votes only after persisted
+                    ReplicaImpl.this.ballotBox.ballotBy(replicaId, startLogIndex, endLogIndex);
+                } else {
+                    // the ballots can not be granted by the Primary any more
+                    final Throwable error = finished.error();
+                    ReplicaImpl.this.onError(error instanceof PacificaException ? (PacificaException) error
+                            : new PacificaException(PacificaErrorCode.IO, String.format("failed to persist op-log[%d, %d]", startLogIndex, endLogIndex), error));
+                }
+            }
+            for (int index = initiatedCount; index < this.callbacks.size(); index++) {
                 Callback callback = this.callbacks.get(index);
                 ThreadUtil.runCallback(callback, finished);
             }
@@ -1327,6 +1694,57 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
         }
     }
 
+    /**
+     * respond the commit point to the Secondary after the lease is checked
+     */
+    static class CommitPointCallback extends ReadIndexCallback {
+
+        private final long term;
+
+        private final long version;
+
+        private final RpcRequestFinished<RpcRequest.GetCommitPointResponse> rpcCallback;
+
+        CommitPointCallback(long term, long version, RpcRequestFinished<RpcRequest.GetCommitPointResponse> rpcCallback) {
+            this.term = term;
+            this.version = version;
+            this.rpcCallback = rpcCallback;
+        }
+
+        @Override
+        public void run(Finished finished) {
+            if (finished.isOk()) {
+                final RpcRequest.GetCommitPointResponse response = RpcRequest.GetCommitPointResponse.newBuilder()//
+                        .setSuccess(true)//
+                        .setTerm(this.term)//
+                        .setVersion(this.version)//
+                        .setCommitPoint(getReadIndex())//
+                        .build();
+                this.rpcCallback.setRpcResponse(response);
+            }
+            ThreadUtil.runCallback(this.rpcCallback, finished);
+        }
+    }
+
+    class ReadIndexConsumer implements Runnable {
+
+        @Override
+        public void run() {
+            final Queue<ReadIndexCallback> queue = ReplicaImpl.this.readIndexQueue;
+            if (queue.isEmpty()) {
+                return;
+            }
+            final List<ReadIndexCallback> callbacks = new ArrayList<>(queue.size());
+            ReadIndexCallback callback;
+            while ((callback = queue.poll()) != null) {
+                callbacks.add(callback);
+            }
+            if (!callbacks.isEmpty()) {
+                ReplicaImpl.this.readIndexBatch(callbacks);
+            }
+        }
+    }
+
     /**
      * TODO recycle
      */
@@ -1340,12 +1758,25 @@ public class ReplicaImpl implements Replica, ReplicaService, LifeCycle<ReplicaOp
             }
             try {
                 final Queue<OperationContext> queue = ReplicaImpl.this.operationContextQueue;
-                final int maxCount = ReplicaImpl.this.option.getMaxOperationNumPerBatch();
+                final AdaptiveBatchSizer batchSizer = ReplicaImpl.this.operationBatchSizer;
+                final OperationContext oldest = queue.peek();
+                if (oldest == null) {
+                    return;
+                }
+                final long lingerNanos = batchSizer.lingerNanos(queue.size(), oldest.enqueueNanos);
+                if (lingerNanos > 0) {
+                    // wait for more operations to fill the batch
+                    lingerOperationConsumer(lingerNanos);
+                    return;
+                }
+                long batchBytes = 0;
                 OperationContext operationContext;
-                while (buffer.size() < maxCount && (operationContext = queue.poll()) != null) {
+                while (!batchSizer.isFull(buffer.size(), batchBytes) && (operationContext = queue.poll()) != null) {
                     buffer.add(operationContext);
+                    batchBytes += operationContext.getLogDataBytes();
                 }
-                ReplicaImpl.this.applyOperationBatch(buffer);
+                batchSizer.onBatch(buffer.size(), batchBytes);
+                ReplicaImpl.this.applyOperationBatch(buffer, batchBytes);
             } finally {
                 this.rest();
             }
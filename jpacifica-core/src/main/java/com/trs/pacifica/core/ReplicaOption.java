@@ -27,20 +27,29 @@ import com.trs.pacifica.fs.FileServiceFactory;
 import com.trs.pacifica.fs.FileServiceFactoryHolder;
 import com.trs.pacifica.log.codec.LogEntryCodecFactory;
 import com.trs.pacifica.log.codec.LogEntryCodecFactoryHolder;
+import com.trs.pacifica.metrics.MetricReporterFactory;
+import com.trs.pacifica.metrics.MetricReporterFactoryHolder;
 import com.trs.pacifica.rpc.client.RpcClient;
 import com.trs.pacifica.rpc.node.EndpointManager;
 import com.trs.pacifica.rpc.node.EndpointManagerHolder;
+import com.trs.pacifica.sender.HeartbeatMultiplexer;
 import com.trs.pacifica.util.thread.ThreadUtil;
 import com.trs.pacifica.util.timer.TimerFactory;
 import com.trs.pacifica.util.timer.TimerFactoryHolder;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class ReplicaOption {
 
+    public static final int DEFAULT_MIN_OPERATION_NUM_PER_BATCH = 16;
     public static final int DEFAULT_MAX_OPERATION_NUM_PER_BATCH = 16;
+    public static final int DEFAULT_MIN_OPERATION_BYTES_PER_BATCH = 256 * 1024;
+    public static final int DEFAULT_MAX_OPERATION_BYTES_PER_BATCH = 4 * 1024 * 1024;
+    public static final int DEFAULT_OPERATION_BATCH_TARGET_LATENCY_MS = 20;
+    public static final int DEFAULT_OPERATION_BATCH_LINGER_MS = 0;
     public static final int DEFAULT_GRACE_PERIOD_TIMEOUT_MS = (int) TimeUnit.SECONDS.toMillis(120);
     public static final int MIN_GRACE_PERIOD_TIMEOUT_MS = (int) TimeUnit.SECONDS.toMillis(10);
     public static final int MAX_GRACE_PERIOD_TIMEOUT_MS = (int) TimeUnit.SECONDS.toMillis(600);
@@ -52,6 +61,11 @@ public class ReplicaOption {
     public static final int DEFAULT_SNAPSHOT_LOG_INDEX_MARGIN = 0;
     public static final boolean DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM = true;
     public static final int DEFAULT_DOWNLOAD_SNAPSHOT_TIMEOUT_MS = (int) TimeUnit.MINUTES.toMillis(10);
+    public static final int DEFAULT_DOWNLOAD_SNAPSHOT_CHUNK_SIZE = 1024 * 1024;
+    public static final int DEFAULT_DOWNLOAD_SNAPSHOT_MAX_INFLIGHT_CHUNKS = 4;
+    public static final int DEFAULT_DOWNLOAD_SNAPSHOT_PARALLEL_FILES = 2;
+    public static final int DEFAULT_MAX_LOG_ENTRY_CACHE_NUM = 4096;
+    public static final int DEFAULT_MAX_LOG_ENTRY_CACHE_BYTES = 32 * 1024 * 1024;
 
 
     /**
@@ -113,13 +127,41 @@ public class ReplicaOption {
 
     private ExecutorGroup senderExecutorGroup = ReplicaExecutorGroupHolder.getDefaultInstance();
     private ScheduledExecutorService senderScheduler = ThreadUtil._JPACIFICA_SCHEDULE_EXECUTOR;
+
+    /**
+     * the heartbeats of the replica groups in the process to the same node are sent in one request,
+     * null if each heartbeat is sent alone. It is disabled by default, because a node without
+     * the handler of BatchAppendEntriesRequest (eg: during a rolling upgrade) fails the coalesced heartbeats,
+     * see {@link HeartbeatMultiplexer#getDefaultInstance()}.
+     */
+    private HeartbeatMultiplexer heartbeatMultiplexer = null;
     private Executor downloadSnapshotExecutor = ReplicaExecutorGroupHolder.getDefaultInstance();
 
+    /**
+     * reporters of the metrics of the replica, see "pacifica.metrics.reporters"
+     */
+    private List<MetricReporterFactory> metricReporterFactories = MetricReporterFactoryHolder.getInstances();
+
     /**
      * download snapshot timeout ms
      */
     private int downloadSnapshotTimeoutMs = DEFAULT_DOWNLOAD_SNAPSHOT_TIMEOUT_MS;
 
+    /**
+     * bytes of each GetFileRequest on download snapshot
+     */
+    private int downloadSnapshotChunkSize = DEFAULT_DOWNLOAD_SNAPSHOT_CHUNK_SIZE;
+
+    /**
+     * max GetFileRequest in flight for each file on download snapshot
+     */
+    private int downloadSnapshotMaxInflightChunks = DEFAULT_DOWNLOAD_SNAPSHOT_MAX_INFLIGHT_CHUNKS;
+
+    /**
+     * number of files downloaded in parallel on download snapshot
+     */
+    private int downloadSnapshotParallelFiles = DEFAULT_DOWNLOAD_SNAPSHOT_PARALLEL_FILES;
+
 
     private LogEntryCodecFactory logEntryCodecFactory = LogEntryCodecFactoryHolder.getInstance();
 
@@ -137,10 +179,45 @@ public class ReplicaOption {
 
 
     /**
-     * operation consumer num per batch, The minimum cannot be less than 1
+     * The batch of operations is sized adaptively between [min, max] by number and by bytes,
+     * see {@link com.trs.pacifica.util.AdaptiveBatchSizer}.
+     * Both min and max number are 16 by default as before, raise the max to let the batch grow.
+     * operation consumer num per batch at the beginning, The minimum cannot be less than 1
+     */
+    private int minOperationNumPerBatch = DEFAULT_MIN_OPERATION_NUM_PER_BATCH;
+
+    /**
+     * operation consumer num per batch at most, The minimum cannot be less than 1
      */
     private int maxOperationNumPerBatch = DEFAULT_MAX_OPERATION_NUM_PER_BATCH;
 
+    private int minOperationBytesPerBatch = DEFAULT_MIN_OPERATION_BYTES_PER_BATCH;
+
+    /**
+     * bytes of operations per batch at most, The actual number of bytes is likely to exceed this value
+     */
+    private int maxOperationBytesPerBatch = DEFAULT_MAX_OPERATION_BYTES_PER_BATCH;
+
+    /**
+     * the batch shrinks if the Primary takes longer than it to persist the batch, 0 means never shrink
+     */
+    private int operationBatchTargetLatencyMs = DEFAULT_OPERATION_BATCH_TARGET_LATENCY_MS;
+
+    /**
+     * maximum time to wait for more operations if there are not enough to fill a batch, 0 means never wait
+     */
+    private int operationBatchLingerMs = DEFAULT_OPERATION_BATCH_LINGER_MS;
+
+    /**
+     * maximum number of the recently appended LogEntries cached in memory, 0 means disable the cache
+     */
+    private int maxLogEntryCacheNum = DEFAULT_MAX_LOG_ENTRY_CACHE_NUM;
+
+    /**
+     * maximum bytes of the recently appended LogEntries cached in memory, 0 means disable the cache
+     */
+    private int maxLogEntryCacheBytes = DEFAULT_MAX_LOG_ENTRY_CACHE_BYTES;
+
     public int getGracePeriodTimeoutMs() {
         return gracePeriodTimeoutMs;
     }
@@ -235,6 +312,62 @@ public class ReplicaOption {
         this.maxOperationNumPerBatch = Math.max(1, maxOperationNumPerBatch);
     }
 
+    public int getMinOperationNumPerBatch() {
+        return minOperationNumPerBatch;
+    }
+
+    public void setMinOperationNumPerBatch(int minOperationNumPerBatch) {
+        this.minOperationNumPerBatch = Math.max(1, minOperationNumPerBatch);
+    }
+
+    public int getMinOperationBytesPerBatch() {
+        return minOperationBytesPerBatch;
+    }
+
+    public void setMinOperationBytesPerBatch(int minOperationBytesPerBatch) {
+        this.minOperationBytesPerBatch = Math.max(1, minOperationBytesPerBatch);
+    }
+
+    public int getMaxOperationBytesPerBatch() {
+        return maxOperationBytesPerBatch;
+    }
+
+    public void setMaxOperationBytesPerBatch(int maxOperationBytesPerBatch) {
+        this.maxOperationBytesPerBatch = Math.max(1, maxOperationBytesPerBatch);
+    }
+
+    public int getOperationBatchTargetLatencyMs() {
+        return operationBatchTargetLatencyMs;
+    }
+
+    public void setOperationBatchTargetLatencyMs(int operationBatchTargetLatencyMs) {
+        this.operationBatchTargetLatencyMs = Math.max(0, operationBatchTargetLatencyMs);
+    }
+
+    public int getOperationBatchLingerMs() {
+        return operationBatchLingerMs;
+    }
+
+    public void setOperationBatchLingerMs(int operationBatchLingerMs) {
+        this.operationBatchLingerMs = Math.max(0, operationBatchLingerMs);
+    }
+
+    public int getMaxLogEntryCacheNum() {
+        return maxLogEntryCacheNum;
+    }
+
+    public void setMaxLogEntryCacheNum(int maxLogEntryCacheNum) {
+        this.maxLogEntryCacheNum = Math.max(0, maxLogEntryCacheNum);
+    }
+
+    public int getMaxLogEntryCacheBytes() {
+        return maxLogEntryCacheBytes;
+    }
+
+    public void setMaxLogEntryCacheBytes(int maxLogEntryCacheBytes) {
+        this.maxLogEntryCacheBytes = Math.max(0, maxLogEntryCacheBytes);
+    }
+
     public boolean isEnableLogEntryChecksum() {
         return enableLogEntryChecksum;
     }
@@ -355,6 +488,30 @@ public class ReplicaOption {
         this.downloadSnapshotTimeoutMs = downloadSnapshotTimeoutMs;
     }
 
+    public int getDownloadSnapshotChunkSize() {
+        return downloadSnapshotChunkSize;
+    }
+
+    public void setDownloadSnapshotChunkSize(int downloadSnapshotChunkSize) {
+        this.downloadSnapshotChunkSize = downloadSnapshotChunkSize;
+    }
+
+    public int getDownloadSnapshotMaxInflightChunks() {
+        return downloadSnapshotMaxInflightChunks;
+    }
+
+    public void setDownloadSnapshotMaxInflightChunks(int downloadSnapshotMaxInflightChunks) {
+        this.downloadSnapshotMaxInflightChunks = downloadSnapshotMaxInflightChunks;
+    }
+
+    public int getDownloadSnapshotParallelFiles() {
+        return downloadSnapshotParallelFiles;
+    }
+
+    public void setDownloadSnapshotParallelFiles(int downloadSnapshotParallelFiles) {
+        this.downloadSnapshotParallelFiles = downloadSnapshotParallelFiles;
+    }
+
     public ScheduledExecutorService getSenderScheduler() {
         return senderScheduler;
     }
@@ -363,6 +520,22 @@ public class ReplicaOption {
         this.senderScheduler = senderScheduler;
     }
 
+    public HeartbeatMultiplexer getHeartbeatMultiplexer() {
+        return heartbeatMultiplexer;
+    }
+
+    public void setHeartbeatMultiplexer(HeartbeatMultiplexer heartbeatMultiplexer) {
+        this.heartbeatMultiplexer = heartbeatMultiplexer;
+    }
+
+    public List<MetricReporterFactory> getMetricReporterFactories() {
+        return metricReporterFactories;
+    }
+
+    public void setMetricReporterFactories(List<MetricReporterFactory> metricReporterFactories) {
+        this.metricReporterFactories = metricReporterFactories;
+    }
+
     public int getRecoverIntervalMs() {
         return recoverIntervalMs;
     }
@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.trs.pacifica.*;
 import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.DirectExecutor;
@@ -43,6 +45,7 @@ import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -69,6 +72,12 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
 
     private SnapshotStorageFactory snapshotStorageFactory = null;
 
+    private Timer saveTimer = null;
+
+    private Timer loadTimer = null;
+
+    private Timer downloadTimer = null;
+
 
     public SnapshotManagerImpl(final ReplicaImpl replica) {
         this.replica = replica;
@@ -84,6 +93,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
                 this.logManager = Objects.requireNonNull(option.getLogManager(), "logManager");
                 this.stateMachineCaller = Objects.requireNonNull(option.getStateMachineCaller(), "stateMachineCaller");
                 this.pacificaClient = Objects.requireNonNull(option.getPacificaClient(), "pacificaClient");
+                registerMetrics(option.getMetricRegistry());
                 this.state = State.SHUTDOWN;
             }
         } finally {
@@ -158,10 +168,15 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
                         downloadExecutor = new DirectExecutor();
                     }
                     context.setDownloadExecutor(downloadExecutor);
+                    context.setChunkSize(this.option.getReplicaOption().getDownloadSnapshotChunkSize());
+                    context.setMaxInflightChunks(this.option.getReplicaOption().getDownloadSnapshotMaxInflightChunks());
+                    context.setParallelFiles(this.option.getReplicaOption().getDownloadSnapshotParallelFiles());
+                    final long downloadStartNanos = System.nanoTime();
                     try (final SnapshotDownloader snapshotDownloader = this.snapshotStorage.startDownloadSnapshot(context)) {
                         this.snapshotDownloader = snapshotDownloader;
                         snapshotDownloader.start();
                         snapshotDownloader.awaitComplete();
+                        updateTimer(this.downloadTimer, downloadStartNanos);
                     } catch (ExecutionException e) {
                         throw new PacificaException(PacificaErrorCode.USER_ERROR, String.format("failed to download snapshot from Primary(%s)", primaryId), e.getCause());
                     } catch (InterruptedException e) {
@@ -189,6 +204,21 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
         return null;
     }
 
+    private void registerMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
+        }
+        this.saveTimer = metricRegistry.timer("snapshot-manager.save");
+        this.loadTimer = metricRegistry.timer("snapshot-manager.load");
+        this.downloadTimer = metricRegistry.timer("snapshot-manager.download");
+    }
+
+    private static void updateTimer(final Timer timer, final long startNanos) {
+        if (timer != null) {
+            timer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private boolean isStarted() {
         return this.state.compareTo(State.UNINITIALIZED) < 0;
     }
@@ -342,6 +372,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
 
         private SnapshotWriter snapshotWriter = null;
         private LogId saveLogId = null;
+        private final long startNanos = System.nanoTime();
 
         SnapshotSaveCallback(Callback callback) {
             this.callback = callback;
@@ -356,6 +387,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
                 }
                 if (finished.isOk()) {
                     onSnapshotSaveSuccess(this.saveLogId);
+                    updateTimer(saveTimer, this.startNanos);
                 }
                 ThreadUtil.runCallback(callback, finished);
             } catch (Throwable throwable) {
@@ -390,6 +422,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
         private volatile Throwable error = null;
         private final CountDownLatch latch = new CountDownLatch(1);
         private final SnapshotReader snapshotReader;
+        private final long startNanos = System.nanoTime();
 
         FirstSnapshotLoadCallback(final SnapshotReader snapshotReader) {
             this.snapshotReader = snapshotReader;
@@ -405,6 +438,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
             try {
                 if (finished.isOk()) {
                     onSnapshotLoadSuccess(snapshotReader.getSnapshotLogId());
+                    updateTimer(loadTimer, this.startNanos);
                 } else {
                     this.error = finished.error();
                 }
@@ -429,6 +463,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
 
         private final InstallSnapshotCallback installSnapshotCallback;
         private final SnapshotReader snapshotReader;
+        private final long startNanos = System.nanoTime();
 
         InstalledSnapshotLoadCallback(InstallSnapshotCallback installSnapshotCallback, SnapshotReader snapshotReader) {
             this.installSnapshotCallback = installSnapshotCallback;
@@ -454,6 +489,7 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
                             .build();
                     installSnapshotCallback.setResponse(response);
                     onSnapshotLoadSuccess(snapshotReader.getSnapshotLogId());
+                    updateTimer(loadTimer, this.startNanos);
                 }
                 ThreadUtil.runCallback(installSnapshotCallback, finished);
             } finally {
@@ -476,6 +512,11 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
         private PacificaClient pacificaClient;
         private int downloadSnapshotTimeoutMs;
 
+        /**
+         * the latencies of save, load and download snapshot are recorded in it if not null
+         */
+        private MetricRegistry metricRegistry = null;
+
         public PacificaClient getPacificaClient() {
             return pacificaClient;
         }
@@ -531,6 +572,14 @@ public class SnapshotManagerImpl implements SnapshotManager, LifeCycle<SnapshotM
         public void setDownloadSnapshotTimeoutMs(int downloadSnapshotTimeoutMs) {
             this.downloadSnapshotTimeoutMs = downloadSnapshotTimeoutMs;
         }
+
+        public MetricRegistry getMetricRegistry() {
+            return metricRegistry;
+        }
+
+        public void setMetricRegistry(MetricRegistry metricRegistry) {
+            this.metricRegistry = metricRegistry;
+        }
     }
 
 
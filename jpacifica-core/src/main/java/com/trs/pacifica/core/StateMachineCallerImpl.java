@@ -17,6 +17,11 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.trs.pacifica.*;
 import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.Finished;
@@ -36,11 +41,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -69,6 +77,32 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
      */
     private volatile long lastCommitLogIndex = 0;
 
+    /**
+     * the latest commit point requested by {@link #commitAt(long)}, it's increasing.
+     * All requests are coalesced into at most one outstanding CommitEvent,
+     * which applies up to the latest commit point when it runs.
+     */
+    private final AtomicLong pendingCommitLogIndex = new AtomicLong(0);
+
+    private final AtomicBoolean commitScheduled = new AtomicBoolean(false);
+
+    private final CommitEvent commitEvent = new CommitEvent();
+
+    /**
+     * number of accepted commitAt requests
+     */
+    private final AtomicLong commitRequestCount = new AtomicLong(0);
+
+    private volatile long lastCommitRequestCount = 0;
+
+    private volatile long commitPassCount = 0;
+
+    private Histogram commitCoalescedHistogram = null;
+
+    private Timer applyTimer = null;
+
+    private Meter appliedMeter = null;
+
     /**
      * applying log index
      */
@@ -87,6 +121,11 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
     private volatile PacificaException error = null;
     private PendingQueue<Callback> callbackPendingQueue = null;
 
+    /**
+     * callbacks waiting for the LogEntry to be applied, only accessed in the event thread.
+     */
+    private final PriorityQueue<AwaitAppliedEvent> appliedWaiters = new PriorityQueue<>(Comparator.comparingLong(e -> e.logIndex));
+
     public StateMachineCallerImpl(ReplicaImpl replica) {
         this.replica = replica;
     }
@@ -104,6 +143,8 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
                 this.committedPont = bootstrapId.copy();
                 this.applyingLogIndex.set(bootstrapId.getIndex() + 1);
                 this.lastCommitLogIndex = bootstrapId.getIndex();
+                this.pendingCommitLogIndex.set(bootstrapId.getIndex());
+                registerMetrics(option.getMetricRegistry());
                 this.state = _STAT_SHUTDOWN;
             }
         } finally {
@@ -163,20 +204,53 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         }
     }
 
+    private void registerMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
+        }
+        this.commitCoalescedHistogram = metricRegistry.histogram("fsm-caller.commit-coalesced");
+        this.applyTimer = metricRegistry.timer("fsm-caller.apply");
+        this.appliedMeter = metricRegistry.meter("fsm-caller.applied-entries");
+        metricRegistry.gauge("fsm-caller.commit-coalesce-ratio", () -> (Gauge<Double>) this::getCommitCoalesceRatio);
+        metricRegistry.gauge("fsm-caller.commit-queue-depth", () -> (Gauge<Long>) this::getCommitQueueDepth);
+    }
+
     @Override
     public boolean commitAt(final long logIndex) {
         if (logIndex <= this.lastCommitLogIndex) {
             return false;
         }
-        this.readLock.lock();
-        try {
-            this.eventExecutor.execute(new CommitEvent(logIndex));
-        } finally {
-            this.readLock.unlock();
+        this.pendingCommitLogIndex.accumulateAndGet(logIndex, Math::max);
+        this.commitRequestCount.incrementAndGet();
+        if (this.commitScheduled.compareAndSet(false, true)) {
+            this.readLock.lock();
+            try {
+                this.eventExecutor.execute(this.commitEvent);
+            } catch (Throwable e) {
+                this.commitScheduled.set(false);
+                throw e;
+            } finally {
+                this.readLock.unlock();
+            }
         }
         return true;
     }
 
+    /**
+     * @return average number of commitAt requests applied in one pass
+     */
+    double getCommitCoalesceRatio() {
+        final long passCount = this.commitPassCount;
+        return passCount == 0 ? 0D : (double) this.lastCommitRequestCount / passCount;
+    }
+
+    /**
+     * @return number of LogEntries committed but not applied
+     */
+    long getCommitQueueDepth() {
+        return Math.max(0L, this.pendingCommitLogIndex.get() - getLastAppliedLogIndex());
+    }
+
     @Override
     public long getLastAppliedLogIndex() {
         return this.applyingLogIndex.get() - 1;
@@ -187,6 +261,12 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         return this.lastCommitLogIndex;
     }
 
+    @Override
+    public boolean awaitApplied(final long logIndex, final Callback onApplied) {
+        Objects.requireNonNull(onApplied, "onApplied");
+        return submitEvent(new AwaitAppliedEvent(logIndex, onApplied));
+    }
+
     @Override
     public boolean onSnapshotLoad(final SnapshotLoadCallback snapshotLoadCallback) {
         return submitEvent(new SnapshotLoadEvent(snapshotLoadCallback));
@@ -230,6 +310,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
             return;
         }
         this.lastCommitLogIndex = commitLogIndex;
+        final long startApplyingLogIndex = this.applyingLogIndex.get();
         final OperationIteratorImpl iterator = new OperationIteratorImpl(this.logManager, commitLogIndex, this.applyingLogIndex, this.callbackPendingQueue);
         LogEntry logEntry = iterator.hasNext() ? iterator.next() : null;
         while (logEntry != null) {
@@ -242,7 +323,11 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
             switch (type) {
                 case OP_DATA: {
                     final OperationIteratorWrapper wrapper = new OperationIteratorWrapper(iterator, this);
+                    final long startNanos = System.nanoTime();
                     this.stateMachine.onApply(wrapper);
+                    if (this.applyTimer != null) {
+                        this.applyTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
                     logEntry = wrapper.hasError()? null : wrapper.getNextLogEntry();
                     break;
                 }
@@ -257,6 +342,9 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         if (iterator.hasError()) {
             setError(iterator.getError());
         }
+        if (this.appliedMeter != null) {
+            this.appliedMeter.mark(Math.max(0, this.applyingLogIndex.get() - startApplyingLogIndex));
+        }
         final long commitLogTerm = this.logManager.getLogTermAt(commitLogIndex);
         this.committedPont = new LogId(commitLogIndex, commitLogTerm);
     }
@@ -310,6 +398,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
             // reset need in write lock block
             this.committedPont = snapshotLogId.copy();
             this.lastCommitLogIndex = snapshotLogId.getIndex();
+            this.pendingCommitLogIndex.accumulateAndGet(snapshotLogId.getIndex(), Math::max);
             this.applyingLogIndex.set(snapshotLogId.getIndex() + 1);
             ThreadUtil.runCallback(snapshotLoadCallback, Finished.success());
         } catch (Throwable e) {
@@ -321,6 +410,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
 
     private void doSnapshotSave(final SnapshotSaveCallback snapshotSaveCallback) {
         assert snapshotSaveCallback != null;
+        final OnceSnapshotSaveCallback onFinish = new OnceSnapshotSaveCallback(snapshotSaveCallback);
         this.readLock.lock();
         try {
             // meta
@@ -330,15 +420,41 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
             if (snapshotWriter == null) {
                 throw new PacificaException(PacificaErrorCode.INTERNAL, "failed to get snapshot writer.");
             }
-            this.stateMachine.onSnapshotSave(snapshotWriter);
-            ThreadUtil.runCallback(snapshotSaveCallback, Finished.success());
+            // the state machine captures its state here, and may write the snapshot files in the background,
+            // so that the following operations are not blocked.
+            this.stateMachine.onSnapshotSave(snapshotWriter, onFinish);
         } catch (Throwable throwable) {
-            ThreadUtil.runCallback(snapshotSaveCallback, Finished.failure(throwable));
+            onFinish.run(Finished.failure(throwable));
         } finally {
             this.readLock.unlock();
         }
     }
 
+    /**
+     * run the callbacks waiting for the LogEntry that has been applied,
+     * or fail all of them if an error has occurred, in the event thread.
+     */
+    private void notifyAppliedWaiters() {
+        final PacificaException error = this.error;
+        if (error != null) {
+            failAppliedWaiters(error);
+            return;
+        }
+        final long lastAppliedLogIndex = getLastAppliedLogIndex();
+        AwaitAppliedEvent waiter;
+        while ((waiter = this.appliedWaiters.peek()) != null && waiter.logIndex <= lastAppliedLogIndex) {
+            this.appliedWaiters.poll();
+            ThreadUtil.runCallback(waiter.onApplied, Finished.success());
+        }
+    }
+
+    private void failAppliedWaiters(final PacificaException error) {
+        AwaitAppliedEvent waiter;
+        while ((waiter = this.appliedWaiters.poll()) != null) {
+            ThreadUtil.runCallback(waiter.onApplied, Finished.failure(error));
+        }
+    }
+
     /**
      * flush all events that are currently submitted.
      *
@@ -353,16 +469,22 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
 
     class CommitEvent implements Runnable {
 
-        long commitLogIndex;
-
-        CommitEvent(final long commitLogIndex) {
-            this.commitLogIndex = commitLogIndex;
-        }
-
-
         @Override
         public void run() {
-            unsafeCommitAt(commitLogIndex);
+            // reset before reading the commit point, so that a later commitAt schedules another one
+            commitScheduled.set(false);
+            final long requestCount = commitRequestCount.get();
+            final long coalesced = requestCount - lastCommitRequestCount;
+            if (coalesced <= 0) {
+                return;
+            }
+            lastCommitRequestCount = requestCount;
+            commitPassCount++;
+            if (commitCoalescedHistogram != null) {
+                commitCoalescedHistogram.update(coalesced);
+            }
+            unsafeCommitAt(pendingCommitLogIndex.get());
+            notifyAppliedWaiters();
         }
 
     }
@@ -378,6 +500,30 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         @Override
         public void run() {
             doSnapshotLoad(snapshotLoadCallback);
+            notifyAppliedWaiters();
+        }
+    }
+
+    /**
+     * run SnapshotSaveCallback at most once, whether the state machine finishes synchronously or not.
+     */
+    static class OnceSnapshotSaveCallback implements Callback {
+
+        private final SnapshotSaveCallback snapshotSaveCallback;
+
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        OnceSnapshotSaveCallback(SnapshotSaveCallback snapshotSaveCallback) {
+            this.snapshotSaveCallback = snapshotSaveCallback;
+        }
+
+        @Override
+        public void run(Finished finished) {
+            if (this.finished.compareAndSet(false, true)) {
+                ThreadUtil.runCallback(snapshotSaveCallback, finished);
+            } else {
+                LOGGER.warn("the callback of snapshot save is called repeatedly, result={}", finished);
+            }
         }
     }
 
@@ -395,6 +541,29 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         }
     }
 
+    class AwaitAppliedEvent implements Runnable {
+
+        private final long logIndex;
+
+        private final Callback onApplied;
+
+        AwaitAppliedEvent(long logIndex, Callback onApplied) {
+            this.logIndex = logIndex;
+            this.onApplied = onApplied;
+        }
+
+        @Override
+        public void run() {
+            if (!isStarted()) {
+                ThreadUtil.runCallback(onApplied, Finished.failure(new PacificaException(PacificaErrorCode.SHUTDOWN,
+                        String.format("%s(%s) is shutdown.", StateMachineCallerImpl.class.getSimpleName(), replica.getReplicaId()))));
+                return;
+            }
+            appliedWaiters.add(this);
+            notifyAppliedWaiters();
+        }
+    }
+
     class FaultEvent implements Runnable {
 
         private final PacificaException fault;
@@ -406,6 +575,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         @Override
         public void run() {
             setError(fault);
+            notifyAppliedWaiters();
         }
     }
 
@@ -436,6 +606,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         public void run() {
             try {
                 doShutdown();
+                failAppliedWaiters(new PacificaException(PacificaErrorCode.SHUTDOWN, String.format("%s(%s) is shutdown.", StateMachineCallerImpl.class.getSimpleName(), replica.getReplicaId())));
             } finally {
                 this.countDownLatch.countDown();
             }
@@ -459,6 +630,7 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         private SingleThreadExecutor executor;
         private PendingQueue<Callback> callbackPendingQueue;
         private LogId bootstrapId = new LogId(0, 0);
+        private MetricRegistry metricRegistry;
 
         public StateMachine getStateMachine() {
             return stateMachine;
@@ -499,5 +671,13 @@ public class StateMachineCallerImpl implements StateMachineCaller, LifeCycle<Sta
         public void setBootstrapId(LogId bootstrapId) {
             this.bootstrapId = bootstrapId;
         }
+
+        public MetricRegistry getMetricRegistry() {
+            return metricRegistry;
+        }
+
+        public void setMetricRegistry(MetricRegistry metricRegistry) {
+            this.metricRegistry = metricRegistry;
+        }
     }
 }
@@ -17,10 +17,11 @@
 
 package com.trs.pacifica.fs;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
-public interface FileReader {
+public interface FileReader extends Closeable {
 
 
     public static final int EOF = -1;
@@ -35,6 +36,16 @@ public interface FileReader {
      * @return -1 If the end of the file is reached, otherwise, the length read is returned.
      * @throws IOException io error
      */
-    public int read(ByteBuffer buffer, String filename, int offset, int length) throws IOException;
+    public int read(ByteBuffer buffer, String filename, long offset, int length) throws IOException;
+
+    /**
+     * release the resources, such as opened files, when it is removed from FileService.
+     *
+     * @throws IOException io error
+     */
+    @Override
+    default void close() throws IOException {
+
+    }
 
 }
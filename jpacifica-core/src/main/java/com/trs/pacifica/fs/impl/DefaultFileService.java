@@ -18,6 +18,7 @@
 package com.trs.pacifica.fs.impl;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.error.PacificaErrorCode;
@@ -25,36 +26,73 @@ import com.trs.pacifica.fs.FileReader;
 import com.trs.pacifica.fs.FileService;
 import com.trs.pacifica.proto.RpcRequest;
 import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.SystemPropertyUtil;
 import com.trs.pacifica.util.thread.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class DefaultFileService implements FileService {
     static final Logger LOGGER = LoggerFactory.getLogger(FileService.class);
 
+    /**
+     * the FileReader is removed if no request reads it within the time, such as the downloader is dead.
+     */
+    public static final long DEFAULT_READER_IDLE_TIMEOUT_MS = SystemPropertyUtil.getLong("pacifica.file.reader.idle.timeout.ms", TimeUnit.MINUTES.toMillis(15));
+
     private final AtomicLong readerIdAllocator = new AtomicLong();
 
-    private final Map<Long, FileReader> fileReaderMap = new ConcurrentHashMap<>();
+    private final Map<Long, ReaderSession> fileReaderMap = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long readerIdleTimeoutMs;
+
+    private final AtomicBoolean expireScheduled = new AtomicBoolean(false);
+
+    public DefaultFileService() {
+        this(ThreadUtil._JPACIFICA_SCHEDULE_EXECUTOR, DEFAULT_READER_IDLE_TIMEOUT_MS);
+    }
+
+    public DefaultFileService(ScheduledExecutorService scheduler, long readerIdleTimeoutMs) {
+        this.scheduler = scheduler;
+        this.readerIdleTimeoutMs = readerIdleTimeoutMs;
+    }
 
     @Override
     public FileReader getFileReader(long readerId) {
-        return this.fileReaderMap.get(readerId);
+        final ReaderSession session = this.fileReaderMap.get(readerId);
+        if (session != null) {
+            session.touch();
+            return session.fileReader;
+        }
+        return null;
     }
 
     @Override
     public long addFileReader(FileReader fileReader) {
         final long readId = allocateReaderId();
-        this.fileReaderMap.put(readId, fileReader);
+        this.fileReaderMap.put(readId, new ReaderSession(fileReader));
+        scheduleExpire();
         return readId;
     }
 
     @Override
     public boolean removeFileReader(long readerId) {
+        final ReaderSession session = this.fileReaderMap.remove(readerId);
+        if (session != null) {
+            closeFileReader(readerId, session.fileReader);
+            return true;
+        }
         return false;
     }
 
@@ -70,19 +108,22 @@ public class DefaultFileService implements FileService {
             if (fileReader == null) {
                 throw  new PacificaException(PacificaErrorCode.TIMEOUT, "");
             }
+            // the data of response is the buffer without copy, so it is not pooled.
             final ByteBuffer buffer = ByteBuffer.allocate(request.getLength());
             final RpcRequest.GetFileResponse.Builder responseBuilder = RpcRequest.GetFileResponse.newBuilder();
             int readLength = fileReader.read(buffer, request.getFilename(), request.getOffset(), request.getLength());
             //set data
-            if (buffer.hasRemaining()) {
-                responseBuilder.setData(ByteString.copyFrom(buffer));
+            if (readLength > 0) {
+                responseBuilder.setData(UnsafeByteOperations.unsafeWrap(buffer.array(), 0, buffer.position()));
             } else {
                 responseBuilder.setData(ByteString.empty());
             }
-            // eof
-            if (readLength == FileReader.EOF) {
+            responseBuilder.setReadLength(Math.max(0, readLength));
+            // eof, the data is less than the request length only at the end of the file
+            if (readLength == FileReader.EOF || readLength < request.getLength()) {
                 responseBuilder.setEof(true);
             }
+            return responseBuilder.build();
 
         } catch (Throwable throwable) {
             ThreadUtil.runCallback(callback, Finished.failure(throwable));
@@ -94,4 +135,49 @@ public class DefaultFileService implements FileService {
         return this.readerIdAllocator.incrementAndGet();
     }
 
+    private void scheduleExpire() {
+        if (this.readerIdleTimeoutMs > 0 && this.expireScheduled.compareAndSet(false, true)) {
+            final long intervalMs = Math.max(1, this.readerIdleTimeoutMs / 2);
+            this.scheduler.scheduleWithFixedDelay(this::expireIdleReaders, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * remove the FileReader that is idle for longer than readerIdleTimeoutMs.
+     */
+    @OnlyForTest
+    void expireIdleReaders() {
+        final long now = System.currentTimeMillis();
+        this.fileReaderMap.forEach((readerId, session) -> {
+            if (now - session.lastAccessMs >= this.readerIdleTimeoutMs && this.fileReaderMap.remove(readerId, session)) {
+                LOGGER.warn("remove the FileReader(reader_id={}) that is idle for {} ms.", readerId, now - session.lastAccessMs);
+                closeFileReader(readerId, session.fileReader);
+            }
+        });
+    }
+
+    private static void closeFileReader(final long readerId, final FileReader fileReader) {
+        try {
+            fileReader.close();
+        } catch (IOException e) {
+            LOGGER.warn("failed to close the FileReader(reader_id={}).", readerId, e);
+        }
+    }
+
+    private static class ReaderSession {
+
+        private final FileReader fileReader;
+
+        private volatile long lastAccessMs;
+
+        ReaderSession(FileReader fileReader) {
+            this.fileReader = fileReader;
+            this.lastAccessMs = System.currentTimeMillis();
+        }
+
+        void touch() {
+            this.lastAccessMs = System.currentTimeMillis();
+        }
+    }
+
 }
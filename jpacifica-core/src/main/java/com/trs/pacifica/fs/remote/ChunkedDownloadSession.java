@@ -0,0 +1,450 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.fs.remote;
+
+import com.google.protobuf.ByteString;
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.DirectExecutor;
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.async.Task;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.ExecutorRequestFinished;
+import com.trs.pacifica.rpc.client.PacificaClient;
+import com.trs.pacifica.util.RpcUtil;
+import com.trs.pacifica.util.thread.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Download a file by chunks, with several GetFileRequest in flight, and write each chunk at its position of the file.
+ * The first chunk is requested alone, so that a small file costs one request.
+ * The end of the file is reached when the data of a chunk is less than the request length.
+ * It may start from the offset downloaded before, and reports the length that is synced to disk,
+ * so that the download can be resumed after restart.
+ */
+public class ChunkedDownloadSession implements Task {
+
+    static final Logger LOGGER = LoggerFactory.getLogger(ChunkedDownloadSession.class);
+
+    private final PacificaClient pacificaClient;
+    private final RpcRequest.GetFileRequest.Builder requestBuilder;
+    private final String filename;
+    private final File destFile;
+    private final long startOffset;
+    private final Option option;
+    private final ProgressListener progressListener;
+    private final Callback onFinish;
+    private final long deadLine;
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile boolean finished = false;
+    private volatile Throwable exception = null;
+    private FileChannel fileChannel;
+
+    /**
+     * chunks to be requested again, they failed before.
+     */
+    private final Deque<Chunk> retryChunks = new ArrayDeque<>();
+    /**
+     * offset -> end offset of the chunks written, but not continuous with downloadedOffset.
+     */
+    private final TreeMap<Long, Long> writtenChunks = new TreeMap<>();
+    private long nextOffset;
+    private long endOffset = Long.MAX_VALUE;
+    private long downloadedOffset;
+    private int inflightNum = 0;
+    private boolean firstChunkReceived = false;
+
+    private final Object syncLock = new Object();
+    private long syncedOffset;
+
+    public ChunkedDownloadSession(PacificaClient pacificaClient, final ReplicaId targetId, final long readerId, final String filename,
+                                  final File destFile, final long startOffset, final Option option,
+                                  @Nullable final ProgressListener progressListener, @Nullable final Callback onFinish) {
+        this.pacificaClient = Objects.requireNonNull(pacificaClient, "pacificaClient");
+        this.filename = Objects.requireNonNull(filename, "filename");
+        this.destFile = Objects.requireNonNull(destFile, "destFile");
+        this.option = Objects.requireNonNull(option, "option");
+        if (startOffset < 0) {
+            throw new IllegalArgumentException("startOffset must not be negative");
+        }
+        this.requestBuilder = RpcRequest.GetFileRequest.newBuilder()
+                .setTargetId(RpcUtil.protoReplicaId(targetId))//
+                .setReaderId(readerId)//
+                .setFilename(filename);
+        this.startOffset = startOffset;
+        this.nextOffset = startOffset;
+        this.downloadedOffset = startOffset;
+        this.syncedOffset = startOffset;
+        this.progressListener = progressListener;
+        this.onFinish = onFinish;
+        this.deadLine = DownloadSession.calculateDeadline(option.getTimeoutMs());
+    }
+
+    /**
+     * open the file and send the first chunk request.
+     *
+     * @throws IOException if failed to open the file
+     */
+    public void start() throws IOException {
+        this.fileChannel = FileChannel.open(this.destFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // the content after startOffset may be not synced, discard it.
+        this.fileChannel.truncate(this.startOffset);
+        sendChunkRequests(nextChunks());
+    }
+
+    /**
+     * @return the chunks to request, up to the max in flight
+     */
+    private synchronized List<Chunk> nextChunks() {
+        final List<Chunk> chunks = new ArrayList<>();
+        if (this.finished) {
+            return chunks;
+        }
+        final int maxInflightNum = this.firstChunkReceived ? this.option.getMaxInflightChunks() : 1;
+        while (this.inflightNum < maxInflightNum) {
+            Chunk chunk = this.retryChunks.poll();
+            if (chunk == null) {
+                if (this.nextOffset >= this.endOffset) {
+                    break;
+                }
+                chunk = new Chunk(this.nextOffset, this.option.getChunkSize(), 0);
+                this.nextOffset += chunk.length;
+            } else if (chunk.offset >= this.endOffset) {
+                continue;
+            }
+            this.inflightNum++;
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void sendChunkRequests(final List<Chunk> chunks) {
+        for (Chunk chunk : chunks) {
+            sendChunkRequest(chunk);
+        }
+    }
+
+    private void sendChunkRequest(final Chunk chunk) {
+        final int requestTimeoutMs = getRequestTimeout();
+        if (requestTimeoutMs < 0) {
+            onFinished(new TimeoutException("Timeout, the download task is dead."));
+            return;
+        }
+        final RpcRequest.GetFileRequest request;
+        synchronized (this.requestBuilder) {
+            request = this.requestBuilder//
+                    .setOffset(chunk.offset)//
+                    .setLength(chunk.length)//
+                    .build();
+        }
+        this.pacificaClient.getFile(request, new ExecutorRequestFinished<RpcRequest.GetFileResponse>(this.option.getExecutor()) {
+            @Override
+            protected void doRun(Finished finished) {
+                if (finished.isOk()) {
+                    handleChunkResponse(chunk, getRpcResponse());
+                } else {
+                    handleChunkError(chunk, finished.error());
+                }
+            }
+        }, requestTimeoutMs);
+    }
+
+    int getRequestTimeout() {
+        return (int) Math.min(Integer.MAX_VALUE, this.deadLine - System.currentTimeMillis());
+    }
+
+    void handleChunkResponse(final Chunk chunk, final RpcRequest.GetFileResponse response) {
+        try {
+            if (response.hasError()) {
+                throw RpcUtil.toPacificaException(response.getError());
+            }
+            final ByteString data = response.hasData() ? response.getData() : ByteString.EMPTY;
+            final int dataLen = data.size();
+            if (dataLen > chunk.length) {
+                throw new IOException(String.format("receive %d bytes of file=%s at offset=%d, more than request length=%d",
+                        dataLen, this.filename, chunk.offset, chunk.length));
+            }
+            if (dataLen > 0) {
+                writeFully(data.asReadOnlyByteBuffer(), chunk.offset);
+            }
+            final boolean complete;
+            final List<Chunk> chunks;
+            synchronized (this) {
+                if (this.finished) {
+                    return;
+                }
+                this.inflightNum--;
+                this.firstChunkReceived = true;
+                if (response.getEof() || dataLen < chunk.length) {
+                    this.endOffset = Math.min(this.endOffset, chunk.offset + dataLen);
+                }
+                if (dataLen > 0) {
+                    if (chunk.offset + dataLen > this.endOffset) {
+                        throw new IOException(String.format("receive data of file=%s at offset=%d, but it is after the end=%d",
+                                this.filename, chunk.offset, this.endOffset));
+                    }
+                    this.writtenChunks.put(chunk.offset, chunk.offset + dataLen);
+                    Long end;
+                    while ((end = this.writtenChunks.remove(this.downloadedOffset)) != null) {
+                        this.downloadedOffset = end;
+                    }
+                }
+                complete = this.downloadedOffset >= this.endOffset;
+                chunks = complete ? null : nextChunks();
+            }
+            syncProgress(complete);
+            if (complete) {
+                onFinished(null);
+            } else {
+                sendChunkRequests(chunks);
+            }
+        } catch (Throwable throwable) {
+            onFinished(throwable);
+        }
+    }
+
+    void handleChunkError(final Chunk chunk, final Throwable throwable) {
+        final List<Chunk> chunks;
+        synchronized (this) {
+            if (this.finished) {
+                return;
+            }
+            this.inflightNum--;
+            if (chunk.retryTimes >= this.option.getMaxRetryTimes()) {
+                chunks = null;
+            } else {
+                LOGGER.warn("failed to download chunk of file={} at offset={}, retry times={}.", this.filename, chunk.offset, chunk.retryTimes, throwable);
+                this.retryChunks.add(new Chunk(chunk.offset, chunk.length, chunk.retryTimes + 1));
+                chunks = nextChunks();
+            }
+        }
+        if (chunks == null) {
+            onFinished(throwable);
+        } else {
+            sendChunkRequests(chunks);
+        }
+    }
+
+    private void writeFully(final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += this.fileChannel.write(buffer, position);
+        }
+    }
+
+    /**
+     * sync the file to disk every syncIntervalBytes downloaded, or at the end,
+     * and then report the synced length to ProgressListener.
+     *
+     * @param force sync even if it downloads less than syncIntervalBytes
+     * @throws IOException if failed to sync
+     */
+    private void syncProgress(final boolean force) throws IOException {
+        synchronized (this.syncLock) {
+            final long downloadedOffset;
+            synchronized (this) {
+                downloadedOffset = this.downloadedOffset;
+            }
+            if (downloadedOffset <= this.syncedOffset) {
+                return;
+            }
+            if (!force && downloadedOffset - this.syncedOffset < this.option.getSyncIntervalBytes()) {
+                return;
+            }
+            this.fileChannel.force(false);
+            this.syncedOffset = downloadedOffset;
+            if (this.progressListener != null) {
+                this.progressListener.onProgress(this.filename, downloadedOffset);
+            }
+        }
+    }
+
+    private boolean onFinished(final Throwable throwable) {
+        synchronized (this) {
+            if (this.finished) {
+                return false;
+            }
+            this.finished = true;
+        }
+        this.exception = throwable;
+        try {
+            if (this.fileChannel != null) {
+                this.fileChannel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("failed to close the download file={}", this.destFile, e);
+        }
+        this.latch.countDown();
+        if (this.onFinish != null) {
+            ThreadUtil.runCallback(this.onFinish, throwable == null ? Finished.success() : Finished.failure(throwable));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean cancel() {
+        return onFinished(new CancellationException("cancel download task."));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.exception instanceof CancellationException;
+    }
+
+    @Override
+    public void awaitComplete() throws InterruptedException, ExecutionException {
+        this.latch.await();
+        if (this.exception != null) {
+            throw new ExecutionException(this.exception);
+        }
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return this.finished;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return the length of file downloaded continuously from the beginning
+     */
+    public synchronized long getDownloadedLength() {
+        return this.downloadedOffset;
+    }
+
+    static class Chunk {
+
+        final long offset;
+
+        final int length;
+
+        final int retryTimes;
+
+        Chunk(long offset, int length, int retryTimes) {
+            this.offset = offset;
+            this.length = length;
+            this.retryTimes = retryTimes;
+        }
+    }
+
+    /**
+     * listener of the length synced to disk.
+     */
+    @FunctionalInterface
+    public static interface ProgressListener {
+
+        /**
+         * @param filename         filename
+         * @param downloadedLength the length of file downloaded and synced to disk from the beginning
+         * @throws IOException if error, the download will fail
+         */
+        void onProgress(final String filename, final long downloadedLength) throws IOException;
+
+    }
+
+    public static class Option {
+
+        public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;// 1MB
+        public static final int MIN_CHUNK_SIZE = DownloadSession.MIN_DOWNLOAD_LENGTH_ONCE;
+        public static final int DEFAULT_MAX_INFLIGHT_CHUNKS = 4;
+        public static final int DEFAULT_MAX_RETRY_TIMES = 3;
+        public static final long DEFAULT_SYNC_INTERVAL_BYTES = 64 * 1024 * 1024;// 64MB
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private int maxInflightChunks = DEFAULT_MAX_INFLIGHT_CHUNKS;
+
+        private int maxRetryTimes = DEFAULT_MAX_RETRY_TIMES;
+
+        private long syncIntervalBytes = DEFAULT_SYNC_INTERVAL_BYTES;
+
+        private int timeoutMs = DownloadSession.DEFAULT_TIMEOUT_MS;
+
+        private Executor executor = new DirectExecutor();
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = Math.max(MIN_CHUNK_SIZE, chunkSize);
+        }
+
+        public int getMaxInflightChunks() {
+            return maxInflightChunks;
+        }
+
+        public void setMaxInflightChunks(int maxInflightChunks) {
+            this.maxInflightChunks = Math.max(1, maxInflightChunks);
+        }
+
+        public int getMaxRetryTimes() {
+            return maxRetryTimes;
+        }
+
+        public void setMaxRetryTimes(int maxRetryTimes) {
+            this.maxRetryTimes = Math.max(0, maxRetryTimes);
+        }
+
+        public long getSyncIntervalBytes() {
+            return syncIntervalBytes;
+        }
+
+        public void setSyncIntervalBytes(long syncIntervalBytes) {
+            this.syncIntervalBytes = syncIntervalBytes;
+        }
+
+        public int getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(int timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        public void setExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+        }
+    }
+}
@@ -84,7 +84,7 @@ public abstract class DownloadSession implements Task {
             LOGGER.warn("continue download file(filename={}, read_id={}), but it is finished.", this.requestBuilder.getFilename(), this.requestBuilder.getReaderId());
             return;
         }
-        final int offset = requestBuilder.getOffset() + requestBuilder.getLength();
+        final long offset = requestBuilder.getOffset() + requestBuilder.getLength();
         RpcRequest.GetFileRequest request = requestBuilder
                 .setOffset(offset)//
                 .setLength(downloadLengthOnce)//
@@ -17,6 +17,7 @@
 
 package com.trs.pacifica.fs.remote;
 
+import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.DirectExecutor;
 import com.trs.pacifica.async.Task;
 import com.trs.pacifica.model.ReplicaId;
@@ -104,11 +105,36 @@ public class RemoteFileDownloader {
     }
 
     public Task asyncDownloadToFile(final String filename, final File destFile, int timeout, Executor executor) throws IOException, FileNotFoundException {
+        final ChunkedDownloadSession.Option option = new ChunkedDownloadSession.Option();
+        option.setTimeoutMs(timeout);
+        if (executor != null) {
+            option.setExecutor(executor);
+        }
+        return asyncDownloadToFile(filename, destFile, 0, option, null, null);
+    }
+
+    /**
+     * download the file by chunks in parallel, and write it to destFile from startOffset.
+     *
+     * @param filename         filename of remote
+     * @param destFile         destFile
+     * @param startOffset      the length downloaded before, the download continues from it
+     * @param option           option of chunks
+     * @param progressListener listener of the length synced to disk, nullable
+     * @param onFinish         callback on finished, nullable
+     * @return ChunkedDownloadSession
+     * @throws IOException if failed to open destFile
+     */
+    public ChunkedDownloadSession asyncDownloadToFile(final String filename, final File destFile, final long startOffset,
+                                                      final ChunkedDownloadSession.Option option,
+                                                      final ChunkedDownloadSession.ProgressListener progressListener,
+                                                      final Callback onFinish) throws IOException {
         Objects.requireNonNull(filename, "filename");
         Objects.requireNonNull(destFile, "file");
-        try (final BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(destFile))) {
-            return asyncDownloadToOutputStream(filename, outputStream, timeout, executor);
-        }
+        final ChunkedDownloadSession downloadSession = new ChunkedDownloadSession(this.pacificaClient, this.remoteId, this.remoteReaderId,
+                filename, destFile, startOffset, option, progressListener, onFinish);
+        downloadSession.start();
+        return downloadSession;
     }
 
 }
@@ -17,8 +17,13 @@
 
 package com.trs.pacifica.log;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.Lists;
 import com.trs.pacifica.LogStorage;
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaErrorCode;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.error.PacificaLogEntryException;
@@ -32,21 +37,33 @@ import com.trs.pacifica.log.store.SegmentStore;
 import com.trs.pacifica.model.LogEntry;
 import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.util.IOUtils;
+import com.trs.pacifica.util.NamedThreadFactory;
+import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.SystemConstants;
+import com.trs.pacifica.util.SystemPropertyUtil;
 import com.trs.pacifica.util.ThrowsUtil;
 import com.trs.pacifica.util.Tuple2;
 import com.trs.pacifica.util.io.DataBuffer;
+import com.trs.pacifica.util.thread.ThreadPoolUtil;
+import com.trs.pacifica.util.thread.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -56,6 +73,11 @@ public class FsLogStorage implements LogStorage {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FsLogStorage.class);
 
+    /**
+     * number of the threads flushing the group commits of all FsLogStorages in the process
+     */
+    public static final int FLUSHER_THREAD_NUM = SystemPropertyUtil.getInt("pacifica.log.flusher.thread.num", SystemConstants.CPUS);
+
     private final String storagePath;
 
     private final LogEntryDecoder logEntryDecoder;
@@ -64,7 +86,7 @@ public class FsLogStorage implements LogStorage {
 
     private final IndexStore indexStore;
 
-    private final SegmentStore segmentStore;
+    private SegmentStore segmentStore;
 
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -73,6 +95,17 @@ public class FsLogStorage implements LogStorage {
 
     private final FsLogStorageOption option;
 
+    private final GroupCommitFlusher groupCommitFlusher;
+
+    private final Timer appendTimer;
+
+    private final Timer fsyncTimer;
+
+    /**
+     * number of the appends covered by one fsync of group commit
+     */
+    private final Histogram groupCommitHistogram;
+
 
     public FsLogStorage(String storagePath, LogEntryEncoder logEntryEncoder, LogEntryDecoder logEntryDecoder, FsLogStorageOption option) throws IOException {
         this.storagePath = Objects.requireNonNull(storagePath, "storagePath");
@@ -84,8 +117,19 @@ public class FsLogStorage implements LogStorage {
             throw new IOException(String.format("storagePath=%s not is directory.", storagePath));
         }
         final Path path = storageDir.toPath();
-        this.indexStore = new IndexStore(path.resolve(this.option.getIndexDirName()), this.option.getIndexEntryCountPerFile());
-        this.segmentStore = new SegmentStore(path.resolve(this.option.getSegmentDirName()), this.option.getSegmentFileSize());
+        this.indexStore = new IndexStore(path.resolve(this.option.getIndexDirName()), this.option.getIndexEntryCountPerFile(), this.option.getPreallocateFileNum());
+        this.segmentStore = new SegmentStore(path.resolve(this.option.getSegmentDirName()), this.option.getSegmentFileSize(), this.option.getPreallocateFileNum());
+        this.groupCommitFlusher = this.option.isEnableGroupCommit() ? new GroupCommitFlusher() : null;
+        final MetricRegistry metricRegistry = this.option.getMetricRegistry();
+        if (metricRegistry != null) {
+            this.appendTimer = metricRegistry.timer("log-storage.append");
+            this.fsyncTimer = metricRegistry.timer("log-storage.fsync");
+            this.groupCommitHistogram = metricRegistry.histogram("log-storage.group-commit");
+        } else {
+            this.appendTimer = null;
+            this.fsyncTimer = null;
+            this.groupCommitHistogram = null;
+        }
     }
 
     public FsLogStorage(String storagePath, LogEntryEncoder logEntryEncoder, LogEntryDecoder logEntryDecoder) throws IOException {
@@ -103,6 +147,9 @@ public class FsLogStorage implements LogStorage {
             if (!checkConsistencyAndAlign()) {
                 throw new PacificaException(PacificaErrorCode.CONFLICT_LOG, "Check for consistency between IndexStore and SegmentStore, but failed to align.");
             }
+            if (this.groupCommitFlusher != null) {
+                this.groupCommitFlusher.start();
+            }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("success to open storage_path={}.", this.storagePath);
             }
@@ -115,14 +162,22 @@ public class FsLogStorage implements LogStorage {
 
     @Override
     public void close() throws PacificaException {
+        if (this.groupCommitFlusher != null) {
+            this.groupCommitFlusher.stop();
+        }
         this.writeLock.lock();
         try {
             Throwable th = null;
             try {
-                IOUtils.close(this.segmentStore);
+                flushPending();
             } catch (IOException e) {
                 th = e;
             }
+            try {
+                IOUtils.close(this.segmentStore);
+            } catch (IOException e) {
+                th = ThrowsUtil.addSuppressed(th, e);
+            }
             try {
                 IOUtils.close(this.indexStore);
             } catch (IOException e) {
@@ -210,13 +265,9 @@ public class FsLogStorage implements LogStorage {
             if (logPosition == IndexFile._NOT_FOUND) {
                 return null;
             }
-            //look LogEntry bytes at SegmentStore
+            //look LogEntry bytes at SegmentStore and decode them before the segment file may be closed
             try {
-                final DataBuffer logEntryBytes = this.segmentStore.lookupLogEntry(index, logPosition);
-                if (logEntryBytes != null) {
-                    // decode LogEntry bytes
-                    return this.logEntryDecoder.decode(logEntryBytes);
-                }
+                return this.segmentStore.lookupLogEntry(this.logEntryDecoder, index, logPosition);
             } catch (IOException e) {
                 LOGGER.error("Failed to get LogEntry for log_index={}", index, e);
             }
@@ -298,6 +349,7 @@ public class FsLogStorage implements LogStorage {
         if (logEntries == null || logEntries.isEmpty()) {
             return 0;
         }
+        final long startNanos = System.nanoTime();
         this.readLock.lock();
         try {
             final int totalCount = logEntries.size();
@@ -305,14 +357,54 @@ public class FsLogStorage implements LogStorage {
             for (LogEntry logEntry : logEntries) {
                 final DataBuffer logEntryData = this.logEntryEncoder.encode(logEntry);
                 final LogId logId = logEntry.getLogId().copy();
-                final boolean isWaitingFlush = appendCount == totalCount - 1;
-                if (doAppendLogEntry(logId, logEntryData, isWaitingFlush)) {
-                    appendCount++;
-                } else {
+                final Tuple2<Long, Long> expectedFlushPosition = doAppendLogEntry(logId, logEntryData);
+                if (expectedFlushPosition == null) {
+                    break;
+                }
+                if (appendCount == totalCount - 1) {
                     // flush
+                    if (!waitForFlush(expectedFlushPosition.getFirst(), expectedFlushPosition.getSecond())) {
+                        break;
+                    }
+                }
+                appendCount++;
+            }
+            updateTimer(this.appendTimer, startNanos);
+            return appendCount;
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("store_path=%s append log entries(first_log_index=%d, count=%d) encountered an ", this.storagePath, logEntries.get(0).getLogId().getIndex(), logEntries.size()), e);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    @Override
+    public int appendLogEntries(final List<LogEntry> logEntries, final Callback flushedCallback) {
+        if (this.groupCommitFlusher == null) {
+            return LogStorage.super.appendLogEntries(logEntries, flushedCallback);
+        }
+        if (logEntries == null || logEntries.isEmpty()) {
+            return 0;
+        }
+        final long startNanos = System.nanoTime();
+        this.readLock.lock();
+        try {
+            int appendCount = 0;
+            long appendBytes = 0;
+            for (LogEntry logEntry : logEntries) {
+                final DataBuffer logEntryData = this.logEntryEncoder.encode(logEntry);
+                final int logEntryBytes = logEntryData.remaining();
+                final LogId logId = logEntry.getLogId().copy();
+                if (doAppendLogEntry(logId, logEntryData) == null) {
                     break;
                 }
+                appendCount++;
+                appendBytes += logEntryBytes;
             }
+            if (appendCount == logEntries.size()) {
+                this.groupCommitFlusher.submit(appendBytes, flushedCallback);
+            }
+            updateTimer(this.appendTimer, startNanos);
             return appendCount;
         } catch (IOException e) {
             throw new RuntimeException(String.format("store_path=%s append log entries(first_log_index=%d, count=%d) encountered an ", this.storagePath, logEntries.get(0).getLogId().getIndex(), logEntries.size()), e);
@@ -321,45 +413,73 @@ public class FsLogStorage implements LogStorage {
         }
     }
 
-    private boolean doAppendLogEntry(final LogId logId, final DataBuffer logEntryData, final boolean isWaitingFlush) throws IOException {
+    /**
+     * write LogEntry to SegmentStore and IndexStore without flush
+     *
+     * @return Tuple2(expected flush position of SegmentStore, expected flush position of IndexStore), null if failure
+     */
+    private Tuple2<Long, Long> doAppendLogEntry(final LogId logId, final DataBuffer logEntryData) throws IOException {
         Objects.requireNonNull(logId, "logId");
         if (this.segmentStore == null || this.indexStore == null) {
-            return false;
+            return null;
         }
         final long logIndex = logId.getIndex();
         //write segment
         final Tuple2<Integer, Long> segmentResult = this.segmentStore.appendLogData(logIndex, logEntryData);
         if (segmentResult.getFirst() < 0 || segmentResult.getSecond() < 0) {
-            return false;
+            return null;
         }
         //write index
         final Tuple2<Integer, Long> indexResult = this.indexStore.appendLogIndex(logId, segmentResult.getFirst());
         if (indexResult.getFirst() < 0 || indexResult.getSecond() < 0) {
-            return false;
-        }
-        if (isWaitingFlush) {
-            //TODO
-            if (!waitForFlush(segmentResult.getSecond(), indexResult.getSecond())) {
-                return false;
-            }
+            return null;
         }
-        return true;
+        return Tuple2.of(segmentResult.getSecond(), indexResult.getSecond());
     }
 
     private boolean waitForFlush(final long exceptedLogPosition, final long exceptedIndexPosition) throws IOException {
+        final long startNanos = System.nanoTime();
         if (!this.segmentStore.waitForFlush(exceptedLogPosition, 5)) {
             return false;
         }
         if (!this.indexStore.waitForFlush(exceptedIndexPosition, 5)) {
             return false;
         }
+        updateTimer(this.fsyncTimer, startNanos);
         return true;
     }
 
+    private static void updateTimer(final Timer timer, final long startNanos) {
+        if (timer != null) {
+            timer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * flush the pending appends of group commit and run their callbacks.
+     * It is called before the files are changed, should be in write lock.
+     */
+    private void flushPending() throws IOException {
+        if (this.groupCommitFlusher != null) {
+            this.groupCommitFlusher.flush(this.groupCommitFlusher.drain());
+        }
+    }
+
+    @OnlyForTest
+    SegmentStore getSegmentStore() {
+        return this.segmentStore;
+    }
+
+    @OnlyForTest
+    void setSegmentStore(final SegmentStore segmentStore) {
+        this.segmentStore = segmentStore;
+    }
+
     @Override
     public LogId truncatePrefix(long firstIndexKept) {
         this.writeLock.lock();
         try {
+            flushPending();
             long segmentFirstIndexKept = this.segmentStore.truncatePrefix(firstIndexKept);
             if (segmentFirstIndexKept > 0) {
                 firstIndexKept = segmentFirstIndexKept;
@@ -383,6 +503,7 @@ public class FsLogStorage implements LogStorage {
     public LogId truncateSuffix(long lastIndexKept) {
         this.writeLock.lock();
         try {
+            flushPending();
             LogId lastLogId = this.getLastLogId();
             if (lastLogId == null) {
                 return new LogId(0, 0);
@@ -406,6 +527,8 @@ public class FsLogStorage implements LogStorage {
                 lastLogId = new LogId(0, 0);
             }
             return lastLogId;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         } finally {
             this.writeLock.unlock();
         }
@@ -419,6 +542,7 @@ public class FsLogStorage implements LogStorage {
         }
         this.writeLock.lock();
         try {
+            flushPending();
             LogEntry entry = getLogEntry(nextLogIndex);
             // clear all file
             this.indexStore.reset();
@@ -437,5 +561,218 @@ public class FsLogStorage implements LogStorage {
         return false;
     }
 
+    static class FlushRequest {
+
+        private final long bytes;
+
+        private final Callback callback;
+
+        FlushRequest(long bytes, Callback callback) {
+            this.bytes = bytes;
+            this.callback = callback;
+        }
+    }
+
+    /**
+     * Group commit: the appends of many batches queue up,
+     * a flush task on the shared flusher executor issues one sync of SegmentStore and IndexStore covering all of them,
+     * then runs their callbacks. At most one flush task of the storage is submitted or running at a time.
+     * A single pending append is flushed at once, the task waits up to max wait for more appends
+     * only if the appends have queued up while the previous flush was running.
+     */
+    class GroupCommitFlusher implements Runnable {
+
+        private final Lock queueLock = new ReentrantLock();
+
+        private ArrayDeque<FlushRequest> pendingRequests = new ArrayDeque<>();
+
+        private long pendingBytes = 0;
+
+        /**
+         * true if a flush task is submitted or running, guarded by queueLock
+         */
+        private boolean flushing = false;
+
+        /**
+         * true if the submitted flush task has waited for more appends, guarded by queueLock
+         */
+        private boolean waited = false;
+
+        private volatile boolean stopped = true;
+
+        /**
+         * the error of the failed flush, the following flushes fail with it,
+         * because the appends failed to flush are no longer dirty and may be not on disk.
+         */
+        private volatile IOException flushError = null;
+
+        void start() {
+            this.flushError = null;
+            this.stopped = false;
+        }
+
+        /**
+         * stop to submit flush task, the pending appends are flushed by {@link #flushPending()}.
+         */
+        void stop() {
+            this.queueLock.lock();
+            try {
+                this.stopped = true;
+            } finally {
+                this.queueLock.unlock();
+            }
+        }
+
+        void submit(final long bytes, final Callback callback) {
+            boolean submitTask = false;
+            this.queueLock.lock();
+            try {
+                this.pendingRequests.add(new FlushRequest(bytes, callback));
+                this.pendingBytes += bytes;
+                if (!this.flushing && !this.stopped) {
+                    this.flushing = true;
+                    submitTask = true;
+                }
+            } finally {
+                this.queueLock.unlock();
+            }
+            if (submitTask) {
+                submitTask(0);
+            }
+        }
+
+        private void submitTask(final long delayMs) {
+            try {
+                if (delayMs > 0) {
+                    ThreadUtil._JPACIFICA_SCHEDULE_EXECUTOR.schedule(() -> submitTask(0), delayMs, TimeUnit.MILLISECONDS);
+                } else {
+                    FlusherExecutorHolder.EXECUTOR.execute(this);
+                }
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("store_path={} failed to submit the flush task, flush in the current thread.", storagePath, e);
+                run();
+            }
+        }
+
+        ArrayDeque<FlushRequest> drain() {
+            this.queueLock.lock();
+            try {
+                final ArrayDeque<FlushRequest> requests = this.pendingRequests;
+                this.pendingRequests = new ArrayDeque<>();
+                this.pendingBytes = 0;
+                return requests;
+            } finally {
+                this.queueLock.unlock();
+            }
+        }
+
+        /**
+         * Everything appended before the requests were submitted is covered by one flush.
+         */
+        void flush(final ArrayDeque<FlushRequest> requests) throws IOException {
+            if (requests.isEmpty()) {
+                return;
+            }
+            if (this.flushError != null) {
+                final Finished failure = Finished.failure(this.flushError);
+                for (FlushRequest request : requests) {
+                    request.callback.run(failure);
+                }
+                throw this.flushError;
+            }
+            Finished finished = Finished.success();
+            IOException error = null;
+            final long startNanos = System.nanoTime();
+            try {
+                segmentStore.flush();
+                indexStore.flush();
+                updateTimer(fsyncTimer, startNanos);
+                if (groupCommitHistogram != null) {
+                    groupCommitHistogram.update(requests.size());
+                }
+            } catch (IOException e) {
+                LOGGER.error("store_path={} failed to flush {} appends.", storagePath, requests.size(), e);
+                finished = Finished.failure(e);
+                error = e;
+                this.flushError = e;
+            }
+            for (FlushRequest request : requests) {
+                request.callback.run(finished);
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        /**
+         * @return delay in milliseconds to wait for more appends, 0 if flush at once
+         */
+        private long nextDelayMs() {
+            final int maxWaitMs = option.getGroupCommitMaxWaitMs();
+            if (this.waited || maxWaitMs <= 0 || this.pendingRequests.size() <= 1 || this.pendingBytes >= option.getGroupCommitBytesThreshold()) {
+                return 0;
+            }
+            this.waited = true;
+            return maxWaitMs;
+        }
+
+        @Override
+        public void run() {
+            long delayMs;
+            this.queueLock.lock();
+            try {
+                if (this.stopped || this.pendingRequests.isEmpty()) {
+                    this.flushing = false;
+                    return;
+                }
+                delayMs = nextDelayMs();
+            } finally {
+                this.queueLock.unlock();
+            }
+            if (delayMs > 0) {
+                submitTask(delayMs);
+                return;
+            }
+            readLock.lock();
+            try {
+                if (!this.stopped) {
+                    flush(drain());
+                }
+            } catch (IOException e) {
+                // the callbacks have been notified
+            } finally {
+                readLock.unlock();
+            }
+            boolean submitTask = false;
+            this.queueLock.lock();
+            try {
+                this.waited = false;
+                if (this.stopped || this.pendingRequests.isEmpty()) {
+                    this.flushing = false;
+                } else {
+                    // the appends during the flush, give way to the flush tasks of the other storages
+                    submitTask = true;
+                }
+            } finally {
+                this.queueLock.unlock();
+            }
+            if (submitTask) {
+                submitTask(0);
+            }
+        }
+    }
+
+    static class FlusherExecutorHolder {
+
+        static final Executor EXECUTOR = ThreadPoolUtil.newBuilder()//
+                .poolName("pacifica-log-flusher")//
+                .enableMetric(true)//
+                .coreThreads(FLUSHER_THREAD_NUM)//
+                .maximumThreads(FLUSHER_THREAD_NUM)//
+                .keepAliveSeconds(60L)//
+                .workQueue(new LinkedBlockingQueue<>())//
+                .threadFactory(new NamedThreadFactory("pacifica-log-flusher-", true))//
+                .build();
+    }
 
 }
@@ -17,6 +17,7 @@
 
 package com.trs.pacifica.log;
 
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.LogStorage;
 import com.trs.pacifica.LogStorageFactory;
 import com.trs.pacifica.error.PacificaErrorCode;
@@ -38,4 +39,15 @@ public class FsLogStorageFactory implements LogStorageFactory {
         }
     }
 
+    @Override
+    public LogStorage newLogStorage(String path, LogEntryEncoder logEntryEncoder, LogEntryDecoder logEntryDecoder, MetricRegistry metricRegistry) throws PacificaException {
+        final FsLogStorageOption option = new FsLogStorageOption();
+        option.setMetricRegistry(metricRegistry);
+        try {
+            return new FsLogStorage(path, logEntryEncoder, logEntryDecoder, option);
+        } catch (IOException e) {
+            throw new PacificaException(PacificaErrorCode.IO, String.format("failed to new LogStorage, error_msg=%s", e.getMessage()), e);
+        }
+    }
+
 }
@@ -17,11 +17,21 @@
 
 package com.trs.pacifica.log;
 
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.log.store.IndexStore;
 import com.trs.pacifica.log.store.SegmentStore;
+import com.trs.pacifica.util.SystemPropertyUtil;
 
 public class FsLogStorageOption {
 
+    public static final boolean DEFAULT_ENABLE_GROUP_COMMIT = SystemPropertyUtil.getBoolean("pacifica.log.group.commit.enable", true);
+
+    public static final int DEFAULT_GROUP_COMMIT_MAX_WAIT_MS = SystemPropertyUtil.getInt("pacifica.log.group.commit.max.wait.ms", 1);
+
+    public static final int DEFAULT_GROUP_COMMIT_BYTES_THRESHOLD = SystemPropertyUtil.getInt("pacifica.log.group.commit.bytes.threshold", 256 * 1024);
+
+    public static final int DEFAULT_PREALLOCATE_FILE_NUM = SystemPropertyUtil.getInt("pacifica.log.preallocate.file.num", 1);
+
     private int segmentFileSize = SegmentStore._DEFAULT_SEGMENT_FILE_SIZE;
 
     private int indexEntryCountPerFile = IndexStore._DEFAULT_INDEX_ENTRY_COUNT_PER_FILE;
@@ -31,6 +41,33 @@ public class FsLogStorageOption {
 
     private String segmentDirName = SegmentStore._DEFAULT_SEGMENT_DIR_NAME;
 
+    /**
+     * if true, the appends of many batches are flushed to disk by one sync on the shared flusher executor,
+     * otherwise, each batch is flushed by the appending thread.
+     */
+    private boolean enableGroupCommit = DEFAULT_ENABLE_GROUP_COMMIT;
+
+    /**
+     * maximum time in milliseconds that the flusher waits for more appends before sync, 0 means sync at once.
+     * A single pending append is always synced at once.
+     */
+    private int groupCommitMaxWaitMs = DEFAULT_GROUP_COMMIT_MAX_WAIT_MS;
+
+    /**
+     * the flusher stops waiting and syncs once the bytes of pending appends reach the threshold.
+     */
+    private int groupCommitBytesThreshold = DEFAULT_GROUP_COMMIT_BYTES_THRESHOLD;
+
+    /**
+     * number of the segment and index files created in the background ahead of use, 0 to create them when needed.
+     */
+    private int preallocateFileNum = DEFAULT_PREALLOCATE_FILE_NUM;
+
+    /**
+     * the latencies of append and fsync are recorded in it if not null
+     */
+    private MetricRegistry metricRegistry = null;
+
     public int getSegmentFileSize() {
         return segmentFileSize;
     }
@@ -63,4 +100,50 @@ public class FsLogStorageOption {
     public void setSegmentDirName(String segmentDirName) {
         this.segmentDirName = segmentDirName;
     }
+
+    public boolean isEnableGroupCommit() {
+        return enableGroupCommit;
+    }
+
+    public void setEnableGroupCommit(boolean enableGroupCommit) {
+        this.enableGroupCommit = enableGroupCommit;
+    }
+
+    public int getGroupCommitMaxWaitMs() {
+        return groupCommitMaxWaitMs;
+    }
+
+    public void setGroupCommitMaxWaitMs(int groupCommitMaxWaitMs) {
+        if (groupCommitMaxWaitMs < 0) {
+            throw new IllegalArgumentException("groupCommitMaxWaitMs must be >= 0, but " + groupCommitMaxWaitMs);
+        }
+        this.groupCommitMaxWaitMs = groupCommitMaxWaitMs;
+    }
+
+    public int getGroupCommitBytesThreshold() {
+        return groupCommitBytesThreshold;
+    }
+
+    public void setGroupCommitBytesThreshold(int groupCommitBytesThreshold) {
+        if (groupCommitBytesThreshold <= 0) {
+            throw new IllegalArgumentException("groupCommitBytesThreshold must be > 0, but " + groupCommitBytesThreshold);
+        }
+        this.groupCommitBytesThreshold = groupCommitBytesThreshold;
+    }
+
+    public MetricRegistry getMetricRegistry() {
+        return metricRegistry;
+    }
+
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    public int getPreallocateFileNum() {
+        return preallocateFileNum;
+    }
+
+    public void setPreallocateFileNum(int preallocateFileNum) {
+        this.preallocateFileNum = preallocateFileNum;
+    }
 }
@@ -97,6 +97,23 @@ public abstract class Directory implements Closeable {
      */
     public abstract void createFile(String filename, int fileSize) throws IOException;
 
+    /**
+     * Renames an existing file in the directory atomically, the target file must not exist.
+     *
+     * @param source name of the existing file
+     * @param dest   new name of the file
+     * @throws IOException io error
+     */
+    public abstract void rename(String source, String dest) throws IOException;
+
+
+    /**
+     * Ensures that directory metadata, such as recent file renames and creations, are moved to stable storage.
+     *
+     * @throws IOException io error
+     */
+    public abstract void syncMetaData() throws IOException;
+
 
     /**
      * Ensures this directory is still open.
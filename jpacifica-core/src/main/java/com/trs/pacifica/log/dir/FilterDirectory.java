@@ -60,11 +60,21 @@ public abstract class FilterDirectory extends Directory {
         this.delegate.sync(names);
     }
 
+    @Override
+    public void syncMetaData() throws IOException {
+        this.delegate.syncMetaData();
+    }
+
     @Override
     public InOutput openInOutput(String name) throws IOException {
         return this.delegate.openInOutput(name);
     }
 
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        this.delegate.rename(source, dest);
+    }
+
     @Override
     public Set<String> getPendingDeletions() throws IOException {
         return this.delegate.getPendingDeletions();
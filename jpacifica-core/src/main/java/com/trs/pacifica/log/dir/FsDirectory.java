@@ -29,6 +29,7 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -117,6 +118,13 @@ public abstract class FsDirectory extends BaseDirectory {
         maybeDeletePendingFiles();
     }
 
+    @Override
+    public void syncMetaData() throws IOException {
+        ensureOpen();
+        IOUtils.fsync(directory, true);
+        maybeDeletePendingFiles();
+    }
+
     @Override
     public synchronized Set<String> getPendingDeletions() throws IOException {
         deletePendingFiles();
@@ -142,6 +150,15 @@ public abstract class FsDirectory extends BaseDirectory {
         }
     }
 
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        ensureOpen();
+        if (pendingDeletes.contains(source)) {
+            throw new NoSuchFileException("file \"" + source + "\" is pending delete and cannot be moved");
+        }
+        Files.move(directory.resolve(source), directory.resolve(dest), StandardCopyOption.ATOMIC_MOVE);
+    }
+
     protected void ensureCanRead(String name) throws IOException {
         if (pendingDeletes.contains(name)) {
             throw new NoSuchFileException(
@@ -119,6 +119,18 @@ public class MMapDirectory extends FsDirectory {
     }
 
 
+    /**
+     * the mapping stays valid after the file is renamed, so it is moved to the new name.
+     */
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        super.rename(source, dest);
+        final InOutput inOutput = this.fileInOutputCache.remove(source);
+        if (inOutput != null) {
+            this.fileInOutputCache.put(dest, inOutput);
+        }
+    }
+
     @OnlyForTest
     InOutput getFileInOutput(final String filename) {
         return this.fileInOutputCache.get(filename);
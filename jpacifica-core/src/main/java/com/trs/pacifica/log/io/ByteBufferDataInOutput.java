@@ -20,15 +20,27 @@ package com.trs.pacifica.log.io;
 import com.trs.pacifica.error.AlreadyClosedException;
 import com.trs.pacifica.util.ObjectsUtil;
 import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.io.ByteBufferDataBuffer;
+import com.trs.pacifica.util.io.DataBuffer;
+import com.trs.pacifica.util.io.EmptyDataBuffer;
+import com.trs.pacifica.util.io.LinkedDataBuffer;
 
-import javax.annotation.concurrent.NotThreadSafe;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
-@NotThreadSafe
+/**
+ * InOutput over the ByteBuffers, each holds 1 &lt;&lt; chunkSizePower bytes except the last one.
+ * The methods moving the cursor, such as {@link #seek(long)} and {@link #readByte()}, are not thread safe.
+ * The positional reads {@link #readByte(long)}, {@link #readInt(long)}, {@link #readLong(long)},
+ * {@link #readBytes(long, ByteBuffer)} and {@link #readDataBuffer(long, int)},
+ * and the positional writes {@link #writeBytes(int, ByteBuffer)} and {@link #writeBytes(int, DataBuffer)}
+ * keep no cursor state, they may be called concurrently on the same instance on disjoint ranges.
+ */
 public class ByteBufferDataInOutput implements InOutput {
 
     private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).order(ByteOrder.LITTLE_ENDIAN);
@@ -112,6 +124,163 @@ public class ByteBufferDataInOutput implements InOutput {
         return totalRead == 0? -1 : totalRead;
     }
 
+    @Override
+    public byte readByte(long pos) throws IOException {
+        final int bi = (int) (pos >> chunkSizePower);
+        try {
+            return guard.getByte(byteBuffers[bi], (int) (pos & chunkSizeMask));
+        } catch (IndexOutOfBoundsException e) {
+            throw handlePositionalIOOBE(e, "read", pos);
+        } catch (NullPointerException e) {
+            throw alreadyClosed(e);
+        }
+    }
+
+    @Override
+    public int readInt(long pos) throws IOException {
+        final int bi = (int) (pos >> chunkSizePower);
+        try {
+            return guard.getInt(byteBuffers[bi], (int) (pos & chunkSizeMask));
+        } catch (IndexOutOfBoundsException e) {
+            // the int spans two buffers, assemble it from the bytes without the cursor
+            final int b0 = readByte(pos) & 0xFF;
+            final int b1 = readByte(pos + 1) & 0xFF;
+            final int b2 = readByte(pos + 2) & 0xFF;
+            final int b3 = readByte(pos + 3) & 0xFF;
+            return (b3 << 24) | (b2 << 16) | (b1 << 8) | b0;
+        } catch (NullPointerException e) {
+            throw alreadyClosed(e);
+        }
+    }
+
+    @Override
+    public long readLong(long pos) throws IOException {
+        final int bi = (int) (pos >> chunkSizePower);
+        try {
+            return guard.getLong(byteBuffers[bi], (int) (pos & chunkSizeMask));
+        } catch (IndexOutOfBoundsException e) {
+            // the long spans two buffers, assemble it from the ints without the cursor
+            final long low = readInt(pos) & 0xFFFFFFFFL;
+            final long high = readInt(pos + Integer.BYTES) & 0xFFFFFFFFL;
+            return (high << 32) | low;
+        } catch (NullPointerException e) {
+            throw alreadyClosed(e);
+        }
+    }
+
+    @Override
+    public int readBytes(long pos, ByteBuffer dst) throws IOException {
+        if (pos < 0L) {
+            throw handlePositionalIOOBE(null, "read", pos);
+        }
+        if (pos >= this.length) {
+            return -1;
+        }
+        final int length = (int) Math.min(dst.remaining(), this.length - pos);
+        if (length == 0) {
+            return 0;
+        }
+        final int dstLimit = dst.limit();
+        try {
+            dst.limit(dst.position() + length);
+            final ByteBuffer[] views = sliceBuffers(pos, length);
+            for (ByteBuffer view : views) {
+                guard.getBytes(view, dst);
+            }
+        } catch (NullPointerException e) {
+            throw alreadyClosed(e);
+        } finally {
+            dst.limit(dstLimit);
+        }
+        return length;
+    }
+
+    /**
+     * the returned DataBuffer is a view of the mapped file, no bytes are copied.
+     * The view is not checked by the ByteBufferGuard, the caller must read it before this is closed.
+     */
+    @Override
+    public DataBuffer readDataBuffer(long pos, int length) throws IOException {
+        if (pos < 0L || pos + length > this.length) {
+            throw handlePositionalIOOBE(null, "read", pos < 0L ? pos : pos + length);
+        }
+        if (length <= 0) {
+            return new EmptyDataBuffer();
+        }
+        try {
+            guard.ensureValid();
+            final ByteBuffer[] views = sliceBuffers(pos, length);
+            if (views.length == 1) {
+                return new ByteBufferDataBuffer(views[0]);
+            }
+            final List<DataBuffer> dataBuffers = new ArrayList<>(views.length);
+            for (ByteBuffer view : views) {
+                dataBuffers.add(new ByteBufferDataBuffer(view));
+            }
+            return new LinkedDataBuffer(dataBuffers);
+        } catch (NullPointerException e) {
+            throw alreadyClosed(e);
+        }
+    }
+
+    /**
+     * views of [pos, pos + length) over the buffers, the buffers themselves are not touched,
+     * so that positional reads may run concurrently with each other.
+     */
+    private ByteBuffer[] sliceBuffers(final long pos, final int length) {
+        final int startIndex = (int) (pos >> chunkSizePower);
+        final int endIndex = (int) ((pos + length - 1) >> chunkSizePower);
+        final ByteBuffer[] views = new ByteBuffer[endIndex - startIndex + 1];
+        int position = (int) (pos & chunkSizeMask);
+        int remaining = length;
+        for (int i = 0; i < views.length; i++) {
+            final ByteBuffer view = byteBuffers[startIndex + i].duplicate();
+            final int len = Math.min(view.capacity() - position, remaining);
+            view.limit(position + len);
+            view.position(position);
+            views[i] = view;
+            remaining -= len;
+            position = 0;
+        }
+        return views;
+    }
+
+    @Override
+    public void writeBytes(int index, ByteBuffer src) throws IOException {
+        ObjectsUtil.checkFromIndexSize(index, src.remaining(), (int) this.length);
+        final int srcLimit = src.limit();
+        int bi = (int) (index >> chunkSizePower);
+        int position = (int) (index & chunkSizeMask);
+        try {
+            while (src.hasRemaining()) {
+                final ByteBuffer b = byteBuffers[bi].duplicate();
+                b.position(position);
+                src.limit(src.position() + Math.min(b.remaining(), src.remaining()));
+                b.put(src);
+                src.limit(srcLimit);
+                bi++;
+                position = 0;
+            }
+        } finally {
+            src.limit(srcLimit);
+        }
+    }
+
+    @Override
+    public void writeBytes(int index, DataBuffer src) throws IOException {
+        ObjectsUtil.checkFromIndexSize(index, src.remaining(), (int) this.length);
+        int bi = (int) (index >> chunkSizePower);
+        int position = (int) (index & chunkSizeMask);
+        while (src.hasRemaining()) {
+            final ByteBuffer b = byteBuffers[bi].duplicate();
+            b.position(position);
+            b.limit(position + Math.min(b.remaining(), src.remaining()));
+            src.get(b);
+            bi++;
+            position = 0;
+        }
+    }
+
     @Override
     public void writeBytes(int index, byte[] bytes, int offset, int length) throws IOException {
         //check
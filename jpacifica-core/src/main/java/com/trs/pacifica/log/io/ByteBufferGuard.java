@@ -78,7 +78,7 @@ public final class ByteBufferGuard {
         }
     }
 
-    private void ensureValid() {
+    void ensureValid() {
         if (invalidated) {
             // this triggers an AlreadyClosedException in ByteBufferIndexInput:
             throw new NullPointerException();
@@ -90,9 +90,29 @@ public final class ByteBufferGuard {
         receiver.get(dst, offset, length);
     }
 
+    public void getBytes(ByteBuffer receiver, ByteBuffer dst) {
+        ensureValid();
+        dst.put(receiver);
+    }
+
     public byte getByte(ByteBuffer receiver) {
         ensureValid();
         return receiver.get();
     }
 
+    public byte getByte(ByteBuffer receiver, int pos) {
+        ensureValid();
+        return receiver.get(pos);
+    }
+
+    public int getInt(ByteBuffer receiver, int pos) {
+        ensureValid();
+        return receiver.getInt(pos);
+    }
+
+    public long getLong(ByteBuffer receiver, int pos) {
+        ensureValid();
+        return receiver.getLong(pos);
+    }
+
 }
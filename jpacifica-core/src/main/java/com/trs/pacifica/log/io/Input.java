@@ -18,10 +18,13 @@
 package com.trs.pacifica.log.io;
 
 import com.trs.pacifica.util.ObjectsUtil;
+import com.trs.pacifica.util.io.ByteDataBuffer;
+import com.trs.pacifica.util.io.DataBuffer;
 
 import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 public interface Input extends Closeable {
@@ -85,5 +88,86 @@ public interface Input extends Closeable {
      */
     void seek(long pos) throws IOException;
 
+    /**
+     * Reads a single byte at the specified position.
+     * the current position is undefined after the call unless the implementation supports positional reads.
+     *
+     * @param pos position of the file
+     * @throws EOFException If this is beyond the end of the file
+     * @throws IOException  in case of I/O error
+     */
+    default byte readByte(long pos) throws IOException {
+        seek(pos);
+        return readByte();
+    }
+
+    /**
+     * Reads a little-endian int at the specified position.
+     *
+     * @param pos position of the file
+     * @throws EOFException If this is beyond the end of the file
+     * @throws IOException  in case of I/O error
+     * @see #readByte(long)
+     */
+    default int readInt(long pos) throws IOException {
+        seek(pos);
+        final int b0 = readByte() & 0xFF;
+        final int b1 = readByte() & 0xFF;
+        final int b2 = readByte() & 0xFF;
+        final int b3 = readByte() & 0xFF;
+        return (b3 << 24) | (b2 << 16) | (b1 << 8) | b0;
+    }
+
+    /**
+     * Reads a little-endian long at the specified position.
+     *
+     * @param pos position of the file
+     * @throws EOFException If this is beyond the end of the file
+     * @throws IOException  in case of I/O error
+     * @see #readByte(long)
+     */
+    default long readLong(long pos) throws IOException {
+        final long low = readInt(pos) & 0xFFFFFFFFL;
+        final long high = readInt(pos + Integer.BYTES) & 0xFFFFFFFFL;
+        return (high << 32) | low;
+    }
+
+    /**
+     * Reads bytes at the specified position into the ByteBuffer, up to {@code dst.remaining()} bytes.
+     *
+     * @param pos position of the file
+     * @param dst the buffer to read bytes into
+     * @return the total number of bytes read into the buffer, or -1 if the position is at the end of the file.
+     * @throws IOException in case of I/O error
+     * @see #readByte(long)
+     */
+    default int readBytes(long pos, ByteBuffer dst) throws IOException {
+        seek(pos);
+        final byte[] bytes = new byte[dst.remaining()];
+        final int len = readBytes(bytes);
+        if (len > 0) {
+            dst.put(bytes, 0, len);
+        }
+        return len;
+    }
+
+    /**
+     * Reads length bytes at the specified position.
+     * the returned DataBuffer may be a view of the file instead of a copy,
+     * so it must be consumed while the file is open.
+     *
+     * @param pos    position of the file
+     * @param length number of bytes
+     * @return DataBuffer of the bytes
+     * @throws EOFException If this is beyond the end of the file
+     * @throws IOException  in case of I/O error
+     */
+    default DataBuffer readDataBuffer(long pos, int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        if (length > 0 && readBytes(pos, ByteBuffer.wrap(bytes)) != length) {
+            throw new EOFException("read past EOF (pos=" + pos + ", length=" + length + "): " + this);
+        }
+        return new ByteDataBuffer(bytes);
+    }
 
 }
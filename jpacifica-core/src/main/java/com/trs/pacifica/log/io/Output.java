@@ -17,8 +17,11 @@
 
 package com.trs.pacifica.log.io;
 
+import com.trs.pacifica.util.io.DataBuffer;
+
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public interface Output extends Closeable {
 
@@ -33,4 +36,41 @@ public interface Output extends Closeable {
         writeBytes(index, bytes, 0, bytes.length);
     }
 
+    /**
+     * write all remaining bytes of src at the index, the position of src is moved to its limit.
+     *
+     * @param index position of the file
+     * @param src   bytes to write
+     * @throws IOException
+     */
+    default void writeBytes(final int index, final ByteBuffer src) throws IOException {
+        final int length = src.remaining();
+        if (src.hasArray()) {
+            writeBytes(index, src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+        } else {
+            final byte[] bytes = new byte[length];
+            src.get(bytes);
+            writeBytes(index, bytes, 0, length);
+        }
+    }
+
+    /**
+     * write all remaining bytes of src at the index, the position of src is moved to its limit.
+     *
+     * @param index position of the file
+     * @param src   bytes to write
+     * @throws IOException
+     */
+    default void writeBytes(final int index, final DataBuffer src) throws IOException {
+        final byte[] buffer = new byte[Math.min(1024, src.remaining())];
+        int position = index;
+        while (src.hasRemaining()) {
+            final int len = Math.min(buffer.length, src.remaining());
+            src.get(buffer, 0, len);
+            writeBytes(position, buffer, 0, len);
+            position += len;
+        }
+    }
+
 }
@@ -38,11 +38,18 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public abstract class AbstractStore implements Closeable {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractStore.class);
 
+    private static final AbstractFile[] EMPTY_FILES = new AbstractFile[0];
+
     /**
      * Used to name new file.
      */
     private final AtomicLong nextFileSequence = new AtomicLong(0);
     private final Deque<AbstractFile> files = new ArrayDeque<>();
+    /**
+     * copy of {@link #files} ordered by start offset, it is replaced under the write lock when the files change,
+     * so that lookups are lock-free and do not allocate.
+     */
+    private volatile AbstractFile[] fileSnapshot = EMPTY_FILES;
     protected final ReadWriteLock lock = new ReentrantReadWriteLock();
     protected final Lock readLock = lock.readLock();
     protected final Lock writeLock = lock.writeLock();
@@ -50,12 +57,23 @@ public abstract class AbstractStore implements Closeable {
     protected final int fileSize;
     protected final AtomicLong flushedPosition = new AtomicLong(0);
 
+    /**
+     * number of the files preallocated in the background, 0 if disabled.
+     */
+    protected final int preallocateFileNum;
+    private FilePreallocator filePreallocator = null;
+
     protected volatile boolean closed = true;
 
 
     protected AbstractStore(Path dir, int fileSize) throws IOException {
+        this(dir, fileSize, 0);
+    }
+
+    protected AbstractStore(Path dir, int fileSize, int preallocateFileNum) throws IOException {
         this.directory = FsDirectory.open(dir);
         this.fileSize = fileSize;
+        this.preallocateFileNum = preallocateFileNum;
     }
 
     public void ensureOpen() throws AlreadyClosedException {
@@ -74,6 +92,10 @@ public abstract class AbstractStore implements Closeable {
                     final AbstractFile lastFile = this.files.peekLast();
                     this.setFlushedPosition(lastFile.getStartOffset() + lastFile.getFlushedPosition());
                 }
+                if (this.preallocateFileNum > 0) {
+                    this.filePreallocator = new FilePreallocator(this.directory, this.fileSize, this.preallocateFileNum, getFileSuffix(), isZeroFillPreallocatedFile());
+                    this.filePreallocator.start();
+                }
                 this.closed = false;
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("success to load. after={}", this);
@@ -122,6 +144,7 @@ public abstract class AbstractStore implements Closeable {
             prevFile = file;
             this.files.add(file);
         }
+        updateFileSnapshot();
     }
 
 
@@ -146,7 +169,12 @@ public abstract class AbstractStore implements Closeable {
         try {
             this.closed = true;
             this.files.clear();
+            updateFileSnapshot();
             this.setFlushedPosition(0);
+            if (this.filePreallocator != null) {
+                this.filePreallocator.close();
+                this.filePreallocator = null;
+            }
             IOUtils.close(this.directory);
         } finally {
             this.writeLock.unlock();
@@ -189,8 +217,22 @@ public abstract class AbstractStore implements Closeable {
      */
     protected abstract String getFileSuffix();
 
+    /**
+     * whether the preallocated files are zero-filled, or left sparse
+     *
+     * @return true by default
+     */
+    protected boolean isZeroFillPreallocatedFile() {
+        return true;
+    }
+
     protected AbstractFile doAllocateFile(final String filename) throws IOException {
-        this.directory.createFile(filename, this.fileSize);
+        if (this.filePreallocator == null || !this.filePreallocator.allocate(filename)) {
+            this.directory.createFile(filename, this.fileSize);
+        }
+        // make the new name durable before the file accepts log entries,
+        // otherwise it may come back under the preallocated name after a crash.
+        this.directory.syncMetaData();
         final AbstractFile abstractFile = newAbstractFile(filename);
         abstractFile.setStartOffset(calculateFileStartOffset());
         abstractFile.rest();
@@ -220,27 +262,26 @@ public abstract class AbstractStore implements Closeable {
      */
     public AbstractFile getNextFile(final AbstractFile currentFile) {
         ensureOpen();
-        this.readLock.lock();
-        try {
-            if (this.files.isEmpty()) {
-                return null;
-            }
-            if (currentFile == null) {
-                return this.files.peekFirst();
-            }
-            AbstractFile[] fileArray = new AbstractFile[this.files.size()];
-            this.files.toArray(fileArray);
-            int index = Arrays.binarySearch(fileArray, currentFile, new Comparator<AbstractFile>() {
-                @Override
-                public int compare(AbstractFile left, AbstractFile right) {
-                    return (int) (getFileSequenceFromFile(left) - getFileSequenceFromFile(right));
-                }
-            });
-            if (index >= 0 && ++index < fileArray.length) {
-                return fileArray[index];
+        final AbstractFile[] fileArray = this.fileSnapshot;
+        if (fileArray.length == 0) {
+            return null;
+        }
+        if (currentFile == null) {
+            return fileArray[0];
+        }
+        // the files are contiguous, ordered by start offset
+        final long startOffset = currentFile.getStartOffset();
+        int lo = 0, hi = fileArray.length - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final long midStartOffset = fileArray[mid].getStartOffset();
+            if (midStartOffset < startOffset) {
+                lo = mid + 1;
+            } else if (midStartOffset > startOffset) {
+                hi = mid - 1;
+            } else {
+                return mid + 1 < fileArray.length ? fileArray[mid + 1] : null;
             }
-        } finally {
-            this.readLock.unlock();
         }
         return null;
     }
@@ -276,6 +317,7 @@ public abstract class AbstractStore implements Closeable {
                 // do allocate file
                 lastFile = allocateNextFile();
                 this.files.offer(lastFile);
+                updateFileSnapshot();
             } finally {
                 this.writeLock.unlock();
             }
@@ -295,43 +337,38 @@ public abstract class AbstractStore implements Closeable {
         if (logIndex <= 0) {
             return null;
         }
-        this.readLock.lock();
-        try {
-            if (this.files.isEmpty()) {
-                return null;
-            }
-            if (this.files.size() == 1) {
-                return this.files.peekFirst();
+        final AbstractFile[] fileArray = this.fileSnapshot;
+        if (fileArray.length == 0) {
+            return null;
+        }
+        if (fileArray.length == 1) {
+            return fileArray[0];
+        }
+        int lo = 0, hi = fileArray.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            AbstractFile file = fileArray[mid];
+            while (!file.isAvailable() && mid > lo) {
+                mid--;
+                file = fileArray[mid];
             }
-            AbstractFile[] fileArray = new AbstractFile[this.files.size()];
-            this.files.toArray(fileArray);
-            int lo = 0, hi = fileArray.length - 1;
-            while (lo <= hi) {
-                int mid = (lo + hi) >>> 1;
-                AbstractFile file = fileArray[mid];
-                while (!file.isAvailable() && mid > lo) {
-                    mid--;
-                    file = fileArray[mid];
-                }
-                if (file.getLastLogIndex() < logIndex) {
-                    lo = mid + 1;
-                } else if (file.getFirstLogIndex() > logIndex) {
-                    hi = mid - 1;
-                } else {
-                    return file;
-                }
+            if (file.getLastLogIndex() < logIndex) {
+                lo = mid + 1;
+            } else if (file.getFirstLogIndex() > logIndex) {
+                hi = mid - 1;
+            } else {
+                return file;
             }
-        } finally {
-            this.readLock.unlock();
         }
         return null;
     }
 
     public List<AbstractFile> sliceFile(final AbstractFile startFile) {
         if (startFile != null) {
-            List<AbstractFile> slice = new ArrayList<>(this.files.size());
+            final AbstractFile[] fileArray = this.fileSnapshot;
+            List<AbstractFile> slice = new ArrayList<>(fileArray.length);
             boolean find = false;
-            for (AbstractFile file : this.files) {
+            for (AbstractFile file : fileArray) {
                 if (find || startFile == file) {
                     slice.add(file);
                     find = true;
@@ -344,20 +381,15 @@ public abstract class AbstractStore implements Closeable {
 
 
     /**
-     * get first log index
+     * get first log index, it is read from the snapshot of the files without the lock.
      *
      * @return -1L if nothing
      */
     public long getFirstLogIndex() {
         ensureOpen();
-        this.readLock.lock();
-        try {
-            final AbstractFile firstFile = peekFirstAvailableFile();
-            if (firstFile != null) {
-                return firstFile.getFirstLogIndex();
-            }
-        } finally {
-            this.readLock.unlock();
+        final AbstractFile firstFile = peekFirstAvailableFile();
+        if (firstFile != null) {
+            return firstFile.getFirstLogIndex();
         }
         return -1L;
     }
@@ -367,32 +399,15 @@ public abstract class AbstractStore implements Closeable {
      */
     public int getFirstLogPosition() {
         ensureOpen();
-        this.readLock.lock();
-        try {
-            final AbstractFile firstFile = peekFirstAvailableFile();
-            if (firstFile != null) {
-                return firstFile.getFirstLogPosition();
-            }
-        } finally {
-            this.readLock.unlock();
+        final AbstractFile firstFile = peekFirstAvailableFile();
+        if (firstFile != null) {
+            return firstFile.getFirstLogPosition();
         }
         return -1;
     }
 
     private AbstractFile peekFirstAvailableFile() {
-        for (AbstractFile file : this.files) {
-            if (file.isAvailable()) {
-                return file;
-            }
-        }
-        return null;
-    }
-
-    private AbstractFile peekLastAvailableFile() {
-        AbstractFile[] foreachFiles = new AbstractFile[this.files.size()];
-        this.files.toArray(foreachFiles);
-        for (int i = foreachFiles.length - 1; i >= 0; i--) {
-            AbstractFile file = foreachFiles[i];
+        for (AbstractFile file : this.fileSnapshot) {
             if (file.isAvailable()) {
                 return file;
             }
@@ -401,20 +416,22 @@ public abstract class AbstractStore implements Closeable {
     }
 
     /**
-     * get last log index
+     * get last log index, it is read from the snapshot of the files without the lock.
      *
      * @return -1L if nothing
      */
     public long getLastLogIndex() {
         ensureOpen();
-        this.readLock.lock();
-        try {
-            final AbstractFile lastFile = peekLastAvailableFile();
-            if (lastFile != null) {
-                return lastFile.getLastLogIndex();
+        final AbstractFile[] foreachFiles = this.fileSnapshot;
+        for (int i = foreachFiles.length - 1; i >= 0; i--) {
+            final AbstractFile file = foreachFiles[i];
+            if (file.isAvailable()) {
+                final long lastLogIndex = file.getLastLogIndex();
+                // skip the file which is available but the first append to it is not finished
+                if (lastLogIndex != AbstractFile.NO_LAST_LOG_INDEX) {
+                    return lastLogIndex;
+                }
             }
-        } finally {
-            this.readLock.unlock();
         }
         return -1L;
     }
@@ -465,8 +482,7 @@ public abstract class AbstractStore implements Closeable {
             if (this.getLastLogIndex() <= lastIndexKept) {
                 return true;
             }
-            final AbstractFile[] files = new AbstractFile[this.files.size()];
-            this.files.toArray(files);
+            final AbstractFile[] files = this.fileSnapshot;
             for (int i = files.length - 1; i >= 0; i--) {
                 final AbstractFile tailFile = files[i];
                 if (tailFile.isAvailable() && tailFile.getLastLogIndex() <= lastIndexKept) {
@@ -499,6 +515,7 @@ public abstract class AbstractStore implements Closeable {
             //Files are deleted from front to back, plz
             assert file == this.files.peekFirst();
             if (this.files.remove(file)) {
+                updateFileSnapshot();
                 this.directory.deleteFile(file.getFilename());
                 return true;
             }
@@ -511,11 +528,10 @@ public abstract class AbstractStore implements Closeable {
     public void flush() throws IOException {
         this.writeLock.lock();
         try {
-            if (this.files.isEmpty()) {
+            final AbstractFile[] fileArray = this.fileSnapshot;
+            if (fileArray.length == 0) {
                 return;
             }
-            final AbstractFile[] fileArray = new AbstractFile[this.files.size()];
-            this.files.toArray(fileArray);
             final long flushedPosition = this.getFlushedPosition();
             int i = fileArray.length - 1;
             for (; i >= 0; i--) {
@@ -588,6 +604,7 @@ public abstract class AbstractStore implements Closeable {
             while ((file = this.files.poll()) != null) {
                 this.directory.deleteFile(file.getFilename());
             }
+            updateFileSnapshot();
             this.flushedPosition.set(0);
             this.nextFileSequence.set(0);
         } finally {
@@ -603,11 +620,19 @@ public abstract class AbstractStore implements Closeable {
         infoBuilder.append(",").append("file_count=").append(this.files.size());
         infoBuilder.append(",").append("file_size=").append(this.fileSize);
         infoBuilder.append(",").append("next_file_sequence=").append(this.nextFileSequence.get());
+        infoBuilder.append(",").append("preallocate_file_num=").append(this.preallocateFileNum);
         infoBuilder.append(",").append("closed=").append(this.closed);
         infoBuilder.append("}");
         return infoBuilder.toString();
     }
 
+    /**
+     * must hold the write lock
+     */
+    private void updateFileSnapshot() {
+        this.fileSnapshot = this.files.isEmpty() ? EMPTY_FILES : this.files.toArray(EMPTY_FILES);
+    }
+
     static long calculateFileStartOffset(final AbstractFile prevFile) {
         if (prevFile == null) {
             return 0L;
@@ -0,0 +1,292 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log.store;
+
+import com.trs.pacifica.log.dir.Directory;
+import com.trs.pacifica.log.io.InOutput;
+import com.trs.pacifica.log.store.file.FileHeader;
+import com.trs.pacifica.util.NamedThreadFactory;
+import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.SystemPropertyUtil;
+import com.trs.pacifica.util.thread.ThreadPoolUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * keeps some zero-filled files ready in the background,
+ * so that the append path only renames one of them when the last file is full,
+ * instead of creating and zero-filling a new file.
+ * The file is written through the Directory, if it is {@link com.trs.pacifica.log.dir.MMapDirectory},
+ * the mapping is cached by it and moved to the new name on rename, so the store does not map the file again.
+ * The preallocated files are named "{sequence}{suffix}.pre", they are not loaded as files of the store.
+ */
+public class FilePreallocator implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilePreallocator.class);
+
+    static final String PREALLOCATED_FILE_SUFFIX = ".pre";
+
+    static final int ZERO_FILL_BYTES = 64 * 1024;
+
+    public static final int PREALLOCATE_THREAD_NUM = SystemPropertyUtil.getInt("pacifica.log.preallocate.thread.num", 1);
+
+    private final Directory directory;
+    private final int fileSize;
+    private final int preallocateFileNum;
+    private final String fileSuffix;
+    private final boolean zeroFill;
+    private final Executor executor;
+    private final AtomicLong nextSequence = new AtomicLong(0);
+    private final Deque<String> readyFiles = new ArrayDeque<>();
+    /**
+     * number of the submitted preallocations
+     */
+    private int allocatingNum = 0;
+    /**
+     * number of the preallocations writing the directory, close waits for them, because the directory may be unmapped after close.
+     */
+    private int runningNum = 0;
+    private boolean closed = true;
+
+    /**
+     * @param directory          directory of the store
+     * @param fileSize           byte size of the files
+     * @param preallocateFileNum number of the files kept ready
+     * @param fileSuffix         suffix of the files of the store
+     */
+    public FilePreallocator(Directory directory, int fileSize, int preallocateFileNum, String fileSuffix) {
+        this(directory, fileSize, preallocateFileNum, fileSuffix, true);
+    }
+
+    /**
+     * @param directory          directory of the store
+     * @param fileSize           byte size of the files
+     * @param preallocateFileNum number of the files kept ready
+     * @param fileSuffix         suffix of the files of the store
+     * @param zeroFill           false if the files are left sparse, they are only created
+     */
+    public FilePreallocator(Directory directory, int fileSize, int preallocateFileNum, String fileSuffix, boolean zeroFill) {
+        this(directory, fileSize, preallocateFileNum, fileSuffix, zeroFill, ExecutorHolder.EXECUTOR);
+    }
+
+    FilePreallocator(Directory directory, int fileSize, int preallocateFileNum, String fileSuffix, Executor executor) {
+        this(directory, fileSize, preallocateFileNum, fileSuffix, true, executor);
+    }
+
+    FilePreallocator(Directory directory, int fileSize, int preallocateFileNum, String fileSuffix, boolean zeroFill, Executor executor) {
+        this.directory = directory;
+        this.fileSize = fileSize;
+        this.preallocateFileNum = preallocateFileNum;
+        this.fileSuffix = fileSuffix + PREALLOCATED_FILE_SUFFIX;
+        this.zeroFill = zeroFill;
+        this.executor = executor;
+    }
+
+    /**
+     * reuse the preallocated files left by the last run, and start to preallocate.
+     * A leftover file of the wrong size is an unfinished preallocation, it is deleted.
+     * A leftover file that is not blank may hold log entries, it is kept as it is and never reused.
+     *
+     * @throws IOException io error
+     */
+    public void start() throws IOException {
+        final List<String> reusableFiles = new ArrayList<>();
+        long nextSequence = 0;
+        for (String filename : this.directory.listAll()) {
+            if (!isPreallocatedFile(filename)) {
+                continue;
+            }
+            nextSequence = Math.max(nextSequence, getSequenceFromFilename(filename) + 1);
+            if (this.directory.fileLength(filename) != this.fileSize) {
+                this.directory.deleteFile(filename);
+            } else if (isBlankFile(filename)) {
+                reusableFiles.add(filename);
+            } else {
+                LOGGER.error("{} found preallocated file={} that is not blank, it is kept and not reused.", this.directory, filename);
+            }
+        }
+        synchronized (this) {
+            this.nextSequence.set(Math.max(this.nextSequence.get(), nextSequence));
+            this.readyFiles.addAll(reusableFiles);
+            this.closed = false;
+            fill();
+        }
+    }
+
+    /**
+     * rename a preallocated file to the filename.
+     * the caller must sync the metadata of the directory before writing to the file.
+     *
+     * @param filename name of the new file of the store
+     * @return false if there is no preallocated file ready, the caller should create the file itself.
+     * @throws IOException io error
+     */
+    public boolean allocate(final String filename) throws IOException {
+        final String preallocatedFilename;
+        synchronized (this) {
+            preallocatedFilename = this.readyFiles.pollFirst();
+            fill();
+        }
+        if (preallocatedFilename == null) {
+            return false;
+        }
+        this.directory.rename(preallocatedFilename, filename);
+        return true;
+    }
+
+    /**
+     * stop to preallocate, wait for the running preallocation and delete the ready files.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            this.closed = true;
+            while (this.runningNum > 0) {
+                try {
+                    this.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            String filename;
+            while ((filename = this.readyFiles.pollFirst()) != null) {
+                deleteQuietly(filename);
+            }
+        }
+    }
+
+    @OnlyForTest
+    synchronized int getReadyFileNum() {
+        return this.readyFiles.size();
+    }
+
+    boolean isPreallocatedFile(final String filename) {
+        return filename.endsWith(this.fileSuffix);
+    }
+
+    private long getSequenceFromFilename(final String filename) {
+        try {
+            return Long.parseLong(filename.substring(0, filename.length() - this.fileSuffix.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private boolean isBlankFile(final String filename) throws IOException {
+        final byte[] header = new byte[Math.min(FileHeader.getBytesSize(), this.fileSize)];
+        try (final InOutput input = this.directory.openInOutput(filename)) {
+            input.seek(0);
+            input.readBytes(header);
+        }
+        for (byte b : header) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * must hold the lock of this
+     */
+    private void fill() {
+        while (!this.closed && this.readyFiles.size() + this.allocatingNum < this.preallocateFileNum) {
+            this.allocatingNum++;
+            try {
+                this.executor.execute(this::preallocate);
+            } catch (Throwable e) {
+                this.allocatingNum--;
+                LOGGER.warn("{} failed to submit the preallocation of file.", this.directory, e);
+                break;
+            }
+        }
+    }
+
+    private void preallocate() {
+        synchronized (this) {
+            if (this.closed) {
+                this.allocatingNum--;
+                return;
+            }
+            this.runningNum++;
+        }
+        final String filename = String.format("%019d", this.nextSequence.getAndIncrement()) + this.fileSuffix;
+        boolean success = false;
+        try {
+            this.directory.createFile(filename, this.fileSize);
+            // write zeros through the Directory, so the blocks of the file are allocated.
+            // closing the clone of MMapDirectory does not unmap the file
+            try (final InOutput output = this.directory.openInOutput(filename)) {
+                if (this.zeroFill) {
+                    final byte[] zeros = new byte[Math.min(ZERO_FILL_BYTES, this.fileSize)];
+                    for (int position = 0; position < this.fileSize; position += zeros.length) {
+                        output.writeBytes(position, zeros, 0, Math.min(zeros.length, this.fileSize - position));
+                    }
+                }
+            }
+            this.directory.sync(filename);
+            success = true;
+        } catch (Throwable e) {
+            LOGGER.warn("{} failed to preallocate file={}.", this.directory, filename, e);
+        }
+        synchronized (this) {
+            this.allocatingNum--;
+            this.runningNum--;
+            if (success && !this.closed) {
+                this.readyFiles.addLast(filename);
+            } else {
+                deleteQuietly(filename);
+            }
+            this.notifyAll();
+        }
+    }
+
+    private void deleteQuietly(final String filename) {
+        try {
+            this.directory.deleteFile(filename);
+        } catch (Throwable e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{} failed to delete preallocated file={}.", this.directory, filename, e);
+            }
+        }
+    }
+
+    static class ExecutorHolder {
+
+        static final Executor EXECUTOR = ThreadPoolUtil.newBuilder()//
+                .poolName("pacifica-file-preallocator")//
+                .enableMetric(true)//
+                .coreThreads(PREALLOCATE_THREAD_NUM)//
+                .maximumThreads(PREALLOCATE_THREAD_NUM)//
+                .keepAliveSeconds(60L)//
+                .workQueue(new LinkedBlockingQueue<>())//
+                .threadFactory(new NamedThreadFactory("pacifica-file-preallocator-", true))//
+                .build();
+    }
+}
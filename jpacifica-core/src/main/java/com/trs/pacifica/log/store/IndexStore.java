@@ -32,12 +32,19 @@ public class IndexStore extends AbstractStore {
     static final String _FILE_SUFFIX = ".i";
 
     public static final String _DEFAULT_INDEX_DIR_NAME = "_log_index";
-    public static final int _DEFAULT_INDEX_ENTRY_COUNT_PER_FILE = 1000;
+    /**
+     * 1M entries, about 16MB per file. the files are sparse, only the written pages take disk blocks.
+     */
+    public static final int _DEFAULT_INDEX_ENTRY_COUNT_PER_FILE = 1 << 20;
 
     public IndexStore(Path dir, int indexEntryCountPerFile) throws IOException {
         super(dir, getFileSize(indexEntryCountPerFile));
     }
 
+    public IndexStore(Path dir, int indexEntryCountPerFile, int preallocateFileNum) throws IOException {
+        super(dir, getFileSize(indexEntryCountPerFile), preallocateFileNum);
+    }
+
     public IndexStore(Path dir) throws IOException {
         this(dir, _DEFAULT_INDEX_ENTRY_COUNT_PER_FILE);
     }
@@ -47,6 +54,12 @@ public class IndexStore extends AbstractStore {
         return _FILE_SUFFIX;
     }
 
+    @Override
+    protected boolean isZeroFillPreallocatedFile() {
+        // keep the large index files sparse
+        return false;
+    }
+
     /**
      * build an index for LogEntry, so that it is easy to read the log bytes through logIndex.
      *
@@ -99,11 +112,7 @@ public class IndexStore extends AbstractStore {
         final IndexFile indexFile = (IndexFile) this.lookupFile(logIndex);
         if (indexFile != null) {
             try {
-                final IndexEntry indexEntry = indexFile.lookupIndexEntry(logIndex);
-                if (indexEntry == null) {
-                    return AbstractFile._NOT_FOUND;
-                }
-                return indexEntry.getPosition();
+                return indexFile.lookupPosition(logIndex);
             } catch (IOException e){
                 throw new RuntimeException(e);
             }
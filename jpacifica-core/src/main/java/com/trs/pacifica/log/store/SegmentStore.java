@@ -46,6 +46,10 @@ public class SegmentStore extends AbstractStore {
         super(dir, fileSize);
     }
 
+    public SegmentStore(Path dir, int fileSize, int preallocateFileNum) throws IOException {
+        super(dir, fileSize, preallocateFileNum);
+    }
+
     public SegmentStore(Path dir) throws IOException {
         this(dir, _DEFAULT_SEGMENT_FILE_SIZE);
     }
@@ -105,6 +109,32 @@ public class SegmentStore extends AbstractStore {
 
 
     /**
+     * lookup and decode the LogEntry under the read lock,
+     * so that the segment files are not closed while the mapped bytes are being decoded.
+     *
+     * @param logEntryDecoder decoder of LogEntry, it must not keep the view of the bytes
+     * @param logIndex        index of log entry
+     * @param logPosition     position in segment file of log entry
+     * @return null if not found
+     * @throws IOException io error
+     */
+    public LogEntry lookupLogEntry(final LogEntryDecoder logEntryDecoder, final long logIndex, final int logPosition) throws IOException {
+        this.readLock.lock();
+        try {
+            final DataBuffer logEntryData = lookupLogEntry(logIndex, logPosition);
+            if (logEntryData == null) {
+                return null;
+            }
+            return logEntryDecoder.decode(logEntryData);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * the returned DataBuffer is a view of the mapped segment files,
+     * it is valid only while the files are not closed, the caller should hold the read lock before reading it.
+     *
      * @param logIndex    index of log entry
      * @param logPosition position in segment file of log entry
      * @return null if not found
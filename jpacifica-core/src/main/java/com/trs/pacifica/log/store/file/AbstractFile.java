@@ -18,13 +18,12 @@
 package com.trs.pacifica.log.store.file;
 
 import com.trs.pacifica.log.dir.Directory;
+import com.trs.pacifica.log.io.InOutput;
 import com.trs.pacifica.log.io.Input;
-import com.trs.pacifica.log.io.Output;
 import com.trs.pacifica.util.ObjectsUtil;
 import com.trs.pacifica.util.io.ByteDataBuffer;
 import com.trs.pacifica.util.io.DataBuffer;
 import com.trs.pacifica.util.io.EmptyDataBuffer;
-import com.trs.pacifica.util.io.LinkedDataBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,8 +31,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -53,7 +51,6 @@ public abstract class AbstractFile implements Closeable {
     public static final long NO_LAST_LOG_INDEX = -1L;
     public static int _NOT_FOUND = Integer.MIN_VALUE;
 
-    static int WRITE_BYTE_BUFFER_SIZE = 1024;
     protected static final byte _FILE_END_BYTE = 'x';
     protected static final int BLANK_HOLE_SIZE = 64;
     protected final FileHeader header = new FileHeader();
@@ -67,13 +64,22 @@ public abstract class AbstractFile implements Closeable {
     protected final Directory parentDir;
     protected final String filename;
     protected final int fileSize;
-    protected long lastLogIndex = NO_LAST_LOG_INDEX;
+    /**
+     * opened for the lifetime of the file, it is shared by the appends and the lookups,
+     * so only the positional methods are used. sequential scans such as recover open their own.
+     */
+    protected final InOutput inOutput;
+    /**
+     * volatile, it is read by the lock-free lookups of the store.
+     */
+    protected volatile long lastLogIndex = NO_LAST_LOG_INDEX;
 
 
     public AbstractFile(final Directory parentDir, final String filename) throws IOException {
         this.parentDir = parentDir;
         this.filename = filename;
         this.fileSize = parentDir.fileLength(filename);
+        this.inOutput = parentDir.openInOutput(filename);
         this.setWrotePosition(fileSize);
         this.setFlushedPosition(fileSize);
     }
@@ -269,19 +275,11 @@ public abstract class AbstractFile implements Closeable {
         if (!data.hasRemaining()) {
             return 0;
         }
-
-        int writeByteSize = 0;
-        final byte[] buffer = new byte[WRITE_BYTE_BUFFER_SIZE];
-        try (final Output output = this.parentDir.openInOutput(this.filename);) {
-            int freeByteSize = this.fileSize - index;
-            while (data.hasRemaining() && freeByteSize > 0) {
-                int readLen = Math.min(buffer.length, data.limit() - data.position());
-                data.get(buffer, 0, readLen);
-                output.writeBytes(index + writeByteSize, buffer, 0, readLen);
-                writeByteSize += readLen;
-                freeByteSize -= readLen;
-            }
+        final int writeByteSize = Math.min(data.remaining(), this.fileSize - index);
+        if (writeByteSize < data.remaining()) {
+            data.limit(data.position() + writeByteSize);
         }
+        this.inOutput.writeBytes(index, data);
         return writeByteSize;
     }
 
@@ -321,13 +319,11 @@ public abstract class AbstractFile implements Closeable {
         if (len == 0) {
             return 0;
         }
-        if (position > this.flushedPosition.get()) {
+        // the bytes written through the mapping are visible once the wrote position is published, flush is only for durability
+        if (position >= this.wrotePosition.get()) {
             return -1;
         }
-        try (Input input = this.parentDir.openInOutput(this.filename)) {
-            input.seek(position);
-            return input.readBytes(bytes);
-        }
+        return this.inOutput.readBytes(position, ByteBuffer.wrap(bytes, 0, len));
     }
 
     /**
@@ -337,9 +333,9 @@ public abstract class AbstractFile implements Closeable {
      * @throws IOException
      */
     DataBuffer readDataBuffer(final int position, final int len) throws IOException {
-        final int currentFlushPosition = this.flushedPosition.get();
-        if (position > currentFlushPosition) {
-            throw new IndexOutOfBoundsException(String.format("position(%d) greater than current_flush_position(%d).", position, currentFlushPosition));
+        final int currentWrotePosition = this.wrotePosition.get();
+        if (position + len > currentWrotePosition) {
+            throw new IndexOutOfBoundsException(String.format("position(%d)+len(%d) greater than current_wrote_position(%d).", position, len, currentWrotePosition));
         }
         if (position + len > this.fileSize) {
             throw new IndexOutOfBoundsException(String.format("position(%d)+len(%d) greater than file_size(%d)", position, len, fileSize));
@@ -347,19 +343,7 @@ public abstract class AbstractFile implements Closeable {
         if (len <= 0) {
             return new EmptyDataBuffer();
         }
-        List<DataBuffer> dataBufferList = new ArrayList<>();
-        try (Input input = this.parentDir.openInOutput(this.filename)) {
-            input.seek(position);
-            int readRemaining = len;
-            while (readRemaining > 0) {
-                int blockSize = Math.min(readRemaining, 1024);
-                final byte[] bytes = new byte[blockSize];
-                input.readBytes(bytes);
-                readRemaining -= blockSize;
-                dataBufferList.add(new ByteDataBuffer(bytes));
-            }
-        }
-        return new LinkedDataBuffer(dataBufferList);
+        return this.inOutput.readDataBuffer(position, len);
     }
 
     /**
@@ -536,6 +520,7 @@ public abstract class AbstractFile implements Closeable {
     @Override
     public void close() throws IOException {
         flush();
+        this.inOutput.close();
     }
 
     /**
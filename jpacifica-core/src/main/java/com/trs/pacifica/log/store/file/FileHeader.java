@@ -50,19 +50,19 @@ public class FileHeader {
      */
     private static final byte TAG_CONSECUTIVE = 1 << 1;
     private byte magic = _MAGIC;
-    private byte tag = TAG_BLANK;
+    private volatile byte tag = TAG_BLANK;
 
     private short version = CURRENT_VERSION;
 
     /**
      * the index of first log in the file
      */
-    private long firstLogIndex = -1L;
+    private volatile long firstLogIndex = -1L;
 
     /**
      * the position of first log in the file
      */
-    private int firstLogPosition = -1;
+    private volatile int firstLogPosition = -1;
 
     /**
      * the start offset of the file in the dir
@@ -68,6 +68,8 @@ public class IndexEntry {
 
         static final byte HEADER_VERSION = 0x01;
 
+        static final byte HEADER_VERSION_V2 = 0x02;
+
         private final byte magic;
 
         private final byte version;
@@ -23,15 +23,69 @@ import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.util.io.ByteDataBuffer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import static com.trs.pacifica.log.store.file.IndexEntry.*;
 
+/**
+ * IndexFile is directly indexed: the entry of log index i is at
+ * header_size + (i - first_log_index) * entry_size, so a lookup is one positional read on the mapped file.
+ * <p>
+ * entry layout of version 2, 16 bytes, little-endian as the mapped buffer:
+ * [magic(1)][version(1)][reserved(2)][position(4)][log_term(8)]
+ * the log index is implied by the slot and is not stored.
+ * <p>
+ * files written by the legacy version 1 ([magic(1)][version(1)][log_index(8)][log_term(8)][position(4)], 22 bytes, big-endian)
+ * are detected when opened and read in place, they are never rewritten and age out by truncating prefix.
+ */
 public class IndexFile extends AbstractFile {
 
-    static final int _INDEX_ENTRY_BYTE_SIZE = IndexEntryHeader.byteSize() + IndexEntry.byteSize();
+    static final int _INDEX_ENTRY_BYTE_SIZE = 16;
+
+    static final int _INDEX_ENTRY_BYTE_SIZE_V1 = IndexEntryHeader.byteSize() + IndexEntry.byteSize();
+
+    private static final int _POSITION_OFFSET = 4;
+    private static final int _TERM_OFFSET = 8;
+
+    private static final int _POSITION_OFFSET_V1 = IndexEntryHeader.byteSize() + Long.BYTES + Long.BYTES;
+    private static final int _TERM_OFFSET_V1 = IndexEntryHeader.byteSize() + Long.BYTES;
+
+    /**
+     * version of the entries in this file, all entries of a file have the same version.
+     */
+    private byte entryVersion;
+
+    private int entryByteSize;
 
     public IndexFile(Directory parentDir, String filename) throws IOException {
         super(parentDir, filename);
+        setEntryVersion(detectEntryVersion());
+    }
+
+    private byte detectEntryVersion() throws IOException {
+        final int firstEntryPosition = FileHeader.getBytesSize();
+        if (this.fileSize < firstEntryPosition + IndexEntryHeader.byteSize()) {
+            return IndexEntryHeader.HEADER_VERSION_V2;
+        }
+        final byte magic = this.inOutput.readByte(firstEntryPosition);
+        final byte version = this.inOutput.readByte(firstEntryPosition + 1);
+        if (magic == IndexEntryHeader.HEADER_MAGIC && version == IndexEntryHeader.HEADER_VERSION) {
+            return IndexEntryHeader.HEADER_VERSION;
+        }
+        return IndexEntryHeader.HEADER_VERSION_V2;
+    }
+
+    private void setEntryVersion(final byte entryVersion) {
+        this.entryVersion = entryVersion;
+        this.entryByteSize = isLegacy() ? _INDEX_ENTRY_BYTE_SIZE_V1 : _INDEX_ENTRY_BYTE_SIZE;
+    }
+
+    /**
+     * @return true if the file is written by the legacy version 1
+     */
+    public boolean isLegacy() {
+        return this.entryVersion == IndexEntryHeader.HEADER_VERSION;
     }
 
     @Override
@@ -40,13 +94,19 @@ public class IndexFile extends AbstractFile {
         if (isFileEnd(magic) || IndexEntryHeader.HEADER_MAGIC != magic) {
             return CheckEntryResult.fileEnd();
         }
-        return CheckEntryResult.success(1, _INDEX_ENTRY_BYTE_SIZE);
+        return CheckEntryResult.success(1, this.entryByteSize);
     }
 
     @Override
     protected int lookupStartPositionFromHead(long logIndex) {
         final long firstLogIndex = this.header.getFirstLogIndex();
-        return FileHeader.getBytesSize() + getWriteByteSize() * (int)(logIndex - firstLogIndex);
+        return FileHeader.getBytesSize() + this.entryByteSize * (int)(logIndex - firstLogIndex);
+    }
+
+    @Override
+    public void restFile() {
+        super.restFile();
+        setEntryVersion(IndexEntryHeader.HEADER_VERSION_V2);
     }
 
     /**
@@ -58,16 +118,34 @@ public class IndexFile extends AbstractFile {
      */
     public int appendIndexData(final LogId logId, final int logPosition) throws IOException {
         final long logIndex = logId.getIndex();
-        final byte[] appendData = new byte[_INDEX_ENTRY_BYTE_SIZE];
-        encodeIndexEntryHeader(appendData);
-        byte[] indexEntry = encodeIndexEntry(logId, logPosition);
-        System.arraycopy(indexEntry, 0, appendData, IndexEntryHeader.byteSize(), indexEntry.length);
+        final byte[] appendData = isLegacy() ? encodeIndexEntryV1(logId, logPosition) : encodeIndexEntry(logId, logPosition);
         int startWritePosition = this.getWrotePosition();
         int writeBytes = doAppendData(logIndex, new ByteDataBuffer(appendData));
         assert writeBytes == appendData.length;
         return startWritePosition;
     }
 
+    /**
+     * lookup position of the log in segment file, without decoding the entry.
+     *
+     * @param logIndex log index
+     * @return _NOT_FOUND if not found
+     * @throws IOException io error
+     */
+    public int lookupPosition(final long logIndex) throws IOException {
+        final long position = calculatingPosition(logIndex);
+        if (!isReadable(position)) {
+            return _NOT_FOUND;
+        }
+        if (this.inOutput.readByte(position) != IndexEntryHeader.HEADER_MAGIC) {
+            return _NOT_FOUND;
+        }
+        if (isLegacy()) {
+            return Integer.reverseBytes(this.inOutput.readInt(position + _POSITION_OFFSET_V1));
+        }
+        return this.inOutput.readInt(position + _POSITION_OFFSET);
+    }
+
     /**
      * lookup position of the log in segment file
      *
@@ -76,42 +154,51 @@ public class IndexFile extends AbstractFile {
      * @throws IOException io error
      */
     public IndexEntry lookupIndexEntry(final long logIndex) throws IOException {
-        //calculating position
-        int position = calculatingPosition(logIndex);
-        final long fileSize = this.getFileSize();
-        if (position < fileSize) {
-            //read bytes
-            final byte[] bytes = new byte[_INDEX_ENTRY_BYTE_SIZE];
-            final int len = this.readBytes(bytes, position);
-            if (len != -1) {
-                assert len == _INDEX_ENTRY_BYTE_SIZE;
-                final IndexEntryHeader indexEntryHeader = IndexEntryHeader.from(bytes);
-                if (!indexEntryHeader.isLegal()) {
-                    return null;
-                }
-                final IndexEntryCodec indexEntryCodec = INDEX_ENTRY_CODEC_FACTORY.getIndexEntryCodec(indexEntryHeader);
-                final byte[] indexEntryBytes = new byte[bytes.length - IndexEntryHeader.byteSize()];
-                System.arraycopy(bytes, IndexEntryHeader.byteSize(), indexEntryBytes, 0, indexEntryBytes.length);
-                return indexEntryCodec.decode(indexEntryBytes, IndexEntryHeader.byteSize());
-            }
+        final long position = calculatingPosition(logIndex);
+        if (!isReadable(position)) {
+            return null;
+        }
+        if (this.inOutput.readByte(position) != IndexEntryHeader.HEADER_MAGIC) {
+            return null;
         }
-        return null;
+        if (isLegacy()) {
+            final long logTerm = Long.reverseBytes(this.inOutput.readLong(position + _TERM_OFFSET_V1));
+            final int logPosition = Integer.reverseBytes(this.inOutput.readInt(position + _POSITION_OFFSET_V1));
+            return new IndexEntry(new LogId(logIndex, logTerm), logPosition);
+        }
+        final long logTerm = this.inOutput.readLong(position + _TERM_OFFSET);
+        final int logPosition = this.inOutput.readInt(position + _POSITION_OFFSET);
+        return new IndexEntry(new LogId(logIndex, logTerm), logPosition);
     }
 
-    private int calculatingPosition(final long logIndex) {
-        // header size + offset * size_per_entry
-        return FileHeader.getBytesSize() + toRelativeOffset(logIndex) * getWriteByteSize();
+    private boolean isReadable(final long position) {
+        return position >= FileHeader.getBytesSize()
+                && position + this.entryByteSize <= this.fileSize
+                && position + this.entryByteSize <= this.getWrotePosition();
     }
 
+    private long calculatingPosition(final long logIndex) {
+        // header size + offset * size_per_entry
+        return FileHeader.getBytesSize() + toRelativeOffset(logIndex) * this.entryByteSize;
+    }
 
-    private static void encodeIndexEntryHeader(final byte[] container) {
-        container[0] = IndexEntryHeader.HEADER_MAGIC;
-        container[1] = IndexEntryHeader.HEADER_VERSION;
+    private static byte[] encodeIndexEntry(final LogId logId, final int position) {
+        final byte[] bytes = new byte[_INDEX_ENTRY_BYTE_SIZE];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(0, IndexEntryHeader.HEADER_MAGIC);
+        buffer.put(1, IndexEntryHeader.HEADER_VERSION_V2);
+        buffer.putInt(_POSITION_OFFSET, position);
+        buffer.putLong(_TERM_OFFSET, logId.getTerm());
+        return bytes;
     }
 
-    private byte[] encodeIndexEntry(final LogId logId, final int position) {
-        final IndexEntry indexEntry = new IndexEntry(logId, position);
-        return INDEX_ENTRY_CODEC.encode(indexEntry);
+    private static byte[] encodeIndexEntryV1(final LogId logId, final int position) {
+        final byte[] appendData = new byte[_INDEX_ENTRY_BYTE_SIZE_V1];
+        appendData[0] = IndexEntryHeader.HEADER_MAGIC;
+        appendData[1] = IndexEntryHeader.HEADER_VERSION;
+        final byte[] indexEntry = INDEX_ENTRY_CODEC.encode(new IndexEntry(logId, position));
+        System.arraycopy(indexEntry, 0, appendData, IndexEntryHeader.byteSize(), indexEntry.length);
+        return appendData;
     }
 
     /**
@@ -119,14 +206,17 @@ public class IndexFile extends AbstractFile {
      * @param logIndex log index
      * @return relative log index vs first log index
      */
-    private int toRelativeOffset(final long logIndex) {
+    private long toRelativeOffset(final long logIndex) {
         if (this.header.isBlank()) {
             return 0;
         } else {
-            return (int) (logIndex - this.header.getFirstLogIndex());
+            return logIndex - this.header.getFirstLogIndex();
         }
     }
 
+    /**
+     * @return bytes of an entry written to a new IndexFile
+     */
     public static int getWriteByteSize() {
         return _INDEX_ENTRY_BYTE_SIZE;
     }
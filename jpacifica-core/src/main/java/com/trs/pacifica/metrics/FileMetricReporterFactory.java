@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.metrics;
+
+import com.codahale.metrics.CsvReporter;
+import com.codahale.metrics.MetricRegistry;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.spi.SPI;
+import com.trs.pacifica.util.NamedThreadFactory;
+import com.trs.pacifica.util.SystemPropertyUtil;
+import com.trs.pacifica.util.thread.ThreadPoolUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * write the metrics of the replica periodically to the csv files in the directory "{pacifica.metrics.file.dir}/{replica_id}",
+ * one file for each metric.
+ */
+@SPI(name = FileMetricReporterFactory.NAME)
+public class FileMetricReporterFactory implements MetricReporterFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileMetricReporterFactory.class);
+
+    public static final String NAME = "file";
+
+    public static final String DEFAULT_METRICS_DIR = SystemPropertyUtil.get("pacifica.metrics.file.dir", "metrics");
+
+    public static final long DEFAULT_REPORT_INTERVAL_MS = SystemPropertyUtil.getLong("pacifica.metrics.file.report.interval.ms", 60 * 1000L);
+
+    @Override
+    public MetricReporter newMetricReporter(ReplicaId replicaId, MetricRegistry metricRegistry) {
+        final File directory = new File(DEFAULT_METRICS_DIR, replicaId.toString());
+        final CsvReporter csvReporter = CsvReporter.forRegistry(metricRegistry)//
+                .formatFor(Locale.US)//
+                .convertRatesTo(TimeUnit.SECONDS)//
+                .convertDurationsTo(TimeUnit.MILLISECONDS)//
+                .scheduleOn(SchedulerHolder.SCHEDULER)//
+                .shutdownExecutorOnStop(false)//
+                .build(directory);
+        return new MetricReporter() {
+            @Override
+            public void start() {
+                if (!directory.isDirectory() && !directory.mkdirs()) {
+                    LOGGER.warn("{} failed to create the directory={} of metrics.", replicaId, directory);
+                    return;
+                }
+                csvReporter.start(DEFAULT_REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void close() {
+                csvReporter.close();
+            }
+        };
+    }
+
+    /**
+     * the reporters of all replicas share it, instead of a thread for each one.
+     */
+    static class SchedulerHolder {
+
+        static final ScheduledExecutorService SCHEDULER = ThreadPoolUtil.newScheduledBuilder()//
+                .poolName("pacifica-metrics-file-reporter")//
+                .enableMetric(false)//
+                .coreThreads(1)//
+                .threadFactory(new NamedThreadFactory("pacifica-metrics-file-reporter-", true))//
+                .build();
+    }
+
+}
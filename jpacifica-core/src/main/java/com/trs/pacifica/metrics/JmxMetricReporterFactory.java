@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.jmx.JmxReporter;
+import com.codahale.metrics.jmx.ObjectNameFactory;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.spi.SPI;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.util.Hashtable;
+
+/**
+ * register the metrics of the replica as MBeans named "pacifica:replica={replica_id},name={metric_name}".
+ */
+@SPI(name = JmxMetricReporterFactory.NAME)
+public class JmxMetricReporterFactory implements MetricReporterFactory {
+
+    public static final String NAME = "jmx";
+
+    public static final String DOMAIN = "pacifica";
+
+    @Override
+    public MetricReporter newMetricReporter(ReplicaId replicaId, MetricRegistry metricRegistry) {
+        final JmxReporter jmxReporter = JmxReporter.forRegistry(metricRegistry)//
+                .inDomain(DOMAIN)//
+                .createsObjectNamesWith(newObjectNameFactory(replicaId))//
+                .build();
+        return new MetricReporter() {
+            @Override
+            public void start() {
+                jmxReporter.start();
+            }
+
+            @Override
+            public void close() {
+                jmxReporter.close();
+            }
+        };
+    }
+
+    /**
+     * the replica id and the metric name are quoted, because the node id may contain ':'.
+     */
+    static ObjectNameFactory newObjectNameFactory(final ReplicaId replicaId) {
+        final String replica = ObjectName.quote(replicaId.toString());
+        return (type, domain, name) -> {
+            final Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("replica", replica);
+            properties.put("name", ObjectName.quote(name));
+            try {
+                return new ObjectName(domain, properties);
+            } catch (MalformedObjectNameException e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.metrics;
+
+import com.trs.pacifica.spi.JPacificaServiceLoader;
+import com.trs.pacifica.util.SystemPropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * the MetricReporterFactories enabled by "pacifica.metrics.reporters", names of them separated by comma, such as "jmx,file".
+ * No reporter is enabled by default, because each replica registers its own metrics to every reporter.
+ */
+public class MetricReporterFactoryHolder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricReporterFactoryHolder.class);
+
+    public static final String DEFAULT_METRIC_REPORTERS = SystemPropertyUtil.get("pacifica.metrics.reporters", "");
+
+    private static final List<MetricReporterFactory> METRIC_REPORTER_FACTORIES;
+
+    static {
+        final JPacificaServiceLoader<MetricReporterFactory> serviceLoader = JPacificaServiceLoader.load(MetricReporterFactory.class);
+        final List<MetricReporterFactory> factories = new ArrayList<>();
+        for (String name : DEFAULT_METRIC_REPORTERS.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                factories.add(serviceLoader.find(name));
+            } catch (Throwable e) {
+                LOGGER.warn("not found MetricReporterFactory of name={}, it is ignored.", name, e);
+            }
+        }
+        METRIC_REPORTER_FACTORIES = Collections.unmodifiableList(factories);
+        LOGGER.info("use MetricReporterFactories={}", METRIC_REPORTER_FACTORIES);
+    }
+
+    public static List<MetricReporterFactory> getInstances() {
+        return METRIC_REPORTER_FACTORIES;
+    }
+
+    private MetricReporterFactoryHolder() {
+
+    }
+}
@@ -38,6 +38,8 @@ public class ExecutorRpcHandler<Req, Rep> extends FilterRpcHandler<Req, Rep> {
 
     @Override
     public void handleRequest(RpcContext<Rep> rpcContext, Req request) {
+        final Executor requestExecutor = this.delegate.executor(request);
+        final Executor executor = requestExecutor == null ? this.executor : requestExecutor;
         executor.execute(() -> {
             ExecutorRpcHandler.super.handleRequest(rpcContext, request);
         });
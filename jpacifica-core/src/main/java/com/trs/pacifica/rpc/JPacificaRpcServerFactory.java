@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * RpcServer Factory class
@@ -85,13 +86,78 @@ public class JPacificaRpcServerFactory {
      * @param replicaServiceManager
      */
     public static void addPacificaRequestHandlers(final RpcServer rpcServer, final ReplicaServiceManager replicaServiceManager) {
+        addPacificaRequestHandlers(rpcServer, replicaServiceManager, new HandlerExecutorOption());
+    }
+
+    /**
+     * add default RequestHandler for rpcServer, and they are executed in the executors of the option.
+     *
+     * @param rpcServer
+     * @param replicaServiceManager
+     * @param option
+     */
+    public static void addPacificaRequestHandlers(final RpcServer rpcServer, final ReplicaServiceManager replicaServiceManager, final HandlerExecutorOption option) {
         Objects.requireNonNull(rpcServer, "rpcServer");
         Objects.requireNonNull(replicaServiceManager, "replicaServiceManager");
-        rpcServer.registerRpcHandler(new AppendEntriesRequestHandler(replicaServiceManager));
-        rpcServer.registerRpcHandler(new ReplicaRecoverRequestHandler(replicaServiceManager));
-        rpcServer.registerRpcHandler(new InstallSnapshotRequestHandler(replicaServiceManager));
-        rpcServer.registerRpcHandler(new GetFileRequestHandler(replicaServiceManager));
-        rpcServer.registerRpcHandler(new PingReplicaRequestHandler(replicaServiceManager));
+        Objects.requireNonNull(option, "option");
+        final Executor replicationExecutor = option.getReplicationExecutor();
+        final Executor fileExecutor = option.getFileExecutor();
+        final Executor snapshotExecutor = option.getSnapshotExecutor();
+        rpcServer.registerRpcHandler(new AppendEntriesRequestHandler(replicaServiceManager, replicationExecutor));
+        rpcServer.registerRpcHandler(new ReplicaRecoverRequestHandler(replicaServiceManager, replicationExecutor));
+        rpcServer.registerRpcHandler(new InstallSnapshotRequestHandler(replicaServiceManager, snapshotExecutor));
+        rpcServer.registerRpcHandler(new GetFileRequestHandler(replicaServiceManager, fileExecutor));
+        rpcServer.registerRpcHandler(new PingReplicaRequestHandler(replicaServiceManager, replicationExecutor));
+        rpcServer.registerRpcHandler(new GetCommitPointRequestHandler(replicaServiceManager, replicationExecutor));
+        rpcServer.registerRpcHandler(new BatchAppendEntriesRequestHandler(replicaServiceManager, replicationExecutor));
+    }
+
+    /**
+     * executors of the RequestHandlers of pacifica, null if handled in the thread of rpc.
+     */
+    public static class HandlerExecutorOption {
+
+        /**
+         * for the requests from Primary to Secondary and the reverse,
+         * the requests of the same replica are handled in order if it is ExecutorGroup,
+         * which the pipeline of AppendEntriesRequest relies on.
+         */
+        private Executor replicationExecutor = RpcExecutorHolder.getReplicationExecutorGroup();
+
+        /**
+         * for GetFileRequest reading the disk, such as downloading snapshot.
+         */
+        private Executor fileExecutor = RpcExecutorHolder.getFileExecutor();
+
+        /**
+         * for InstallSnapshotRequest blocking until the snapshot is downloaded,
+         * it must not be the replicationExecutor or the fileExecutor.
+         */
+        private Executor snapshotExecutor = RpcExecutorHolder.getSnapshotExecutor();
+
+        public Executor getReplicationExecutor() {
+            return replicationExecutor;
+        }
+
+        public void setReplicationExecutor(Executor replicationExecutor) {
+            this.replicationExecutor = replicationExecutor;
+        }
+
+        public Executor getFileExecutor() {
+            return fileExecutor;
+        }
+
+        public void setFileExecutor(Executor fileExecutor) {
+            this.fileExecutor = fileExecutor;
+        }
+
+        public Executor getSnapshotExecutor() {
+            return snapshotExecutor;
+        }
+
+        public void setSnapshotExecutor(Executor snapshotExecutor) {
+            this.snapshotExecutor = snapshotExecutor;
+        }
     }
 
 
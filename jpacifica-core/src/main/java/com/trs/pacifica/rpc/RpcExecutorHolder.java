@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc;
+
+import com.trs.pacifica.async.thread.ExecutorGroup;
+import com.trs.pacifica.async.thread.MpscSingleThreadExecutor;
+import com.trs.pacifica.async.thread.MpscSingleThreadExecutorGroup;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
+import com.trs.pacifica.util.NamedThreadFactory;
+import com.trs.pacifica.util.SystemConstants;
+import com.trs.pacifica.util.SystemPropertyUtil;
+import com.trs.pacifica.util.thread.ThreadPoolUtil;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * default executors of the rpc handlers of pacifica,
+ * the replication requests, the file requests and the snapshot installations are executed in separate threads,
+ * so that the slow disk read of file requests and the long download of snapshot do not block the replication requests.
+ */
+public class RpcExecutorHolder {
+
+    /**
+     * number of threads to handle the replication requests, such as AppendEntriesRequest
+     */
+    public static final int REPLICATION_THREAD_NUM = SystemPropertyUtil.getInt("pacifica.rpc.replication.thread.num", SystemConstants.CPUS + 1);
+
+    /**
+     * number of threads to handle the GetFileRequest
+     */
+    public static final int FILE_THREAD_NUM = SystemPropertyUtil.getInt("pacifica.rpc.file.thread.num", Math.max(4, SystemConstants.CPUS));
+
+    /**
+     * number of threads to handle the InstallSnapshotRequest, which blocks until the snapshot is downloaded
+     */
+    public static final int SNAPSHOT_THREAD_NUM = SystemPropertyUtil.getInt("pacifica.rpc.snapshot.thread.num", Math.max(2, SystemConstants.CPUS / 2));
+
+    private static volatile ExecutorGroup REPLICATION_EXECUTOR_GROUP;
+
+    private static volatile Executor FILE_EXECUTOR;
+
+    private static volatile Executor SNAPSHOT_EXECUTOR;
+
+    private RpcExecutorHolder() {
+    }
+
+    /**
+     * the requests of the same replica are executed in the same thread of the ExecutorGroup.
+     *
+     * @return ExecutorGroup
+     */
+    public static ExecutorGroup getReplicationExecutorGroup() {
+        if (REPLICATION_EXECUTOR_GROUP == null) {
+            synchronized (RpcExecutorHolder.class) {
+                if (REPLICATION_EXECUTOR_GROUP == null) {
+                    final NamedThreadFactory threadFactory = new NamedThreadFactory("pacifica-rpc-replication-thread-", true);
+                    final SingleThreadExecutor[] children = new SingleThreadExecutor[Math.max(1, REPLICATION_THREAD_NUM)];
+                    for (int i = 0; i < children.length; i++) {
+                        children[i] = new MpscSingleThreadExecutor(MpscSingleThreadExecutorGroup._DEFAULT_MAX_PENDING_TASKS_PER_THREAD, threadFactory);
+                    }
+                    REPLICATION_EXECUTOR_GROUP = new MpscSingleThreadExecutorGroup(children);
+                }
+            }
+        }
+        return REPLICATION_EXECUTOR_GROUP;
+    }
+
+    public static Executor getFileExecutor() {
+        if (FILE_EXECUTOR == null) {
+            synchronized (RpcExecutorHolder.class) {
+                if (FILE_EXECUTOR == null) {
+                    final int threadNum = Math.max(1, FILE_THREAD_NUM);
+                    FILE_EXECUTOR = ThreadPoolUtil.newBuilder()//
+                            .poolName("pacifica-rpc-file-executor")//
+                            .enableMetric(true)//
+                            .coreThreads(threadNum)//
+                            .maximumThreads(threadNum)//
+                            .keepAliveSeconds(60L)//
+                            .workQueue(new LinkedBlockingQueue<>())//
+                            .threadFactory(new NamedThreadFactory("pacifica-rpc-file-thread-", true))//
+                            .build();
+                }
+            }
+        }
+        return FILE_EXECUTOR;
+    }
+
+    /**
+     * the installations of snapshot do not share the threads with GetFileRequest,
+     * otherwise the replicas downloading snapshot from each other may wait for the threads held by themselves.
+     *
+     * @return Executor
+     */
+    public static Executor getSnapshotExecutor() {
+        if (SNAPSHOT_EXECUTOR == null) {
+            synchronized (RpcExecutorHolder.class) {
+                if (SNAPSHOT_EXECUTOR == null) {
+                    final int threadNum = Math.max(1, SNAPSHOT_THREAD_NUM);
+                    SNAPSHOT_EXECUTOR = ThreadPoolUtil.newBuilder()//
+                            .poolName("pacifica-rpc-snapshot-executor")//
+                            .enableMetric(true)//
+                            .coreThreads(threadNum)//
+                            .maximumThreads(threadNum)//
+                            .keepAliveSeconds(60L)//
+                            .workQueue(new LinkedBlockingQueue<>())//
+                            .threadFactory(new NamedThreadFactory("pacifica-rpc-snapshot-thread-", true))//
+                            .build();
+                }
+            }
+        }
+        return SNAPSHOT_EXECUTOR;
+    }
+
+}
@@ -50,4 +50,15 @@ public interface RpcHandler<Req, Rep> {
         return null;
     }
 
+    /**
+     * The executor to handle the request,
+     * the requests that must be handled in order can be executed in the same thread.
+     *
+     * @param request request
+     * @return null if handled in the thread of rpc
+     */
+    default Executor executor(Req request) {
+        return executor();
+    }
+
 }
@@ -44,6 +44,17 @@ public interface PacificaClient extends ReplicaClient {
      */
     Future<RpcRequest.AppendEntriesResponse> appendLogEntries(RpcRequest.AppendEntriesRequest request, RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback, int timeoutMs);
 
+    /**
+     * send AppendEntriesRequests of the replica groups to the same node in one request,
+     * all the requests must have the same node of the target replica.
+     *
+     * @param request   request
+     * @param callback  callback
+     * @param timeoutMs timeoutMs
+     * @return Future
+     */
+    Future<RpcRequest.BatchAppendEntriesResponse> batchAppendLogEntries(RpcRequest.BatchAppendEntriesRequest request, RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> callback, int timeoutMs);
+
 
     /**
      * @param request  request
@@ -100,4 +111,23 @@ public interface PacificaClient extends ReplicaClient {
         return getFile(request, callback, DEFAULT_TIMEOUT_MS);
     }
 
+    /**
+     *
+     * @param request request
+     * @param callback callback
+     * @param timeoutMs timeout
+     * @return Future
+     */
+    Future<RpcRequest.GetCommitPointResponse> getCommitPoint(RpcRequest.GetCommitPointRequest request, RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback, final int timeoutMs);
+
+    /**
+     *
+     * @param request request
+     * @param callback callback
+     * @return Future
+     */
+    default Future<RpcRequest.GetCommitPointResponse> getCommitPoint(RpcRequest.GetCommitPointRequest request, RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback) {
+        return getCommitPoint(request, callback, DEFAULT_TIMEOUT_MS);
+    }
+
 }
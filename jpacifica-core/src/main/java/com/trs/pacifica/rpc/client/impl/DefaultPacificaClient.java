@@ -49,6 +49,17 @@ public class DefaultPacificaClient extends BaseReplicaClient implements Pacifica
         return this.sendRequest(endpoint, request, callback, timeoutMs);
     }
 
+    @Override
+    public Future<RpcRequest.BatchAppendEntriesResponse> batchAppendLogEntries(RpcRequest.BatchAppendEntriesRequest request, RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> callback, int timeoutMs) {
+        Objects.requireNonNull(request, "request");
+        if (request.getRequestsCount() == 0) {
+            throw new IllegalArgumentException("empty BatchAppendEntriesRequest");
+        }
+        ReplicaId targetId = RpcUtil.toReplicaId(request.getRequests(0).getTargetId());
+        final Endpoint endpoint = getEndpointOrThrow(targetId);
+        return this.sendRequest(endpoint, request, callback, timeoutMs);
+    }
+
     @Override
     public Future<RpcRequest.InstallSnapshotResponse> installSnapshot(RpcRequest.InstallSnapshotRequest request, RpcRequestFinished<RpcRequest.InstallSnapshotResponse> callback, int timeoutMs) {
         Objects.requireNonNull(request, "request");
@@ -73,6 +84,14 @@ public class DefaultPacificaClient extends BaseReplicaClient implements Pacifica
         return this.sendRequest(endpoint, request, callback, timeoutMs);
     }
 
+    @Override
+    public Future<RpcRequest.GetCommitPointResponse> getCommitPoint(RpcRequest.GetCommitPointRequest request, RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback, int timeoutMs) {
+        Objects.requireNonNull(request, "request");
+        ReplicaId targetId = RpcUtil.toReplicaId(request.getPrimaryId());
+        final Endpoint endpoint = getEndpointOrThrow(targetId);
+        return this.sendRequest(endpoint, request, callback, timeoutMs);
+    }
+
     @Override
     protected Endpoint getEndpoint(ReplicaId targetReplicaId) {
         final String nodeId = targetReplicaId.getNodeId();
@@ -25,12 +25,18 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.util.RpcUtil;
 
+import java.util.concurrent.Executor;
+
 public class AppendEntriesRequestHandler extends InternalRpcRequestHandler<RpcRequest.AppendEntriesRequest, RpcRequest.AppendEntriesResponse> {
 
     public AppendEntriesRequestHandler(ReplicaServiceManager replicaManager) {
         super(replicaManager, RpcRequest.AppendEntriesResponse.getDefaultInstance());
     }
 
+    public AppendEntriesRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(replicaManager, RpcRequest.AppendEntriesResponse.getDefaultInstance(), executor);
+    }
+
     @Override
     protected RpcRequest.AppendEntriesResponse asyncHandleRequest(ReplicaService replicaService, RpcRequest.AppendEntriesRequest request, RpcRequestFinished<RpcRequest.AppendEntriesResponse> rpcRequestFinished) throws PacificaException {
         return replicaService.handleAppendLogEntryRequest(request, rpcRequestFinished);
@@ -0,0 +1,189 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc.internal;
+
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.RpcRequestFinishedAdapter;
+import com.trs.pacifica.rpc.RpcRequestHandler;
+import com.trs.pacifica.rpc.service.ReplicaService;
+import com.trs.pacifica.rpc.service.ReplicaServiceManager;
+import com.trs.pacifica.util.RpcUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * handle the heartbeats of the replica groups in one request,
+ * each AppendEntriesRequest is handled by its replica, and the failure of one does not fail the others.
+ * If the executor is ExecutorGroup, each AppendEntriesRequest is dispatched to the child executing the requests of its replica,
+ * so that it is handled in order with the AppendEntriesRequests sent alone.
+ */
+public class BatchAppendEntriesRequestHandler extends RpcRequestHandler<RpcRequest.BatchAppendEntriesRequest, RpcRequest.BatchAppendEntriesResponse> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchAppendEntriesRequestHandler.class);
+
+    private final ReplicaServiceManager replicaManager;
+
+    private final Executor executor;
+
+    /**
+     * children of the ExecutorGroup, the requests of the same replica are executed in the same one.
+     */
+    private final SingleThreadExecutor[] orderedExecutors;
+
+    public BatchAppendEntriesRequestHandler(ReplicaServiceManager replicaManager) {
+        this(replicaManager, null);
+    }
+
+    public BatchAppendEntriesRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(RpcRequest.BatchAppendEntriesResponse.getDefaultInstance());
+        this.replicaManager = replicaManager;
+        this.executor = executor;
+        this.orderedExecutors = InternalRpcRequestHandler.toOrderedExecutors(executor);
+    }
+
+    @Override
+    public Executor executor() {
+        return this.executor;
+    }
+
+    @Override
+    public Executor executor(RpcRequest.BatchAppendEntriesRequest request) {
+        if (this.orderedExecutors != null) {
+            // dispatched in the thread of rpc
+            return null;
+        }
+        return this.executor;
+    }
+
+    @Override
+    protected RpcRequest.BatchAppendEntriesResponse asyncHandleRequest(RpcRequest.BatchAppendEntriesRequest request, RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> rpcResponseCallback) throws PacificaException {
+        final int count = request.getRequestsCount();
+        if (count == 0) {
+            return RpcRequest.BatchAppendEntriesResponse.getDefaultInstance();
+        }
+        final BatchResponse batchResponse = new BatchResponse(count, rpcResponseCallback);
+        for (int i = 0; i < count; i++) {
+            dispatchAppendEntriesRequest(request.getRequests(i), i, batchResponse);
+        }
+        return null;
+    }
+
+    private void dispatchAppendEntriesRequest(final RpcRequest.AppendEntriesRequest request, final int index, final BatchResponse batchResponse) {
+        final ReplicaId replicaId = RpcUtil.toReplicaId(request.getTargetId());
+        if (this.orderedExecutors == null || replicaId == null) {
+            handleAppendEntriesRequest(request, index, batchResponse);
+            return;
+        }
+        try {
+            InternalRpcRequestHandler.chooseOrderedExecutor(this.orderedExecutors, replicaId)//
+                    .execute(() -> handleAppendEntriesRequest(request, index, batchResponse));
+        } catch (RejectedExecutionException e) {
+            batchResponse.setResponse(index, toAppendEntriesErrorResponse(new PacificaException(PacificaErrorCode.BUSY, e.getMessage(), e)));
+        }
+    }
+
+    private void handleAppendEntriesRequest(final RpcRequest.AppendEntriesRequest request, final int index, final BatchResponse batchResponse) {
+        final RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse> callback = new RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse>() {
+            @Override
+            public void run(Finished finished) {
+                if (!finished.isOk()) {
+                    final Throwable error = finished.error();
+                    batchResponse.setResponse(index, toAppendEntriesErrorResponse(error instanceof PacificaException ? (PacificaException) error
+                            : new PacificaException(PacificaErrorCode.UNDEFINED, error.getMessage(), error)));
+                    return;
+                }
+                RpcRequest.AppendEntriesResponse response = getRpcResponse();
+                if (response == null) {
+                    response = RpcRequest.AppendEntriesResponse.getDefaultInstance();
+                }
+                batchResponse.setResponse(index, response);
+            }
+        };
+        try {
+            final ReplicaId replicaId = RpcUtil.toReplicaId(request.getTargetId());
+            final ReplicaService replicaService = this.replicaManager.getReplicaService(replicaId);
+            if (replicaService == null) {
+                throw new PacificaException(PacificaErrorCode.INTERNAL, String.format("can not found replica service, replica_id=%s", replicaId));
+            }
+            final RpcRequest.AppendEntriesResponse response = replicaService.handleAppendLogEntryRequest(request, callback);
+            if (response != null) {
+                batchResponse.setResponse(index, response);
+            }
+        } catch (PacificaException e) {
+            batchResponse.setResponse(index, toAppendEntriesErrorResponse(e));
+        } catch (Throwable throwable) {
+            LOGGER.warn("Unexpected Exception.", throwable);
+            batchResponse.setResponse(index, toAppendEntriesErrorResponse(new PacificaException(PacificaErrorCode.UNDEFINED, throwable.getMessage())));
+        }
+    }
+
+    private static RpcRequest.AppendEntriesResponse toAppendEntriesErrorResponse(final PacificaException exception) {
+        return RpcRequest.AppendEntriesResponse.newBuilder()//
+                .setError(RpcUtil.toErrorResponse(exception))//
+                .build();
+    }
+
+    @Override
+    public String interest() {
+        return RpcRequest.BatchAppendEntriesRequest.class.getName();
+    }
+
+    /**
+     * collect the responses of the AppendEntriesRequests, and respond once all of them are set.
+     */
+    static class BatchResponse {
+
+        private final AtomicReferenceArray<RpcRequest.AppendEntriesResponse> responses;
+
+        private final AtomicInteger remaining;
+
+        private final RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> rpcResponseCallback;
+
+        BatchResponse(int count, RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> rpcResponseCallback) {
+            this.responses = new AtomicReferenceArray<>(count);
+            this.remaining = new AtomicInteger(count);
+            this.rpcResponseCallback = rpcResponseCallback;
+        }
+
+        void setResponse(final int index, final RpcRequest.AppendEntriesResponse response) {
+            if (!this.responses.compareAndSet(index, null, response)) {
+                return;
+            }
+            if (this.remaining.decrementAndGet() == 0) {
+                final RpcRequest.BatchAppendEntriesResponse.Builder builder = RpcRequest.BatchAppendEntriesResponse.newBuilder();
+                for (int i = 0; i < this.responses.length(); i++) {
+                    builder.addResponses(this.responses.get(i));
+                }
+                this.rpcResponseCallback.setRpcResponse(builder.build());
+                this.rpcResponseCallback.run(Finished.success());
+            }
+        }
+
+    }
+}
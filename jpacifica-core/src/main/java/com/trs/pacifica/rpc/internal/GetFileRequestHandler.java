@@ -25,6 +25,8 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.util.RpcUtil;
 
+import java.util.concurrent.Executor;
+
 public class GetFileRequestHandler extends InternalRpcRequestHandler<RpcRequest.GetFileRequest, RpcRequest.GetFileResponse> {
 
 
@@ -32,6 +34,10 @@ public class GetFileRequestHandler extends InternalRpcRequestHandler<RpcRequest.
         super(replicaManager, RpcRequest.GetFileResponse.getDefaultInstance());
     }
 
+    public GetFileRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(replicaManager, RpcRequest.GetFileResponse.getDefaultInstance(), executor);
+    }
+
 
     @Override
     public String interest() {
@@ -25,11 +25,17 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.util.RpcUtil;
 
+import java.util.concurrent.Executor;
+
 public class InstallSnapshotRequestHandler extends InternalRpcRequestHandler<RpcRequest.InstallSnapshotRequest, RpcRequest.InstallSnapshotResponse>{
     public InstallSnapshotRequestHandler(ReplicaServiceManager replicaManager) {
         super(replicaManager, RpcRequest.InstallSnapshotResponse.getDefaultInstance());
     }
 
+    public InstallSnapshotRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(replicaManager, RpcRequest.InstallSnapshotResponse.getDefaultInstance(), executor);
+    }
+
     @Override
     public String interest() {
         return RpcRequest.InstallSnapshotRequest.class.getName();
@@ -18,6 +18,8 @@
 package com.trs.pacifica.rpc.internal;
 
 import com.google.protobuf.Message;
+import com.trs.pacifica.async.thread.ExecutorGroup;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
 import com.trs.pacifica.rpc.service.ReplicaServiceManager;
 import com.trs.pacifica.error.PacificaErrorCode;
 import com.trs.pacifica.error.PacificaException;
@@ -26,13 +28,52 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestHandler;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 public abstract class InternalRpcRequestHandler<Req extends Message, Rep extends Message> extends RpcRequestHandler<Req, Rep> {
 
     private final ReplicaServiceManager replicaManager;
 
+    private final Executor executor;
+
+    /**
+     * children of the ExecutorGroup, the requests of the same replica are executed in the same one.
+     */
+    private final SingleThreadExecutor[] orderedExecutors;
+
     protected InternalRpcRequestHandler(ReplicaServiceManager replicaManager, Rep defaultMessage) {
+        this(replicaManager, defaultMessage, null);
+    }
+
+    /**
+     * @param replicaManager replicaManager
+     * @param defaultMessage defaultMessage
+     * @param executor       null if handled in the thread of rpc,
+     *                       the requests of the same replica are handled in order if it is ExecutorGroup.
+     */
+    protected InternalRpcRequestHandler(ReplicaServiceManager replicaManager, Rep defaultMessage, Executor executor) {
         super(defaultMessage);
         this.replicaManager = replicaManager;
+        this.executor = executor;
+        this.orderedExecutors = toOrderedExecutors(executor);
+    }
+
+    @Override
+    public Executor executor() {
+        return this.executor;
+    }
+
+    @Override
+    public Executor executor(Req request) {
+        if (this.orderedExecutors != null) {
+            final ReplicaId replicaId = parseReplicaId(request);
+            if (replicaId != null) {
+                return chooseOrderedExecutor(this.orderedExecutors, replicaId);
+            }
+        }
+        return this.executor;
     }
 
     @Override
@@ -53,4 +94,28 @@ public abstract class InternalRpcRequestHandler<Req extends Message, Rep extends
 
     protected abstract ReplicaId parseReplicaId(Req request);
 
+    /**
+     * @param executor executor
+     * @return children of the ExecutorGroup, null if it is not ExecutorGroup or has no child
+     */
+    static SingleThreadExecutor[] toOrderedExecutors(final Executor executor) {
+        if (executor instanceof ExecutorGroup) {
+            final List<SingleThreadExecutor> children = new ArrayList<>();
+            ((ExecutorGroup) executor).forEach(children::add);
+            if (!children.isEmpty()) {
+                return children.toArray(new SingleThreadExecutor[0]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param orderedExecutors children of the ExecutorGroup
+     * @param replicaId        replicaId
+     * @return the child executing the requests of the replica
+     */
+    static SingleThreadExecutor chooseOrderedExecutor(final SingleThreadExecutor[] orderedExecutors, final ReplicaId replicaId) {
+        return orderedExecutors[(replicaId.hashCode() & Integer.MAX_VALUE) % orderedExecutors.length];
+    }
+
 }
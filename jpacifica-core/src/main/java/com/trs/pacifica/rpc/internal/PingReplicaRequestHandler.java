@@ -25,12 +25,18 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.util.RpcUtil;
 
+import java.util.concurrent.Executor;
+
 public class PingReplicaRequestHandler extends InternalRpcRequestHandler<RpcRequest.PingReplicaRequest, RpcRequest.PingReplicaResponse> {
 
     public PingReplicaRequestHandler(ReplicaServiceManager replicaManager) {
         super(replicaManager, RpcRequest.PingReplicaResponse.getDefaultInstance());
     }
 
+    public PingReplicaRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(replicaManager, RpcRequest.PingReplicaResponse.getDefaultInstance(), executor);
+    }
+
     @Override
     public String interest() {
         return RpcRequest.PingReplicaRequest.class.getName();
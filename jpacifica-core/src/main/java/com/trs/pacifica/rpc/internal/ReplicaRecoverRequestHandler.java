@@ -25,11 +25,17 @@ import com.trs.pacifica.rpc.service.ReplicaService;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.util.RpcUtil;
 
+import java.util.concurrent.Executor;
+
 public class ReplicaRecoverRequestHandler extends InternalRpcRequestHandler<RpcRequest.ReplicaRecoverRequest, RpcRequest.ReplicaRecoverResponse>{
     public ReplicaRecoverRequestHandler(ReplicaServiceManager replicaManager) {
         super(replicaManager, RpcRequest.ReplicaRecoverResponse.getDefaultInstance());
     }
 
+    public ReplicaRecoverRequestHandler(ReplicaServiceManager replicaManager, Executor executor) {
+        super(replicaManager, RpcRequest.ReplicaRecoverResponse.getDefaultInstance(), executor);
+    }
+
     @Override
     public String interest() {
         return RpcRequest.ReplicaRecoverRequest.class.getName();
@@ -26,6 +26,8 @@ import com.trs.pacifica.proto.RpcRequest.InstallSnapshotRequest;
 import com.trs.pacifica.proto.RpcRequest.InstallSnapshotResponse;
 import com.trs.pacifica.proto.RpcRequest.GetFileRequest;
 import com.trs.pacifica.proto.RpcRequest.GetFileResponse;
+import com.trs.pacifica.proto.RpcRequest.GetCommitPointRequest;
+import com.trs.pacifica.proto.RpcRequest.GetCommitPointResponse;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 
 /**
@@ -66,5 +68,7 @@ public interface ReplicaService {
      */
     public GetFileResponse handleGetFileRequest(GetFileRequest request, RpcRequestFinished<GetFileResponse> callback) throws PacificaException;
 
+    public GetCommitPointResponse handleGetCommitPointRequest(GetCommitPointRequest request, RpcRequestFinished<GetCommitPointResponse> callback) throws PacificaException;
+
 
 }
@@ -0,0 +1,280 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.sender;
+
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.RpcRequestFinishedAdapter;
+import com.trs.pacifica.rpc.client.PacificaClient;
+import com.trs.pacifica.rpc.error.NoHandlerException;
+import com.trs.pacifica.util.OnlyForTest;
+import com.trs.pacifica.util.RpcUtil;
+import com.trs.pacifica.util.SystemPropertyUtil;
+import com.trs.pacifica.util.thread.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-level multiplexer of the heartbeats sent by the Senders of all replica groups.
+ * The heartbeats to the same node within the coalesce window are sent in one BatchAppendEntriesRequest,
+ * and the responses are dispatched back to each Sender.
+ * The Senders with LogEntries to send do not send heartbeat, so they are not delayed by it.
+ * <p>
+ * The node of the target replica decides the Endpoint in {@link com.trs.pacifica.rpc.client.impl.DefaultPacificaClient},
+ * so the heartbeats are coalesced by node id.
+ * <p>
+ * If the node has no handler of the BatchAppendEntriesRequest, eg: it is of an older version,
+ * each heartbeat of the batch is sent again alone. Any other failure fails all the heartbeats of the batch.
+ */
+public class HeartbeatMultiplexer {
+
+    static final Logger LOGGER = LoggerFactory.getLogger(HeartbeatMultiplexer.class);
+
+    /**
+     * max time a heartbeat waits for the others to the same node, 0 or less if sent alone.
+     */
+    public static final int DEFAULT_COALESCE_WINDOW_MS = SystemPropertyUtil.getInt("pacifica.heartbeat.coalesce.window.ms", 20);
+
+    /**
+     * max number of the heartbeats in a BatchAppendEntriesRequest
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = SystemPropertyUtil.getInt("pacifica.heartbeat.coalesce.max.batch.size", 1024);
+
+    private static volatile HeartbeatMultiplexer DEFAULT_INSTANCE;
+
+    private final Map<String, PendingHeartbeats> pendingContainer = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final int coalesceWindowMs;
+
+    private final int maxBatchSize;
+
+    public HeartbeatMultiplexer(ScheduledExecutorService scheduler, int coalesceWindowMs, int maxBatchSize) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public static HeartbeatMultiplexer getDefaultInstance() {
+        if (DEFAULT_INSTANCE == null) {
+            synchronized (HeartbeatMultiplexer.class) {
+                if (DEFAULT_INSTANCE == null) {
+                    DEFAULT_INSTANCE = new HeartbeatMultiplexer(ThreadUtil._JPACIFICA_SCHEDULE_EXECUTOR, DEFAULT_COALESCE_WINDOW_MS, DEFAULT_MAX_BATCH_SIZE);
+                }
+            }
+        }
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * send the heartbeat with the others to the same node.
+     *
+     * @param pacificaClient client of the Sender
+     * @param request        AppendEntriesRequest without LogEntry
+     * @param callback       callback
+     */
+    public void sendHeartbeat(final PacificaClient pacificaClient, final RpcRequest.AppendEntriesRequest request, final RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback) {
+        Objects.requireNonNull(pacificaClient, "pacificaClient");
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(callback, "callback");
+        final Heartbeat heartbeat = new Heartbeat(pacificaClient, request, callback);
+        if (this.coalesceWindowMs <= 0) {
+            sendAlone(heartbeat);
+            return;
+        }
+        final String nodeId = request.getTargetId().getNodeId();
+        final PendingHeartbeats pending = this.pendingContainer.computeIfAbsent(nodeId, PendingHeartbeats::new);
+        List<Heartbeat> batch = null;
+        boolean scheduleFlush = false;
+        synchronized (pending) {
+            pending.heartbeats.add(heartbeat);
+            if (pending.heartbeats.size() >= this.maxBatchSize) {
+                batch = pending.drain();
+            } else if (!pending.flushScheduled) {
+                pending.flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+        if (scheduleFlush) {
+            try {
+                this.scheduler.schedule(() -> flush(pending), this.coalesceWindowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flush(pending);
+            }
+        }
+    }
+
+    private void flush(final PendingHeartbeats pending) {
+        final List<Heartbeat> batch;
+        synchronized (pending) {
+            pending.flushScheduled = false;
+            batch = pending.drain();
+        }
+        send(batch);
+    }
+
+    private void send(final List<Heartbeat> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            sendAlone(batch.get(0));
+            return;
+        }
+        final RpcRequest.BatchAppendEntriesRequest.Builder builder = RpcRequest.BatchAppendEntriesRequest.newBuilder();
+        for (Heartbeat heartbeat : batch) {
+            builder.addRequests(heartbeat.request);
+        }
+        // all the heartbeats are sent to the same node, so that the client of any one of them is ok.
+        final PacificaClient pacificaClient = batch.get(0).pacificaClient;
+        try {
+            pacificaClient.batchAppendLogEntries(builder.build(), new RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse>() {
+                @Override
+                public void run(Finished finished) {
+                    if (finished.isOk()) {
+                        dispatchResponse(batch, finished, getRpcResponse());
+                    } else {
+                        fallback(batch, finished.error());
+                    }
+                }
+            }, PacificaClient.DEFAULT_TIMEOUT_MS);
+        } catch (Throwable e) {
+            fallback(batch, e);
+        }
+    }
+
+    private static void fallback(final List<Heartbeat> batch, final Throwable error) {
+        if (!isNoHandler(error)) {
+            dispatchResponse(batch, Finished.failure(error), null);
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("no handler of {} heartbeats in one request on {}, send them alone.", batch.size(), batch.get(0).request.getTargetId().getNodeId(), error);
+        }
+        for (Heartbeat heartbeat : batch) {
+            sendAlone(heartbeat);
+        }
+    }
+
+    static boolean isNoHandler(Throwable error) {
+        while (error != null) {
+            if (error instanceof NoHandlerException) {
+                return true;
+            }
+            error = error.getCause();
+        }
+        return false;
+    }
+
+    private static void sendAlone(final Heartbeat heartbeat) {
+        try {
+            heartbeat.pacificaClient.appendLogEntries(heartbeat.request, heartbeat.callback);
+        } catch (Throwable e) {
+            ThreadUtil.runCallback(heartbeat.callback, Finished.failure(e));
+        }
+    }
+
+    static void dispatchResponse(final List<Heartbeat> batch, final Finished finished, final RpcRequest.BatchAppendEntriesResponse batchResponse) {
+        for (int i = 0; i < batch.size(); i++) {
+            final Heartbeat heartbeat = batch.get(i);
+            try {
+                if (!finished.isOk()) {
+                    heartbeat.callback.run(finished);
+                } else if (batchResponse == null || i >= batchResponse.getResponsesCount()) {
+                    heartbeat.callback.run(Finished.failure(new IllegalStateException("missing response of the heartbeat")));
+                } else {
+                    final RpcRequest.AppendEntriesResponse response = batchResponse.getResponses(i);
+                    if (response.hasError()) {
+                        heartbeat.callback.run(Finished.failure(RpcUtil.toPacificaException(response.getError())));
+                    } else {
+                        heartbeat.callback.setRpcResponse(response);
+                        heartbeat.callback.run(Finished.success());
+                    }
+                }
+            } catch (Throwable e) {
+                LOGGER.error("failed to run callback of the heartbeat to {}", heartbeat.request.getTargetId(), e);
+            }
+        }
+    }
+
+    @OnlyForTest
+    int getPendingCount(final String nodeId) {
+        final PendingHeartbeats pending = this.pendingContainer.get(nodeId);
+        if (pending == null) {
+            return 0;
+        }
+        synchronized (pending) {
+            return pending.heartbeats.size();
+        }
+    }
+
+    static class Heartbeat {
+
+        private final PacificaClient pacificaClient;
+
+        private final RpcRequest.AppendEntriesRequest request;
+
+        private final RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback;
+
+        Heartbeat(PacificaClient pacificaClient, RpcRequest.AppendEntriesRequest request, RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback) {
+            this.pacificaClient = pacificaClient;
+            this.request = request;
+            this.callback = callback;
+        }
+    }
+
+    static class PendingHeartbeats {
+
+        private final String nodeId;
+
+        private List<Heartbeat> heartbeats = new ArrayList<>();
+
+        private boolean flushScheduled = false;
+
+        PendingHeartbeats(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        List<Heartbeat> drain() {
+            final List<Heartbeat> drained = this.heartbeats;
+            this.heartbeats = new ArrayList<>();
+            return drained;
+        }
+
+        @Override
+        public String toString() {
+            return "PendingHeartbeats{" +
+                    "nodeId='" + nodeId + '\'' +
+                    '}';
+        }
+    }
+}
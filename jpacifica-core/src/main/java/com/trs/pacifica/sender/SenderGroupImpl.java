@@ -257,9 +257,11 @@ public class SenderGroupImpl implements SenderGroup, LifeCycle<SenderGroupImpl.O
             senderOption.setReplicaGroup(replicaGroup);
             senderOption.setConfigurationClient(configurationClient);
             senderOption.setFileService(fileService);
+            senderOption.setMetricRegistry(SenderGroupImpl.this.replica.getMetricRegistry());
 
             senderOption.setHeartbeatTimeoutMs(Math.max(100, option.getLeasePeriodTimeOutMs() / option.getHeartBeatFactor()));
             senderOption.setHeartBeatTimer(option.getTimerFactory().newTimer());
+            senderOption.setHeartbeatMultiplexer(option.getHeartbeatMultiplexer());
             senderOption.setSenderScheduler(option.getSenderScheduler());
             sender.init(senderOption);
             return sender;
@@ -285,6 +287,8 @@ public class SenderGroupImpl implements SenderGroup, LifeCycle<SenderGroupImpl.O
 
         private ScheduledExecutorService senderScheduler;
 
+        private HeartbeatMultiplexer heartbeatMultiplexer;
+
         public ConfigurationClient getConfigurationClient() {
             return configurationClient;
         }
@@ -373,6 +377,14 @@ public class SenderGroupImpl implements SenderGroup, LifeCycle<SenderGroupImpl.O
             this.senderScheduler = senderScheduler;
         }
 
+        public HeartbeatMultiplexer getHeartbeatMultiplexer() {
+            return heartbeatMultiplexer;
+        }
+
+        public void setHeartbeatMultiplexer(HeartbeatMultiplexer heartbeatMultiplexer) {
+            this.heartbeatMultiplexer = heartbeatMultiplexer;
+        }
+
     }
 
 
@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.sender;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
 import com.trs.pacifica.*;
@@ -81,6 +83,21 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
     private volatile long lastResponseTime;
     private volatile long nextLogIndex;
 
+    /**
+     * number of AppendEntriesRequest with log entries in flight
+     */
+    private int flyingAppendEntriesCount = 0;
+
+    /**
+     * bytes of the log data of AppendEntriesRequests in flight
+     */
+    private long flyingAppendEntriesBytes = 0;
+
+    /**
+     * next log index to send, valid only when {@link #flyingAppendEntriesCount} greater than 0
+     */
+    private long nextSendingLogIndex;
+
     private volatile State state = State.UNINITIALIZED;
 
     private AtomicInteger version = new AtomicInteger(0);
@@ -93,6 +110,10 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
 
     private ScheduledFuture<?> blockTimer = null;
 
+    private AdaptiveBatchSizer batchSizer;
+
+    private com.codahale.metrics.Timer appendEntriesTimer = null;
+
 
     public SenderImpl(ReplicaId fromId, ReplicaId toId, SenderType type) {
         this.fromId = fromId;
@@ -120,6 +141,8 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         if (this.state == State.SHUTDOWN) {
             this.version.incrementAndGet();
             this.nextLogIndex = this.option.getLogManager().getLastLogIndex() + 1;
+            this.batchSizer = newBatchSizer(this.option);
+            this.registerMetrics(this.option.getMetricRegistry());
             this.updateLastResponseTime();
             this.state = State.STARTED;
             this.startHeartbeatTimer();
@@ -140,6 +163,8 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
                 blockTimer.cancel(true);
             }
             notifyOnCaughtUp(new PacificaException(PacificaErrorCode.STEP_DOWN, "The sender is shutting"));
+            this.batchSizer.unregisterMetrics();
+            this.unregisterMetrics(this.option.getMetricRegistry());
             this.state = State.SHUTDOWN;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("{} is shutdown.", this);
@@ -147,6 +172,67 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         }
     }
 
+    private AdaptiveBatchSizer newBatchSizer(final Option option) {
+        final AdaptiveBatchSizer.Option batchOption = new AdaptiveBatchSizer.Option();
+        batchOption.setMinBatchNum(option.getMinSendLogEntryNum());
+        batchOption.setMaxBatchNum(option.getMaxSendLogEntryNum());
+        batchOption.setMinBatchBytes(option.getMinSendLogEntryBytes());
+        batchOption.setMaxBatchBytes(option.getMaxSendLogEntryBytes());
+        batchOption.setTargetLatencyMs(option.getSendLogEntryTargetLatencyMs());
+        return new AdaptiveBatchSizer(batchOption, option.getMetricRegistry(), getMetricPrefix());
+    }
+
+    private String getMetricPrefix() {
+        return MetricRegistry.name("sender", this.toId.getNodeId());
+    }
+
+    /**
+     * the metrics are replaced on startup, because the sender to the same node may be a new instance.
+     *
+     * @param metricRegistry
+     */
+    private void registerMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
+        }
+        unregisterMetrics(metricRegistry);
+        final String prefix = getMetricPrefix();
+        this.appendEntriesTimer = metricRegistry.timer(MetricRegistry.name(prefix, "append-entries"));
+        metricRegistry.register(MetricRegistry.name(prefix, "replication-lag"), (Gauge<Long>) this::getReplicationLag);
+        metricRegistry.register(MetricRegistry.name(prefix, "inflights"), (Gauge<Integer>) this::getInflights);
+    }
+
+    /**
+     * remove the metrics of the sender, so that the registry does not keep it reachable after shutdown.
+     *
+     * @param metricRegistry
+     */
+    private void unregisterMetrics(final MetricRegistry metricRegistry) {
+        if (metricRegistry == null) {
+            return;
+        }
+        final String prefix = getMetricPrefix();
+        metricRegistry.remove(MetricRegistry.name(prefix, "append-entries"));
+        metricRegistry.remove(MetricRegistry.name(prefix, "replication-lag"));
+        metricRegistry.remove(MetricRegistry.name(prefix, "inflights"));
+    }
+
+    /**
+     * @return number of LogEntries not yet acknowledged by the target replica
+     */
+    private long getReplicationLag() {
+        return Math.max(0, this.option.getLogManager().getLastLogIndex() - this.nextLogIndex + 1);
+    }
+
+    private int getInflights() {
+        return this.flyingAppendEntriesCount;
+    }
+
+    @OnlyForTest
+    AdaptiveBatchSizer getBatchSizer() {
+        return this.batchSizer;
+    }
+
     @OnlyForTest
     State getState() {
         return this.state;
@@ -157,6 +243,16 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         return this.nextLogIndex;
     }
 
+    @OnlyForTest
+    int getFlyingAppendEntriesCount() {
+        return this.flyingAppendEntriesCount;
+    }
+
+    @OnlyForTest
+    long getFlyingAppendEntriesBytes() {
+        return this.flyingAppendEntriesBytes;
+    }
+
     @OnlyForTest
     OnCaughtUp getOnCaughtUp() {
         return this.caughtUpRef.get();
@@ -381,12 +477,19 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         final RpcContext rpcContext = new RpcContext(RpcType.APPEND_LOG_ENTRY, request);
         if (isHeartbeatRequest) {
             // heartbeat request
-            this.option.getPacificaClient().appendLogEntries(request, new RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse>() {
+            final RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse> callback = new RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse>() {
                 @Override
                 public void run(Finished finished) {
                     handleHeartbeatResponse(rpcContext, finished, getRpcResponse());
                 }
-            });
+            };
+            final HeartbeatMultiplexer heartbeatMultiplexer = this.option.getHeartbeatMultiplexer();
+            if (heartbeatMultiplexer != null) {
+                // coalesced with the heartbeats of other replica groups to the same node
+                heartbeatMultiplexer.sendHeartbeat(this.option.getPacificaClient(), request, callback);
+            } else {
+                this.option.getPacificaClient().appendLogEntries(request, callback);
+            }
         } else {
             //probe request
             this.flyingRpcQueue.add(rpcContext);
@@ -438,7 +541,7 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         //
         this.executor.execute(() -> {
             try {
-                doSendLogEntries(nextLogIndex);
+                doPipelineSendLogEntries();
             } catch (Throwable e) {
                 LOGGER.error("{} failed to execute doSendLogEntries.", this, e);
             }
@@ -446,22 +549,54 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         });
     }
 
+    /**
+     * next log index to send: after the last AppendEntriesRequest in flight,
+     * or {@link #nextLogIndex} if there is nothing in flight.
+     *
+     * @return next sending log index
+     */
+    private long getNextSendingLogIndex() {
+        if (this.flyingAppendEntriesCount > 0) {
+            return this.nextSendingLogIndex;
+        }
+        return this.nextLogIndex;
+    }
+
+    /**
+     * keep sending AppendEntriesRequest until the in-flight window is full by number or by bytes
+     * or there are no more log entries.
+     */
+    private void doPipelineSendLogEntries() {
+        final int maxFlyingRequestNum = this.option.getMaxFlyingRequestNum();
+        final long maxFlyingRequestBytes = this.option.getMaxFlyingRequestBytes();
+        while (this.flyingRpcQueue.size() < maxFlyingRequestNum && this.flyingAppendEntriesBytes < maxFlyingRequestBytes) {
+            if (this.state != State.APPEND_LOGENTRIES && !this.flyingRpcQueue.isEmpty()) {
+                // probe or install snapshot is in flight, wait for its response
+                break;
+            }
+            if (!doSendLogEntries(getNextSendingLogIndex())) {
+                break;
+            }
+        }
+    }
+
     /**
      * @param nextSendingLogIndex
      * @return true if continue to send or else false
      */
     private boolean doSendLogEntries(final long nextSendingLogIndex) {
-        changeState(State.APPEND_LOGENTRIES);
         final RpcRequest.AppendEntriesRequest.Builder requestBuilder = RpcRequest.AppendEntriesRequest.newBuilder();
         if (!fillCommonRequest(requestBuilder, nextSendingLogIndex - 1, false)) {
-            //not found LogEntry, we will install snapshot
-            installSnapshot();
+            if (this.flyingRpcQueue.isEmpty()) {
+                //not found LogEntry, we will install snapshot
+                installSnapshot();
+            }
             return false;
         }
+        changeState(State.APPEND_LOGENTRIES);
         // fill meta and log data
         final List<ByteString> allData = new ArrayList<>();
-        final int maxSendLogEntryNum = this.option.getMaxSendLogEntryNum();
-        final int maxSendLogEntryBytes = this.option.getMaxSendLogEntryBytes();
+        final AdaptiveBatchSizer batchSizer = this.batchSizer;
         boolean continueSend = true;
         int logEntryNum = 0;
         int logEntryBytes = 0;
@@ -475,18 +610,26 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
             logEntryNum++;
             logEntryBytes += metaBuilder.getDataLen();
             requestBuilder.addLogMeta(metaBuilder.build());
-        } while (logEntryNum < maxSendLogEntryNum && logEntryBytes < maxSendLogEntryBytes);
+        } while (!batchSizer.isFull(logEntryNum, logEntryBytes));
         if (logEntryNum == 0) {
             // wait more log entry
+            if (this.flyingRpcQueue.isEmpty()) {
+                changeState(State.WAIT_MORE_LOG_ENTRY);
+            }
             return false;
         }
 
+        // balanced rope over the log data of LogEntries, only the small pieces are copied
         ByteString logData = ByteString.copyFrom(allData);
         requestBuilder.setLogData(logData);
+        batchSizer.onBatch(logEntryNum, logEntryBytes);
 
         final RpcRequest.AppendEntriesRequest request = requestBuilder.build();
         final RpcContext context = new RpcContext(RpcType.APPEND_LOG_ENTRY, request);
         this.flyingRpcQueue.add(context);
+        this.flyingAppendEntriesCount++;
+        this.flyingAppendEntriesBytes += logData.size();
+        this.nextSendingLogIndex = nextSendingLogIndex + logEntryNum;
         try {
             this.option.getPacificaClient().appendLogEntries(request, new ExecutorRequestFinished<RpcRequest.AppendEntriesResponse>(executor) {
                 @Override
@@ -514,10 +657,9 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         if (logData != null) {
             int dataLen = logData.remaining();
             metaBuilder.setDataLen(dataLen);
-            allData.add(ByteString.copyFrom(logData));
+            allData.add(RpcUtil.wrapLogData(logData));
         } else {
             metaBuilder.setDataLen(0);
-            allData.add(ByteString.empty());
         }
         return true;
     }
@@ -600,6 +742,9 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
                 switch (rpcType) {
                     case APPEND_LOG_ENTRY: {
                         continueSendLogEntry = handleAppendLogEntryResponse((RpcRequest.AppendEntriesRequest) rpcContext.request, finished, (RpcRequest.AppendEntriesResponse) rpcContext.response);
+                        if (continueSendLogEntry && rpcContext.isAppendEntries()) {
+                            onAppendEntriesComplete(rpcContext);
+                        }
                         break;
                     }
                     case INSTALL_SNAPSHOT: {
@@ -608,8 +753,16 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
                 }
             } finally {
                 this.flyingRpcQueue.poll();
+                if (rpcContext.isAppendEntries()) {
+                    this.flyingAppendEntriesCount--;
+                    this.flyingAppendEntriesBytes -= ((RpcRequest.AppendEntriesRequest) rpcContext.request).getLogData().size();
+                }
+            }
+            if (!continueSendLogEntry) {
+                // the requests behind it are based on a wrong next_log_index
+                resetFlyingRpc();
+                break;
             }
-
         } while (!this.flyingRpcQueue.isEmpty());
 
         if (continueSendLogEntry) {
@@ -617,6 +770,38 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         }
     }
 
+    /**
+     * adapt the batch size by the round trip time of the AppendEntriesRequest
+     * and the number of LogEntries waiting to be sent.
+     *
+     * @param rpcContext rpcContext of AppendEntriesRequest
+     */
+    private void onAppendEntriesComplete(final RpcContext rpcContext) {
+        final RpcRequest.AppendEntriesRequest request = (RpcRequest.AppendEntriesRequest) rpcContext.request;
+        final long latencyNanos = System.nanoTime() - rpcContext.sendNanos;
+        if (this.appendEntriesTimer != null) {
+            this.appendEntriesTimer.update(latencyNanos, TimeUnit.NANOSECONDS);
+        }
+        final long waitingNum = this.option.getLogManager().getLastLogIndex() - getNextSendingLogIndex() + 1;
+        this.batchSizer.onComplete(request.getLogMetaCount(), request.getLogData().size(), latencyNanos, (int) Math.max(0, Math.min(Integer.MAX_VALUE, waitingNum)));
+    }
+
+    /**
+     * discard all in-flight requests, their responses will be treated as expired.
+     */
+    private void resetFlyingRpc() {
+        if (this.flyingRpcQueue.isEmpty()) {
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} discard {} in-flight requests.", this, this.flyingRpcQueue.size());
+        }
+        this.version.incrementAndGet();
+        this.flyingRpcQueue.clear();
+        this.flyingAppendEntriesCount = 0;
+        this.flyingAppendEntriesBytes = 0;
+    }
+
     boolean handleAppendLogEntryResponse(final RpcRequest.AppendEntriesRequest request, final Finished finished, @Nullable RpcRequest.AppendEntriesResponse response) {
         if (!finished.isOk()) {
             LOGGER.warn("The Sender={} receive failure for request={}. Wait and try to send again", this, RpcLogUtil.toLogInfo(request), finished.error());
@@ -636,6 +821,9 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
             if (response.getLastLogIndex() < this.nextLogIndex - 1) {
                 //The target replica contains fewer logs than the primary replica
                 this.nextLogIndex = response.getLastLogIndex() + 1;
+            } else if (response.hasConflictTerm() && response.hasConflictFirstIndex()) {
+                //The target replica has conflicting LogEntries, skip the whole conflicting term
+                this.nextLogIndex = nextLogIndexOnConflict(request.getPrevLogIndex(), response.getConflictTerm(), response.getConflictFirstIndex());
             } else {
                 //The target replica may be truncated
                 //
@@ -659,6 +847,12 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         //success
         final int appendCount = request.getLogMetaCount();
         if (appendCount > 0) {
+            if (request.getPrevLogIndex() + 1 != this.nextLogIndex) {
+                LOGGER.warn("The Sender={} receive out of order response={} for request={}. The probe will continue forward ",
+                        this, RpcLogUtil.toLogInfo(response), RpcLogUtil.toLogInfo(request));
+                this.sendProbeRequest();
+                return false;
+            }
             if (this.type.isSecondary()) {
                 final long endLogIndex  = this.nextLogIndex + appendCount - 1;
                 this.option.getBallotBox().ballotBy(this.toId, this.nextLogIndex, endLogIndex);
@@ -675,6 +869,22 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
         return true;
     }
 
+    /**
+     * If the Primary has LogEntries of the conflicting term, the target replica matches up to the last of them,
+     * or else all LogEntries of the conflicting term in the target replica will be overwritten.
+     *
+     * @param prevLogIndex       prevLogIndex of the rejected request
+     * @param conflictTerm       term of the conflicting LogEntry in the target replica
+     * @param conflictFirstIndex first log index of the conflicting term in the target replica
+     * @return next log index
+     */
+    long nextLogIndexOnConflict(final long prevLogIndex, final long conflictTerm, final long conflictFirstIndex) {
+        final LogManager logManager = this.option.getLogManager();
+        final long lastLogIndexOfTerm = logManager.findLastLogIndexOfTerm(conflictTerm, conflictFirstIndex, prevLogIndex - 1);
+        final long nextLogIndex = lastLogIndexOfTerm > 0 ? lastLogIndexOfTerm + 1 : conflictFirstIndex;
+        return Math.max(1, Math.min(nextLogIndex, prevLogIndex));
+    }
+
     boolean handleInstallSnapshotResponse(final RpcRequest.InstallSnapshotRequest request, Finished finished, RpcRequest.InstallSnapshotResponse response) {
         try {
             if (!finished.isOk()) {
@@ -870,6 +1080,8 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
 
         private Finished finished;
 
+        private final long sendNanos = System.nanoTime();
+
         RpcContext(RpcType rpcType, Message request) {
             this(requestIdAllocator.incrementAndGet(), rpcType, request, SenderImpl.this.version.get());
         }
@@ -883,13 +1095,17 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
 
         @Override
         public int compareTo(RpcContext o) {
-            return 0;
+            return Long.compare(this.requestId, o.requestId);
         }
 
         public boolean isFinished() {
             return this.finished != null;
         }
 
+        boolean isAppendEntries() {
+            return this.rpcType == RpcType.APPEND_LOG_ENTRY && ((RpcRequest.AppendEntriesRequest) this.request).getLogMetaCount() > 0;
+        }
+
         public boolean isExpired() {
             return SenderImpl.this.version.get() > version;
         }
@@ -919,8 +1135,13 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
 
     public static class Option {
 
+        public static final int DEFAULT_MIN_SEND_LOG_ENTRY_NUM = SystemPropertyUtil.getInt("pacifica.min.send.log.entry.num", 16);
         public static final int DEFAULT_MAX_SEND_LOG_ENTRY_NUM = SystemPropertyUtil.getInt("pacifica.max.send.log.entry.num", 16);
+        public static final int DEFAULT_MIN_SEND_LOG_ENTRY_BYTE_SIZE = SystemPropertyUtil.getInt("pacifica.min.send.log.entry.bytes", 1024 * 1024);
         public static final int DEFAULT_MAX_SEND_LOG_ENTRY_BYTE_SIZE = SystemPropertyUtil.getInt("pacifica.max.send.log.entry.bytes", 8 * 1024 * 1024);
+        public static final int DEFAULT_SEND_LOG_ENTRY_TARGET_LATENCY_MS = SystemPropertyUtil.getInt("pacifica.send.log.entry.target.latency.ms", 50);
+        public static final int DEFAULT_MAX_FLYING_REQUEST_NUM = SystemPropertyUtil.getInt("pacifica.max.flying.request.num", 32);
+        public static final long DEFAULT_MAX_FLYING_REQUEST_BYTES = SystemPropertyUtil.getLong("pacifica.max.flying.request.bytes", 64 * 1024 * 1024);
 
         private ReplicaImpl replica;
 
@@ -940,19 +1161,52 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
 
         private SnapshotStorage snapshotStorage;
 
+        /**
+         * The batch of LogEntries in one AppendLogEntriesRequest is sized adaptively between [min, max]
+         * by number and by bytes, see {@link AdaptiveBatchSizer}.
+         * Both min and max number are 16 by default as before, raise "pacifica.max.send.log.entry.num" to let the batch grow.
+         */
+        private int minSendLogEntryNum = DEFAULT_MIN_SEND_LOG_ENTRY_NUM;
+
         private int maxSendLogEntryNum = DEFAULT_MAX_SEND_LOG_ENTRY_NUM;
 
+        private int minSendLogEntryBytes = DEFAULT_MIN_SEND_LOG_ENTRY_BYTE_SIZE;
+
         /**
          * Maximum number of bytes of AppendLogEntriesRequest
          * The actual number of bytes is likely to exceed this value
          */
         private int maxSendLogEntryBytes = DEFAULT_MAX_SEND_LOG_ENTRY_BYTE_SIZE;
 
+        /**
+         * Maximum number of requests in flight of one Sender, that is the size of the pipeline window.
+         * 1 means that the next AppendLogEntriesRequest is sent only after the response of the previous one is received.
+         */
+        private int maxFlyingRequestNum = DEFAULT_MAX_FLYING_REQUEST_NUM;
+
+        /**
+         * Maximum number of bytes of the log data in flight of one Sender.
+         * No more AppendLogEntriesRequest is sent once it is reached, so it may be exceeded by at most one request.
+         */
+        private long maxFlyingRequestBytes = DEFAULT_MAX_FLYING_REQUEST_BYTES;
+
+        /**
+         * the batch shrinks if the round trip of AppendLogEntriesRequest takes longer than it, 0 means never shrink
+         */
+        private int sendLogEntryTargetLatencyMs = DEFAULT_SEND_LOG_ENTRY_TARGET_LATENCY_MS;
+
+        private MetricRegistry metricRegistry;
+
 
         private int heartbeatTimeoutMs = 2000;
 
         private Timer heartBeatTimer;
 
+        /**
+         * null if each heartbeat is sent alone
+         */
+        private HeartbeatMultiplexer heartbeatMultiplexer;
+
         private ScheduledExecutorService senderScheduler;
 
         private FileService fileService;
@@ -1037,6 +1291,38 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
             this.maxSendLogEntryNum = Math.max(1, maxSendLogEntryNum);
         }
 
+        public int getMinSendLogEntryNum() {
+            return minSendLogEntryNum;
+        }
+
+        public void setMinSendLogEntryNum(int minSendLogEntryNum) {
+            this.minSendLogEntryNum = Math.max(1, minSendLogEntryNum);
+        }
+
+        public int getMinSendLogEntryBytes() {
+            return minSendLogEntryBytes;
+        }
+
+        public void setMinSendLogEntryBytes(int minSendLogEntryBytes) {
+            this.minSendLogEntryBytes = Math.max(1, minSendLogEntryBytes);
+        }
+
+        public int getSendLogEntryTargetLatencyMs() {
+            return sendLogEntryTargetLatencyMs;
+        }
+
+        public void setSendLogEntryTargetLatencyMs(int sendLogEntryTargetLatencyMs) {
+            this.sendLogEntryTargetLatencyMs = Math.max(0, sendLogEntryTargetLatencyMs);
+        }
+
+        public MetricRegistry getMetricRegistry() {
+            return metricRegistry;
+        }
+
+        public void setMetricRegistry(MetricRegistry metricRegistry) {
+            this.metricRegistry = metricRegistry;
+        }
+
         public int getMaxSendLogEntryBytes() {
             return maxSendLogEntryBytes;
         }
@@ -1045,6 +1331,22 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
             this.maxSendLogEntryBytes = maxSendLogEntryBytes;
         }
 
+        public int getMaxFlyingRequestNum() {
+            return maxFlyingRequestNum;
+        }
+
+        public void setMaxFlyingRequestNum(int maxFlyingRequestNum) {
+            this.maxFlyingRequestNum = Math.max(1, maxFlyingRequestNum);
+        }
+
+        public long getMaxFlyingRequestBytes() {
+            return maxFlyingRequestBytes;
+        }
+
+        public void setMaxFlyingRequestBytes(long maxFlyingRequestBytes) {
+            this.maxFlyingRequestBytes = Math.max(1, maxFlyingRequestBytes);
+        }
+
         public PacificaClient getPacificaClient() {
             return pacificaClient;
         }
@@ -1069,6 +1371,14 @@ public class SenderImpl implements Sender, LifeCycle<SenderImpl.Option> {
             this.heartBeatTimer = heartBeatTimer;
         }
 
+        public HeartbeatMultiplexer getHeartbeatMultiplexer() {
+            return heartbeatMultiplexer;
+        }
+
+        public void setHeartbeatMultiplexer(HeartbeatMultiplexer heartbeatMultiplexer) {
+            this.heartbeatMultiplexer = heartbeatMultiplexer;
+        }
+
         public BallotBox getBallotBox() {
             return ballotBox;
         }
@@ -18,38 +18,68 @@
 package com.trs.pacifica.snapshot.storage;
 
 import com.trs.pacifica.async.DirectExecutor;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.async.Task;
+import com.trs.pacifica.fs.remote.ChunkedDownloadSession;
 import com.trs.pacifica.fs.remote.RemoteFileDownloader;
+import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.rpc.client.PacificaClient;
 import com.trs.pacifica.snapshot.SnapshotDownloader;
-import com.trs.pacifica.snapshot.SnapshotWriter;
+import com.trs.pacifica.util.CrcUtil;
 import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
 
+/**
+ * Download the files of the snapshot by chunks, several files in parallel.
+ * The progress is recorded in {@link SnapshotDownloadJournal}, and the download of the same snapshot
+ * continues from it after failure or restart. Each file is verified with the checksum of the remote FileMeta,
+ * and the snapshot is published on close only if all files are downloaded and verified.
+ */
 public class DefaultSnapshotDownloader implements SnapshotDownloader {
 
+    static final Logger LOGGER = LoggerFactory.getLogger(DefaultSnapshotDownloader.class);
+
     static final int DEFAULT_TIMEOUT_MS = 10 * 60 * 1000; // 10 minutes
+    static final int DEFAULT_PARALLEL_FILES = 2;
 
     private final RemoteFileDownloader remoteFileDownloader;
-    private final SnapshotWriter snapshotWriter;
+    private final DefaultSnapshotWriter snapshotWriter;
     private DefaultSnapshotMeta remoteSnapshotMeta = null;
+    private SnapshotDownloadJournal journal = null;
     private volatile boolean canceled = false;
     private volatile Throwable exception = null;
     private final Executor executor;
     private int timeoutMs = DEFAULT_TIMEOUT_MS;
-    private final BlockingQueue<Task> tasks = new LinkedBlockingQueue<>();
+    private int chunkSize = ChunkedDownloadSession.Option.DEFAULT_CHUNK_SIZE;
+    private int maxInflightChunks = ChunkedDownloadSession.Option.DEFAULT_MAX_INFLIGHT_CHUNKS;
+    private int parallelFiles = DEFAULT_PARALLEL_FILES;
 
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final Queue<String> pendingFiles = new ArrayDeque<>();
+    /**
+     * filename -> download session, null until the session is started.
+     */
+    private final Map<String, Task> runningFiles = new HashMap<>();
+    private volatile boolean finished = false;
+    /**
+     * no more journal is saved after finished, so that it is not overwritten by the callback of a finished download.
+     */
+    private final Object journalLock = new Object();
 
-    protected DefaultSnapshotDownloader(PacificaClient pacificaClient, ReplicaId remoteId, long remoteReaderId, SnapshotWriter snapshotWriter, int timeoutMs, Executor executor) {
+
+    protected DefaultSnapshotDownloader(PacificaClient pacificaClient, ReplicaId remoteId, long remoteReaderId, DefaultSnapshotWriter snapshotWriter, int timeoutMs, Executor executor) {
         this(snapshotWriter, new RemoteFileDownloader(pacificaClient, remoteId, remoteReaderId), timeoutMs, executor);
     }
 
-    protected DefaultSnapshotDownloader(final SnapshotWriter snapshotWriter, final RemoteFileDownloader remoteFileDownloader, int timeoutMs, Executor executor) {
+    protected DefaultSnapshotDownloader(final DefaultSnapshotWriter snapshotWriter, final RemoteFileDownloader remoteFileDownloader, int timeoutMs, Executor executor) {
         this.snapshotWriter = snapshotWriter;
         this.remoteFileDownloader = remoteFileDownloader;
         if (executor == null) {
@@ -59,7 +89,7 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
         this.timeoutMs = timeoutMs;
     }
 
-    protected DefaultSnapshotDownloader(final SnapshotWriter snapshotWriter, final RemoteFileDownloader remoteFileDownloader) {
+    protected DefaultSnapshotDownloader(final DefaultSnapshotWriter snapshotWriter, final RemoteFileDownloader remoteFileDownloader) {
         this(snapshotWriter, remoteFileDownloader, DEFAULT_TIMEOUT_MS, new DirectExecutor());
     }
 
@@ -68,7 +98,7 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
         try {
             startDownload();
         } catch (Throwable e) {
-            this.exception = e;
+            onFinished(e);
         }
     }
 
@@ -76,19 +106,132 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
     private void startDownload() throws IOException {
         //1. list files of the remote snapshot
         loadRemoteSnapshotMeta();
-        //2. download
+        //2. load the progress downloaded before
+        loadJournal();
+        //3. download
         Collection<String> remoteFiles = this.remoteSnapshotMeta.listFiles();
         for (String filename : remoteFiles) {
             ensureCanceled();
             File downloadFile = new File(getLocalDownloadFile(filename));
-            if (downloadFile.exists()) {
+            if (this.journal.isCompleted(filename) && downloadFile.isFile()
+                    && downloadFile.length() == this.journal.getDownloadedLength(filename)) {
+                this.snapshotWriter.addFile(filename, this.remoteSnapshotMeta.getFileMeta(filename));
+                continue;
+            }
+            synchronized (this) {
+                this.pendingFiles.add(filename);
+            }
+        }
+        LOGGER.info("start to download snapshot({}), file_count={}, resumed_file_count={}.", this.remoteSnapshotMeta.getSnapshotLogId(),
+                remoteFiles.size(), remoteFiles.size() - this.pendingFiles.size());
+        for (int i = 0; i < Math.max(1, this.parallelFiles); i++) {
+            downloadNextFile();
+        }
+    }
+
+    private void downloadNextFile() {
+        final String filename;
+        synchronized (this) {
+            if (this.finished) {
+                return;
+            }
+            filename = this.pendingFiles.poll();
+            if (filename == null) {
+                if (this.runningFiles.isEmpty()) {
+                    onFinished(null);
+                }
+                return;
+            }
+            this.runningFiles.put(filename, null);
+        }
+        try {
+            final File downloadFile = new File(getLocalDownloadFile(filename));
+            long startOffset = this.journal.getDownloadedLength(filename);
+            if (startOffset > downloadFile.length() || this.journal.isCompleted(filename)) {
+                startOffset = 0;
+            }
+            if (startOffset == 0 && downloadFile.exists()) {
                 FileUtils.forceDelete(downloadFile);
             }
-            final Task task = this.remoteFileDownloader.asyncDownloadToFile(filename, downloadFile, timeoutMs, executor);
-            if (task != null) {
-                this.tasks.add(task);
+            final ChunkedDownloadSession.Option option = new ChunkedDownloadSession.Option();
+            option.setChunkSize(this.chunkSize);
+            option.setMaxInflightChunks(this.maxInflightChunks);
+            option.setTimeoutMs(this.timeoutMs);
+            option.setExecutor(this.executor);
+            final Task task = this.remoteFileDownloader.asyncDownloadToFile(filename, downloadFile, startOffset, option,
+                    this::onFileProgress, (finished) -> {
+                        onFileDownloaded(filename, finished);
+                    });
+            synchronized (this) {
+                if (this.runningFiles.containsKey(filename)) {
+                    this.runningFiles.put(filename, task);
+                    return;
+                }
+            }
+            // finished by failure of others or cancel
+            task.cancel();
+        } catch (Throwable e) {
+            onFinished(e);
+        }
+    }
+
+    private void onFileProgress(final String filename, final long downloadedLength) throws IOException {
+        this.journal.setDownloadedLength(filename, downloadedLength);
+        saveJournal();
+    }
+
+    private void onFileDownloaded(final String filename, final Finished finished) {
+        if (this.finished) {
+            return;
+        }
+        try {
+            if (!finished.isOk()) {
+                throw finished.error();
+            }
+            final File downloadFile = new File(getLocalDownloadFile(filename));
+            final RpcCommon.FileMeta fileMeta = this.remoteSnapshotMeta.getFileMeta(filename);
+            // the checksum is required by loadRemoteSnapshotMeta
+            final long checksum = CrcUtil.crc64(downloadFile);
+            if (checksum != fileMeta.getChecksum()) {
+                // download it from the beginning next time
+                this.journal.remove(filename);
+                saveJournal();
+                FileUtils.forceDelete(downloadFile);
+                throw new IOException(String.format("checksum mismatch of file=%s, expect=%d, actual=%d.", filename, fileMeta.getChecksum(), checksum));
+            }
+            this.journal.complete(filename, downloadFile.length());
+            saveJournal();
+            this.snapshotWriter.addFile(filename, fileMeta);
+            synchronized (this) {
+                this.runningFiles.remove(filename);
+            }
+            downloadNextFile();
+        } catch (Throwable e) {
+            onFinished(e);
+        }
+    }
+
+    private void onFinished(final Throwable throwable) {
+        final List<Task> tasks;
+        synchronized (this.journalLock) {
+            synchronized (this) {
+                if (this.finished) {
+                    return;
+                }
+                this.finished = true;
+                this.exception = throwable;
+                tasks = new ArrayList<>(this.runningFiles.values());
+                this.runningFiles.clear();
+            }
+        }
+        if (throwable != null) {
+            for (Task task : tasks) {
+                if (task != null) {
+                    task.cancel();
+                }
             }
         }
+        this.latch.countDown();
     }
 
     String getLocalDownloadFile(String filename) {
@@ -103,6 +246,42 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
         }
         this.remoteFileDownloader.downloadToFile(DefaultSnapshotMeta.SNAPSHOT_META_FILE, downloadFile);
         this.remoteSnapshotMeta = DefaultSnapshotMeta.loadFromFile(downloadFile);
+        for (String filename : this.remoteSnapshotMeta.listFiles()) {
+            final RpcCommon.FileMeta fileMeta = this.remoteSnapshotMeta.getFileMeta(filename);
+            if (fileMeta == null || !fileMeta.hasChecksum()) {
+                throw new IOException(String.format("no checksum of file=%s in the snapshot(%s).", filename, this.remoteSnapshotMeta.getSnapshotLogId()));
+            }
+        }
+    }
+
+    private void loadJournal() throws IOException {
+        final String downloadDir = this.snapshotWriter.getDirectory();
+        final LogId remoteSnapshotLogId = this.remoteSnapshotMeta.getSnapshotLogId();
+        SnapshotDownloadJournal journal = SnapshotDownloadJournal.loadFromFile(SnapshotDownloadJournal.getJournalFile(downloadDir));
+        if (journal == null || !remoteSnapshotLogId.equals(journal.getSnapshotLogId())) {
+            // it is another snapshot, download from the beginning
+            final File[] files = new File(downloadDir).listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (!DefaultSnapshotMeta.SNAPSHOT_META_FILE.equals(file.getName())) {
+                        FileUtils.forceDelete(file);
+                    }
+                }
+            }
+            journal = new SnapshotDownloadJournal(remoteSnapshotLogId);
+        }
+        this.journal = journal;
+        saveJournal();
+    }
+
+    private void saveJournal() throws IOException {
+        final File journalFile = SnapshotDownloadJournal.getJournalFile(this.snapshotWriter.getDirectory());
+        synchronized (this.journalLock) {
+            if (this.finished) {
+                throw new CancellationException(this.getClass().getSimpleName() + " has finished.");
+            }
+            SnapshotDownloadJournal.saveToFile(this.journal, journalFile);
+        }
     }
 
     private void ensureCanceled() {
@@ -113,25 +292,14 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
 
     @Override
     public boolean cancel() {
-        if (!canceled && this.tasks.isEmpty()) {
-            try {
-                cancelAllTask();
-                ensureCanceled();
-            } catch (Throwable e) {
-                this.exception = e;
-            }
+        if (!canceled && !isCompleted()) {
+            this.canceled = true;
+            onFinished(new CancellationException(this.getClass().getSimpleName() + " has canceled."));
             return true;
         }
         return false;
     }
 
-    private void cancelAllTask() {
-        Task task = null;
-        while ((task = tasks.poll()) != null) {
-            task.cancel();
-        }
-    }
-
     @Override
     public boolean isCancelled() {
         return canceled;
@@ -139,10 +307,7 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
 
     @Override
     public void awaitComplete() throws InterruptedException, ExecutionException {
-        Task task = null;
-        while ((task = tasks.poll()) != null) {
-            task.awaitComplete();
-        }
+        this.latch.await();
         if (this.exception != null) {
             throw new ExecutionException("failed to download snapshot, msg=" + exception.getMessage(), this.exception);
         }
@@ -150,16 +315,38 @@ public class DefaultSnapshotDownloader implements SnapshotDownloader {
 
     @Override
     public boolean isCompleted() {
-        return this.tasks.isEmpty();
+        return this.latch.getCount() == 0;
     }
 
+    /**
+     * publish the snapshot if all files are downloaded, or else keep them to resume next time.
+     *
+     * @throws IOException if error
+     */
     @Override
     public void close() throws IOException {
         if (snapshotWriter != null) {
-            snapshotWriter.close();
+            if (isCompleted() && this.exception == null) {
+                FileUtils.deleteQuietly(SnapshotDownloadJournal.getJournalFile(this.snapshotWriter.getDirectory()));
+                snapshotWriter.close();
+            } else {
+                snapshotWriter.release();
+            }
         }
     }
 
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public void setMaxInflightChunks(int maxInflightChunks) {
+        this.maxInflightChunks = maxInflightChunks;
+    }
+
+    public void setParallelFiles(int parallelFiles) {
+        this.parallelFiles = parallelFiles;
+    }
+
     static String getRemoteSnapshotMetaFilePath(final String dir) {
         return dir + File.separator + DefaultSnapshotMeta.SNAPSHOT_META_FILE;
     }
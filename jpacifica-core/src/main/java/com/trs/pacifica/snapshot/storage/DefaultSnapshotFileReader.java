@@ -17,41 +17,117 @@
 
 package com.trs.pacifica.snapshot.storage;
 
+import com.trs.pacifica.error.AlreadyClosedException;
 import com.trs.pacifica.fs.FileReader;
+import com.trs.pacifica.util.IOUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * read the files of snapshot for download.
+ * the FileChannel of each file is opened once and kept until close, chunks are read at the position of it.
+ */
 public class DefaultSnapshotFileReader implements FileReader {
 
     private final String snapshotPath;
 
+    private final Map<String, FileChannel> fileChannels = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
     public DefaultSnapshotFileReader(String snapshotPath) {
         this.snapshotPath = snapshotPath;
     }
 
 
     @Override
-    public int read(ByteBuffer buffer, String filename, int offset, int length) throws IOException {
-        final String readFilePath = getReadFilePath(filename);
-        File readFile = new File(readFilePath);
-        if (!readFile.exists()) {
+    public int read(ByteBuffer buffer, String filename, long offset, int length) throws IOException {
+        final FileChannel fc = getFileChannel(filename);
+        if (fc == null) {
             return EOF;
         }
-        try (final FileInputStream input = new FileInputStream(readFile);
-             final FileChannel fc = input.getChannel()) {
-            int readLen = fc.read(buffer, offset);
-            if (readLen <= 0) {
-                return EOF;
+        // read until length bytes are read or the end of the file is reached
+        final int limit = buffer.limit();
+        buffer.limit(buffer.position() + Math.min(length, buffer.remaining()));
+        int readLen = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                final int len = fc.read(buffer, offset + readLen);
+                if (len <= 0) {
+                    break;
+                }
+                readLen += len;
+            }
+        } finally {
+            buffer.limit(limit);
+        }
+        if (readLen <= 0) {
+            return EOF;
+        }
+        return readLen;
+    }
+
+    /**
+     * @param filename filename
+     * @return null if the file is not exists
+     * @throws IOException if failed to open
+     */
+    private FileChannel getFileChannel(final String filename) throws IOException {
+        ensureClosed();
+        FileChannel fc = this.fileChannels.get(filename);
+        if (fc != null) {
+            return fc;
+        }
+        final File readFile = new File(getReadFilePath(filename));
+        if (!readFile.isFile()) {
+            return null;
+        }
+        try {
+            fc = this.fileChannels.computeIfAbsent(filename, (name) -> {
+                try {
+                    return FileChannel.open(readFile.toPath(), StandardOpenOption.READ);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof NoSuchFileException) {
+                return null;
             }
-            return readLen;
+            throw e.getCause();
+        }
+        if (this.closed) {
+            // closed while opening
+            close();
+            ensureClosed();
         }
+        return fc;
     }
 
     private String getReadFilePath(String filename) {
         return this.snapshotPath + File.separator + filename;
     }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        final ArrayList<FileChannel> channels = new ArrayList<>(this.fileChannels.values());
+        this.fileChannels.clear();
+        IOUtils.close(channels);
+    }
+
+    void ensureClosed() {
+        if (closed) {
+            throw new AlreadyClosedException(this.getClass().getSimpleName() + " already closed.");
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.util.BitUtil;
+import com.trs.pacifica.util.CrcUtil;
 import com.trs.pacifica.util.IOUtils;
 import org.apache.commons.io.FileUtils;
 
@@ -75,6 +76,30 @@ public class DefaultSnapshotMeta {
     }
 
 
+    /**
+     * compute the checksums of the files in the snapshot directory that have no checksum.
+     *
+     * @param snapshotDirectory directory of the files
+     * @return true if any checksum is computed
+     * @throws IOException io error
+     */
+    boolean computeChecksums(final String snapshotDirectory) throws IOException {
+        boolean computed = false;
+        for (Map.Entry<String, RpcCommon.FileMeta> entry : this.files.entrySet()) {
+            final RpcCommon.FileMeta fileMeta = entry.getValue();
+            if (fileMeta.hasChecksum()) {
+                continue;
+            }
+            final File file = new File(snapshotDirectory, entry.getKey());
+            if (!file.isFile()) {
+                continue;
+            }
+            this.files.put(entry.getKey(), fileMeta.toBuilder().setChecksum(CrcUtil.crc64(file)).build());
+            computed = true;
+        }
+        return computed;
+    }
+
     public static DefaultSnapshotMeta newSnapshotMeta(LogId snapshotLogId) {
         return new DefaultSnapshotMeta(snapshotLogId);
     }
@@ -43,6 +43,8 @@ public class DefaultSnapshotStorage implements SnapshotStorage {
 
     static final String SNAPSHOT_WRITER_DIR = "_temp";
 
+    static final String SNAPSHOT_DOWNLOAD_DIR = "_download";
+
     private final String storagePath;
 
     /**
@@ -209,16 +211,41 @@ public class DefaultSnapshotStorage implements SnapshotStorage {
     }
 
 
+    /**
+     * open SnapshotWriter on the download directory, unlike {@link #openSnapshotWriter(LogId)},
+     * the files downloaded before are kept, so that the download can be resumed.
+     *
+     * @param snapshotLogId snapshotLogId
+     * @return null if the download directory is in use
+     * @throws IOException if error
+     */
+    DefaultSnapshotWriter openDownloadSnapshotWriter(final LogId snapshotLogId) throws IOException {
+        final String downloadSnapshotName = getDownloadSnapshotName();
+        if (getRef(downloadSnapshotName) != 0) {
+            return null;
+        }
+        FileUtils.forceMkdir(new File(getSnapshotPath(downloadSnapshotName)));
+        incRef(downloadSnapshotName);
+        return new DefaultSnapshotWriter(snapshotLogId, this, downloadSnapshotName);
+    }
+
+    protected String getDownloadSnapshotName() {
+        return SNAPSHOT_DOWNLOAD_DIR;
+    }
+
     @Override
     public SnapshotDownloader startDownloadSnapshot(DownloadContext downloadContext) throws IOException {
         final LogId downloadLogId = downloadContext.getDownloadLogId();
         //SnapshotWriter
-        final SnapshotWriter snapshotWriter = this.openSnapshotWriter(downloadLogId);
+        final DefaultSnapshotWriter snapshotWriter = this.openDownloadSnapshotWriter(downloadLogId);
         if (snapshotWriter == null) {
             throw new IOException("failed to open SnapshotWriter on start download snapshot.");
         }
         final DefaultSnapshotDownloader snapshotDownloader = new DefaultSnapshotDownloader(downloadContext.getPacificaClient(),
                 downloadContext.getRemoteId(), downloadContext.getReaderId(), snapshotWriter, downloadContext.getTimeoutMs(), downloadContext.getDownloadExecutor());
+        snapshotDownloader.setChunkSize(downloadContext.getChunkSize());
+        snapshotDownloader.setMaxInflightChunks(downloadContext.getMaxInflightChunks());
+        snapshotDownloader.setParallelFiles(downloadContext.getParallelFiles());
         return snapshotDownloader;
     }
 
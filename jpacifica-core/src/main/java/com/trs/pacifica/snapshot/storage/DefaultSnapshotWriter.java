@@ -19,6 +19,7 @@ package com.trs.pacifica.snapshot.storage;
 
 import com.trs.pacifica.error.AlreadyClosedException;
 import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.snapshot.SnapshotWriter;
 import com.trs.pacifica.util.IOUtils;
 import org.apache.commons.io.FileUtils;
@@ -60,6 +61,18 @@ public class DefaultSnapshotWriter extends SnapshotWriter {
         return this.snapshotMeta.addFile(filename, null);
     }
 
+    /**
+     * add the file with its FileMeta, such as the file downloaded from remote.
+     *
+     * @param filename filename
+     * @param fileMeta fileMeta, nullable
+     * @return true if success
+     */
+    public boolean addFile(String filename, RpcCommon.FileMeta fileMeta) {
+        ensureClosed();
+        return this.snapshotMeta.addFile(filename, fileMeta);
+    }
+
     @Override
     public boolean removeFile(String filename) {
         ensureClosed();
@@ -71,6 +84,8 @@ public class DefaultSnapshotWriter extends SnapshotWriter {
         //TODO check successful
         if (!closed) {
             try {
+                // checksum of the files before the snapshot is published, so that it is verified after download
+                this.snapshotMeta.computeChecksums(getDirectory());
                 // save snapshot log id
                 saveSnapshotMeta();
                 // rename temp dir to snapshot dir
@@ -84,6 +99,17 @@ public class DefaultSnapshotWriter extends SnapshotWriter {
         }
     }
 
+    /**
+     * close without publishing the snapshot, the files in the directory are kept.
+     * such as a download that fails, it is resumed next time.
+     */
+    synchronized void release() {
+        if (!closed) {
+            this.snapshotStorage.decRef(this.pathName);
+            this.closed = true;
+        }
+    }
+
     void saveSnapshotMeta() throws IOException {
         String snapshotMetaFilePath = DefaultSnapshotMeta.getSnapshotMetaFilePath(this.getDirectory());
         DefaultSnapshotMeta.saveToFile(this.snapshotMeta, snapshotMetaFilePath, true);
@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.snapshot.storage;
+
+import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.util.BitUtil;
+import com.trs.pacifica.util.CrcUtil;
+import com.trs.pacifica.util.IOUtils;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The progress of downloading snapshot, saved in the download directory,
+ * so that the download of the same snapshot can be resumed after restart.
+ * It records the length of each file that is synced to disk, and the files that are verified completely.
+ */
+class SnapshotDownloadJournal {
+
+    static final Logger LOGGER = LoggerFactory.getLogger(SnapshotDownloadJournal.class);
+
+    static final String DOWNLOAD_JOURNAL_FILE = "_download_journal";
+
+    private static final long MAGIC = 0x4A50444C4A524E4CL;
+
+    private final LogId snapshotLogId;
+
+    private final Map<String, Long> downloadedLengths = new HashMap<>();
+
+    private final Set<String> completedFiles = new HashSet<>();
+
+    SnapshotDownloadJournal(LogId snapshotLogId) {
+        this.snapshotLogId = snapshotLogId;
+    }
+
+    LogId getSnapshotLogId() {
+        return snapshotLogId;
+    }
+
+    synchronized long getDownloadedLength(final String filename) {
+        return this.downloadedLengths.getOrDefault(filename, 0L);
+    }
+
+    synchronized void setDownloadedLength(final String filename, final long downloadedLength) {
+        this.downloadedLengths.put(filename, downloadedLength);
+    }
+
+    synchronized boolean isCompleted(final String filename) {
+        return this.completedFiles.contains(filename);
+    }
+
+    synchronized void complete(final String filename, final long length) {
+        this.downloadedLengths.put(filename, length);
+        this.completedFiles.add(filename);
+    }
+
+    synchronized void remove(final String filename) {
+        this.downloadedLengths.remove(filename);
+        this.completedFiles.remove(filename);
+    }
+
+    synchronized byte[] encode() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] longBytes = new byte[Long.BYTES];
+        final byte[] intBytes = new byte[Integer.BYTES];
+        BitUtil.putLong(longBytes, 0, MAGIC);
+        output.write(longBytes, 0, Long.BYTES);
+        BitUtil.putLong(longBytes, 0, this.snapshotLogId.getIndex());
+        output.write(longBytes, 0, Long.BYTES);
+        BitUtil.putLong(longBytes, 0, this.snapshotLogId.getTerm());
+        output.write(longBytes, 0, Long.BYTES);
+        BitUtil.putInt(intBytes, 0, this.downloadedLengths.size());
+        output.write(intBytes, 0, Integer.BYTES);
+        this.downloadedLengths.forEach((filename, downloadedLength) -> {
+            final byte[] utf8Filename = filename.getBytes(StandardCharsets.UTF_8);
+            BitUtil.putInt(intBytes, 0, utf8Filename.length);
+            output.write(intBytes, 0, Integer.BYTES);
+            output.write(utf8Filename, 0, utf8Filename.length);
+            BitUtil.putLong(longBytes, 0, downloadedLength);
+            output.write(longBytes, 0, Long.BYTES);
+            output.write(this.completedFiles.contains(filename) ? 1 : 0);
+        });
+        final byte[] content = output.toByteArray();
+        BitUtil.putLong(longBytes, 0, CrcUtil.crc64(content));
+        output.write(longBytes, 0, Long.BYTES);
+        return output.toByteArray();
+    }
+
+    /**
+     * @param bytes bytes
+     * @return null if the bytes is broken
+     */
+    static SnapshotDownloadJournal decode(final byte[] bytes) {
+        final int minLength = Long.BYTES * 4 + Integer.BYTES;
+        if (bytes.length < minLength || BitUtil.getLong(bytes, 0) != MAGIC) {
+            return null;
+        }
+        final int contentLength = bytes.length - Long.BYTES;
+        if (CrcUtil.crc64(bytes, 0, contentLength) != BitUtil.getLong(bytes, contentLength)) {
+            return null;
+        }
+        int offset = Long.BYTES;
+        final long snapshotLogIndex = BitUtil.getLong(bytes, offset);
+        offset += Long.BYTES;
+        final long snapshotLogTerm = BitUtil.getLong(bytes, offset);
+        offset += Long.BYTES;
+        final SnapshotDownloadJournal journal = new SnapshotDownloadJournal(new LogId(snapshotLogIndex, snapshotLogTerm));
+        final int fileSize = BitUtil.getInt(bytes, offset);
+        offset += Integer.BYTES;
+        for (int i = 0; i < fileSize; i++) {
+            final int utf8FilenameLen = BitUtil.getInt(bytes, offset);
+            offset += Integer.BYTES;
+            final String filename = new String(bytes, offset, utf8FilenameLen, StandardCharsets.UTF_8);
+            offset += utf8FilenameLen;
+            final long downloadedLength = BitUtil.getLong(bytes, offset);
+            offset += Long.BYTES;
+            final boolean completed = bytes[offset] == 1;
+            offset += 1;
+            journal.downloadedLengths.put(filename, downloadedLength);
+            if (completed) {
+                journal.completedFiles.add(filename);
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * @param journalFile journalFile
+     * @return null if it is not exists or broken
+     */
+    static SnapshotDownloadJournal loadFromFile(final File journalFile) {
+        if (!journalFile.exists()) {
+            return null;
+        }
+        try {
+            return decode(FileUtils.readFileToByteArray(journalFile));
+        } catch (Throwable e) {
+            LOGGER.warn("failed to load the download journal {}, download again.", journalFile, e);
+            return null;
+        }
+    }
+
+    static void saveToFile(final SnapshotDownloadJournal journal, final File journalFile) throws IOException {
+        final File saveTempFile = new File(journalFile.getPath() + DefaultSnapshotMeta.TEMP_SUFFIX);
+        try (final FileOutputStream fos = new FileOutputStream(saveTempFile)) {
+            fos.write(journal.encode());
+        }
+        IOUtils.fsync(saveTempFile.toPath(), false);
+        IOUtils.atomicMoveFile(saveTempFile, journalFile, true);
+    }
+
+    static File getJournalFile(final String downloadDirectory) {
+        return new File(downloadDirectory, DOWNLOAD_JOURNAL_FILE);
+    }
+
+}
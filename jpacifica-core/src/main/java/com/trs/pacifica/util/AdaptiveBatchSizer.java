@@ -0,0 +1,245 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.trs.pacifica.util;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limits of a batch, both on the number of items and on the bytes of them.
+ * <p>
+ * The limits move between [min, max] in the way of AIMD, driven by the completed batches:
+ * 1. the latency of the batch (such as flush or rpc) exceeds the target: shrink the limits to 3/4;
+ * 2. the batch is full and more items are waiting in the queue: double the limits;
+ * 3. otherwise, keep the limits.
+ * So that the batch grows under heavy load to save fsync and rpc, and shrinks when the latency goes up.
+ * Under light load the batch is naturally small, a linger time could be used to wait for more items.
+ * <p>
+ * The chosen batch sizes and the current limits are exposed as metrics if a MetricRegistry is given.
+ */
+public class AdaptiveBatchSizer {
+
+    private final int minBatchNum;
+
+    private final int maxBatchNum;
+
+    private final int minBatchBytes;
+
+    private final int maxBatchBytes;
+
+    private final long targetLatencyNanos;
+
+    private final long lingerNanos;
+
+    private volatile int batchNumLimit;
+
+    private volatile int batchBytesLimit;
+
+    private final MetricRegistry metricRegistry;
+
+    private final String metricPrefix;
+
+    private final Histogram batchNumHistogram;
+
+    private final Histogram batchBytesHistogram;
+
+    public AdaptiveBatchSizer(final Option option) {
+        this(option, null, null);
+    }
+
+    public AdaptiveBatchSizer(final Option option, @Nullable final MetricRegistry metricRegistry, @Nullable final String metricPrefix) {
+        this.maxBatchNum = Math.max(1, option.getMaxBatchNum());
+        this.minBatchNum = Math.max(1, Math.min(option.getMinBatchNum(), this.maxBatchNum));
+        this.maxBatchBytes = Math.max(1, option.getMaxBatchBytes());
+        this.minBatchBytes = Math.max(1, Math.min(option.getMinBatchBytes(), this.maxBatchBytes));
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, option.getTargetLatencyMs()));
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, option.getLingerMs()));
+        this.batchNumLimit = this.minBatchNum;
+        this.batchBytesLimit = this.minBatchBytes;
+        this.metricRegistry = metricRegistry;
+        this.metricPrefix = metricPrefix;
+        if (metricRegistry != null && metricPrefix != null) {
+            this.batchNumHistogram = metricRegistry.histogram(MetricRegistry.name(metricPrefix, "batch-num"));
+            this.batchBytesHistogram = metricRegistry.histogram(MetricRegistry.name(metricPrefix, "batch-bytes"));
+            metricRegistry.gauge(MetricRegistry.name(metricPrefix, "batch-num-limit"), () -> (Gauge<Integer>) this::getBatchNumLimit);
+            metricRegistry.gauge(MetricRegistry.name(metricPrefix, "batch-bytes-limit"), () -> (Gauge<Integer>) this::getBatchBytesLimit);
+        } else {
+            this.batchNumHistogram = null;
+            this.batchBytesHistogram = null;
+        }
+    }
+
+    /**
+     * @param batchNum   number of items in the batch
+     * @param batchBytes bytes of items in the batch
+     * @return true if no more items should be added to the batch
+     */
+    public boolean isFull(final int batchNum, final long batchBytes) {
+        return batchNum >= this.batchNumLimit || batchBytes >= this.batchBytesLimit;
+    }
+
+    /**
+     * how long to wait for more items before the batch is sent.
+     *
+     * @param queueDepth       number of items waiting in the queue
+     * @param oldestEnqueueNanos {@link System#nanoTime()} when the oldest waiting item was enqueued
+     * @return nanos to wait, 0 if the batch should be sent now
+     */
+    public long lingerNanos(final int queueDepth, final long oldestEnqueueNanos) {
+        if (this.lingerNanos <= 0 || queueDepth >= this.batchNumLimit) {
+            return 0L;
+        }
+        final long waited = System.nanoTime() - oldestEnqueueNanos;
+        return Math.max(0L, this.lingerNanos - waited);
+    }
+
+    /**
+     * record the size of the batch about to be sent.
+     *
+     * @param batchNum   number of items in the batch
+     * @param batchBytes bytes of items in the batch
+     */
+    public void onBatch(final int batchNum, final long batchBytes) {
+        if (this.batchNumHistogram != null) {
+            this.batchNumHistogram.update(batchNum);
+            this.batchBytesHistogram.update(batchBytes);
+        }
+    }
+
+    /**
+     * adapt the limits when the batch is completed.
+     *
+     * @param batchNum     number of items in the batch
+     * @param batchBytes   bytes of items in the batch
+     * @param latencyNanos latency of the batch
+     * @param queueDepth   number of items still waiting in the queue
+     */
+    public synchronized void onComplete(final int batchNum, final long batchBytes, final long latencyNanos, final int queueDepth) {
+        if (this.targetLatencyNanos > 0 && latencyNanos > this.targetLatencyNanos) {
+            this.batchNumLimit = Math.max(this.minBatchNum, this.batchNumLimit - (this.batchNumLimit >> 2));
+            this.batchBytesLimit = Math.max(this.minBatchBytes, this.batchBytesLimit - (this.batchBytesLimit >> 2));
+        } else if (queueDepth > 0 && isFull(batchNum, batchBytes)) {
+            this.batchNumLimit = (int) Math.min(this.maxBatchNum, (long) this.batchNumLimit << 1);
+            this.batchBytesLimit = (int) Math.min(this.maxBatchBytes, (long) this.batchBytesLimit << 1);
+        }
+    }
+
+    /**
+     * remove the metrics of this from the MetricRegistry, the other metrics with the same prefix are kept.
+     */
+    public void unregisterMetrics() {
+        if (this.metricRegistry != null && this.metricPrefix != null) {
+            this.metricRegistry.remove(MetricRegistry.name(this.metricPrefix, "batch-num"));
+            this.metricRegistry.remove(MetricRegistry.name(this.metricPrefix, "batch-bytes"));
+            this.metricRegistry.remove(MetricRegistry.name(this.metricPrefix, "batch-num-limit"));
+            this.metricRegistry.remove(MetricRegistry.name(this.metricPrefix, "batch-bytes-limit"));
+        }
+    }
+
+    public int getBatchNumLimit() {
+        return batchNumLimit;
+    }
+
+    public int getBatchBytesLimit() {
+        return batchBytesLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveBatchSizer{" +
+                "batchNumLimit=" + batchNumLimit +
+                ", batchBytesLimit=" + batchBytesLimit +
+                ", minBatchNum=" + minBatchNum +
+                ", maxBatchNum=" + maxBatchNum +
+                ", minBatchBytes=" + minBatchBytes +
+                ", maxBatchBytes=" + maxBatchBytes +
+                '}';
+    }
+
+    public static class Option {
+
+        private int minBatchNum = 1;
+
+        private int maxBatchNum = 1;
+
+        private int minBatchBytes = Integer.MAX_VALUE;
+
+        private int maxBatchBytes = Integer.MAX_VALUE;
+
+        /**
+         * the limits shrink if the latency of a batch exceeds it, 0 means never shrink
+         */
+        private int targetLatencyMs = 0;
+
+        /**
+         * maximum time to wait for more items if the queue can not fill a batch, 0 means never wait
+         */
+        private int lingerMs = 0;
+
+        public int getMinBatchNum() {
+            return minBatchNum;
+        }
+
+        public void setMinBatchNum(int minBatchNum) {
+            this.minBatchNum = minBatchNum;
+        }
+
+        public int getMaxBatchNum() {
+            return maxBatchNum;
+        }
+
+        public void setMaxBatchNum(int maxBatchNum) {
+            this.maxBatchNum = maxBatchNum;
+        }
+
+        public int getMinBatchBytes() {
+            return minBatchBytes;
+        }
+
+        public void setMinBatchBytes(int minBatchBytes) {
+            this.minBatchBytes = minBatchBytes;
+        }
+
+        public int getMaxBatchBytes() {
+            return maxBatchBytes;
+        }
+
+        public void setMaxBatchBytes(int maxBatchBytes) {
+            this.maxBatchBytes = maxBatchBytes;
+        }
+
+        public int getTargetLatencyMs() {
+            return targetLatencyMs;
+        }
+
+        public void setTargetLatencyMs(int targetLatencyMs) {
+            this.targetLatencyMs = targetLatencyMs;
+        }
+
+        public int getLingerMs() {
+            return lingerMs;
+        }
+
+        public void setLingerMs(int lingerMs) {
+            this.lingerMs = lingerMs;
+        }
+    }
+}
@@ -16,6 +16,10 @@
  */
 package com.trs.pacifica.util;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -25,6 +29,8 @@ public final class CrcUtil {
 
     private static final ThreadLocal<CRC64> CRC_64_THREAD_LOCAL = ThreadLocal.withInitial(CRC64::new);
 
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Compute CRC64 checksum for byte[].
      *
@@ -66,15 +72,37 @@ public final class CrcUtil {
         if (rem <= 0) {
             return 0;
         }
-        // Currently we have not used DirectByteBuffer yet.
         if (buf.hasArray()) {
             return crc64(buf.array(), pos + buf.arrayOffset(), rem);
         }
-        final byte[] b = new byte[rem];
-        buf.mark();
-        buf.get(b);
-        buf.reset();
-        return crc64(b);
+        // read-only or direct ByteBuffer, read in place without copy
+        final CRC64 crc64 = CRC_64_THREAD_LOCAL.get();
+        final int limit = pos + rem;
+        for (int i = pos; i < limit; i++) {
+            crc64.update(buf.get(i));
+        }
+        final long ret = crc64.getValue();
+        crc64.reset();
+        return ret;
+    }
+
+    /**
+     * Compute CRC64 checksum for the content of the file.
+     *
+     * @param file source file
+     * @return checksum value
+     * @throws IOException if failed to read the file
+     */
+    public static long crc64(final File file) throws IOException {
+        final CRC64 crc64 = new CRC64();
+        final byte[] buffer = new byte[FILE_BUFFER_SIZE];
+        try (final InputStream inputStream = new FileInputStream(file)) {
+            int len;
+            while ((len = inputStream.read(buffer)) > 0) {
+                crc64.update(buffer, 0, len);
+            }
+        }
+        return crc64.getValue();
     }
 
     private CrcUtil() {
@@ -67,6 +67,10 @@ public class RpcLogUtil {
         infoBuilder.append("version=").append(response.getVersion()).append(",");
         infoBuilder.append("commit_point=").append(response.getCommitPoint()).append(",");
         infoBuilder.append("last_log_index=").append(response.getLastLogIndex());
+        if (response.hasConflictTerm()) {
+            infoBuilder.append(",conflict_term=").append(response.getConflictTerm());
+            infoBuilder.append(",conflict_first_index=").append(response.getConflictFirstIndex());
+        }
         return infoBuilder.append("]").toString();
     }
 }
@@ -17,9 +17,11 @@
 
 package com.trs.pacifica.util;
 
+import com.google.protobuf.ByteOutput;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import com.trs.pacifica.error.PacificaErrorCode;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.model.LogEntry;
@@ -27,6 +29,9 @@ import com.trs.pacifica.model.ReplicaId;
 import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.proto.RpcRequest;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -67,7 +72,7 @@ public class RpcUtil {
         if (logEntriesData == null || logEntryMetas == null || logEntryMetas.isEmpty()) {
             return Collections.emptyList();
         }
-        final ByteBuffer allData = logEntriesData.asReadOnlyByteBuffer();
+        final ByteBuffer allData = unsafeByteBuffer(logEntriesData);
         List<LogEntry> logEntries = new ArrayList<>(logEntryMetas.size());
         for (RpcCommon.LogEntryMeta logEntryMeta : logEntryMetas) {
             final long logIndex = ++prevLogIndex;
@@ -77,6 +82,15 @@ public class RpcUtil {
         return logEntries;
     }
 
+    /**
+     * parse LogEntry at the position of allData, and move the position forward.
+     * the log data of LogEntry is a read-only slice of allData without copy.
+     *
+     * @param logIndex     logIndex
+     * @param logEntryMeta logEntryMeta
+     * @param allData      allData
+     * @return LogEntry
+     */
     public static LogEntry parseLogEntry(final long logIndex, final RpcCommon.LogEntryMeta logEntryMeta, final ByteBuffer allData) {
         final LogEntry.Type type = toLogEntryType(logEntryMeta.getType());
         Objects.requireNonNull(type, "log entry type");
@@ -88,14 +102,82 @@ public class RpcUtil {
         }
         final int dataLen = logEntryMeta.getDataLen();
         if (dataLen > 0) {
-            //TODO split block??
-            final byte[] logData = new byte[dataLen];
-            allData.get(logData, 0, dataLen);
-            logEntry.setLogData(ByteBuffer.wrap(logData));
+            final ByteBuffer logData = allData.asReadOnlyBuffer().slice();
+            logData.limit(dataLen);
+            allData.position(allData.position() + dataLen);
+            logEntry.setLogData(logData);
         }
         return logEntry;
     }
 
+    /**
+     * wrap the log data as ByteString without copy, so the log data must not be modified after.
+     * the position of log data is unchanged.
+     *
+     * @param logData logData
+     * @return ByteString
+     */
+    public static ByteString wrapLogData(@Nullable final ByteBuffer logData) {
+        if (logData == null || !logData.hasRemaining()) {
+            return ByteString.EMPTY;
+        }
+        return UnsafeByteOperations.unsafeWrap(logData);
+    }
+
+    /**
+     * ByteBuffer over the backing array of the ByteString without copy if it is flat,
+     * such as the one parsed from the request, or else a copy of its content.
+     *
+     * @param byteString byteString
+     * @return ByteBuffer, do not modify its content
+     */
+    static ByteBuffer unsafeByteBuffer(final ByteString byteString) {
+        final BackingBufferOutput output = new BackingBufferOutput();
+        try {
+            UnsafeByteOperations.unsafeWriteTo(byteString, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (output.backingBuffer != null && output.backingBufferNum == 1) {
+            return output.backingBuffer;
+        }
+        return ByteBuffer.wrap(byteString.toByteArray());
+    }
+
+    private static class BackingBufferOutput extends ByteOutput {
+
+        private ByteBuffer backingBuffer = null;
+
+        private int backingBufferNum = 0;
+
+        @Override
+        public void write(byte value) {
+            this.backingBufferNum++;
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            this.backingBufferNum++;
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            this.backingBufferNum++;
+            this.backingBuffer = ByteBuffer.wrap(value, offset, length).slice();
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            this.backingBufferNum++;
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            this.backingBufferNum++;
+            this.backingBuffer = value.slice();
+        }
+    }
+
     public static LogEntry.Type toLogEntryType(final RpcCommon.LogEntryType type) {
         switch (type) {
             case OP_DATA:
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.util.io;
+
+import com.trs.pacifica.util.ObjectsUtil;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * DataBuffer over a ByteBuffer, such as a slice of the mapped file, the bytes are not copied.
+ * the content is [buffer.position(), buffer.limit()) when it is created.
+ */
+public class ByteBufferDataBuffer extends AbstractDataBuffer {
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferDataBuffer(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        this.limit(this.buffer.capacity());
+        this.position(0);
+    }
+
+    @Override
+    public int capacity() {
+        return this.buffer.capacity();
+    }
+
+    @Override
+    public byte get() {
+        int pos = position();
+        if (pos >= limit()) {
+            throw new BufferUnderflowException();
+        }
+        this.position++;
+        return this.buffer.get(pos);
+    }
+
+    @Override
+    public byte get(int index) {
+        if (index < 0 || index >= limit()) {
+            throw new IndexOutOfBoundsException(String.format("index(%d) is less than 0 or not less than limit(%d).", index, limit()));
+        }
+        return this.buffer.get(index);
+    }
+
+    @Override
+    public DataBuffer get(byte[] dst, int offset, int length) {
+        ObjectsUtil.checkFromIndexSize(offset, length, dst.length);
+        int pos = position();
+        if (length > limit() - pos)
+            throw new BufferUnderflowException();
+        this.buffer.position(pos);
+        this.buffer.get(dst, offset, length);
+        position(pos + length);
+        return this;
+    }
+
+    @Override
+    public DataBuffer get(ByteBuffer dst) {
+        final int pos = position();
+        final int length = dst.remaining();
+        if (length > limit() - pos)
+            throw new BufferUnderflowException();
+        final ByteBuffer src = this.buffer.duplicate();
+        src.position(pos);
+        src.limit(pos + length);
+        dst.put(src);
+        position(pos + length);
+        return this;
+    }
+
+    @Override
+    public DataBuffer slice() {
+        return slice(position(), remaining());
+    }
+
+    @Override
+    public DataBuffer slice(int index, int length) {
+        ObjectsUtil.checkFromIndexSize(index, length, limit());
+        final ByteBuffer slice = this.buffer.duplicate();
+        slice.position(index);
+        slice.limit(index + length);
+        return new ByteBufferDataBuffer(slice);
+    }
+}
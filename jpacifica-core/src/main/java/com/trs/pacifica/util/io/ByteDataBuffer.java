@@ -20,6 +20,7 @@ package com.trs.pacifica.util.io;
 import com.trs.pacifica.util.ObjectsUtil;
 
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 public class ByteDataBuffer extends AbstractDataBuffer{
@@ -81,6 +82,16 @@ public class ByteDataBuffer extends AbstractDataBuffer{
         return this;
     }
 
+    @Override
+    public DataBuffer get(ByteBuffer dst) {
+        final int pos = position();
+        final int length = dst.remaining();
+        if (length > limit() - pos)
+            throw new BufferUnderflowException();
+        dst.put(bytes, this.offset + pos, length);
+        position(pos + length);
+        return this;
+    }
 
     @Override
     public DataBuffer slice() {
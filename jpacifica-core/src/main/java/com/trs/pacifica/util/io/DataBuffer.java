@@ -20,6 +20,7 @@ package com.trs.pacifica.util.io;
 import com.trs.pacifica.error.NotSupportedException;
 
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 
 public interface DataBuffer {
 
@@ -199,6 +200,29 @@ public interface DataBuffer {
         return get(dst, 0, dst.length);
     }
 
+
+    /**
+     * Relative bulk <i>get</i> method.
+     *
+     * <p> This method transfers {@code dst.remaining()} bytes from this buffer into the given
+     * destination buffer, starting at the current position of this buffer.
+     * The positions of both buffers are then incremented by the number of transferred bytes.
+     *
+     * @param dst The destination buffer
+     * @return This buffer
+     * @throws BufferUnderflowException If there are fewer than {@code dst.remaining()} bytes
+     *                                  remaining in this buffer
+     */
+    public default DataBuffer get(ByteBuffer dst) {
+        if (dst.remaining() > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        while (dst.hasRemaining()) {
+            dst.put(get());
+        }
+        return this;
+    }
+
     public abstract DataBuffer reset();
 
     /**
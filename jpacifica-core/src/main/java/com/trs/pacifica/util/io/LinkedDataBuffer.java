@@ -22,6 +22,7 @@ import com.trs.pacifica.error.NotSupportedException;
 import com.trs.pacifica.util.ObjectsUtil;
 
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 public class LinkedDataBuffer extends AbstractDataBuffer{
@@ -127,6 +128,35 @@ public class LinkedDataBuffer extends AbstractDataBuffer{
         return this;
     }
 
+    @Override
+    public DataBuffer get(ByteBuffer dst) {
+        int pos = position();
+        final int length = dst.remaining();
+        if (length > limit() - pos)
+            throw new BufferUnderflowException();
+        final int dstLimit = dst.limit();
+        try {
+            for (int i = 0; i < blocks.length && dst.hasRemaining(); i++) {
+                final DataBuffer dataBuffer = blocks[i].dataBuffer;
+                final int blockPos = pos - blocks[i].startIndex;
+                if (blockPos >= dataBuffer.limit()) {
+                    continue;
+                }
+                final int readLen = Math.min(dataBuffer.limit() - blockPos, dst.remaining());
+                dataBuffer.position(blockPos);
+                dst.limit(dst.position() + readLen);
+                dataBuffer.get(dst);
+                dst.limit(dstLimit);
+                pos += readLen;
+                this.blockIndex = i;
+            }
+        } finally {
+            dst.limit(dstLimit);
+        }
+        this.position(pos);
+        return this;
+    }
+
     @Override
     public DataBuffer slice() {
         DataBuffer[] dataBuffers = new DataBuffer[blocks.length];
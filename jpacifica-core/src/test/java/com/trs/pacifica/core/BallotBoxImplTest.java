@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.LogManager;
 import com.trs.pacifica.Replica;
 import com.trs.pacifica.StateMachineCaller;
@@ -29,7 +31,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 public class BallotBoxImplTest {
@@ -102,22 +103,20 @@ public class BallotBoxImplTest {
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
 
         Assertions.assertTrue(this.ballotBox.initiateBallot(1004, replicaGroup));
-        List<BallotBoxImpl.Ballot> ballots = this.ballotBox.getBallotQueue();
-        Assertions.assertEquals(1, ballots.size());
-        BallotBoxImpl.Ballot ballot = ballots.get(0);
-        Assertions.assertEquals(4, ballot.getQuorum());
+        Assertions.assertEquals(1004, this.ballotBox.getLastBallotLogIndex());
+        Assertions.assertEquals(4, this.ballotBox.getQuorum(1004));
 
         Assertions.assertTrue(this.ballotBox.ballotBy(primary, 1004, 1004));
-        Assertions.assertEquals(3, ballot.getQuorum());
+        Assertions.assertEquals(3, this.ballotBox.getQuorum(1004));
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertTrue(this.ballotBox.ballotBy(secondary1, 1004, 1004));
-        Assertions.assertEquals(2, ballot.getQuorum());
+        Assertions.assertEquals(2, this.ballotBox.getQuorum(1004));
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertTrue(this.ballotBox.ballotBy(secondary2, 1004, 1004));
-        Assertions.assertEquals(1, ballot.getQuorum());
+        Assertions.assertEquals(1, this.ballotBox.getQuorum(1004));
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertTrue(this.ballotBox.ballotBy(secondary3, 1004, 1004));
-        Assertions.assertEquals(0, ballot.getQuorum());
+        Assertions.assertEquals(0, this.ballotBox.getQuorum(1004));
         Assertions.assertEquals(1005, this.ballotBox.getPendingLogIndex());
         Assertions.assertEquals(1004, this.ballotBox.getLastCommittedLogIndex());
 
@@ -148,10 +147,9 @@ public class BallotBoxImplTest {
         }
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertEquals(1003, this.ballotBox.getLastCommittedLogIndex());
-        LinkedList<BallotBoxImpl.Ballot> ballots =  this.ballotBox.getBallotQueue();
-        Assertions.assertEquals(5, ballots.size());
-        for (BallotBoxImpl.Ballot ballot : ballots) {
-            Assertions.assertEquals(4, ballot.getQuorum());
+        Assertions.assertEquals(1008, this.ballotBox.getLastBallotLogIndex());
+        for (long index = 1004; index <= 1008; index++) {
+            Assertions.assertEquals(4, this.ballotBox.getQuorum(index));
         }
         Assertions.assertFalse(this.ballotBox.recoverBallot(candidate, 1001));
         Assertions.assertFalse(this.ballotBox.recoverBallot(candidate, 1003));
@@ -162,10 +160,10 @@ public class BallotBoxImplTest {
 
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertEquals(1003, this.ballotBox.getLastCommittedLogIndex());
-        Assertions.assertEquals(5, ballots.size());
+        Assertions.assertEquals(1008, this.ballotBox.getLastBallotLogIndex());
 
-        for (BallotBoxImpl.Ballot ballot : ballots) {
-            Assertions.assertEquals(5, ballot.getQuorum());
+        for (long index = 1004; index <= 1008; index++) {
+            Assertions.assertEquals(5, this.ballotBox.getQuorum(index));
         }
 
     }
@@ -179,20 +177,105 @@ public class BallotBoxImplTest {
         }
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertEquals(1003, this.ballotBox.getLastCommittedLogIndex());
-        LinkedList<BallotBoxImpl.Ballot> ballots =  this.ballotBox.getBallotQueue();
-        Assertions.assertEquals(5, ballots.size());
-        for (BallotBoxImpl.Ballot ballot : ballots) {
-            Assertions.assertEquals(4, ballot.getQuorum());
+        Assertions.assertEquals(1008, this.ballotBox.getLastBallotLogIndex());
+        for (long index = 1004; index <= 1008; index++) {
+            Assertions.assertEquals(4, this.ballotBox.getQuorum(index));
         }
         this.ballotBox.cancelBallot(secondary2);
         Assertions.assertEquals(1004, this.ballotBox.getPendingLogIndex());
         Assertions.assertEquals(1003, this.ballotBox.getLastCommittedLogIndex());
-        Assertions.assertEquals(5, ballots.size());
+        Assertions.assertEquals(1008, this.ballotBox.getLastBallotLogIndex());
 
-        for (BallotBoxImpl.Ballot ballot : ballots) {
-            Assertions.assertEquals(3, ballot.getQuorum());
+        for (long index = 1004; index <= 1008; index++) {
+            Assertions.assertEquals(3, this.ballotBox.getQuorum(index));
         }
 
     }
 
+    @Test
+    public void testBallotByRange() {
+        ReplicaId primary = new ReplicaId("group", "primary");
+        ReplicaId secondary1 = new ReplicaId("group", "secondary1");
+        ReplicaId secondary2 = new ReplicaId("group", "secondary2");
+        ReplicaId secondary3 = new ReplicaId("group", "secondary3");
+        for (long logIndex = 1004; logIndex < 1009; logIndex++) {
+            Assertions.assertTrue(this.ballotBox.initiateBallot(logIndex, this.replicaGroup));
+        }
+        Assertions.assertTrue(this.ballotBox.ballotBy(primary, 1004, 1008));
+        Assertions.assertTrue(this.ballotBox.ballotBy(secondary1, 1004, 1006));
+        Assertions.assertTrue(this.ballotBox.ballotBy(secondary2, 1004, 1008));
+        // not continuous, ignored
+        Assertions.assertTrue(this.ballotBox.ballotBy(secondary3, 1006, 1008));
+        Assertions.assertEquals(1003, this.ballotBox.getLastCommittedLogIndex());
+        Assertions.assertTrue(this.ballotBox.ballotBy(secondary3, 1004, 1005));
+        Assertions.assertEquals(1005, this.ballotBox.getLastCommittedLogIndex());
+        Assertions.assertEquals(1006, this.ballotBox.getPendingLogIndex());
+        Mockito.verify(this.stateMachineCaller).commitAt(1005);
+        Assertions.assertTrue(this.ballotBox.ballotBy(secondary3, 1006, 1010));
+        Assertions.assertEquals(1006, this.ballotBox.getLastCommittedLogIndex());
+        // granted without the removed replica
+        Assertions.assertTrue(this.ballotBox.cancelBallot(secondary1));
+        Assertions.assertEquals(1008, this.ballotBox.getLastCommittedLogIndex());
+        Assertions.assertEquals(1009, this.ballotBox.getPendingLogIndex());
+        Mockito.verify(this.stateMachineCaller).commitAt(1008);
+    }
+
+    @Test
+    public void testRecoverBallotThenGrant() {
+        ReplicaId primary = new ReplicaId("group", "primary");
+        ReplicaId secondary1 = new ReplicaId("group", "secondary1");
+        ReplicaId secondary2 = new ReplicaId("group", "secondary2");
+        ReplicaId secondary3 = new ReplicaId("group", "secondary3");
+        ReplicaId candidate = new ReplicaId("group", "candidate");
+        for (long logIndex = 1004; logIndex < 1009; logIndex++) {
+            Assertions.assertTrue(this.ballotBox.initiateBallot(logIndex, this.replicaGroup));
+        }
+        // the candidate must ballot for [1006, ...]
+        Assertions.assertTrue(this.ballotBox.recoverBallot(candidate, 1006));
+        Assertions.assertEquals(4, this.ballotBox.getQuorum(1005));
+        Assertions.assertEquals(5, this.ballotBox.getQuorum(1006));
+        for (ReplicaId replicaId : new ReplicaId[]{primary, secondary1, secondary2, secondary3}) {
+            this.ballotBox.ballotBy(replicaId, 1004, 1008);
+        }
+        Assertions.assertEquals(1005, this.ballotBox.getLastCommittedLogIndex());
+        Assertions.assertTrue(this.ballotBox.ballotBy(candidate, 1006, 1008));
+        Assertions.assertEquals(1008, this.ballotBox.getLastCommittedLogIndex());
+    }
+
+    @Test
+    public void testBallotMetrics() {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final BallotBoxImpl ballotBox = new BallotBoxImpl(Mockito.mock(Replica.class));
+        final BallotBoxImpl.Option option = new BallotBoxImpl.Option();
+        option.setFsmCaller(stateMachineCaller);
+        option.setLogManager(logManager);
+        option.setMetricRegistry(metricRegistry);
+        ballotBox.init(option);
+        ballotBox.startup();
+        try {
+            final ReplicaId primary = new ReplicaId("group", "primary");
+            final List<ReplicaId> replicaIds = new ArrayList<>(replicaGroup.listSecondary());
+            // more than the initial capacity of the pending ballots
+            final long endLogIndex = 1003 + BallotBoxImpl.DEFAULT_PENDING_BALLOT_NUM * 2;
+            for (long logIndex = 1004; logIndex <= endLogIndex; logIndex++) {
+                Assertions.assertTrue(ballotBox.initiateBallot(logIndex, replicaGroup));
+            }
+            final Gauge<?> pendingBallots = metricRegistry.getGauges().get("ballot-box.pending-ballots");
+            Assertions.assertEquals(endLogIndex - 1003, pendingBallots.getValue());
+            ballotBox.ballotBy(primary, 1004, endLogIndex);
+            for (ReplicaId replicaId : replicaIds) {
+                ballotBox.ballotBy(replicaId, 1004, 2003);
+            }
+            // one sample per commit
+            Assertions.assertEquals(1, metricRegistry.timer("ballot-box.ballot").getCount());
+            for (ReplicaId replicaId : replicaIds) {
+                ballotBox.ballotBy(replicaId, 2004, endLogIndex);
+            }
+            Assertions.assertEquals(2, metricRegistry.timer("ballot-box.ballot").getCount());
+            Assertions.assertEquals(0L, pendingBallots.getValue());
+        } finally {
+            ballotBox.shutdown();
+        }
+    }
+
 }
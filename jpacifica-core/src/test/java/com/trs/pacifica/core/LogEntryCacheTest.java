@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.core;
+
+import com.trs.pacifica.model.LogEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+public class LogEntryCacheTest {
+
+    private static LogEntry newLogEntry(long index, long term, int dataLength) {
+        final LogEntry logEntry = new LogEntry(index, term, LogEntry.Type.OP_DATA);
+        logEntry.setLogData(ByteBuffer.wrap(new byte[dataLength]));
+        return logEntry;
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        LogEntryCache cache = new LogEntryCache(100, Long.MAX_VALUE);
+        for (int i = 1; i <= 40; i++) {
+            cache.append(newLogEntry(i, 1, 8));
+        }
+        Assertions.assertEquals(40, cache.size());
+        Assertions.assertEquals(1, cache.getFirstLogIndex());
+        Assertions.assertEquals(40, cache.getLastLogIndex());
+        Assertions.assertEquals(40 * (LogEntryCache.LOG_ENTRY_OVERHEAD_BYTES + 8), cache.getBytes());
+        Assertions.assertEquals(20, cache.get(20).getLogId().getIndex());
+        Assertions.assertEquals(1, cache.getLogTerm(20));
+        Assertions.assertNull(cache.get(0));
+        Assertions.assertNull(cache.get(41));
+        Assertions.assertEquals(0, cache.getLogTerm(41));
+    }
+
+    @Test
+    public void testGetIndependentPosition() {
+        LogEntryCache cache = new LogEntryCache(100, Long.MAX_VALUE);
+        cache.append(newLogEntry(1, 1, 8));
+        final LogEntry first = cache.get(1);
+        first.getLogData().position(8);
+        final LogEntry second = cache.get(1);
+        Assertions.assertEquals(8, second.getLogData().remaining());
+    }
+
+    @Test
+    public void testEvictByNum() {
+        LogEntryCache cache = new LogEntryCache(10, Long.MAX_VALUE);
+        for (int i = 1; i <= 25; i++) {
+            cache.append(newLogEntry(i, 1, 8));
+        }
+        Assertions.assertEquals(10, cache.size());
+        Assertions.assertEquals(16, cache.getFirstLogIndex());
+        Assertions.assertNull(cache.get(15));
+        Assertions.assertNotNull(cache.get(16));
+    }
+
+    @Test
+    public void testEvictByBytes() {
+        final int entryBytes = LogEntryCache.LOG_ENTRY_OVERHEAD_BYTES + 100;
+        LogEntryCache cache = new LogEntryCache(100, entryBytes * 3);
+        for (int i = 1; i <= 5; i++) {
+            cache.append(newLogEntry(i, 1, 100));
+        }
+        Assertions.assertEquals(3, cache.size());
+        Assertions.assertEquals(3, cache.getFirstLogIndex());
+        Assertions.assertEquals(entryBytes * 3, cache.getBytes());
+    }
+
+    @Test
+    public void testTruncatePrefixAndSuffix() {
+        LogEntryCache cache = new LogEntryCache(100, Long.MAX_VALUE);
+        for (int i = 1; i <= 20; i++) {
+            cache.append(newLogEntry(i, 1, 8));
+        }
+        cache.truncatePrefix(6);
+        Assertions.assertEquals(6, cache.getFirstLogIndex());
+        cache.truncateSuffix(15);
+        Assertions.assertEquals(15, cache.getLastLogIndex());
+        Assertions.assertEquals(10, cache.size());
+        Assertions.assertNull(cache.get(16));
+        // append after truncate suffix
+        cache.append(newLogEntry(16, 2, 8));
+        Assertions.assertEquals(2, cache.getLogTerm(16));
+        Assertions.assertEquals(11, cache.size());
+    }
+
+    @Test
+    public void testAppendDiscontinuous() {
+        LogEntryCache cache = new LogEntryCache(100, Long.MAX_VALUE);
+        for (int i = 1; i <= 5; i++) {
+            cache.append(newLogEntry(i, 1, 8));
+        }
+        cache.append(newLogEntry(10, 1, 8));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(10, cache.getFirstLogIndex());
+        Assertions.assertNull(cache.get(5));
+    }
+
+    @Test
+    public void testDisabled() {
+        LogEntryCache cache = new LogEntryCache(0, Long.MAX_VALUE);
+        Assertions.assertFalse(cache.isEnabled());
+        cache.append(newLogEntry(1, 1, 8));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertNull(cache.get(1));
+    }
+
+}
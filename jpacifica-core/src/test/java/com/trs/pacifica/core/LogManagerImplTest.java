@@ -21,6 +21,7 @@ import com.trs.pacifica.LogManager;
 import com.trs.pacifica.LogStorage;
 import com.trs.pacifica.LogStorageFactory;
 import com.trs.pacifica.StateMachineCaller;
+import com.trs.pacifica.async.Callback;
 import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.async.thread.SingleThreadExecutor;
 import com.trs.pacifica.error.PacificaErrorCode;
@@ -39,9 +40,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class LogManagerImplTest {
@@ -68,12 +72,19 @@ public class LogManagerImplTest {
         mockLogStorage();
         this.logStorageFactory = Mockito.mock(LogStorageFactory.class);
         Mockito.doReturn(this.logStorage).when(this.logStorageFactory).newLogStorage(Mockito.anyString(), Mockito.any(LogEntryEncoder.class), Mockito.any(LogEntryDecoder.class));
+        Mockito.doReturn(this.logStorage).when(this.logStorageFactory).newLogStorage(Mockito.anyString(), Mockito.any(LogEntryEncoder.class), Mockito.any(LogEntryDecoder.class), Mockito.any());
 
         this.replicaOption = Mockito.mock(ReplicaOption.class);
         Mockito.doReturn(true).when(this.replicaOption).isEnableLogEntryChecksum();
         Mockito.doReturn(0).when(this.replicaOption).getSnapshotLogIndexReserved();
+        Mockito.doReturn(ReplicaOption.DEFAULT_MAX_LOG_ENTRY_CACHE_NUM).when(this.replicaOption).getMaxLogEntryCacheNum();
+        Mockito.doReturn(ReplicaOption.DEFAULT_MAX_LOG_ENTRY_CACHE_BYTES).when(this.replicaOption).getMaxLogEntryCacheBytes();
 
-        this.logManager = new LogManagerImpl(this.replica);
+        this.logManager = newLogManager();
+    }
+
+    private LogManagerImpl newLogManager() throws Exception {
+        final LogManagerImpl logManager = new LogManagerImpl(this.replica);
         LogManagerImpl.Option option = new LogManagerImpl.Option();
         option.setLogStoragePath("test path");
         option.setLogManagerExecutor(singleThreadExecutor);
@@ -82,8 +93,9 @@ public class LogManagerImplTest {
         option.setLogEntryCodecFactory(this.logEntryCodecFactory);
         option.setReplicaOption(replicaOption);
 
-        this.logManager.init(option);
-        this.logManager.startup();
+        logManager.init(option);
+        logManager.startup();
+        return logManager;
     }
 
 
@@ -137,6 +149,195 @@ public class LogManagerImplTest {
         Assertions.assertEquals(5, logEntriesCallback.getAppendCount());
     }
 
+    @Test
+    public void testCoalesceStoreLogEntries() throws InterruptedException {
+        // block the executor, so that the StoreLogEntriesEvents queue up
+        final CountDownLatch blocker = new CountDownLatch(1);
+        this.singleThreadExecutor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final int batchNum = 3;
+        final CountDownLatch countDownLatch = new CountDownLatch(batchNum);
+        final List<LogManager.AppendLogEntriesCallback> callbacks = new ArrayList<>();
+        for (int i = 0; i < batchNum; i++) {
+            List<LogEntry> logEntries = new ArrayList<>();
+            for (long logIndex = 21 + i * 5; logIndex < 26 + i * 5; logIndex++) {
+                logEntries.add(new LogEntry(new LogId(logIndex, 1), LogEntry.Type.OP_DATA));
+            }
+            LogManager.AppendLogEntriesCallback logEntriesCallback = new LogManager.AppendLogEntriesCallback() {
+                @Override
+                public void run(Finished finished) {
+                    Assertions.assertTrue(finished.isOk());
+                    countDownLatch.countDown();
+                }
+            };
+            callbacks.add(logEntriesCallback);
+            this.logManager.appendLogEntries(logEntries, logEntriesCallback);
+        }
+        blocker.countDown();
+        Assertions.assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        Mockito.verify(this.logStorage, Mockito.times(1)).appendLogEntries(Mockito.argThat(list -> list.size() == 15), Mockito.any(Callback.class));
+        for (int i = 0; i < batchNum; i++) {
+            Assertions.assertEquals(21 + i * 5, callbacks.get(i).getFirstLogIndex());
+            Assertions.assertEquals(5, callbacks.get(i).getAppendCount());
+        }
+        Assertions.assertEquals(35, this.logManager.getLastLogIndex());
+    }
+
+    @Test
+    public void testReadLogEntriesBeforePersist() throws InterruptedException {
+        // block the executor, so that the LogEntries are not persisted
+        final CountDownLatch blocker = new CountDownLatch(1);
+        this.singleThreadExecutor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<LogEntry> logEntries = new ArrayList<>();
+        for (long logIndex = 21; logIndex <= 25; logIndex++) {
+            logEntries.add(new LogEntry(new LogId(logIndex, 2), LogEntry.Type.OP_DATA));
+        }
+        final CountDownLatch beforePersistLatch = new CountDownLatch(1);
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        LogManager.AppendLogEntriesCallback logEntriesCallback = new LogManager.AppendLogEntriesCallback() {
+
+            @Override
+            public void beforePersist() {
+                Assertions.assertEquals(21, getFirstLogIndex());
+                Assertions.assertEquals(5, getAppendCount());
+                beforePersistLatch.countDown();
+            }
+
+            @Override
+            public void run(Finished finished) {
+                Assertions.assertEquals(0, beforePersistLatch.getCount());
+                countDownLatch.countDown();
+            }
+        };
+        this.logManager.appendLogEntries(logEntries, logEntriesCallback);
+        Assertions.assertEquals(0, beforePersistLatch.getCount());
+        Assertions.assertEquals(new LogId(23, 2), this.logManager.getLogEntryAt(23).getLogId());
+        Assertions.assertEquals(2, this.logManager.getLogTermAt(25));
+        Assertions.assertEquals(1, countDownLatch.getCount());
+        blocker.countDown();
+        Assertions.assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReadLogEntriesWrittenButNotFlushed() throws Exception {
+        // the cache holds 5 LogEntries only
+        Mockito.doReturn(5).when(this.replicaOption).getMaxLogEntryCacheNum();
+        this.logManager = newLogManager();
+        // LogStorage writes the LogEntries, but never flushes them
+        Mockito.doAnswer(invocation -> {
+            return ((List<?>) invocation.getArguments()[0]).size();
+        }).when(this.logStorage).appendLogEntries(Mockito.anyList(), Mockito.any(Callback.class));
+        for (long logIndex = 21; logIndex <= 30; logIndex++) {
+            LogId logId = new LogId(logIndex, 2);
+            Mockito.doReturn(new LogEntry(logId, LogEntry.Type.OP_DATA)).when(this.logStorage).getLogEntry(logIndex);
+            Mockito.doReturn(logId).when(this.logStorage).getLogIdAt(logIndex);
+        }
+        for (long startLogIndex = 21; startLogIndex <= 26; startLogIndex += 5) {
+            List<LogEntry> logEntries = new ArrayList<>();
+            for (long logIndex = startLogIndex; logIndex < startLogIndex + 5; logIndex++) {
+                logEntries.add(new LogEntry(new LogId(logIndex, 2), LogEntry.Type.OP_DATA));
+            }
+            this.logManager.appendLogEntries(logEntries, new LogManager.AppendLogEntriesCallback() {
+                @Override
+                public void run(Finished finished) {
+                    Assertions.fail("not flushed");
+                }
+            });
+            // wait for the write to LogStorage
+            final CountDownLatch written = new CountDownLatch(1);
+            this.singleThreadExecutor.execute(written::countDown);
+            Assertions.assertTrue(written.await(5, TimeUnit.SECONDS));
+        }
+        // [21, 25] are evicted from the cache, but they are written to LogStorage
+        Assertions.assertEquals(new LogId(23, 2), this.logManager.getLogEntryAt(23).getLogId());
+        Assertions.assertEquals(2, this.logManager.getLogTermAt(25));
+        Assertions.assertEquals(2, this.logManager.getLogTermAt(30));
+    }
+
+    @Test
+    public void testFindLogIndexOfTerm() {
+        // term=1 at [4, 20]
+        Assertions.assertEquals(4, this.logManager.findFirstLogIndexOfTerm(1, 4, 20));
+        Assertions.assertEquals(10, this.logManager.findFirstLogIndexOfTerm(1, 10, 20));
+        Assertions.assertEquals(20, this.logManager.findLastLogIndexOfTerm(1, 4, 20));
+        Assertions.assertEquals(15, this.logManager.findLastLogIndexOfTerm(1, 4, 15));
+        Assertions.assertEquals(0, this.logManager.findFirstLogIndexOfTerm(2, 4, 20));
+        Assertions.assertEquals(0, this.logManager.findLastLogIndexOfTerm(0, 4, 20));
+        Assertions.assertEquals(0, this.logManager.findLastLogIndexOfTerm(1, 20, 4));
+    }
+
+    @Test
+    public void testFlushFailure() throws Exception {
+        // the first flush fails, the following one succeeds
+        final AtomicReference<Finished> flushResult = new AtomicReference<>(Finished.failure(new IOException("test")));
+        Mockito.doAnswer(invocation -> {
+            final Callback callback = invocation.getArgument(1);
+            callback.run(flushResult.getAndSet(Finished.success()));
+            return ((List<?>) invocation.getArgument(0)).size();
+        }).when(this.logStorage).appendLogEntries(Mockito.anyList(), Mockito.any(Callback.class));
+        final List<Finished> results = new ArrayList<>();
+        for (long startLogIndex = 21; startLogIndex <= 31; startLogIndex += 5) {
+            List<LogEntry> logEntries = new ArrayList<>();
+            for (long logIndex = startLogIndex; logIndex < startLogIndex + 5; logIndex++) {
+                logEntries.add(new LogEntry(new LogId(logIndex, 2), LogEntry.Type.OP_DATA));
+            }
+            final CountDownLatch countDownLatch = new CountDownLatch(1);
+            this.logManager.appendLogEntries(logEntries, new LogManager.AppendLogEntriesCallback() {
+                @Override
+                public void run(Finished finished) {
+                    results.add(finished);
+                    countDownLatch.countDown();
+                }
+            });
+            Assertions.assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(3, results.size());
+        results.forEach(finished -> Assertions.assertFalse(finished.isOk()));
+        // the later successful flush does not cover the LogEntries failed to flush
+        Assertions.assertEquals(new LogId(20, 1), this.logManager.getLastLogIdOnDisk());
+        Mockito.verify(this.stateMachineCaller, Mockito.times(1)).onError(Mockito.any(PacificaException.class));
+        // the LogEntries after the failure are never stored
+        Mockito.verify(this.logStorage, Mockito.times(1)).appendLogEntries(Mockito.anyList(), Mockito.any(Callback.class));
+    }
+
+    @Test
+    public void testStoreLogEntriesRejected() throws Exception {
+        this.singleThreadExecutor = Mockito.spy(new MockSingleThreadExecutor());
+        Mockito.doThrow(new RejectedExecutionException("test")).when(this.singleThreadExecutor)//
+                .execute(Mockito.any(LogManagerImpl.StoreLogEntriesEvent.class));
+        this.logManager = newLogManager();
+        List<LogEntry> logEntries = new ArrayList<>();
+        for (long logIndex = 21; logIndex <= 25; logIndex++) {
+            logEntries.add(new LogEntry(new LogId(logIndex, 0), LogEntry.Type.OP_DATA));
+        }
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        AtomicReference<Finished> result = new AtomicReference<>(null);
+        LogManager.AppendLogEntriesCallback logEntriesCallback = new LogManager.AppendLogEntriesCallback() {
+            @Override
+            public void run(Finished finished) {
+                result.set(finished);
+                countDownLatch.countDown();
+            }
+        };
+        this.logManager.appendLogEntries(logEntries, logEntriesCallback);
+        // the callback fails, and the rejected event does not stay at the head of pending queue
+        Assertions.assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(result.get().isOk());
+        Assertions.assertEquals(0, this.logManager.getPendingStoreEventNum());
+        Mockito.verify(this.logStorage, Mockito.never()).appendLogEntries(Mockito.anyList(), Mockito.any(Callback.class));
+    }
+
     @Test
     public void testAppendLogEntriesOnSecondary() throws InterruptedException {
 
@@ -368,6 +569,7 @@ public class LogManagerImplTest {
         Mockito.doAnswer(invocation -> {
             return ((List<?>) invocation.getArguments()[0]).size();
         }).when(this.logStorage).appendLogEntries(Mockito.anyList());
+        Mockito.doCallRealMethod().when(this.logStorage).appendLogEntries(Mockito.anyList(), Mockito.any(Callback.class));
     }
 
 
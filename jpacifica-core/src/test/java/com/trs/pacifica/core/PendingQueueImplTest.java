@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.trs.pacifica.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+public class PendingQueueImplTest {
+
+    @Test
+    public void testAddAndPoll() {
+        PendingQueueImpl<String> queue = new PendingQueueImpl<>(2);
+        queue.reset(1001);
+        for (int i = 1001; i <= 1010; i++) {
+            Assertions.assertTrue(queue.add("e" + i));
+        }
+        Assertions.assertEquals(10, queue.size());
+        Assertions.assertEquals("e1001", queue.peek());
+        Assertions.assertNull(queue.poll(1002));
+        Assertions.assertEquals("e1001", queue.poll(1001));
+        Assertions.assertEquals(1002, queue.getPendingIndex());
+        Assertions.assertEquals("e1002", queue.poll());
+        Assertions.assertEquals(1003, queue.getPendingIndex());
+        Assertions.assertEquals(8, queue.size());
+    }
+
+    @Test
+    public void testGrowWrapped() {
+        PendingQueueImpl<Integer> queue = new PendingQueueImpl<>(4);
+        queue.reset(1);
+        for (int i = 1; i <= 3; i++) {
+            queue.add(i);
+        }
+        // head moves to the middle of the ring
+        Assertions.assertEquals(1, queue.poll(1));
+        Assertions.assertEquals(2, queue.poll(2));
+        for (int i = 4; i <= 20; i++) {
+            queue.add(i);
+        }
+        for (int i = 3; i <= 20; i++) {
+            Assertions.assertEquals(i, queue.poll(i));
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll(21));
+        Assertions.assertNull(queue.poll());
+        Assertions.assertEquals(21, queue.getPendingIndex());
+    }
+
+    @Test
+    public void testNullElement() {
+        PendingQueueImpl<String> queue = new PendingQueueImpl<>();
+        queue.reset(1);
+        queue.add(null);
+        queue.add("e2");
+        Assertions.assertEquals(2, queue.size());
+        Assertions.assertNull(queue.poll(1));
+        Assertions.assertEquals(2, queue.getPendingIndex());
+        Assertions.assertEquals("e2", queue.poll(2));
+    }
+
+    @Test
+    public void testPollUntil() {
+        PendingQueueImpl<Integer> queue = new PendingQueueImpl<>(4);
+        queue.reset(101);
+        for (int i = 101; i <= 110; i++) {
+            queue.add(i);
+        }
+        Assertions.assertTrue(queue.pollUntil(100).isEmpty());
+        List<Integer> list = queue.pollUntil(105);
+        Assertions.assertEquals(5, list.size());
+        Assertions.assertEquals(101, list.get(0));
+        Assertions.assertEquals(105, list.get(4));
+        Assertions.assertEquals(106, queue.getPendingIndex());
+        list = queue.pollUntil(200);
+        Assertions.assertEquals(5, list.size());
+        Assertions.assertEquals(111, queue.getPendingIndex());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testReset() {
+        PendingQueueImpl<Integer> queue = new PendingQueueImpl<>();
+        queue.reset(1);
+        for (int i = 1; i <= 10; i++) {
+            queue.add(i);
+        }
+        Collection<Integer> abandoned = queue.reset(5);
+        Assertions.assertEquals(4, abandoned.size());
+        Assertions.assertEquals(5, queue.getPendingIndex());
+        Assertions.assertEquals(5, queue.poll(5));
+        Assertions.assertTrue(queue.reset(2).isEmpty());
+        Assertions.assertEquals(2, queue.getPendingIndex());
+        Collection<Integer> cleared = queue.clear();
+        Assertions.assertEquals(5, cleared.size());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIterator() {
+        PendingQueueImpl<Integer> queue = new PendingQueueImpl<>(2);
+        queue.reset(1);
+        for (int i = 1; i <= 5; i++) {
+            queue.add(i);
+        }
+        queue.poll(1);
+        List<Integer> list = new ArrayList<>();
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.forEachRemaining(list::add);
+        Assertions.assertEquals(4, list.size());
+        Assertions.assertEquals(2, list.get(0));
+    }
+
+    @Test
+    public void testConcurrentAddAndPoll() throws InterruptedException {
+        final PendingQueueImpl<Long> queue = new PendingQueueImpl<>(16);
+        queue.reset(1);
+        final int count = 100_000;
+        final Thread producer = new Thread(() -> {
+            for (long i = 1; i <= count; i++) {
+                queue.add(i);
+            }
+        });
+        producer.start();
+        long index = 1;
+        while (index <= count) {
+            final Long e = queue.poll(index);
+            if (e != null) {
+                Assertions.assertEquals(index, e);
+                index++;
+            }
+        }
+        producer.join();
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}
@@ -17,32 +17,421 @@
 
 package com.trs.pacifica.core;
 
+import com.google.protobuf.Message;
+import com.trs.pacifica.Replica;
+import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.ConfigurationClient;
+import com.trs.pacifica.StateMachine;
+import com.trs.pacifica.async.thread.ExecutorGroup;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.fs.FileService;
+import com.trs.pacifica.fs.FileServiceFactory;
+import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.model.ReplicaGroup;
 import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.RpcRequestFinishedAdapter;
+import com.trs.pacifica.rpc.client.PacificaClient;
+import com.trs.pacifica.rpc.client.RpcClient;
+import com.trs.pacifica.sender.SenderGroupImpl;
+import com.trs.pacifica.test.MockSingleThreadExecutor;
+import com.trs.pacifica.util.RpcUtil;
+import com.trs.pacifica.util.TimeUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class ReplicaImplTest {
 
+    private final ReplicaId primaryId = new ReplicaId("test_group", "primary_node");
+
+    private final ReplicaId secondaryId = new ReplicaId("test_group", "test_node");
 
     private ReplicaImpl replica;
 
+    private ReplicaGroup replicaGroup;
+
+    private PacificaClient pacificaClient;
+
+    private StateMachineCallerImpl stateMachineCaller;
+
+    private LogManagerImpl logManager;
+
+    private BallotBoxImpl ballotBox;
+
+    private SenderGroupImpl senderGroup;
 
     @BeforeEach
     public void setup() {
-        replica = new ReplicaImpl(new ReplicaId("test_group", "test_node"));
-        this.replica = Mockito.spy(this.replica);
+        this.replicaGroup = Mockito.mock(ReplicaGroup.class);
+        Mockito.doReturn(this.primaryId).when(this.replicaGroup).getPrimary();
+        Mockito.doReturn(Collections.singletonList(this.secondaryId)).when(this.replicaGroup).listSecondary();
+        Mockito.doReturn(2L).when(this.replicaGroup).getPrimaryTerm();
+        Mockito.doReturn(3L).when(this.replicaGroup).getVersion();
+        this.pacificaClient = Mockito.mock(PacificaClient.class);
+        this.stateMachineCaller = Mockito.mock(StateMachineCallerImpl.class);
+        this.logManager = Mockito.mock(LogManagerImpl.class);
+        this.ballotBox = Mockito.mock(BallotBoxImpl.class);
+        this.senderGroup = Mockito.mock(SenderGroupImpl.class);
+    }
 
+    @AfterEach
+    public void shutdown() throws PacificaException {
+        if (this.replica != null) {
+            this.replica.shutdown();
+        }
+    }
 
+    private void initReplica(final ReplicaId replicaId, final ReplicaState state) throws PacificaException {
+        initReplica(replicaId, state, new MockSingleThreadExecutor());
     }
 
-    @AfterEach
-    public void shutdown() {
+    /**
+     * init and start the replica with the mocked components, it becomes the state by the ReplicaGroup.
+     */
+    private void initReplica(final ReplicaId replicaId, final ReplicaState state, final SingleThreadExecutor applyExecutor) throws PacificaException {
+        final ExecutorGroup executorGroup = Mockito.mock(ExecutorGroup.class);
+        Mockito.doReturn(applyExecutor).when(executorGroup).chooseExecutor();
+        final ConfigurationClient configurationClient = Mockito.mock(ConfigurationClient.class);
+        Mockito.doReturn(this.replicaGroup).when(configurationClient).getReplicaGroup(replicaId.getGroupName());
+        final FileServiceFactory fileServiceFactory = Mockito.mock(FileServiceFactory.class);
+        Mockito.doReturn(Mockito.mock(FileService.class)).when(fileServiceFactory).newFileService();
+        final ReplicaOption option = new ReplicaOption();
+        option.setConfigurationClient(configurationClient);
+        option.setRpcClient(Mockito.mock(RpcClient.class));
+        option.setFileServiceFactory(fileServiceFactory);
+        option.setStateMachine(Mockito.mock(StateMachine.class));
+        option.setLogStoragePath("log");
+        option.setSnapshotStoragePath("snapshot");
+        option.setApplyExecutorGroup(executorGroup);
+        option.setLogManagerExecutorGroup(executorGroup);
+        option.setFsmCallerExecutorGroup(executorGroup);
+        option.setSenderExecutorGroup(executorGroup);
+        option.setMetricReporterFactories(Collections.emptyList());
+        this.replica = new ReplicaImpl(replicaId, this.pacificaClient, this.logManager, Mockito.mock(SnapshotManagerImpl.class),
+                this.stateMachineCaller, this.senderGroup, this.ballotBox);
+        this.replica.init(option);
+        this.replica.startup();
+        Assertions.assertEquals(state, this.replica.getReplicaState(true));
+    }
+
+    private void mockGetCommitPoint(final long commitPoint) {
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback = invocation.getArgument(1);
+            callback.setRpcResponse(RpcRequest.GetCommitPointResponse.newBuilder()//
+                    .setSuccess(true)//
+                    .setTerm(2L)//
+                    .setVersion(3L)//
+                    .setCommitPoint(commitPoint)//
+                    .build());
+            callback.run(Finished.success());
+            return null;
+        }).when(this.pacificaClient).getCommitPoint(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexOnPrimaryLeaseExpired() throws Exception {
+        initReplica(this.primaryId, ReplicaState.Primary);
+        Mockito.doReturn(false).when(this.senderGroup).isAlive(this.secondaryId);
+        Mockito.doReturn(10L).when(this.ballotBox).getLastCommittedLogIndex();
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(10L);
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertFalse(callback.getResult().isOk());
+        Assertions.assertEquals(PacificaErrorCode.UNAVAILABLE, ((PacificaException) callback.getResult().error()).getCode());
+        Mockito.verify(this.stateMachineCaller, Mockito.never()).awaitApplied(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexOnPrimaryNotCommittedInTerm() throws Exception {
+        initReplica(this.primaryId, ReplicaState.Primary);
+        Mockito.doReturn(true).when(this.senderGroup).isAlive(this.secondaryId);
+        // the LogEntry at commit point is of the former term
+        Mockito.doReturn(10L).when(this.ballotBox).getLastCommittedLogIndex();
+        Mockito.doReturn(1L).when(this.logManager).getLogTermAt(10L);
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertFalse(callback.getResult().isOk());
+        Assertions.assertEquals(PacificaErrorCode.UNAVAILABLE, ((PacificaException) callback.getResult().error()).getCode());
+        Mockito.verify(this.stateMachineCaller, Mockito.never()).awaitApplied(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexOnPrimaryInBatch() throws Exception {
+        final MockSingleThreadExecutor applyExecutor = new MockSingleThreadExecutor();
+        initReplica(this.primaryId, ReplicaState.Primary, applyExecutor);
+        Mockito.doReturn(true).when(this.senderGroup).isAlive(this.secondaryId);
+        Mockito.doReturn(10L).when(this.ballotBox).getLastCommittedLogIndex();
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(10L);
+        Mockito.doAnswer(invocation -> {
+            Callback onApplied = invocation.getArgument(1);
+            onApplied.run(Finished.success());
+            return true;
+        }).when(this.stateMachineCaller).awaitApplied(Mockito.anyLong(), Mockito.any());
+        // block the apply thread, so that the read requests queue up
+        final CountDownLatch blocker = new CountDownLatch(1);
+        applyExecutor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final int readNum = 5;
+        final List<TestReadIndexCallback> callbacks = new ArrayList<>(readNum);
+        final CountDownLatch submitted = new CountDownLatch(readNum);
+        for (int i = 0; i < readNum; i++) {
+            final TestReadIndexCallback callback = new TestReadIndexCallback();
+            callbacks.add(callback);
+            new Thread(() -> {
+                this.replica.readIndex(callback);
+                submitted.countDown();
+            }).start();
+        }
+        Assertions.assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        blocker.countDown();
+        for (TestReadIndexCallback callback : callbacks) {
+            Assertions.assertTrue(callback.await(5000));
+            Assertions.assertTrue(callback.getResult().isOk());
+            Assertions.assertEquals(10L, callback.getReadIndex());
+        }
+        // one lease check and one wait for applying answer all of them
+        Mockito.verify(this.senderGroup, Mockito.times(1)).isAlive(this.secondaryId);
+        Mockito.verify(this.ballotBox, Mockito.times(1)).getLastCommittedLogIndex();
+        Mockito.verify(this.stateMachineCaller, Mockito.times(1)).awaitApplied(Mockito.eq(10L), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexOnSecondary() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        mockGetCommitPoint(10L);
+        final AtomicReference<Callback> onApplied = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            onApplied.set(invocation.getArgument(1));
+            return true;
+        }).when(this.stateMachineCaller).awaitApplied(Mockito.eq(10L), Mockito.any());
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(callback);
+        final ArgumentCaptor<RpcRequest.GetCommitPointRequest> captor = ArgumentCaptor.forClass(RpcRequest.GetCommitPointRequest.class);
+        Mockito.verify(this.pacificaClient, Mockito.timeout(5000)).getCommitPoint(captor.capture(), Mockito.any());
+        Assertions.assertEquals(this.secondaryId, RpcUtil.toReplicaId(captor.getValue().getReaderId()));
+        Assertions.assertEquals(this.primaryId, RpcUtil.toReplicaId(captor.getValue().getPrimaryId()));
+        Assertions.assertEquals(2L, captor.getValue().getTerm());
+        // the Secondary waits for applying the commit point of the Primary
+        Mockito.verify(this.stateMachineCaller, Mockito.timeout(5000)).awaitApplied(Mockito.eq(10L), Mockito.any());
+        Assertions.assertFalse(callback.await(100));
+        onApplied.get().run(Finished.success());
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        Assertions.assertEquals(10L, callback.getReadIndex());
+    }
+
+    @Test
+    public void testReadIndexOnSecondaryRpcFailed() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.GetCommitPointResponse> callback = invocation.getArgument(1);
+            callback.run(Finished.failure(new PacificaException(PacificaErrorCode.UNAVAILABLE, "test")));
+            return null;
+        }).when(this.pacificaClient).getCommitPoint(Mockito.any(), Mockito.any());
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertFalse(callback.getResult().isOk());
+        Mockito.verify(this.stateMachineCaller, Mockito.never()).awaitApplied(Mockito.anyLong(), Mockito.any());
+    }
 
+    @Test
+    public void testHandleGetCommitPointRequestOnNonPrimary() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        final RpcRequest.GetCommitPointRequest request = RpcRequest.GetCommitPointRequest.newBuilder()//
+                .setReaderId(RpcUtil.protoReplicaId(new ReplicaId("test_group", "other_node")))//
+                .setPrimaryId(RpcUtil.protoReplicaId(this.secondaryId))//
+                .setTerm(2L)//
+                .build();
+        final TestRpcRequestFinished<RpcRequest.GetCommitPointResponse> callback = new TestRpcRequestFinished<>();
+        Assertions.assertNull(this.replica.handleGetCommitPointRequest(request, callback));
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertFalse(callback.getResult().isOk());
+        Assertions.assertEquals(PacificaErrorCode.UNAVAILABLE, ((PacificaException) callback.getResult().error()).getCode());
+        Mockito.verify(this.ballotBox, Mockito.never()).getLastCommittedLogIndex();
     }
 
+    @Test
+    public void testHandleGetCommitPointRequestOnPrimary() throws Exception {
+        initReplica(this.primaryId, ReplicaState.Primary);
+        Mockito.doReturn(true).when(this.senderGroup).isAlive(this.secondaryId);
+        Mockito.doReturn(10L).when(this.ballotBox).getLastCommittedLogIndex();
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(10L);
+        final RpcRequest.GetCommitPointRequest request = RpcRequest.GetCommitPointRequest.newBuilder()//
+                .setReaderId(RpcUtil.protoReplicaId(this.secondaryId))//
+                .setPrimaryId(RpcUtil.protoReplicaId(this.primaryId))//
+                .setTerm(2L)//
+                .build();
+        final TestRpcRequestFinished<RpcRequest.GetCommitPointResponse> callback = new TestRpcRequestFinished<>();
+        Assertions.assertNull(this.replica.handleGetCommitPointRequest(request, callback));
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        final RpcRequest.GetCommitPointResponse response = callback.getRpcResponse();
+        Assertions.assertTrue(response.getSuccess());
+        Assertions.assertEquals(10L, response.getCommitPoint());
+        Assertions.assertEquals(2L, response.getTerm());
+        // the Primary does not wait for applying by itself
+        Mockito.verify(this.stateMachineCaller, Mockito.never()).awaitApplied(Mockito.anyLong(), Mockito.any());
+    }
+
+    /**
+     * the Secondary receives the heartbeat of the Primary, whose log matches at (10, 2) locally.
+     */
+    private RpcRequest.AppendEntriesResponse receiveHeartbeat(final long prevLogTerm, final long commitPoint) throws PacificaException {
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(10L);
+        Mockito.doReturn(new LogId(1, 1)).when(this.logManager).getFirstLogId();
+        Mockito.doReturn(new LogId(10, 2)).when(this.logManager).getLastLogId();
+        final RpcRequest.AppendEntriesRequest request = RpcRequest.AppendEntriesRequest.newBuilder()//
+                .setPrimaryId(RpcUtil.protoReplicaId(this.primaryId))//
+                .setTargetId(RpcUtil.protoReplicaId(this.secondaryId))//
+                .setTerm(2L)//
+                .setVersion(3L)//
+                .setPrevLogIndex(10L)//
+                .setPrevLogTerm(prevLogTerm)//
+                .setCommitPoint(commitPoint)//
+                .build();
+        return this.replica.handleAppendLogEntryRequest(request, new TestRpcRequestFinished<>());
+    }
+
+    private void mockAwaitApplied() {
+        Mockito.doAnswer(invocation -> {
+            Callback onApplied = invocation.getArgument(1);
+            onApplied.run(Finished.success());
+            return true;
+        }).when(this.stateMachineCaller).awaitApplied(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexWithinStaleness() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        Assertions.assertTrue(receiveHeartbeat(2L, 7L).getSuccess());
+        Mockito.doReturn(7L).when(this.stateMachineCaller).getLastAppliedLogIndex();
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(1000L, callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        Assertions.assertEquals(7L, callback.getReadIndex());
+        Mockito.verify(this.pacificaClient, Mockito.never()).getCommitPoint(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexAfterRestart() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        // the grace period starts on construction, but nothing is received from the Primary since restarted
+        this.replica.setLastPrimaryVisit(TimeUtils.monotonicMs());
+        Mockito.doReturn(7L).when(this.stateMachineCaller).getLastAppliedLogIndex();
+        mockGetCommitPoint(10L);
+        mockAwaitApplied();
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(1000L, callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        // fall back to the commit point from the Primary
+        Assertions.assertEquals(10L, callback.getReadIndex());
+        Mockito.verify(this.pacificaClient).getCommitPoint(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testReadIndexAfterUnmatchedHeartbeat() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        Assertions.assertFalse(receiveHeartbeat(1L, 7L).getSuccess());
+        Mockito.doReturn(7L).when(this.stateMachineCaller).getLastAppliedLogIndex();
+        mockGetCommitPoint(10L);
+        mockAwaitApplied();
+
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(1000L, callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        Assertions.assertEquals(10L, callback.getReadIndex());
+        Mockito.verify(this.pacificaClient).getCommitPoint(Mockito.any(), Mockito.any());
+    }
 
+    @Test
+    public void testReadIndexBehindCommitPoint() throws Exception {
+        initReplica(this.secondaryId, ReplicaState.Secondary);
+        // the log matches, but the Secondary has not got the LogEntries committed by the Primary
+        Assertions.assertTrue(receiveHeartbeat(2L, 12L).getSuccess());
+        Mockito.doReturn(7L).when(this.stateMachineCaller).getLastAppliedLogIndex();
+        mockGetCommitPoint(12L);
+        mockAwaitApplied();
 
+        final TestReadIndexCallback callback = new TestReadIndexCallback();
+        this.replica.readIndex(1000L, callback);
+        Assertions.assertTrue(callback.await(5000));
+        Assertions.assertTrue(callback.getResult().isOk());
+        Assertions.assertEquals(12L, callback.getReadIndex());
+        Mockito.verify(this.pacificaClient).getCommitPoint(Mockito.any(), Mockito.any());
+    }
+
+    static class TestReadIndexCallback extends Replica.ReadIndexCallback {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private volatile Finished result;
+
+        @Override
+        public void run(Finished finished) {
+            this.result = finished;
+            this.latch.countDown();
+        }
+
+        boolean await(long timeoutMs) throws InterruptedException {
+            return this.latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        Finished getResult() {
+            return result;
+        }
+    }
+
+    static class TestRpcRequestFinished<T extends Message> extends RpcRequestFinishedAdapter<T> {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private volatile Finished result;
 
+        @Override
+        public void run(Finished finished) {
+            this.result = finished;
+            this.latch.countDown();
+        }
+
+        boolean await(long timeoutMs) throws InterruptedException {
+            return this.latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        Finished getResult() {
+            return result;
+        }
+    }
 
 }
@@ -27,12 +27,14 @@ import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaException;
 import com.trs.pacifica.model.LogId;
 import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.proto.RpcRequest;
 import com.trs.pacifica.rpc.RpcRequestFinished;
 import com.trs.pacifica.rpc.client.PacificaClient;
 import com.trs.pacifica.snapshot.storage.DefaultSnapshotMeta;
 import com.trs.pacifica.snapshot.storage.DefaultSnapshotStorage;
 import com.trs.pacifica.test.BaseStorageTest;
+import com.trs.pacifica.util.CrcUtil;
 import com.trs.pacifica.util.RpcUtil;
 import com.trs.pacifica.util.thread.ThreadUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -102,8 +104,10 @@ public class SnapshotManagerImplTest extends BaseStorageTest {
             RpcRequest.GetFileResponse response = null;
             if ("_snapshot_meta".equals(request.getFilename())) {
                 DefaultSnapshotMeta defaultSnapshotMeta = DefaultSnapshotMeta.newSnapshotMeta(new LogId(1003, 1));
-                defaultSnapshotMeta.addFile("test1");
-                defaultSnapshotMeta.addFile("test2");
+                // the Primary sends the checksums of the files
+                RpcCommon.FileMeta fileMeta = RpcCommon.FileMeta.newBuilder().setChecksum(CrcUtil.crc64("hello".getBytes())).build();
+                defaultSnapshotMeta.addFile("test1", fileMeta);
+                defaultSnapshotMeta.addFile("test2", fileMeta);
                 List<byte[]> bytesList = DefaultSnapshotMeta.encode(defaultSnapshotMeta);
                 ByteBuffer buffer = ByteBuffer.allocate(1024);
                 for (byte[] bytes : bytesList) {
@@ -17,10 +17,13 @@
 
 package com.trs.pacifica.core;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.LogManager;
 import com.trs.pacifica.PendingQueue;
 import com.trs.pacifica.StateMachineCaller;
 import com.trs.pacifica.async.Callback;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.async.thread.SingleThreadExecutor;
 import com.trs.pacifica.core.fsm.BaseStateMachine;
 import com.trs.pacifica.core.fsm.OperationIterator;
@@ -40,6 +43,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
 
 
 public class StateMachineCallerImplTest {
@@ -52,6 +56,7 @@ public class StateMachineCallerImplTest {
     LogManager logManager = Mockito.mock(LogManager.class);
     SingleThreadExecutor singleThreadExecutor = new MockSingleThreadExecutor();
     PendingQueue<Callback> callbacks = new PendingQueueImpl<>();
+    MetricRegistry metricRegistry = new MetricRegistry();
 
     @BeforeEach
     public void setup() throws PacificaException {
@@ -66,6 +71,7 @@ public class StateMachineCallerImplTest {
         option.setExecutor(this.singleThreadExecutor);
         option.setCallbackPendingQueue(callbacks);
         option.setBootstrapId(new LogId(4, 1));
+        option.setMetricRegistry(this.metricRegistry);
         callbacks.reset(4);
         this.stateMachineCaller.init(option);
         this.stateMachineCaller.startup();
@@ -123,6 +129,8 @@ public class StateMachineCallerImplTest {
         Mockito.doThrow(new Exception("USER ERROR")).when(this.stateMachine).doApply(commitPoint, log.getLogData(), null);
         Assertions.assertTrue(this.stateMachineCaller.commitAt(commitPoint.getIndex()));
         this.stateMachineCaller.flush();
+        // the fault is reported by another event submitted while applying
+        this.stateMachineCaller.flush();
         Assertions.assertEquals(commitPoint.getIndex(), this.stateMachineCaller.getLastCommittedLogIndex());
         Assertions.assertEquals(commitPoint.getIndex() - 1, this.stateMachineCaller.getLastAppliedLogIndex());
         Assertions.assertNotNull(this.stateMachineCaller.getError());
@@ -151,6 +159,39 @@ public class StateMachineCallerImplTest {
         Assertions.assertEquals(12, this.stateMachineCaller.getLastAppliedLogIndex());
     }
 
+    @Test
+    public void testCoalesceCommitAt() throws InterruptedException {
+        mockLogEntries(5L, 8, LogEntry.Type.OP_DATA);
+        for (int i = 0; i < 8; i++) {
+            this.callbacks.add(null);
+        }
+        // block the executor
+        final CountDownLatch blocking = new CountDownLatch(1);
+        this.singleThreadExecutor.execute(() -> {
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (long index = 5; index <= 12; index++) {
+            Assertions.assertTrue(this.stateMachineCaller.commitAt(index));
+        }
+        Assertions.assertEquals(8, this.stateMachineCaller.getCommitQueueDepth());
+        blocking.countDown();
+        this.stateMachineCaller.flush();
+        Assertions.assertEquals(12, this.stateMachineCaller.getLastCommittedLogIndex());
+        Assertions.assertEquals(12, this.stateMachineCaller.getLastAppliedLogIndex());
+        Assertions.assertEquals(0, this.stateMachineCaller.getCommitQueueDepth());
+        // all are applied in one pass
+        Mockito.verify(this.stateMachine, Mockito.times(1)).onApply(Mockito.any());
+        final Histogram histogram = this.metricRegistry.histogram("fsm-caller.commit-coalesced");
+        Assertions.assertEquals(1, histogram.getCount());
+        Assertions.assertEquals(8, histogram.getSnapshot().getMax());
+        Assertions.assertEquals(8D, this.metricRegistry.getGauges().get("fsm-caller.commit-coalesce-ratio").getValue());
+        Assertions.assertFalse(this.stateMachineCaller.commitAt(12));
+    }
+
     private void mockLogEntries(long startLogIndex, int count, LogEntry.Type type) {
         for (int i = 0; i < count; i++) {
             LogId commitPoint = new LogId(startLogIndex + i, 1L);
@@ -188,6 +229,60 @@ public class StateMachineCallerImplTest {
         Mockito.verify(this.stateMachine).onSnapshotSave(snapshotWriter);
     }
 
+    @Test
+    public void testOnSnapshotSaveInBackground() throws InterruptedException, IOException {
+        StateMachineCaller.SnapshotSaveCallback callback = Mockito.mock(StateMachineCaller.SnapshotSaveCallback.class);
+        SnapshotWriter snapshotWriter = Mockito.mock(SnapshotWriter.class);
+        Mockito.doReturn(snapshotWriter).when(callback).start(Mockito.any());
+        final ArgumentCaptor<Callback> onFinishArg = ArgumentCaptor.forClass(Callback.class);
+        // the state machine does not finish the snapshot on the fsm thread
+        Mockito.doNothing().when(this.stateMachine).onSnapshotSave(Mockito.eq(snapshotWriter), onFinishArg.capture());
+        this.stateMachineCaller.onSnapshotSave(callback);
+        this.stateMachineCaller.flush();
+        Mockito.verify(callback).start(new LogId(4, 1));
+        Mockito.verify(callback, Mockito.never()).run(Mockito.any());
+
+        // the following operations are applied while the snapshot is saving
+        this.callbacks.add(null);
+        mockLogEntries(5L, 1, LogEntry.Type.OP_DATA);
+        Assertions.assertTrue(this.stateMachineCaller.commitAt(5));
+        this.stateMachineCaller.flush();
+        Assertions.assertEquals(5, this.stateMachineCaller.getLastAppliedLogIndex());
+        Mockito.verify(callback, Mockito.never()).run(Mockito.any());
+
+        final Callback onFinish = onFinishArg.getValue();
+        onFinish.run(Finished.success());
+        onFinish.run(Finished.success());
+        Mockito.verify(callback, Mockito.timeout(1000).times(1)).run(Mockito.argThat(Finished::isOk));
+    }
+
+    @Test
+    public void testAwaitApplied() throws InterruptedException {
+        Callback applied = Mockito.mock(Callback.class);
+        Assertions.assertTrue(this.stateMachineCaller.awaitApplied(4, applied));
+        Mockito.verify(applied, Mockito.timeout(1000).times(1)).run(Mockito.argThat(Finished::isOk));
+
+        Callback onApplied = Mockito.mock(Callback.class);
+        Assertions.assertTrue(this.stateMachineCaller.awaitApplied(5, onApplied));
+        this.stateMachineCaller.flush();
+        Mockito.verify(onApplied, Mockito.after(100).never()).run(Mockito.any());
+
+        this.callbacks.add(null);
+        mockLogEntries(5L, 1, LogEntry.Type.OP_DATA);
+        Assertions.assertTrue(this.stateMachineCaller.commitAt(5));
+        this.stateMachineCaller.flush();
+        Mockito.verify(onApplied, Mockito.timeout(1000).times(1)).run(Mockito.argThat(Finished::isOk));
+    }
+
+    @Test
+    public void testAwaitAppliedOnError() throws InterruptedException {
+        Callback onApplied = Mockito.mock(Callback.class);
+        Assertions.assertTrue(this.stateMachineCaller.awaitApplied(5, onApplied));
+        PacificaException pacificaException = new PacificaException(PacificaErrorCode.INTERNAL, "test error");
+        this.stateMachineCaller.onError(pacificaException);
+        this.stateMachineCaller.flush();
+        Mockito.verify(onApplied, Mockito.timeout(1000).times(1)).run(Mockito.argThat(finished -> pacificaException == finished.error()));
+    }
 
     @Test
     public void testOnError() throws InterruptedException {
@@ -17,6 +17,102 @@
 
 package com.trs.pacifica.fs.impl;
 
-public class DefaultFileServiceTest {
+import com.trs.pacifica.fs.FileReader;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.snapshot.storage.DefaultSnapshotFileReader;
+import com.trs.pacifica.test.BaseStorageTest;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class DefaultFileServiceTest extends BaseStorageTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private DefaultFileService fileService;
+
+    private String filename = "test_file";
+
+    private byte[] fileContent;
+
+    @BeforeEach
+    @Override
+    public void setup() throws Exception {
+        super.setup();
+        this.fileContent = "this is test content for DefaultFileService".getBytes(StandardCharsets.UTF_8);
+        FileUtils.writeByteArrayToFile(new File(this.path, this.filename), this.fileContent);
+        this.scheduler = Mockito.mock(ScheduledExecutorService.class);
+        this.fileService = new DefaultFileService(this.scheduler, 1000);
+    }
+
+    @AfterEach
+    @Override
+    public void shutdown() throws Exception {
+        super.shutdown();
+    }
+
+    private RpcRequest.GetFileResponse getFile(long readerId, long offset, int length) {
+        final RpcRequest.GetFileRequest request = RpcRequest.GetFileRequest.newBuilder()//
+                .setReaderId(readerId)//
+                .setFilename(this.filename)//
+                .setOffset(offset)//
+                .setLength(length)//
+                .build();
+        @SuppressWarnings("unchecked")
+        final RpcRequestFinished<RpcRequest.GetFileResponse> callback = Mockito.mock(RpcRequestFinished.class);
+        return this.fileService.handleGetFileRequest(request, callback);
+    }
+
+    @Test
+    public void testHandleGetFileRequest() throws Exception {
+        final long readerId = this.fileService.addFileReader(new DefaultSnapshotFileReader(this.path));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long offset = 0;
+        final int batch = 10;
+        RpcRequest.GetFileResponse response;
+        do {
+            response = getFile(readerId, offset, batch);
+            Assertions.assertNotNull(response);
+            Assertions.assertEquals(response.getReadLength(), response.getData().size());
+            response.getData().writeTo(output);
+            offset += response.getReadLength();
+        } while (!response.getEof());
+        Assertions.assertArrayEquals(this.fileContent, output.toByteArray());
+    }
+
+    @Test
+    public void testRemoveFileReader() throws Exception {
+        final FileReader fileReader = Mockito.mock(FileReader.class);
+        final long readerId = this.fileService.addFileReader(fileReader);
+        Assertions.assertSame(fileReader, this.fileService.getFileReader(readerId));
+        Assertions.assertTrue(this.fileService.removeFileReader(readerId));
+        Mockito.verify(fileReader).close();
+        Assertions.assertNull(this.fileService.getFileReader(readerId));
+        Assertions.assertFalse(this.fileService.removeFileReader(readerId));
+        Assertions.assertNull(getFile(readerId, 0, 10));
+    }
+
+    @Test
+    public void testExpireIdleReaders() throws Exception {
+        final FileReader idleReader = Mockito.mock(FileReader.class);
+        final FileReader activeReader = Mockito.mock(FileReader.class);
+        final long idleReaderId = this.fileService.addFileReader(idleReader);
+        Thread.sleep(1200);
+        final long activeReaderId = this.fileService.addFileReader(activeReader);
+        this.fileService.expireIdleReaders();
+        Mockito.verify(idleReader).close();
+        Mockito.verify(activeReader, Mockito.never()).close();
+        Assertions.assertNull(this.fileService.getFileReader(idleReaderId));
+        Assertions.assertSame(activeReader, this.fileService.getFileReader(activeReaderId));
+    }
 
 }
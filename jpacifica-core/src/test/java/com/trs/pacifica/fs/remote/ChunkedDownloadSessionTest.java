@@ -0,0 +1,199 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.fs.remote;
+
+import com.google.protobuf.ByteString;
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.client.PacificaClient;
+import com.trs.pacifica.test.BaseStorageTest;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChunkedDownloadSessionTest extends BaseStorageTest {
+
+    private static final int CHUNK_SIZE = ChunkedDownloadSession.Option.MIN_CHUNK_SIZE;
+
+    private PacificaClient pacificaClient;
+
+    private final ReplicaId targetId = new ReplicaId("test_group", "test_node");
+
+    private final String filename = "test1";
+
+    private final ExecutorService responseExecutor = Executors.newFixedThreadPool(4);
+
+    private final List<Long> requestOffsets = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger inflightNum = new AtomicInteger(0);
+
+    private final AtomicInteger maxInflightNum = new AtomicInteger(0);
+
+    private byte[] content;
+
+    @BeforeEach
+    @Override
+    public void setup() throws Exception {
+        super.setup();
+        this.pacificaClient = Mockito.mock(PacificaClient.class);
+        this.content = new byte[CHUNK_SIZE * 10 + 123];
+        new Random(1).nextBytes(this.content);
+    }
+
+    @AfterEach
+    @Override
+    public void shutdown() throws Exception {
+        this.responseExecutor.shutdownNow();
+        super.shutdown();
+    }
+
+    /**
+     * respond the content at the offset of request in other threads, and fail the request at failOffset once.
+     */
+    private void mockGetFile(final long failOffset) {
+        final AtomicInteger failTimes = new AtomicInteger(0);
+        Mockito.doAnswer(invocation -> {
+            final RpcRequest.GetFileRequest request = invocation.getArgument(0, RpcRequest.GetFileRequest.class);
+            final RpcRequestFinished<RpcRequest.GetFileResponse> callback = invocation.getArgument(1);
+            this.requestOffsets.add(request.getOffset());
+            this.maxInflightNum.accumulateAndGet(this.inflightNum.incrementAndGet(), Math::max);
+            this.responseExecutor.execute(() -> {
+                this.inflightNum.decrementAndGet();
+                if (request.getOffset() == failOffset && failTimes.getAndIncrement() == 0) {
+                    callback.run(Finished.failure(new RuntimeException("test failure")));
+                    return;
+                }
+                final int offset = (int) Math.min(request.getOffset(), this.content.length);
+                final int len = Math.min(request.getLength(), this.content.length - offset);
+                callback.setRpcResponse(RpcRequest.GetFileResponse.newBuilder()//
+                        .setData(ByteString.copyFrom(this.content, offset, len))//
+                        .setReadLength(len)//
+                        .setEof(len < request.getLength())//
+                        .build());
+                callback.run(Finished.success());
+            });
+            return null;
+        }).when(this.pacificaClient).getFile(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    private ChunkedDownloadSession.Option newOption() {
+        ChunkedDownloadSession.Option option = new ChunkedDownloadSession.Option();
+        option.setChunkSize(CHUNK_SIZE);
+        option.setMaxInflightChunks(4);
+        option.setSyncIntervalBytes(CHUNK_SIZE * 4);
+        return option;
+    }
+
+    @Test
+    public void testDownloadByChunks() throws Exception {
+        mockGetFile(-1);
+        final File destFile = new File(this.path, this.filename);
+        final List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+        final ChunkedDownloadSession session = new ChunkedDownloadSession(this.pacificaClient, this.targetId, 1L, this.filename,
+                destFile, 0, newOption(), (filename, downloadedLength) -> progress.add(downloadedLength), null);
+        session.start();
+        session.awaitComplete();
+        Assertions.assertTrue(session.isCompleted());
+        Assertions.assertFalse(session.isCancelled());
+        Assertions.assertArrayEquals(this.content, FileUtils.readFileToByteArray(destFile));
+        Assertions.assertEquals(this.content.length, session.getDownloadedLength());
+        // several chunks in flight
+        Assertions.assertTrue(this.maxInflightNum.get() > 1);
+        Assertions.assertTrue(this.maxInflightNum.get() <= 4);
+        // synced at the end
+        Assertions.assertEquals(this.content.length, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void testDownloadRetryChunk() throws Exception {
+        mockGetFile(CHUNK_SIZE * 3);
+        final File destFile = new File(this.path, this.filename);
+        final ChunkedDownloadSession session = new ChunkedDownloadSession(this.pacificaClient, this.targetId, 1L, this.filename,
+                destFile, 0, newOption(), null, null);
+        session.start();
+        session.awaitComplete();
+        Assertions.assertArrayEquals(this.content, FileUtils.readFileToByteArray(destFile));
+        Assertions.assertEquals(2, this.requestOffsets.stream().filter(offset -> offset == CHUNK_SIZE * 3).count());
+    }
+
+    @Test
+    public void testDownloadFailureAfterRetry() throws Exception {
+        mockGetFile(-1);
+        Mockito.doAnswer(invocation -> {
+            final RpcRequestFinished<RpcRequest.GetFileResponse> callback = invocation.getArgument(1);
+            this.responseExecutor.execute(() -> callback.run(Finished.failure(new RuntimeException("test failure"))));
+            return null;
+        }).when(this.pacificaClient).getFile(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        final ChunkedDownloadSession.Option option = newOption();
+        option.setMaxRetryTimes(2);
+        final ChunkedDownloadSession session = new ChunkedDownloadSession(this.pacificaClient, this.targetId, 1L, this.filename,
+                new File(this.path, this.filename), 0, option, null, null);
+        session.start();
+        Assertions.assertThrows(ExecutionException.class, session::awaitComplete);
+        Assertions.assertTrue(session.isCompleted());
+        Mockito.verify(this.pacificaClient, Mockito.times(3)).getFile(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testResumeFromOffset() throws Exception {
+        mockGetFile(-1);
+        final File destFile = new File(this.path, this.filename);
+        final int startOffset = CHUNK_SIZE * 6;
+        // the content after startOffset is discarded
+        byte[] downloaded = Arrays.copyOf(this.content, startOffset + 100);
+        Arrays.fill(downloaded, startOffset, downloaded.length, (byte) 0);
+        FileUtils.writeByteArrayToFile(destFile, downloaded);
+        final ChunkedDownloadSession session = new ChunkedDownloadSession(this.pacificaClient, this.targetId, 1L, this.filename,
+                destFile, startOffset, newOption(), null, null);
+        session.start();
+        session.awaitComplete();
+        Assertions.assertArrayEquals(this.content, FileUtils.readFileToByteArray(destFile));
+        Assertions.assertEquals(startOffset, Collections.min(this.requestOffsets));
+    }
+
+    @Test
+    public void testDownloadEmptyFile() throws Exception {
+        this.content = new byte[0];
+        mockGetFile(-1);
+        final File destFile = new File(this.path, this.filename);
+        final ChunkedDownloadSession session = new ChunkedDownloadSession(this.pacificaClient, this.targetId, 1L, this.filename,
+                destFile, 0, newOption(), null, null);
+        session.start();
+        session.awaitComplete();
+        Assertions.assertTrue(destFile.exists());
+        Assertions.assertEquals(0, destFile.length());
+        Assertions.assertEquals(1, this.requestOffsets.size());
+    }
+
+}
@@ -18,15 +18,24 @@
 package com.trs.pacifica.log;
 
 import com.trs.pacifica.LogStorage;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.log.store.SegmentStore;
 import com.trs.pacifica.model.LogEntry;
 import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.test.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class FsLogStorageTest extends BaseLogStorageTest {
 
@@ -84,4 +93,87 @@ public class FsLogStorageTest extends BaseLogStorageTest {
         Assertions.assertNotNull(lastLogId);
         Assertions.assertEquals(logEntry4.getLogId(), lastLogId);
     }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        final int batchNum = 10;
+        final CountDownLatch latch = new CountDownLatch(batchNum);
+        final AtomicInteger successCount = new AtomicInteger(0);
+        final List<LogEntry> logEntries = TestUtils.mockEntries(batchNum * 5);
+        for (int i = 0; i < batchNum; i++) {
+            final List<LogEntry> batch = logEntries.subList(i * 5, i * 5 + 5);
+            Assertions.assertEquals(5, this.logStorage.appendLogEntries(batch, finished -> {
+                if (finished.isOk()) {
+                    successCount.incrementAndGet();
+                }
+                latch.countDown();
+            }));
+        }
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(batchNum, successCount.get());
+        Assertions.assertEquals(logEntries.get(logEntries.size() - 1).getLogId(), this.logStorage.getLastLogId());
+    }
+
+    @Test
+    public void testGroupCommitFlushPendingOnTruncate() throws Exception {
+        final FsLogStorageOption option = new FsLogStorageOption();
+        option.setGroupCommitMaxWaitMs(60 * 1000);
+        option.setGroupCommitBytesThreshold(Integer.MAX_VALUE);
+        this.logStorage.close();
+        this.logStorage = new FsLogStorage(path, this.logEntryEncoder, this.logEntryDecoder, option);
+        this.logStorage.open();
+        final AtomicInteger successCount = new AtomicInteger(0);
+        final List<LogEntry> logEntries = TestUtils.mockEntries(10);
+        Assertions.assertEquals(10, this.logStorage.appendLogEntries(logEntries, finished -> {
+            if (finished.isOk()) {
+                successCount.incrementAndGet();
+            }
+        }));
+        this.logStorage.truncateSuffix(5);
+        Assertions.assertEquals(1, successCount.get());
+        Assertions.assertEquals(5, this.logStorage.getLastLogId().getIndex());
+    }
+
+    @Test
+    public void testGroupCommitFlushFailure() throws Exception {
+        final SegmentStore segmentStore = Mockito.spy(this.logStorage.getSegmentStore());
+        Mockito.doThrow(new IOException("test")).doCallRealMethod().when(segmentStore).flush();
+        this.logStorage.setSegmentStore(segmentStore);
+        final List<LogEntry> logEntries = TestUtils.mockEntries(10);
+        for (int i = 0; i < 2; i++) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicReference<Finished> result = new AtomicReference<>(null);
+            Assertions.assertEquals(5, this.logStorage.appendLogEntries(logEntries.subList(i * 5, i * 5 + 5), finished -> {
+                result.set(finished);
+                latch.countDown();
+            }));
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            // the flush after the failure fails too
+            Assertions.assertFalse(result.get().isOk());
+        }
+        Mockito.verify(segmentStore, Mockito.times(1)).flush();
+    }
+
+    @Test
+    public void testGroupCommitOptionValidation() {
+        final FsLogStorageOption option = new FsLogStorageOption();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> option.setGroupCommitMaxWaitMs(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> option.setGroupCommitBytesThreshold(0));
+        option.setGroupCommitMaxWaitMs(0);
+        Assertions.assertEquals(0, option.getGroupCommitMaxWaitMs());
+    }
+
+    @Test
+    public void testDisableGroupCommit() throws Exception {
+        final FsLogStorageOption option = new FsLogStorageOption();
+        option.setEnableGroupCommit(false);
+        this.logStorage.close();
+        this.logStorage = new FsLogStorage(path, this.logEntryEncoder, this.logEntryDecoder, option);
+        this.logStorage.open();
+        final AtomicInteger successCount = new AtomicInteger(0);
+        Assertions.assertEquals(10, this.logStorage.appendLogEntries(TestUtils.mockEntries(10), finished -> {
+            successCount.incrementAndGet();
+        }));
+        Assertions.assertEquals(1, successCount.get());
+    }
 }
@@ -114,4 +114,30 @@ class MMapDirectoryTest extends BaseStorageTest {
 
     }
 
+    @Test
+    void testRename() throws IOException {
+        String source = "test_rename_source";
+        String dest = "test_rename_dest";
+        int fileSize = 10240;
+        this.mMapDirectory.createFile(source, fileSize);
+        final byte[] writeBytes = "test_write_bytes".getBytes();
+        try (final InOutput inOutput = this.mMapDirectory.openInOutput(source)) {
+            inOutput.writeBytes(0, writeBytes);
+        }
+        final InOutput mapped = this.mMapDirectory.getFileInOutput(source);
+        this.mMapDirectory.rename(source, dest);
+        Assertions.assertFalse(new File(this.path, source).exists());
+        Assertions.assertTrue(new File(this.path, dest).exists());
+        Assertions.assertNull(this.mMapDirectory.getFileInOutput(source));
+        // the mapping is reused
+        Assertions.assertSame(mapped, this.mMapDirectory.getFileInOutput(dest));
+
+        final byte[] readBytes = new byte[writeBytes.length];
+        try (final InOutput inOutput = this.mMapDirectory.openInOutput(dest)) {
+            inOutput.seek(0);
+            inOutput.readBytes(readBytes);
+        }
+        Assertions.assertArrayEquals(writeBytes, readBytes);
+    }
+
 }
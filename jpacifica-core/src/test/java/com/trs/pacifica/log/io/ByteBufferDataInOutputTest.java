@@ -17,6 +17,9 @@
 
 package com.trs.pacifica.log.io;
 
+import com.trs.pacifica.util.io.ByteDataBuffer;
+import com.trs.pacifica.util.io.DataBuffer;
+import com.trs.pacifica.util.io.LinkedDataBuffer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,7 @@ import org.mockito.Mockito;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -178,6 +182,78 @@ public class ByteBufferDataInOutputTest {
         Assertions.assertArrayEquals(expected, readBytes);
     }
 
+    @Test
+    void testReadAtPosition() throws IOException {
+        final ByteBuffer[] buffers = mockByteBuffers(length, chunkSizePower);
+        for (ByteBuffer buffer : buffers) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        final ByteBufferDataInOutput inOutput = new ByteBufferDataInOutput("test", buffers, chunkSizePower, length, new ByteBufferGuard("test", null));
+        buffers[0].put(8, (byte) 0x27);
+        buffers[0].putInt(12, 1024);
+        buffers[0].putLong(16, Long.MAX_VALUE - 1);
+        Assertions.assertEquals((byte) 0x27, inOutput.readByte(8));
+        Assertions.assertEquals(1024, inOutput.readInt(12));
+        Assertions.assertEquals(Long.MAX_VALUE - 1, inOutput.readLong(16));
+
+        // across two buffers
+        final byte[] bytes = new byte[Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 0x0102030405060708L);
+        inOutput.writeBytes((int) DEFAULT_MAX_CHUNK_SIZE - 3, bytes, 0, bytes.length);
+        Assertions.assertEquals(0x0102030405060708L, inOutput.readLong(DEFAULT_MAX_CHUNK_SIZE - 3));
+        Assertions.assertEquals(0x05060708, inOutput.readInt(DEFAULT_MAX_CHUNK_SIZE - 3));
+        Assertions.assertEquals(0x04050607, inOutput.readInt(DEFAULT_MAX_CHUNK_SIZE - 2));
+        // the positional reads do not move the cursor
+        inOutput.seek(5);
+        inOutput.readLong(DEFAULT_MAX_CHUNK_SIZE - 3);
+        inOutput.readInt(DEFAULT_MAX_CHUNK_SIZE - 2);
+        Assertions.assertEquals(5, inOutput.getReadPosition());
+
+        Assertions.assertThrows(EOFException.class, () -> inOutput.readInt(length));
+        Assertions.assertThrows(EOFException.class, () -> inOutput.readLong(length - Integer.BYTES));
+    }
+
+    @Test
+    void testReadDataBuffer() throws IOException {
+        final ByteBufferDataInOutput inOutput = new ByteBufferDataInOutput("test", byteBuffers, chunkSizePower, length, new ByteBufferGuard("test", null));
+        final byte[] writeBytes = new byte[100];
+        for (int i = 0; i < writeBytes.length; i++) {
+            writeBytes[i] = (byte) i;
+        }
+        final int index = (int) DEFAULT_MAX_CHUNK_SIZE - 40;
+        inOutput.writeBytes(index, ByteBuffer.wrap(writeBytes));
+
+        final DataBuffer dataBuffer = inOutput.readDataBuffer(index, writeBytes.length);
+        Assertions.assertEquals(writeBytes.length, dataBuffer.limit());
+        // a view of the buffers, not a copy
+        byteBuffers[1].put(0, (byte) -1);
+        final byte[] readBytes = dataBuffer.readRemain();
+        Assertions.assertEquals((byte) -1, readBytes[40]);
+        readBytes[40] = 40;
+        Assertions.assertArrayEquals(writeBytes, readBytes);
+
+        final ByteBuffer dst = ByteBuffer.allocate(10);
+        Assertions.assertEquals(10, inOutput.readBytes(index + 35, dst));
+        Assertions.assertEquals((byte) 35, dst.get(0));
+        Assertions.assertEquals((byte) 44, dst.get(9));
+        Assertions.assertEquals(-1, inOutput.readBytes(length, ByteBuffer.allocate(1)));
+        Assertions.assertThrows(EOFException.class, () -> inOutput.readDataBuffer(length - 1, 2));
+    }
+
+    @Test
+    void testWriteDataBuffer() throws IOException {
+        final ByteBufferDataInOutput inOutput = new ByteBufferDataInOutput("test", byteBuffers, chunkSizePower, length, new ByteBufferGuard("test", null));
+        final byte[] bytes1 = "hello".getBytes("UTF-8");
+        final byte[] bytes2 = "test".getBytes("UTF-8");
+        final DataBuffer src = new LinkedDataBuffer(new ByteDataBuffer(bytes1), new ByteDataBuffer(bytes2));
+        final int index = (int) DEFAULT_MAX_CHUNK_SIZE - 3;
+        inOutput.writeBytes(index, src);
+        Assertions.assertFalse(src.hasRemaining());
+        final byte[] readBytes = new byte[bytes1.length + bytes2.length];
+        inOutput.readBytes(index, ByteBuffer.wrap(readBytes));
+        Assertions.assertArrayEquals("hellotest".getBytes("UTF-8"), readBytes);
+    }
+
     @Test
     void testWriteBytes() throws IOException {
         byte[] writeBytes = "test".getBytes("UTF-8");
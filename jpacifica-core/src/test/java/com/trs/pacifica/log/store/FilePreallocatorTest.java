@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.log.store;
+
+import com.trs.pacifica.log.dir.FsDirectory;
+import com.trs.pacifica.log.io.InOutput;
+import com.trs.pacifica.test.BaseStorageTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+public class FilePreallocatorTest extends BaseStorageTest {
+
+    private FsDirectory directory;
+
+    private FilePreallocator filePreallocator;
+
+    @BeforeEach
+    @Override
+    public void setup() throws Exception {
+        super.setup();
+        this.directory = FsDirectory.open(new File(this.path).toPath());
+        this.filePreallocator = new FilePreallocator(this.directory, 10 * 1024, 2, SegmentStore._FILE_SUFFIX, Runnable::run);
+    }
+
+    @AfterEach
+    @Override
+    public void shutdown() throws Exception {
+        this.filePreallocator.close();
+        this.directory.close();
+        super.shutdown();
+    }
+
+    @Test
+    public void testStart() throws Exception {
+        final String leftover = "0000000000000000009.s.pre";
+        this.directory.createFile(leftover, 1024);
+        this.filePreallocator.start();
+        Assertions.assertEquals(2, this.filePreallocator.getReadyFileNum());
+        final String[] filenames = this.directory.listAll();
+        Assertions.assertEquals(2, filenames.length);
+        Assertions.assertFalse(Arrays.asList(filenames).contains(leftover));
+        for (String filename : filenames) {
+            Assertions.assertTrue(this.filePreallocator.isPreallocatedFile(filename));
+            Assertions.assertEquals(10 * 1024, this.directory.fileLength(filename));
+        }
+    }
+
+    @Test
+    public void testStartReuseLeftover() throws Exception {
+        final String leftover = "0000000000000000009.s.pre";
+        this.directory.createFile(leftover, 10 * 1024);
+        this.filePreallocator.start();
+        Assertions.assertEquals(2, this.filePreallocator.getReadyFileNum());
+        final String[] filenames = this.directory.listAll();
+        Assertions.assertEquals(2, filenames.length);
+        Assertions.assertTrue(Arrays.asList(filenames).contains(leftover));
+        // the new one is named after the leftover
+        Assertions.assertTrue(Arrays.asList(filenames).contains("0000000000000000010.s.pre"));
+        final String filename = "0000000000000000000" + SegmentStore._FILE_SUFFIX;
+        Assertions.assertTrue(this.filePreallocator.allocate(filename));
+        Assertions.assertFalse(Arrays.asList(this.directory.listAll()).contains(leftover));
+    }
+
+    @Test
+    public void testStartKeepNotBlankLeftover() throws Exception {
+        final String leftover = "0000000000000000009.s.pre";
+        this.directory.createFile(leftover, 10 * 1024);
+        try (final InOutput output = this.directory.openInOutput(leftover)) {
+            output.writeBytes(0, new byte[]{1, 2, 3}, 0, 3);
+        }
+        this.filePreallocator.start();
+        Assertions.assertEquals(2, this.filePreallocator.getReadyFileNum());
+        final String[] filenames = this.directory.listAll();
+        Assertions.assertEquals(3, filenames.length);
+        Assertions.assertTrue(Arrays.asList(filenames).contains(leftover));
+        this.filePreallocator.close();
+        Assertions.assertArrayEquals(new String[]{leftover}, this.directory.listAll());
+    }
+
+    @Test
+    public void testAllocate() throws Exception {
+        this.filePreallocator.start();
+        final String filename = "0000000000000000000" + SegmentStore._FILE_SUFFIX;
+        Assertions.assertTrue(this.filePreallocator.allocate(filename));
+        Assertions.assertEquals(10 * 1024, this.directory.fileLength(filename));
+        // filled again
+        Assertions.assertEquals(2, this.filePreallocator.getReadyFileNum());
+        Assertions.assertEquals(3, this.directory.listAll().length);
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        this.filePreallocator.start();
+        this.filePreallocator.close();
+        Assertions.assertEquals(0, this.filePreallocator.getReadyFileNum());
+        Assertions.assertEquals(0, this.directory.listAll().length);
+        Assertions.assertFalse(this.filePreallocator.allocate("0000000000000000000" + SegmentStore._FILE_SUFFIX));
+    }
+
+}
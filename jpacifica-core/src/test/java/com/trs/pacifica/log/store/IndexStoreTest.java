@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
 public class IndexStoreTest extends BaseStorageTest {
 
@@ -128,4 +129,67 @@ public class IndexStoreTest extends BaseStorageTest {
         Assertions.assertEquals(position2, result2);
     }
 
+    @Test
+    public void testLookupPositionAtAcrossFiles() throws IOException {
+        this.indexStore.close();
+        this.indexStore = new IndexStore(new File(this.path).toPath(), 4);
+        this.indexStore.load();
+        for (int i = 1; i <= 20; i++) {
+            this.indexStore.appendLogIndex(new LogId(i, 1), i * 10);
+        }
+        this.indexStore.flush();
+        for (int i = 1; i <= 20; i++) {
+            Assertions.assertEquals(i * 10, this.indexStore.lookupPositionAt(i));
+        }
+        Assertions.assertEquals(IndexFile._NOT_FOUND, this.indexStore.lookupPositionAt(21));
+        final IndexFile indexFile = (IndexFile) this.indexStore.lookupFile(20);
+        Assertions.assertFalse(indexFile.isLegacy());
+        Assertions.assertEquals(new IndexEntry(new LogId(20, 1), 200), indexFile.lookupIndexEntry(20));
+    }
+
+    @Test
+    public void testLookupPositionAtLegacyIndexFile() throws IOException {
+        this.indexStore.close();
+        // an IndexFile written by the version 1
+        final int legacyEntryByteSize = 22;
+        final byte[] fileBytes = new byte[FileHeader.getBytesSize() + 1000 * legacyEntryByteSize];
+        final FileHeader fileHeader = new FileHeader();
+        fileHeader.setFirstLogIndex(1001);
+        fileHeader.setStartOffset(0);
+        fileHeader.setAvailable();
+        final byte[] headerBytes = fileHeader.encode();
+        System.arraycopy(headerBytes, 0, fileBytes, 0, headerBytes.length);
+        final IndexEntry.IndexEntryCodec codecV1 = new IndexEntry.IndexEntryCodecV1();
+        for (int i = 0; i < 3; i++) {
+            final int position = FileHeader.getBytesSize() + i * legacyEntryByteSize;
+            fileBytes[position] = 0x27;
+            fileBytes[position + 1] = 0x01;
+            final byte[] entryBytes = codecV1.encode(new IndexEntry(new LogId(1001 + i, 1), 20 + i * 10));
+            System.arraycopy(entryBytes, 0, fileBytes, position + 2, entryBytes.length);
+        }
+        Files.write(new File(this.path, String.format("%019d", 0) + IndexStore._FILE_SUFFIX).toPath(), fileBytes);
+
+        this.indexStore = new IndexStore(new File(this.path).toPath());
+        this.indexStore.load();
+        Assertions.assertEquals(1001, this.indexStore.getFirstLogIndex());
+        Assertions.assertEquals(1003, this.indexStore.getLastLogIndex());
+        Assertions.assertTrue(((IndexFile) this.indexStore.lookupFile(1001)).isLegacy());
+        Assertions.assertEquals(20, this.indexStore.lookupPositionAt(1001));
+        Assertions.assertEquals(30, this.indexStore.lookupPositionAt(1002));
+        Assertions.assertEquals(40, this.indexStore.lookupPositionAt(1003));
+
+        // keep appending the legacy entries to the legacy file
+        final Tuple2<Integer, Long> result = this.indexStore.appendLogIndex(new LogId(1004, 2), 50);
+        Assertions.assertEquals(FileHeader.getBytesSize() + 3 * legacyEntryByteSize, result.getFirst());
+        this.indexStore.flush();
+        this.indexStore.close();
+
+        this.indexStore = new IndexStore(new File(this.path).toPath());
+        this.indexStore.load();
+        Assertions.assertEquals(1004, this.indexStore.getLastLogIndex());
+        Assertions.assertEquals(50, this.indexStore.lookupPositionAt(1004));
+        final IndexFile indexFile = (IndexFile) this.indexStore.lookupFile(1004);
+        Assertions.assertEquals(new IndexEntry(new LogId(1004, 2), 50), indexFile.lookupIndexEntry(1004));
+    }
+
 }
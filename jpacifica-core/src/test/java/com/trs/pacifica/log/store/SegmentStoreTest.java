@@ -17,8 +17,10 @@
 
 package com.trs.pacifica.log.store;
 
+import com.trs.pacifica.log.store.file.AbstractFile;
 import com.trs.pacifica.log.store.file.Block;
 import com.trs.pacifica.log.store.file.FileHeader;
+import com.trs.pacifica.model.LogEntry;
 import com.trs.pacifica.test.BaseStorageTest;
 import com.trs.pacifica.util.Tuple2;
 import com.trs.pacifica.util.io.ByteDataBuffer;
@@ -30,8 +32,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class SegmentStoreTest extends BaseStorageTest {
 
@@ -211,6 +217,102 @@ public class SegmentStoreTest extends BaseStorageTest {
 
     }
 
+    @Test
+    public void testLookupLogEntryDecodeUnderReadLock() throws IOException {
+        final long logIndex = 1001;
+        byte[] logData = mockBytes(11 * 1024);
+        Tuple2<Integer, Long> result = this.segmentStore.appendLogData(logIndex, new ByteDataBuffer(logData));
+        this.segmentStore.flush();
+        final LogEntry logEntry = this.segmentStore.lookupLogEntry(data -> {
+            // the segment files can not be deleted while decoding
+            Assertions.assertFalse(this.segmentStore.writeLock.tryLock());
+            Assertions.assertArrayEquals(logData, data.readRemain());
+            return new LogEntry(logIndex, 1L, LogEntry.Type.OP_DATA);
+        }, logIndex, result.getFirst());
+        Assertions.assertNotNull(logEntry);
+        Assertions.assertTrue(this.segmentStore.writeLock.tryLock());
+        this.segmentStore.writeLock.unlock();
+    }
+
+    @Test
+    public void testGetNextFileAndLookupFile() throws IOException {
+        long logIndex = 1001;
+        for (int i = 0; i < 5; i++, logIndex++) {
+            this.segmentStore.appendLogData(logIndex, new ByteDataBuffer(mockBytes(9 * 1024)));
+        }
+        final List<AbstractFile> files = new ArrayList<>();
+        AbstractFile file = null;
+        while ((file = this.segmentStore.getNextFile(file)) != null) {
+            files.add(file);
+        }
+        Assertions.assertEquals(this.segmentStore.sliceFile(files.get(0)), files);
+        Assertions.assertSame(files.get(0), this.segmentStore.lookupFile(1001));
+        final AbstractFile last = this.segmentStore.lookupFile(1005);
+        Assertions.assertTrue(files.contains(last));
+        Assertions.assertTrue(last.getFirstLogIndex() <= 1005 && last.getLastLogIndex() >= 1005);
+
+        this.segmentStore.truncatePrefix(1003);
+        final AbstractFile first = this.segmentStore.getNextFile(null);
+        Assertions.assertTrue(first.getFirstLogIndex() <= 1003 && first.getLastLogIndex() >= 1003);
+        Assertions.assertNull(this.segmentStore.lookupFile(1001));
+        Assertions.assertSame(first, this.segmentStore.lookupFile(1003));
+    }
+
+    @Test
+    public void testGetFirstAndLastLogIndexWithoutLock() throws Exception {
+        long logIndex = 1001;
+        for (int i = 0; i < 3; i++, logIndex++) {
+            this.segmentStore.appendLogData(logIndex, new ByteDataBuffer(mockBytes(9 * 1024)));
+        }
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread writer = new Thread(() -> {
+            this.segmentStore.writeLock.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.segmentStore.writeLock.unlock();
+            }
+        });
+        writer.start();
+        try {
+            Assertions.assertTrue(locked.await(5, TimeUnit.SECONDS));
+            // not blocked by the write lock held by the other thread
+            Assertions.assertEquals(1001, this.segmentStore.getFirstLogIndex());
+            Assertions.assertEquals(1003, this.segmentStore.getLastLogIndex());
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testLookupLogEntryWithPreallocatedFile() throws IOException {
+        this.segmentStore.close();
+        this.segmentStore = new SegmentStore(new File(this.path).toPath(), 10 * 1024, 1);
+        this.segmentStore.load();
+        final long logIndex1 = 1001;
+        byte[] logData1 = mockBytes(50);
+        this.segmentStore.appendLogData(logIndex1, new ByteDataBuffer(logData1));
+
+        final long logIndex2 = 1002;
+        byte[] logData2 = mockBytes(21 * 1024);
+        Tuple2<Integer, Long> result2 = this.segmentStore.appendLogData(logIndex2, new ByteDataBuffer(logData2));
+
+        final long logIndex3 = 1003;
+        byte[] logData3 = mockBytes(1 * 1024);
+        Tuple2<Integer, Long> result3 = this.segmentStore.appendLogData(logIndex3, new ByteDataBuffer(logData3));
+
+        this.segmentStore.flush();
+        Assertions.assertArrayEquals(logData2, this.segmentStore.lookupLogEntry(logIndex2, result2.getFirst()).readRemain());
+        Assertions.assertArrayEquals(logData3, this.segmentStore.lookupLogEntry(logIndex3, result3.getFirst()).readRemain());
+        Assertions.assertEquals(1001, segmentStore.getFirstLogIndex());
+        Assertions.assertEquals(1003, segmentStore.getLastLogIndex());
+    }
+
 
 
     static byte[] mockBytes(int size, byte fill) {
@@ -0,0 +1,47 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.trs.pacifica.model.ReplicaId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class JmxMetricReporterFactoryTest {
+
+    @Test
+    public void testNewMetricReporter() throws Exception {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        metricRegistry.counter("log-manager.append").inc(3);
+        final ReplicaId replicaId = new ReplicaId("group", "127.0.0.1:8080");
+        final ObjectName objectName = JmxMetricReporterFactory.newObjectNameFactory(replicaId)
+                .createName("counters", JmxMetricReporterFactory.DOMAIN, "log-manager.append");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try (MetricReporter reporter = new JmxMetricReporterFactory().newMetricReporter(replicaId, metricRegistry)) {
+            reporter.start();
+            Assertions.assertTrue(mBeanServer.isRegistered(objectName));
+            Assertions.assertEquals(3L, mBeanServer.getAttribute(objectName, "Count"));
+        }
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+}
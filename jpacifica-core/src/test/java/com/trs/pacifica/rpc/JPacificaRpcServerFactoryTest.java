@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc;
+
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.service.ReplicaServiceManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+public class JPacificaRpcServerFactoryTest {
+
+    @Test
+    public void testAddPacificaRequestHandlers() {
+        final RpcServer rpcServer = Mockito.mock(RpcServer.class);
+        final Executor replicationExecutor = Mockito.mock(Executor.class);
+        final Executor fileExecutor = Mockito.mock(Executor.class);
+        final Executor snapshotExecutor = Mockito.mock(Executor.class);
+        final JPacificaRpcServerFactory.HandlerExecutorOption option = new JPacificaRpcServerFactory.HandlerExecutorOption();
+        option.setReplicationExecutor(replicationExecutor);
+        option.setFileExecutor(fileExecutor);
+        option.setSnapshotExecutor(snapshotExecutor);
+        JPacificaRpcServerFactory.addPacificaRequestHandlers(rpcServer, Mockito.mock(ReplicaServiceManager.class), option);
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final ArgumentCaptor<RpcHandler<?, ?>> captor = ArgumentCaptor.forClass((Class) RpcHandler.class);
+        Mockito.verify(rpcServer, Mockito.atLeastOnce()).registerRpcHandler(captor.capture());
+        final Map<String, Executor> executors = new HashMap<>();
+        for (RpcHandler<?, ?> rpcHandler : captor.getAllValues()) {
+            executors.put(rpcHandler.interest(), rpcHandler.executor());
+        }
+        // the download of snapshot does not block the replication requests or the GetFileRequest
+        Assertions.assertSame(snapshotExecutor, executors.get(RpcRequest.InstallSnapshotRequest.class.getName()));
+        Assertions.assertSame(fileExecutor, executors.get(RpcRequest.GetFileRequest.class.getName()));
+        Assertions.assertSame(replicationExecutor, executors.get(RpcRequest.AppendEntriesRequest.class.getName()));
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc.internal;
+
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.async.thread.ExecutorGroup;
+import com.trs.pacifica.async.thread.SingleThreadExecutor;
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.RpcRequestFinishedAdapter;
+import com.trs.pacifica.rpc.service.ReplicaService;
+import com.trs.pacifica.rpc.service.ReplicaServiceManager;
+import com.trs.pacifica.util.RpcUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BatchAppendEntriesRequestHandlerTest {
+
+    private ReplicaServiceManager replicaManager;
+
+    private ReplicaService replicaService1;
+
+    private ReplicaService replicaService2;
+
+    private BatchAppendEntriesRequestHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        this.replicaManager = Mockito.mock(ReplicaServiceManager.class);
+        this.replicaService1 = Mockito.mock(ReplicaService.class);
+        this.replicaService2 = Mockito.mock(ReplicaService.class);
+        Mockito.doReturn(replicaService1).when(replicaManager).getReplicaService(new ReplicaId("group1", "node1"));
+        Mockito.doReturn(replicaService2).when(replicaManager).getReplicaService(new ReplicaId("group2", "node1"));
+        this.handler = new BatchAppendEntriesRequestHandler(replicaManager);
+    }
+
+    private static RpcRequest.AppendEntriesRequest newHeartbeat(String groupName) {
+        return RpcRequest.AppendEntriesRequest.newBuilder()//
+                .setPrimaryId(RpcUtil.protoReplicaId(new ReplicaId(groupName, "node0")))//
+                .setTargetId(RpcUtil.protoReplicaId(new ReplicaId(groupName, "node1")))//
+                .setTerm(1)//
+                .build();
+    }
+
+    @Test
+    public void testAsyncFailureRespondsError() throws PacificaException {
+        Mockito.doReturn(RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).setTerm(1).build())//
+                .when(replicaService1).handleAppendLogEntryRequest(Mockito.any(), Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback = invocation.getArgument(1);
+            callback.run(Finished.failure(new PacificaException(PacificaErrorCode.UNAVAILABLE, "test")));
+            return null;
+        }).when(replicaService2).handleAppendLogEntryRequest(Mockito.any(), Mockito.any());
+        final RpcRequest.BatchAppendEntriesRequest request = RpcRequest.BatchAppendEntriesRequest.newBuilder()//
+                .addRequests(newHeartbeat("group1"))//
+                .addRequests(newHeartbeat("group2"))//
+                .build();
+        final RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse> callback = Mockito.spy(new RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse>() {
+            @Override
+            public void run(Finished finished) {
+
+            }
+        });
+        Assertions.assertNull(this.handler.asyncHandleRequest(request, callback));
+        Mockito.verify(callback).run(ArgumentMatchers.argThat(Finished::isOk));
+        final RpcRequest.BatchAppendEntriesResponse response = callback.getRpcResponse();
+        Assertions.assertEquals(2, response.getResponsesCount());
+        Assertions.assertTrue(response.getResponses(0).getSuccess());
+        Assertions.assertFalse(response.getResponses(0).hasError());
+        Assertions.assertTrue(response.getResponses(1).hasError());
+        Assertions.assertEquals(PacificaErrorCode.UNAVAILABLE.getCode(), response.getResponses(1).getError().getCode());
+    }
+
+    @Test
+    public void testAsyncUnexpectedFailureRespondsError() throws PacificaException {
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback = invocation.getArgument(1);
+            callback.run(Finished.failure(new IllegalStateException("test")));
+            return null;
+        }).when(replicaService1).handleAppendLogEntryRequest(Mockito.any(), Mockito.any());
+        final RpcRequest.BatchAppendEntriesRequest request = RpcRequest.BatchAppendEntriesRequest.newBuilder()//
+                .addRequests(newHeartbeat("group1"))//
+                .build();
+        final RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse> callback = new RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse>() {
+            @Override
+            public void run(Finished finished) {
+
+            }
+        };
+        this.handler.asyncHandleRequest(request, callback);
+        final RpcRequest.AppendEntriesResponse response = callback.getRpcResponse().getResponses(0);
+        Assertions.assertTrue(response.hasError());
+        Assertions.assertEquals(PacificaErrorCode.UNDEFINED.getCode(), response.getError().getCode());
+        Assertions.assertEquals("test", response.getError().getMessage());
+    }
+
+    private static SingleThreadExecutor newInlineExecutor() {
+        final SingleThreadExecutor executor = Mockito.mock(SingleThreadExecutor.class);
+        Mockito.doAnswer(invocation -> {
+            final Runnable command = invocation.getArgument(0);
+            command.run();
+            return null;
+        }).when(executor).execute(Mockito.any());
+        return executor;
+    }
+
+    @Test
+    public void testDispatchToOrderedExecutors() throws PacificaException {
+        final SingleThreadExecutor[] children = new SingleThreadExecutor[]{newInlineExecutor(), newInlineExecutor(), newInlineExecutor()};
+        final ExecutorGroup executorGroup = Mockito.mock(ExecutorGroup.class);
+        Mockito.doAnswer(invocation -> Arrays.asList(children).iterator()).when(executorGroup).iterator();
+        Mockito.doCallRealMethod().when(executorGroup).forEach(Mockito.any());
+        this.handler = new BatchAppendEntriesRequestHandler(replicaManager, executorGroup);
+        Mockito.doReturn(RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).setTerm(1).build())//
+                .when(replicaService1).handleAppendLogEntryRequest(Mockito.any(), Mockito.any());
+        Mockito.doReturn(RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).setTerm(1).build())//
+                .when(replicaService2).handleAppendLogEntryRequest(Mockito.any(), Mockito.any());
+        final RpcRequest.BatchAppendEntriesRequest request = RpcRequest.BatchAppendEntriesRequest.newBuilder()//
+                .addRequests(newHeartbeat("group1"))//
+                .addRequests(newHeartbeat("group2"))//
+                .build();
+        // the batch is dispatched in the thread of rpc
+        Assertions.assertNull(this.handler.executor(request));
+        final RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse> callback = new RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse>() {
+            @Override
+            public void run(Finished finished) {
+
+            }
+        };
+        Assertions.assertNull(this.handler.asyncHandleRequest(request, callback));
+        Assertions.assertEquals(2, callback.getRpcResponse().getResponsesCount());
+        Assertions.assertTrue(callback.getRpcResponse().getResponses(0).getSuccess());
+        Assertions.assertTrue(callback.getRpcResponse().getResponses(1).getSuccess());
+        // each request is executed by the child of its replica
+        final Map<SingleThreadExecutor, Integer> expectedCounts = new HashMap<>();
+        for (String groupName : new String[]{"group1", "group2"}) {
+            expectedCounts.merge(InternalRpcRequestHandler.chooseOrderedExecutor(children, new ReplicaId(groupName, "node1")), 1, Integer::sum);
+        }
+        for (SingleThreadExecutor child : children) {
+            Mockito.verify(child, Mockito.times(expectedCounts.getOrDefault(child, 0))).execute(Mockito.any());
+        }
+        Mockito.verify(executorGroup, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void testBatchResponseIgnoresDuplicateResponse() {
+        final RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse> callback = Mockito.spy(new RpcRequestFinishedAdapter<RpcRequest.BatchAppendEntriesResponse>() {
+            @Override
+            public void run(Finished finished) {
+
+            }
+        });
+        final BatchAppendEntriesRequestHandler.BatchResponse batchResponse = new BatchAppendEntriesRequestHandler.BatchResponse(2, callback);
+        batchResponse.setResponse(0, RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).build());
+        batchResponse.setResponse(0, RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(false).build());
+        Mockito.verify(callback, Mockito.never()).run(Mockito.any());
+        batchResponse.setResponse(1, RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).build());
+        Mockito.verify(callback, Mockito.times(1)).run(ArgumentMatchers.argThat(Finished::isOk));
+        Assertions.assertEquals(2, callback.getRpcResponse().getResponsesCount());
+        Assertions.assertTrue(callback.getRpcResponse().getResponses(0).getSuccess());
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.sender;
+
+import com.trs.pacifica.async.Finished;
+import com.trs.pacifica.error.PacificaErrorCode;
+import com.trs.pacifica.error.PacificaException;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.RpcRequestFinishedAdapter;
+import com.trs.pacifica.rpc.client.PacificaClient;
+import com.trs.pacifica.rpc.error.NoHandlerException;
+import com.trs.pacifica.util.RpcUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class HeartbeatMultiplexerTest {
+
+    private PacificaClient pacificaClient;
+
+    private ScheduledExecutorService scheduler;
+
+    private HeartbeatMultiplexer heartbeatMultiplexer;
+
+    @BeforeEach
+    public void setup() {
+        this.pacificaClient = Mockito.mock(PacificaClient.class);
+        this.scheduler = Mockito.mock(ScheduledExecutorService.class);
+        this.heartbeatMultiplexer = new HeartbeatMultiplexer(scheduler, 10, 3);
+    }
+
+    private static RpcRequest.AppendEntriesRequest newHeartbeat(String groupName, String nodeId) {
+        return RpcRequest.AppendEntriesRequest.newBuilder()//
+                .setPrimaryId(RpcUtil.protoReplicaId(new ReplicaId(groupName, "node0")))//
+                .setTargetId(RpcUtil.protoReplicaId(new ReplicaId(groupName, nodeId)))//
+                .setTerm(1)//
+                .build();
+    }
+
+    @Test
+    public void testCoalesceHeartbeatsToSameNode() {
+        Mockito.doAnswer(invocation -> {
+            RpcRequest.BatchAppendEntriesRequest request = invocation.getArgument(0);
+            RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> callback = invocation.getArgument(1);
+            RpcRequest.BatchAppendEntriesResponse.Builder builder = RpcRequest.BatchAppendEntriesResponse.newBuilder();
+            for (RpcRequest.AppendEntriesRequest r : request.getRequestsList()) {
+                if (r.getTargetId().getGroupName().equals("group2")) {
+                    builder.addResponses(RpcRequest.AppendEntriesResponse.newBuilder()//
+                            .setError(RpcUtil.toErrorResponse(new PacificaException(PacificaErrorCode.UNAVAILABLE, "test")))//
+                            .build());
+                } else {
+                    builder.addResponses(RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).setTerm(r.getTerm()).build());
+                }
+            }
+            callback.setRpcResponse(builder.build());
+            callback.run(Finished.success());
+            return null;
+        }).when(pacificaClient).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+
+        final List<TestCallback> callbacks = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TestCallback callback = new TestCallback();
+            callbacks.add(callback);
+            heartbeatMultiplexer.sendHeartbeat(pacificaClient, newHeartbeat("group" + i, "node1"), callback);
+        }
+        // reach the max batch size and sent at once
+        ArgumentCaptor<RpcRequest.BatchAppendEntriesRequest> captor = ArgumentCaptor.forClass(RpcRequest.BatchAppendEntriesRequest.class);
+        Mockito.verify(pacificaClient, Mockito.times(1)).batchAppendLogEntries(captor.capture(), Mockito.any(), Mockito.anyInt());
+        Assertions.assertEquals(3, captor.getValue().getRequestsCount());
+        Assertions.assertEquals(0, heartbeatMultiplexer.getPendingCount("node1"));
+        Mockito.verify(pacificaClient, Mockito.never()).appendLogEntries(Mockito.any(), Mockito.any());
+
+        Assertions.assertTrue(callbacks.get(0).finished.isOk());
+        Assertions.assertTrue(callbacks.get(0).getRpcResponse().getSuccess());
+        Assertions.assertFalse(callbacks.get(1).finished.isOk());
+        Assertions.assertEquals(PacificaErrorCode.UNAVAILABLE, ((PacificaException) callbacks.get(1).finished.error()).getCode());
+        Assertions.assertTrue(callbacks.get(2).finished.isOk());
+    }
+
+    @Test
+    public void testFlushAfterCoalesceWindow() {
+        final TestCallback callback1 = new TestCallback();
+        final TestCallback callback2 = new TestCallback();
+        heartbeatMultiplexer.sendHeartbeat(pacificaClient, newHeartbeat("group1", "node1"), callback1);
+        heartbeatMultiplexer.sendHeartbeat(pacificaClient, newHeartbeat("group1", "node2"), callback2);
+        Assertions.assertEquals(1, heartbeatMultiplexer.getPendingCount("node1"));
+        Assertions.assertEquals(1, heartbeatMultiplexer.getPendingCount("node2"));
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(scheduler, Mockito.times(2)).schedule(flushCaptor.capture(), Mockito.eq(10L), Mockito.eq(TimeUnit.MILLISECONDS));
+        flushCaptor.getAllValues().forEach(Runnable::run);
+
+        // alone to each node, so that it is sent without batch
+        Assertions.assertEquals(0, heartbeatMultiplexer.getPendingCount("node1"));
+        Assertions.assertEquals(0, heartbeatMultiplexer.getPendingCount("node2"));
+        Mockito.verify(pacificaClient, Mockito.times(2)).appendLogEntries(Mockito.any(), Mockito.any());
+        Mockito.verify(pacificaClient, Mockito.never()).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testNoHandlerBatchFallbackToAlone() {
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> callback = invocation.getArgument(1);
+            callback.run(Finished.failure(new NoHandlerException("test")));
+            return null;
+        }).when(pacificaClient).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Mockito.doAnswer(invocation -> {
+            RpcRequest.AppendEntriesRequest request = invocation.getArgument(0);
+            RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback = invocation.getArgument(1);
+            callback.setRpcResponse(RpcRequest.AppendEntriesResponse.newBuilder().setSuccess(true).setTerm(request.getTerm()).build());
+            callback.run(Finished.success());
+            return null;
+        }).when(pacificaClient).appendLogEntries(Mockito.any(), Mockito.any());
+        final List<TestCallback> callbacks = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TestCallback callback = new TestCallback();
+            callbacks.add(callback);
+            heartbeatMultiplexer.sendHeartbeat(pacificaClient, newHeartbeat("group" + i, "node1"), callback);
+        }
+        Mockito.verify(pacificaClient, Mockito.times(1)).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Mockito.verify(pacificaClient, Mockito.times(3)).appendLogEntries(Mockito.any(), Mockito.any());
+        callbacks.forEach(callback -> {
+            Assertions.assertNotNull(callback.finished);
+            Assertions.assertTrue(callback.finished.isOk());
+            Assertions.assertTrue(callback.getRpcResponse().getSuccess());
+        });
+    }
+
+    static class TestCallback extends RpcRequestFinishedAdapter<RpcRequest.AppendEntriesResponse> {
+
+        private Finished finished;
+
+        @Override
+        public void run(Finished finished) {
+            this.finished = finished;
+        }
+    }
+    @Test
+    public void testFailedBatchFailsAll() {
+        Mockito.doAnswer(invocation -> {
+            RpcRequestFinished<RpcRequest.BatchAppendEntriesResponse> callback = invocation.getArgument(1);
+            callback.run(Finished.failure(new PacificaException(PacificaErrorCode.TIMEOUT, "test")));
+            return null;
+        }).when(pacificaClient).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        final List<TestCallback> callbacks = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TestCallback callback = new TestCallback();
+            callbacks.add(callback);
+            heartbeatMultiplexer.sendHeartbeat(pacificaClient, newHeartbeat("group" + i, "node1"), callback);
+        }
+        Mockito.verify(pacificaClient, Mockito.times(1)).batchAppendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        // not sent again alone to the node that may be unreachable
+        Mockito.verify(pacificaClient, Mockito.never()).appendLogEntries(Mockito.any(), Mockito.any());
+        callbacks.forEach(callback -> {
+            Assertions.assertNotNull(callback.finished);
+            Assertions.assertFalse(callback.finished.isOk());
+            Assertions.assertEquals(PacificaErrorCode.TIMEOUT, ((PacificaException) callback.finished.error()).getCode());
+        });
+    }
+
+    @Test
+    public void testIsNoHandler() {
+        Assertions.assertTrue(HeartbeatMultiplexer.isNoHandler(new NoHandlerException("test")));
+        Assertions.assertTrue(HeartbeatMultiplexer.isNoHandler(new PacificaException(PacificaErrorCode.UNDEFINED, "test", new NoHandlerException("test"))));
+        Assertions.assertFalse(HeartbeatMultiplexer.isNoHandler(new PacificaException(PacificaErrorCode.UNAVAILABLE, "test")));
+        Assertions.assertFalse(HeartbeatMultiplexer.isNoHandler(null));
+    }
+
+}
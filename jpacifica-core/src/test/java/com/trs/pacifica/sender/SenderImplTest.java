@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.sender;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.trs.pacifica.ConfigurationClient;
 import com.trs.pacifica.SnapshotStorage;
 import com.trs.pacifica.async.Finished;
@@ -48,6 +50,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -82,7 +86,7 @@ public class SenderImplTest {
     private PacificaClient pacificaClient;
     private LogManagerImpl logManager;
     private SnapshotStorage snapshotStorage;
-    private SingleThreadExecutor singleThreadExecutor = new DefaultSingleThreadExecutor(scheduledExecutorService);
+    private SingleThreadExecutor singleThreadExecutor = new DefaultSingleThreadExecutor("test-sender", 1024);
 
 
     @BeforeEach
@@ -171,7 +175,7 @@ public class SenderImplTest {
     private void mockAppendEntriesRequest() {
         Mockito.doAnswer(invocation -> {
             RpcRequest.AppendEntriesRequest request = invocation.getArgument(0, RpcRequest.AppendEntriesRequest.class);
-            RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback = invocation.getArgument(1, RpcRequestFinished.class);
+            RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback = invocation.getArgument(1);
             long term = request.getTerm();
             long version = request.getVersion();
             long prevLogIndex = request.getPrevLogIndex();
@@ -324,6 +328,39 @@ public class SenderImplTest {
 
     }
 
+    @Test
+    public void testSecondaryHandleAppendLogEntryResponseFailureConflictTerm() throws PacificaException {
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).startHeartbeatTimer();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).sendProbeRequest();
+        Mockito.doCallRealMethod().when(this.logManager).findLastLogIndexOfTerm(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+        // log of Primary: term=1 at [1001, 1003], term=2 at [1004, 1005]
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(1004L);
+        Mockito.doReturn(2L).when(this.logManager).getLogTermAt(1005L);
+        this.sender.setType(SenderType.Secondary);
+        this.sender.startup();
+        RpcRequest.AppendEntriesRequest.Builder requestBuilder = mockAppendEntriesRequestBuilder();
+        requestBuilder.setPrevLogIndex(test_endLogIndex);
+        requestBuilder.setPrevLogTerm(2L);
+        RpcRequest.AppendEntriesResponse.Builder responseBuilder = mockAppendEntriesResponseBuilder();
+        responseBuilder.setSuccess(false);
+        responseBuilder.setLastLogIndex(test_endLogIndex + 5);
+        // the Primary has LogEntries of the conflicting term: match up to the last of them
+        responseBuilder.setConflictTerm(1L);
+        responseBuilder.setConflictFirstIndex(test_startLogIndex);
+        Assertions.assertFalse(this.sender.handleAppendLogEntryResponse(requestBuilder.build(), Finished.success(), responseBuilder.build()));
+        Assertions.assertEquals(1004L, this.sender.getNextLogIndex());
+        // the Primary has no LogEntry of the conflicting term: skip the whole term
+        responseBuilder.setConflictTerm(3L);
+        responseBuilder.setConflictFirstIndex(1002L);
+        Assertions.assertFalse(this.sender.handleAppendLogEntryResponse(requestBuilder.build(), Finished.success(), responseBuilder.build()));
+        Assertions.assertEquals(1002L, this.sender.getNextLogIndex());
+        Mockito.verify(this.sender, Mockito.times(3)).sendProbeRequest();
+    }
+
     @Test
     public void testSecondaryHandleInstallSnapshotResponseSuccess() throws PacificaException {
         Mockito.doAnswer(invocation -> {
@@ -542,6 +579,211 @@ public class SenderImplTest {
     }
 
 
+    @Test
+    public void testPipelineSendLogEntries() throws PacificaException, InterruptedException {
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).startHeartbeatTimer();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).sendProbeRequest();
+        final List<RpcRequest.AppendEntriesRequest> requests = new ArrayList<>();
+        final List<RpcRequestFinished<RpcRequest.AppendEntriesResponse>> callbacks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, RpcRequest.AppendEntriesRequest.class));
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(this.pacificaClient).appendLogEntries(Mockito.any(), Mockito.any());
+        this.option.setMaxSendLogEntryNum(1);
+        this.option.setMaxFlyingRequestNum(3);
+        this.sender.setType(SenderType.Secondary);
+        this.sender.startup();
+        // probe: the target replica contains fewer logs
+        RpcRequest.AppendEntriesRequest.Builder probeRequestBuilder = mockAppendEntriesRequestBuilder();
+        RpcRequest.AppendEntriesResponse.Builder probeResponseBuilder = mockAppendEntriesResponseBuilder();
+        probeResponseBuilder.setSuccess(false);
+        probeResponseBuilder.setLastLogIndex(test_startLogIndex);
+        this.sender.handleAppendLogEntryResponse(probeRequestBuilder.build(), Finished.success(), probeResponseBuilder.build());
+        final long startLogIndex = test_startLogIndex + 1;
+        Assertions.assertEquals(startLogIndex, this.sender.getNextLogIndex());
+
+        // send until the window is full
+        Assertions.assertTrue(this.sender.continueSendLogEntries(test_endLogIndex));
+        this.sender.flushEvent();
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(3, this.sender.getFlyingAppendEntriesCount());
+        for (int i = 0; i < requests.size(); i++) {
+            Assertions.assertEquals(startLogIndex - 1 + i, requests.get(i).getPrevLogIndex());
+        }
+
+        // the response of second request arrives first, wait for the first one
+        completeAppendEntries(requests.get(1), callbacks.get(1));
+        this.sender.flushEvent();
+        this.sender.flushEvent();
+        Assertions.assertEquals(startLogIndex, this.sender.getNextLogIndex());
+        Assertions.assertEquals(3, requests.size());
+
+        completeAppendEntries(requests.get(0), callbacks.get(0));
+        this.sender.flushEvent();
+        this.sender.flushEvent();
+        Assertions.assertEquals(startLogIndex + 2, this.sender.getNextLogIndex());
+        // the window slides, and the remaining log entries are sent
+        Assertions.assertEquals(4, requests.size());
+        Assertions.assertEquals(2, this.sender.getFlyingAppendEntriesCount());
+        Assertions.assertEquals(test_endLogIndex - 1, requests.get(3).getPrevLogIndex());
+        Mockito.verify(this.ballotBox).ballotBy(this.toId, startLogIndex, startLogIndex);
+        Mockito.verify(this.ballotBox).ballotBy(this.toId, startLogIndex + 1, startLogIndex + 1);
+    }
+
+    @Test
+    public void testPipelineLimitedByBytes() throws PacificaException, InterruptedException {
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).startHeartbeatTimer();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).sendProbeRequest();
+        final List<RpcRequest.AppendEntriesRequest> requests = new ArrayList<>();
+        final List<RpcRequestFinished<RpcRequest.AppendEntriesResponse>> callbacks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, RpcRequest.AppendEntriesRequest.class));
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(this.pacificaClient).appendLogEntries(Mockito.any(), Mockito.any());
+        for (long logIndex = test_startLogIndex; logIndex <= test_endLogIndex; logIndex++) {
+            final LogEntry logEntry = new LogEntry(logIndex, test_term, LogEntry.Type.OP_DATA);
+            logEntry.setLogData(ByteBuffer.wrap(new byte[1024]));
+            Mockito.doReturn(logEntry).when(this.logManager).getLogEntryAt(logIndex);
+        }
+        this.option.setMaxSendLogEntryNum(1);
+        this.option.setMaxFlyingRequestNum(32);
+        this.option.setMaxFlyingRequestBytes(2048);
+        this.sender.setType(SenderType.Secondary);
+        this.sender.startup();
+        RpcRequest.AppendEntriesRequest.Builder probeRequestBuilder = mockAppendEntriesRequestBuilder();
+        RpcRequest.AppendEntriesResponse.Builder probeResponseBuilder = mockAppendEntriesResponseBuilder();
+        probeResponseBuilder.setSuccess(false);
+        probeResponseBuilder.setLastLogIndex(test_startLogIndex);
+        this.sender.handleAppendLogEntryResponse(probeRequestBuilder.build(), Finished.success(), probeResponseBuilder.build());
+        final long startLogIndex = test_startLogIndex + 1;
+
+        // the window is full by bytes before it is full by number
+        Assertions.assertTrue(this.sender.continueSendLogEntries(test_endLogIndex));
+        this.sender.flushEvent();
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertEquals(2, this.sender.getFlyingAppendEntriesCount());
+        Assertions.assertEquals(2048, this.sender.getFlyingAppendEntriesBytes());
+
+        completeAppendEntries(requests.get(0), callbacks.get(0));
+        this.sender.flushEvent();
+        this.sender.flushEvent();
+        Assertions.assertEquals(startLogIndex + 1, this.sender.getNextLogIndex());
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(2048, this.sender.getFlyingAppendEntriesBytes());
+    }
+
+    @Test
+    public void testSendLogEntriesWithoutCopy() throws PacificaException, InterruptedException {
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).startHeartbeatTimer();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).sendProbeRequest();
+        final List<RpcRequest.AppendEntriesRequest> requests = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, RpcRequest.AppendEntriesRequest.class));
+            return null;
+        }).when(this.pacificaClient).appendLogEntries(Mockito.any(), Mockito.any());
+        // large enough not to be copied into the rope of log data
+        final List<LogEntry> logEntries = new ArrayList<>();
+        for (long logIndex = test_startLogIndex; logIndex <= test_endLogIndex; logIndex++) {
+            final LogEntry logEntry = new LogEntry(logIndex, test_term, LogEntry.Type.OP_DATA);
+            final byte[] logData = new byte[1024];
+            logData[0] = (byte) logIndex;
+            logEntry.setLogData(ByteBuffer.wrap(logData));
+            logEntries.add(logEntry);
+            Mockito.doReturn(logEntry).when(this.logManager).getLogEntryAt(logIndex);
+        }
+        this.option.setMaxSendLogEntryBytes(64 * 1024);
+        this.sender.setType(SenderType.Secondary);
+        this.sender.startup();
+        RpcRequest.AppendEntriesRequest.Builder probeRequestBuilder = mockAppendEntriesRequestBuilder();
+        RpcRequest.AppendEntriesResponse.Builder probeResponseBuilder = mockAppendEntriesResponseBuilder();
+        probeResponseBuilder.setSuccess(false);
+        probeResponseBuilder.setLastLogIndex(test_startLogIndex);
+        this.sender.handleAppendLogEntryResponse(probeRequestBuilder.build(), Finished.success(), probeResponseBuilder.build());
+        Assertions.assertEquals(test_startLogIndex + 1, this.sender.getNextLogIndex());
+
+        Assertions.assertTrue(this.sender.continueSendLogEntries(test_endLogIndex));
+        this.sender.flushEvent();
+        Assertions.assertEquals(1, requests.size());
+        final RpcRequest.AppendEntriesRequest request = requests.get(0);
+        Assertions.assertEquals(test_startLogIndex, request.getPrevLogIndex());
+        // the Secondary parses the same LogEntries
+        final List<LogEntry> parsed = RpcUtil.parseLogEntries(request.getPrevLogIndex(), request.getLogMetaList(), request.getLogData());
+        Assertions.assertEquals(logEntries.subList(1, logEntries.size()), parsed);
+        // the request shares the log data with the LogEntries instead of copying them
+        logEntries.get(1).getLogData().array()[0] = -1;
+        Assertions.assertEquals((byte) -1, request.getLogData().byteAt(0));
+    }
+
+    @Test
+    public void testPipelineRollbackOnFailure() throws PacificaException, InterruptedException {
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).startHeartbeatTimer();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).sendProbeRequest();
+        Mockito.doAnswer(invocation -> {
+            return null;
+        }).when(this.sender).blockUntilTimeout();
+        final List<RpcRequest.AppendEntriesRequest> requests = new ArrayList<>();
+        final List<RpcRequestFinished<RpcRequest.AppendEntriesResponse>> callbacks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0, RpcRequest.AppendEntriesRequest.class));
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(this.pacificaClient).appendLogEntries(Mockito.any(), Mockito.any());
+        this.option.setMaxSendLogEntryNum(1);
+        this.option.setMaxFlyingRequestNum(3);
+        this.sender.setType(SenderType.Secondary);
+        this.sender.startup();
+        RpcRequest.AppendEntriesResponse.Builder probeResponseBuilder = mockAppendEntriesResponseBuilder();
+        probeResponseBuilder.setSuccess(false);
+        probeResponseBuilder.setLastLogIndex(test_startLogIndex);
+        this.sender.handleAppendLogEntryResponse(mockAppendEntriesRequestBuilder().build(), Finished.success(), probeResponseBuilder.build());
+        final long startLogIndex = test_startLogIndex + 1;
+        this.sender.continueSendLogEntries(test_endLogIndex);
+        this.sender.flushEvent();
+        Assertions.assertEquals(3, requests.size());
+
+        // the first request failed, all requests in flight are discarded
+        callbacks.get(0).run(Finished.failure(new RuntimeException("test error")));
+        this.sender.flushEvent();
+        Assertions.assertEquals(0, this.sender.getFlyingAppendEntriesCount());
+        Assertions.assertEquals(startLogIndex, this.sender.getNextLogIndex());
+        Mockito.verify(this.sender).blockUntilTimeout();
+
+        // expired response
+        completeAppendEntries(requests.get(1), callbacks.get(1));
+        this.sender.flushEvent();
+        this.sender.flushEvent();
+        Assertions.assertEquals(startLogIndex, this.sender.getNextLogIndex());
+        Mockito.verify(this.ballotBox, Mockito.never()).ballotBy(Mockito.any(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    private void completeAppendEntries(RpcRequest.AppendEntriesRequest request, RpcRequestFinished<RpcRequest.AppendEntriesResponse> callback) {
+        RpcRequest.AppendEntriesResponse response = mockAppendEntriesResponseBuilder()//
+                .setSuccess(true)//
+                .setLastLogIndex(request.getPrevLogIndex() + request.getLogMetaCount())//
+                .build();
+        callback.setRpcResponse(response);
+        callback.run(Finished.success());
+    }
+
+
     RpcRequest.AppendEntriesRequest.Builder mockAppendEntriesRequestBuilder() {
         return RpcRequest.AppendEntriesRequest.newBuilder()//
                 .setPrimaryId(RpcUtil.protoReplicaId(this.fromId))//
@@ -562,4 +804,34 @@ public class SenderImplTest {
                 .setLastLogIndex(test_endLogIndex);
     }
 
+    @Test
+    public void testMetricsOfNewSenderToSameNode() throws PacificaException {
+        // keep the requests in flight, so that the next log index does not change
+        Mockito.doReturn(null).when(this.pacificaClient).appendLogEntries(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        this.option.setMetricRegistry(metricRegistry);
+        final SenderImpl oldSender = new SenderImpl(fromId, toId, SenderType.Secondary);
+        oldSender.init(this.option);
+        oldSender.startup();
+        final Gauge<?> oldLag = metricRegistry.getGauges().get("sender.node2.replication-lag");
+        Assertions.assertEquals(0L, oldLag.getValue());
+        oldSender.shutdown();
+        Assertions.assertTrue(metricRegistry.getMetrics().isEmpty());
+
+        // more LogEntries before the sender to the same node is added back
+        mockLogEntries(test_startLogIndex, test_endLogIndex + 5, 1);
+        final SenderImpl newSender = new SenderImpl(fromId, toId, SenderType.Secondary);
+        newSender.init(this.option);
+        newSender.startup();
+        try {
+            Assertions.assertEquals(5L, oldLag.getValue());
+            final Gauge<?> newLag = metricRegistry.getGauges().get("sender.node2.replication-lag");
+            Assertions.assertNotSame(oldLag, newLag);
+            Assertions.assertEquals(0L, newLag.getValue());
+            Assertions.assertEquals(0, metricRegistry.getGauges().get("sender.node2.inflights").getValue());
+        } finally {
+            newSender.shutdown();
+        }
+    }
+
 }
@@ -17,80 +17,233 @@
 
 package com.trs.pacifica.snapshot.storage;
 
+import com.google.protobuf.ByteString;
+import com.trs.pacifica.async.Finished;
 import com.trs.pacifica.fs.remote.RemoteFileDownloader;
 import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.model.ReplicaId;
+import com.trs.pacifica.proto.RpcCommon;
+import com.trs.pacifica.proto.RpcRequest;
+import com.trs.pacifica.rpc.RpcRequestFinished;
+import com.trs.pacifica.rpc.client.PacificaClient;
 import com.trs.pacifica.test.BaseStorageTest;
+import com.trs.pacifica.util.CrcUtil;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.mockito.stubbing.Answer;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 public class DefaultSnapshotDownloaderTest extends BaseStorageTest {
 
+    private static final int CHUNK_SIZE = 10 * 1024;
+
+    private PacificaClient pacificaClient;
 
     private RemoteFileDownloader remoteFileDownloader;
 
     private DefaultSnapshotStorage snapshotStorage;
 
-    private DefaultSnapshotDownloader snapshotDownloader;
+    private final LogId remoteLogId = new LogId(1003, 1);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
 
-    private DefaultSnapshotWriter snapshotWriter;
-    private long remoteReaderId = 1L;
+    private final Map<String, byte[]> remoteFiles = new HashMap<>();
 
-    private final LogId remoteLogId = new LogId(1003, 1);
+    private final Map<String, RpcCommon.FileMeta> remoteFileMetas = new HashMap<>();
 
-    private Executor executor = Executors.newFixedThreadPool(4);
+    private final List<String> requestFiles = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile String failFilename = null;
 
     @BeforeEach
     @Override
     public void setup() throws Exception {
         super.setup();
-        this.remoteFileDownloader = Mockito.mock(RemoteFileDownloader.class);
-        Answer answer = (invocation) -> {
-            String filename = invocation.getArgument(0, String.class);
-            if (filename.equals(DefaultSnapshotMeta.SNAPSHOT_META_FILE)) {
-                File saveFile = invocation.getArgument(1, File.class);
-                DefaultSnapshotMeta defaultSnapshotMeta = new DefaultSnapshotMeta(remoteLogId);
-                defaultSnapshotMeta.addFile("test1");
-                defaultSnapshotMeta.addFile("test2");
-                DefaultSnapshotMeta.saveToFile(defaultSnapshotMeta, saveFile.getPath(), true);
-            } else {
-                File saveFile = invocation.getArgument(1, File.class);
-                saveFile.createNewFile();
-            }
-
-            return null;
-        };
-        Mockito.doAnswer(answer).when(this.remoteFileDownloader).asyncDownloadToFile(Mockito.anyString(), Mockito.any(File.class), Mockito.anyInt(), Mockito.any());
-        Mockito.doAnswer(answer).when(this.remoteFileDownloader).downloadToFile(Mockito.anyString(), Mockito.any());
-        this.snapshotWriter = Mockito.mock(DefaultSnapshotWriter.class);
-        Mockito.doReturn(this.path).when(this.snapshotWriter).getDirectory();
-        this.snapshotDownloader = new DefaultSnapshotDownloader(this.snapshotWriter, this.remoteFileDownloader, 10000, executor);
+        this.snapshotStorage = new DefaultSnapshotStorage(this.path);
+        this.snapshotStorage.load();
+        addRemoteFile("test1", CHUNK_SIZE * 5 + 7, true);
+        addRemoteFile("test2", CHUNK_SIZE * 3, true);
+        addRemoteFile("test3", 10, true);
+        mockPacificaClient();
+        this.remoteFileDownloader = new RemoteFileDownloader(this.pacificaClient, new ReplicaId("test_group", "test_node"), 1L);
     }
 
-
     @AfterEach
     @Override
     public void shutdown() throws Exception {
+        this.executor.shutdownNow();
         super.shutdown();
     }
 
+    private void addRemoteFile(String filename, int length, boolean withChecksum) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        this.remoteFiles.put(filename, content);
+        RpcCommon.FileMeta.Builder fileMeta = RpcCommon.FileMeta.newBuilder();
+        if (withChecksum) {
+            fileMeta.setChecksum(CrcUtil.crc64(content));
+        }
+        this.remoteFileMetas.put(filename, fileMeta.build());
+    }
+
+    private byte[] encodeRemoteSnapshotMeta() {
+        DefaultSnapshotMeta snapshotMeta = DefaultSnapshotMeta.newSnapshotMeta(this.remoteLogId);
+        this.remoteFileMetas.forEach(snapshotMeta::addFile);
+        List<byte[]> bytesList = DefaultSnapshotMeta.encode(snapshotMeta);
+        ByteBuffer buffer = ByteBuffer.allocate(bytesList.stream().mapToInt(bytes -> bytes.length).sum());
+        bytesList.forEach(buffer::put);
+        return buffer.array();
+    }
+
+    private void mockPacificaClient() {
+        this.pacificaClient = Mockito.mock(PacificaClient.class);
+        Mockito.doAnswer(invocation -> {
+            final RpcRequest.GetFileRequest request = invocation.getArgument(0, RpcRequest.GetFileRequest.class);
+            final RpcRequestFinished<RpcRequest.GetFileResponse> callback = invocation.getArgument(1);
+            final String filename = request.getFilename();
+            this.requestFiles.add(filename);
+            this.executor.execute(() -> {
+                if (filename.equals(this.failFilename)) {
+                    callback.run(Finished.failure(new RuntimeException("test failure")));
+                    return;
+                }
+                final byte[] content = DefaultSnapshotMeta.SNAPSHOT_META_FILE.equals(filename) ? encodeRemoteSnapshotMeta() : this.remoteFiles.get(filename);
+                final int offset = (int) Math.min(request.getOffset(), content.length);
+                final int len = Math.min(request.getLength(), content.length - offset);
+                callback.setRpcResponse(RpcRequest.GetFileResponse.newBuilder()//
+                        .setData(ByteString.copyFrom(content, offset, len))//
+                        .setReadLength(len)//
+                        .setEof(len < request.getLength())//
+                        .build());
+                callback.run(Finished.success());
+            });
+            return null;
+        }).when(this.pacificaClient).getFile(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    private DefaultSnapshotDownloader newSnapshotDownloader() throws Exception {
+        DefaultSnapshotWriter snapshotWriter = this.snapshotStorage.openDownloadSnapshotWriter(this.remoteLogId);
+        Assertions.assertNotNull(snapshotWriter);
+        DefaultSnapshotDownloader snapshotDownloader = new DefaultSnapshotDownloader(snapshotWriter, this.remoteFileDownloader, 10000, executor);
+        snapshotDownloader.setChunkSize(CHUNK_SIZE);
+        snapshotDownloader.setMaxInflightChunks(2);
+        snapshotDownloader.setParallelFiles(2);
+        return snapshotDownloader;
+    }
+
+    private void assertSnapshotPublished() throws Exception {
+        Assertions.assertEquals(this.remoteLogId.getIndex(), this.snapshotStorage.getLastSnapshotIndex());
+        File snapshotDir = new File(this.snapshotStorage.getSnapshotPath(this.remoteLogId.getIndex()));
+        DefaultSnapshotMeta snapshotMeta = DefaultSnapshotMeta.loadFromFile(DefaultSnapshotMeta.getSnapshotMetaFilePath(snapshotDir.getPath()));
+        Assertions.assertEquals(this.remoteLogId, snapshotMeta.getSnapshotLogId());
+        for (Map.Entry<String, byte[]> entry : this.remoteFiles.entrySet()) {
+            byte[] content = entry.getValue();
+            Assertions.assertArrayEquals(content, FileUtils.readFileToByteArray(new File(snapshotDir, entry.getKey())));
+            // the FileMeta of remote is kept
+            Assertions.assertEquals(this.remoteFileMetas.get(entry.getKey()), snapshotMeta.getFileMeta(entry.getKey()));
+        }
+        Assertions.assertFalse(new File(snapshotDir, SnapshotDownloadJournal.DOWNLOAD_JOURNAL_FILE).exists());
+    }
+
+    @Test
+    public void testStart() throws Exception {
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            snapshotDownloader.awaitComplete();
+            Assertions.assertTrue(snapshotDownloader.isCompleted());
+        }
+        assertSnapshotPublished();
+    }
+
+    @Test
+    public void testResumeAfterFailure() throws Exception {
+        this.failFilename = "test2";
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            Assertions.assertThrows(ExecutionException.class, snapshotDownloader::awaitComplete);
+        }
+        // not published, and the progress is kept
+        Assertions.assertEquals(0, this.snapshotStorage.getLastSnapshotIndex());
+        File downloadDir = new File(this.snapshotStorage.getSnapshotPath(DefaultSnapshotStorage.SNAPSHOT_DOWNLOAD_DIR));
+        SnapshotDownloadJournal journal = SnapshotDownloadJournal.loadFromFile(SnapshotDownloadJournal.getJournalFile(downloadDir.getPath()));
+        Assertions.assertNotNull(journal);
+        Assertions.assertEquals(this.remoteLogId, journal.getSnapshotLogId());
+        Assertions.assertFalse(journal.isCompleted("test2"));
+        final List<String> completedFiles = new ArrayList<>();
+        for (String filename : this.remoteFiles.keySet()) {
+            if (journal.isCompleted(filename)) {
+                completedFiles.add(filename);
+            }
+        }
+
+        // download again
+        this.failFilename = null;
+        this.requestFiles.clear();
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            snapshotDownloader.awaitComplete();
+        }
+        assertSnapshotPublished();
+        for (String filename : completedFiles) {
+            Assertions.assertFalse(this.requestFiles.contains(filename));
+        }
+        Assertions.assertTrue(this.requestFiles.contains("test2"));
+    }
+
+    @Test
+    public void testChecksumMismatch() throws Exception {
+        this.remoteFileMetas.put("test1", RpcCommon.FileMeta.newBuilder().setChecksum(1L).build());
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, snapshotDownloader::awaitComplete);
+            Assertions.assertTrue(e.getMessage().contains("checksum mismatch"));
+        }
+        Assertions.assertEquals(0, this.snapshotStorage.getLastSnapshotIndex());
+        File downloadDir = new File(this.snapshotStorage.getSnapshotPath(DefaultSnapshotStorage.SNAPSHOT_DOWNLOAD_DIR));
+        Assertions.assertFalse(new File(downloadDir, "test1").exists());
+    }
+
     @Test
-    public void testStart() throws ExecutionException, InterruptedException {
-        this.snapshotDownloader.start();
-        this.snapshotDownloader.awaitComplete();
-        File file1 = new File(this.path, "test1");
-        File file2 = new File(this.path, "test2");
-        Assertions.assertTrue(file1.exists());
-        Assertions.assertTrue(file2.exists());
+    public void testRejectFileWithoutChecksum() throws Exception {
+        addRemoteFile("test4", 10, false);
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, snapshotDownloader::awaitComplete);
+            Assertions.assertTrue(e.getMessage().contains("no checksum of file=test4"));
+        }
+        Assertions.assertEquals(0, this.snapshotStorage.getLastSnapshotIndex());
+        // nothing is downloaded
+        Assertions.assertFalse(this.requestFiles.stream().anyMatch(this.remoteFiles::containsKey));
     }
 
+    @Test
+    public void testDownloadOtherSnapshot() throws Exception {
+        File downloadDir = new File(this.snapshotStorage.getSnapshotPath(DefaultSnapshotStorage.SNAPSHOT_DOWNLOAD_DIR));
+        FileUtils.forceMkdir(downloadDir);
+        // the progress of other snapshot
+        SnapshotDownloadJournal journal = new SnapshotDownloadJournal(new LogId(1001, 1));
+        journal.complete("test1", 3);
+        SnapshotDownloadJournal.saveToFile(journal, SnapshotDownloadJournal.getJournalFile(downloadDir.getPath()));
+        FileUtils.writeByteArrayToFile(new File(downloadDir, "test1"), new byte[3]);
+        try (DefaultSnapshotDownloader snapshotDownloader = newSnapshotDownloader()) {
+            snapshotDownloader.start();
+            snapshotDownloader.awaitComplete();
+        }
+        assertSnapshotPublished();
+    }
 
 }
@@ -19,7 +19,10 @@ package com.trs.pacifica.snapshot.storage;
 
 import com.trs.pacifica.error.AlreadyClosedException;
 import com.trs.pacifica.model.LogId;
+import com.trs.pacifica.proto.RpcCommon;
 import com.trs.pacifica.test.BaseStorageTest;
+import com.trs.pacifica.util.CrcUtil;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,7 @@ import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public class DefaultSnapshotWriterTest extends BaseStorageTest {
 
@@ -107,6 +111,23 @@ public class DefaultSnapshotWriterTest extends BaseStorageTest {
 
     }
 
+    @Test
+    public void testChecksumsSavedOnClose() throws IOException {
+        String filename = "test1";
+        byte[] content = "test checksum".getBytes(StandardCharsets.UTF_8);
+        FileUtils.writeByteArrayToFile(mockFile(filename), content);
+        this.snapshotWriter.addFile(filename);
+        // the checksum given by the FileMeta is kept
+        String downloadedFilename = "test2";
+        mockFile(downloadedFilename);
+        this.snapshotWriter.addFile(downloadedFilename, RpcCommon.FileMeta.newBuilder().setChecksum(1L).build());
+        this.snapshotWriter.close();
+
+        DefaultSnapshotMeta snapshotMeta = DefaultSnapshotMeta.loadFromFile(DefaultSnapshotMeta.getSnapshotMetaFilePath(this.snapshotPath));
+        Assertions.assertEquals(CrcUtil.crc64(content), snapshotMeta.getFileMeta(filename).getChecksum());
+        Assertions.assertEquals(1L, snapshotMeta.getFileMeta(downloadedFilename).getChecksum());
+    }
+
 
 
 }
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.trs.pacifica.util;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveBatchSizerTest {
+
+    private static AdaptiveBatchSizer.Option newOption() {
+        final AdaptiveBatchSizer.Option option = new AdaptiveBatchSizer.Option();
+        option.setMinBatchNum(16);
+        option.setMaxBatchNum(128);
+        option.setMinBatchBytes(1024);
+        option.setMaxBatchBytes(8 * 1024);
+        option.setTargetLatencyMs(10);
+        return option;
+    }
+
+    @Test
+    public void testGrowUnderHeavyLoad() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(newOption());
+        Assertions.assertEquals(16, sizer.getBatchNumLimit());
+        Assertions.assertEquals(1024, sizer.getBatchBytesLimit());
+        Assertions.assertTrue(sizer.isFull(16, 0));
+        Assertions.assertTrue(sizer.isFull(1, 1024));
+        Assertions.assertFalse(sizer.isFull(15, 1023));
+        // full batch and more items are waiting
+        sizer.onComplete(16, 512, TimeUnit.MILLISECONDS.toNanos(1), 100);
+        Assertions.assertEquals(32, sizer.getBatchNumLimit());
+        Assertions.assertEquals(2048, sizer.getBatchBytesLimit());
+        for (int i = 0; i < 10; i++) {
+            sizer.onComplete(sizer.getBatchNumLimit(), 0, TimeUnit.MILLISECONDS.toNanos(1), 100);
+        }
+        Assertions.assertEquals(128, sizer.getBatchNumLimit());
+        Assertions.assertEquals(8 * 1024, sizer.getBatchBytesLimit());
+    }
+
+    @Test
+    public void testKeepUnderLightLoad() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(newOption());
+        // full batch but nothing is waiting
+        sizer.onComplete(16, 0, TimeUnit.MILLISECONDS.toNanos(1), 0);
+        // not full
+        sizer.onComplete(4, 0, TimeUnit.MILLISECONDS.toNanos(1), 100);
+        Assertions.assertEquals(16, sizer.getBatchNumLimit());
+        Assertions.assertEquals(1024, sizer.getBatchBytesLimit());
+    }
+
+    @Test
+    public void testShrinkOnHighLatency() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(newOption());
+        for (int i = 0; i < 3; i++) {
+            sizer.onComplete(sizer.getBatchNumLimit(), 0, TimeUnit.MILLISECONDS.toNanos(1), 100);
+        }
+        Assertions.assertEquals(128, sizer.getBatchNumLimit());
+        sizer.onComplete(128, 0, TimeUnit.MILLISECONDS.toNanos(20), 100);
+        Assertions.assertEquals(96, sizer.getBatchNumLimit());
+        Assertions.assertEquals(6 * 1024, sizer.getBatchBytesLimit());
+        for (int i = 0; i < 20; i++) {
+            sizer.onComplete(1, 0, TimeUnit.MILLISECONDS.toNanos(20), 100);
+        }
+        Assertions.assertEquals(16, sizer.getBatchNumLimit());
+        Assertions.assertEquals(1024, sizer.getBatchBytesLimit());
+    }
+
+    @Test
+    public void testMinGreaterThanMax() {
+        final AdaptiveBatchSizer.Option option = newOption();
+        option.setMaxBatchNum(1);
+        option.setMaxBatchBytes(100);
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(option);
+        Assertions.assertEquals(1, sizer.getBatchNumLimit());
+        Assertions.assertEquals(100, sizer.getBatchBytesLimit());
+        sizer.onComplete(1, 0, 0, 100);
+        Assertions.assertEquals(1, sizer.getBatchNumLimit());
+    }
+
+    @Test
+    public void testLinger() {
+        final AdaptiveBatchSizer.Option option = newOption();
+        Assertions.assertEquals(0, new AdaptiveBatchSizer(option).lingerNanos(1, System.nanoTime()));
+        option.setLingerMs(1000);
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(option);
+        final long now = System.nanoTime();
+        Assertions.assertTrue(sizer.lingerNanos(1, now) > 0);
+        // enough to fill a batch
+        Assertions.assertEquals(0, sizer.lingerNanos(16, now));
+        // waited long enough
+        Assertions.assertEquals(0, sizer.lingerNanos(1, now - TimeUnit.SECONDS.toNanos(2)));
+    }
+
+    @Test
+    public void testMetrics() {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(newOption(), metricRegistry, "test");
+        sizer.onBatch(10, 100);
+        sizer.onBatch(20, 200);
+        Assertions.assertEquals(2, metricRegistry.histogram("test.batch-num").getCount());
+        Assertions.assertEquals(20, metricRegistry.histogram("test.batch-num").getSnapshot().getMax());
+        Assertions.assertEquals(200, metricRegistry.histogram("test.batch-bytes").getSnapshot().getMax());
+        Assertions.assertEquals(16, metricRegistry.getGauges().get("test.batch-num-limit").getValue());
+        metricRegistry.counter("test.other");
+        sizer.unregisterMetrics();
+        Assertions.assertEquals(1, metricRegistry.getMetrics().size());
+        Assertions.assertNotNull(metricRegistry.getCounters().get("test.other"));
+    }
+}
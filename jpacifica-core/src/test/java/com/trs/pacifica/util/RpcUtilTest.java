@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.trs.pacifica.model.LogEntry;
+import com.trs.pacifica.proto.RpcCommon;
+import com.trs.pacifica.proto.RpcRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RpcUtilTest {
+
+    private static final int LOG_DATA_LEN = 4 * 1024;
+
+    private static final int LOG_ENTRY_NUM = 256;
+
+    private static List<LogEntry> mockLogEntries() {
+        final List<LogEntry> logEntries = new ArrayList<>(LOG_ENTRY_NUM);
+        for (int i = 1; i <= LOG_ENTRY_NUM; i++) {
+            final LogEntry logEntry = new LogEntry(i, 1, LogEntry.Type.OP_DATA);
+            final byte[] logData = new byte[LOG_DATA_LEN];
+            logData[0] = (byte) i;
+            logEntry.setLogData(ByteBuffer.wrap(logData));
+            logEntries.add(logEntry);
+        }
+        return logEntries;
+    }
+
+    private static RpcRequest.AppendEntriesRequest buildRequest(final List<LogEntry> logEntries) {
+        final RpcRequest.AppendEntriesRequest.Builder requestBuilder = RpcRequest.AppendEntriesRequest.newBuilder();
+        final List<ByteString> allData = new ArrayList<>(logEntries.size());
+        for (LogEntry logEntry : logEntries) {
+            requestBuilder.addLogMeta(RpcCommon.LogEntryMeta.newBuilder()//
+                    .setLogTerm(logEntry.getLogId().getTerm())//
+                    .setType(RpcUtil.protoLogEntryType(logEntry.getType()))//
+                    .setDataLen(logEntry.getLogData().remaining())//
+                    .build());
+            allData.add(RpcUtil.wrapLogData(logEntry.getLogData()));
+        }
+        return requestBuilder.setLogData(ByteString.copyFrom(allData)).build();
+    }
+
+    @Test
+    public void testWrapLogData() {
+        Assertions.assertTrue(RpcUtil.wrapLogData(null).isEmpty());
+        final ByteBuffer logData = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+        logData.position(1);
+        final ByteString byteString = RpcUtil.wrapLogData(logData);
+        Assertions.assertEquals(ByteString.copyFrom(new byte[]{2, 3, 4}), byteString);
+        Assertions.assertEquals(1, logData.position());
+    }
+
+    @Test
+    public void testParseLogEntries() throws Exception {
+        final List<LogEntry> logEntries = mockLogEntries();
+        final byte[] requestBytes = buildRequest(logEntries).toByteArray();
+        final RpcRequest.AppendEntriesRequest request = RpcRequest.AppendEntriesRequest.parseFrom(requestBytes);
+        final List<LogEntry> parsed = RpcUtil.parseLogEntries(0, request.getLogMetaList(), request.getLogData());
+        Assertions.assertEquals(logEntries, parsed);
+        // the log data are read-only slices
+        for (LogEntry logEntry : parsed) {
+            Assertions.assertTrue(logEntry.getLogData().isReadOnly());
+        }
+    }
+
+    @Test
+    public void testParseLogEntriesWithoutCopy() {
+        final List<LogEntry> logEntries = mockLogEntries();
+        final RpcRequest.AppendEntriesRequest request = buildRequest(logEntries);
+        final byte[] allData = request.getLogData().toByteArray();
+        final List<LogEntry> parsed = RpcUtil.parseLogEntries(0, request.getLogMetaList(), UnsafeByteOperations.unsafeWrap(allData));
+        // the log data are views of allData
+        allData[LOG_DATA_LEN] = (byte) -1;
+        Assertions.assertEquals((byte) -1, parsed.get(1).getLogData().get(0));
+        Assertions.assertEquals(CrcUtil.crc64(allData, 0, LOG_DATA_LEN), CrcUtil.crc64(parsed.get(0).getLogData()));
+    }
+
+}
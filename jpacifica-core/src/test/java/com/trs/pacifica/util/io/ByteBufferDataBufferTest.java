@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.util.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public class ByteBufferDataBufferTest {
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+
+    {
+        for (int i = 0; i < 32; i++) {
+            buffer.put(i, (byte) i);
+        }
+        buffer.position(8);
+        buffer.limit(24);
+    }
+
+    @Test
+    void testGet() {
+        final ByteBufferDataBuffer dataBuffer = new ByteBufferDataBuffer(buffer);
+        Assertions.assertEquals(16, dataBuffer.capacity());
+        Assertions.assertEquals(16, dataBuffer.limit());
+        Assertions.assertEquals((byte) 8, dataBuffer.get());
+        Assertions.assertEquals((byte) 20, dataBuffer.get(12));
+        final byte[] bytes = new byte[4];
+        dataBuffer.get(bytes);
+        Assertions.assertArrayEquals(new byte[]{9, 10, 11, 12}, bytes);
+        Assertions.assertEquals(5, dataBuffer.position());
+        Assertions.assertThrows(BufferUnderflowException.class, () -> dataBuffer.get(new byte[12]));
+    }
+
+    @Test
+    void testGetByteBuffer() {
+        final ByteBufferDataBuffer dataBuffer = new ByteBufferDataBuffer(buffer);
+        final ByteBuffer dst = ByteBuffer.allocate(16);
+        dst.position(4);
+        dataBuffer.get(dst);
+        Assertions.assertEquals(12, dataBuffer.position());
+        Assertions.assertEquals((byte) 8, dst.get(4));
+        Assertions.assertEquals((byte) 19, dst.get(15));
+        // the source buffer is not touched
+        Assertions.assertEquals(8, buffer.position());
+    }
+
+    @Test
+    void testSlice() {
+        final ByteBufferDataBuffer dataBuffer = new ByteBufferDataBuffer(buffer);
+        final DataBuffer slice = dataBuffer.slice(4, 8);
+        Assertions.assertEquals(8, slice.limit());
+        Assertions.assertEquals((byte) 12, slice.get());
+        dataBuffer.position(10);
+        Assertions.assertEquals((byte) 18, dataBuffer.slice().get());
+        Assertions.assertEquals(6, dataBuffer.slice().remaining());
+    }
+
+    @Test
+    void testReadRemainWithoutCopyOfSource() {
+        final ByteBufferDataBuffer dataBuffer = new ByteBufferDataBuffer(buffer);
+        buffer.put(8, (byte) 100);
+        Assertions.assertEquals((byte) 100, dataBuffer.readRemain()[0]);
+    }
+}
@@ -20,6 +20,8 @@ package com.trs.pacifica.util.io;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -175,4 +177,19 @@ public class LinkedDataBufferTest {
 
     }
 
+    @Test
+    void testGetByteBuffer() {
+        linkedDataBuffer.position(5);
+        final ByteBuffer dst = ByteBuffer.allocate(20);
+        linkedDataBuffer.get(dst);
+        Assertions.assertEquals(25, linkedDataBuffer.position());
+        Assertions.assertFalse(dst.hasRemaining());
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals((byte) (i + 5), dst.get(i));
+        }
+        final byte[] rest = new byte[5];
+        linkedDataBuffer.get(rest);
+        Assertions.assertEquals((byte) 29, rest[4]);
+        Assertions.assertThrows(BufferUnderflowException.class, () -> linkedDataBuffer.get(ByteBuffer.allocate(1)));
+    }
 }
@@ -80,11 +80,29 @@ public class CounterFsm extends BaseStateMachine {
 
     @Override
     public void onSnapshotSave(SnapshotWriter snapshotWriter) throws PacificaException {
+        doSnapshotSave(snapshotWriter, this.value.get());
+    }
+
+    @Override
+    public void onSnapshotSave(SnapshotWriter snapshotWriter, Callback onFinish) {
+        // capture the value on the thread applying operations, and write it in the background.
+        final long snapshotValue = this.value.get();
+        ThreadUtil.runInThread(() -> {
+            try {
+                doSnapshotSave(snapshotWriter, snapshotValue);
+                onFinish.run(Finished.success());
+            } catch (Throwable e) {
+                onFinish.run(Finished.failure(e));
+            }
+        });
+    }
+
+    private void doSnapshotSave(SnapshotWriter snapshotWriter, long snapshotValue) throws PacificaException {
         String snapshotDirPath = snapshotWriter.getDirectory();
         String filename = DEFAULT_SNAPSHOT_FILENAME;
         File file = new File(snapshotDirPath, filename);
         try {
-            saveToFile(file);
+            saveToFile(file, snapshotValue);
             snapshotWriter.addFile(filename);
         } catch (Throwable e) {
             throw new PacificaException(PacificaErrorCode.IO, "failed to save snapshot.", e);
@@ -131,9 +149,9 @@ public class CounterFsm extends BaseStateMachine {
         }
     }
 
-    private void saveToFile(File file) throws IOException {
+    private void saveToFile(File file, long value) throws IOException {
         byte[] bytes = new byte[Long.BYTES];
-        BitUtil.putLong(bytes, 0, this.value.get());
+        BitUtil.putLong(bytes, 0, value);
         try (FileOutputStream outputStream = new FileOutputStream(file);) {
             outputStream.write(bytes);
         }
@@ -27,9 +27,15 @@ import com.trs.pacifica.rpc.client.InvokeCallback;
 import com.trs.pacifica.rpc.client.RpcClient;
 import com.trs.pacifica.rpc.error.ConnectionException;
 import com.trs.pacifica.rpc.node.Endpoint;
+import com.trs.pacifica.util.OnlyForTest;
 import com.trs.pacifica.util.SystemPropertyUtil;
 import com.trs.pacifica.util.ThrowsUtil;
 import io.grpc.*;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 import io.grpc.stub.ClientCalls;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
@@ -58,21 +64,48 @@ public class GrpcClient implements RpcClient {
     private static final int MAX_OUTBOUND_MESSAGE_SIZE = SystemPropertyUtil.getInt(
             "jpacifica.grpc.max.outbound.message.size", DEF_MAX_OUTBOUND_MESSAGE_SIZE);
 
+    /**
+     * number of the event loop threads of all channels, 0 if the shared event loop of grpc is used.
+     */
+    public static final int DEFAULT_EVENT_LOOP_THREADS = SystemPropertyUtil.getInt(
+            "jpacifica.grpc.client.event.loop.threads", 0);
+
 
     private final Map<Endpoint, ManagedChannel> channelContainer = new ConcurrentHashMap<>();
     private final Map<Endpoint, AtomicInteger> transientFailures = new ConcurrentHashMap<>();
+    /**
+     * MethodDescriptor is immutable and independent of the channel, so it is built once for each type of request.
+     */
+    private final Map<Class<?>, MethodDescriptor<Message, Message>> methodDescriptors = new ConcurrentHashMap<>();
     private final MarshallerManager requestMarshallerManager;
     private final MarshallerManager responseMarshallerManager;
     private volatile boolean stopped = false;
     private int maxInboundMessageSize = MAX_INBOUND_MESSAGE_SIZE;
     private int maxOutboundMessageSize = MAX_OUTBOUND_MESSAGE_SIZE;
+    private final CallOptions defaultCallOptions;
+    private final Executor callbackExecutor;
+    private final EventLoopGroup eventLoopGroup;
 
 
-    public GrpcClient(MarshallerManager requestMarshallerManager, MarshallerManager responseMarshallerManager, int maxInboundMessageSize, int maxOutboundMessageSize) {
+    public GrpcClient(MarshallerManager requestMarshallerManager, MarshallerManager responseMarshallerManager, Option option) {
+        Objects.requireNonNull(option, "option");
         this.requestMarshallerManager = requestMarshallerManager;
         this.responseMarshallerManager = responseMarshallerManager;
-        this.maxInboundMessageSize = maxInboundMessageSize;
-        this.maxOutboundMessageSize = maxOutboundMessageSize;
+        this.maxInboundMessageSize = option.getMaxInboundMessageSize();
+        this.maxOutboundMessageSize = option.getMaxOutboundMessageSize();
+        this.defaultCallOptions = CallOptions.DEFAULT//
+                .withMaxInboundMessageSize(this.maxInboundMessageSize)//
+                .withMaxOutboundMessageSize(this.maxOutboundMessageSize);
+        this.callbackExecutor = option.getCallbackExecutor();
+        if (option.getEventLoopThreads() > 0) {
+            this.eventLoopGroup = new NioEventLoopGroup(option.getEventLoopThreads(), new DefaultThreadFactory("jpacifica-grpc-client", true));
+        } else {
+            this.eventLoopGroup = null;
+        }
+    }
+
+    public GrpcClient(MarshallerManager requestMarshallerManager, MarshallerManager responseMarshallerManager, int maxInboundMessageSize, int maxOutboundMessageSize) {
+        this(requestMarshallerManager, responseMarshallerManager, newOption(maxInboundMessageSize, maxOutboundMessageSize));
     }
 
     public GrpcClient(MarshallerManager requestMarshallerManager, MarshallerManager responseMarshallerManager) {
@@ -85,6 +118,9 @@ public class GrpcClient implements RpcClient {
             this.stopped = true;
             closeAllChannel();
             this.transientFailures.clear();
+            if (this.eventLoopGroup != null) {
+                this.eventLoopGroup.shutdownGracefully(0, 1000, TimeUnit.MILLISECONDS);
+            }
         }
     }
 
@@ -117,7 +153,8 @@ public class GrpcClient implements RpcClient {
         ensureOpen();
         Objects.requireNonNull(endpoint, "endpoint");
         Objects.requireNonNull(request, "request");
-        final ExecutorInvokeCallback invokeCallback = ExecutorInvokeCallback.wrap(callback);
+        // the callback is completed in the event loop if no executor
+        final ExecutorInvokeCallback invokeCallback = callback.executor() == null ? ExecutorInvokeCallback.wrap(callback, this.callbackExecutor) : ExecutorInvokeCallback.wrap(callback);
         final ManagedChannel channel = getChannel(endpoint);
         if (channel == null) {
             invokeCallback.complete(null, new ConnectionException(String.format("The attempt to connect to %s failed", endpoint)));
@@ -127,10 +164,7 @@ public class GrpcClient implements RpcClient {
             timeoutMs = Integer.MAX_VALUE;
         }
         // client option
-        final CallOptions callOpts = CallOptions.DEFAULT//
-                .withDeadlineAfter(timeoutMs, TimeUnit.MILLISECONDS)//
-                .withMaxInboundMessageSize(this.getMaxInboundMessageSize())//
-                .withMaxOutboundMessageSize(this.getMaxOutboundMessageSize());//
+        final CallOptions callOpts = this.defaultCallOptions.withDeadlineAfter(timeoutMs, TimeUnit.MILLISECONDS);
 
         // method
         final MethodDescriptor<Message, Message> method = getCallMethod(request);
@@ -145,7 +179,7 @@ public class GrpcClient implements RpcClient {
 
             @Override
             public void onError(final Throwable throwable) {
-                invokeCallback.complete(null, throwable);
+                invokeCallback.complete(null, GrpcUtil.toRpcError(throwable));
             }
 
             @Override
@@ -185,9 +219,19 @@ public class GrpcClient implements RpcClient {
         }
     }
 
-    private MethodDescriptor<Message, Message> getCallMethod(final Object request) {
+    @OnlyForTest
+    MethodDescriptor<Message, Message> getCallMethod(final Object request) {
         Objects.requireNonNull(request, "request");
-        final String requestClzName = request.getClass().getName();
+        final MethodDescriptor<Message, Message> method = this.methodDescriptors.get(request.getClass());
+        if (method != null) {
+            return method;
+        }
+        // the method reference is allocated only on the miss
+        return this.methodDescriptors.computeIfAbsent(request.getClass(), this::newCallMethod);
+    }
+
+    private MethodDescriptor<Message, Message> newCallMethod(final Class<?> requestClz) {
+        final String requestClzName = requestClz.getName();
         return MethodDescriptor //
                 .<Message, Message>newBuilder() //
                 .setType(MethodDescriptor.MethodType.UNARY) //
@@ -256,12 +300,15 @@ public class GrpcClient implements RpcClient {
 
     private ManagedChannel createChannel(final Endpoint endpoint) {
         ensureOpen();
-        final ManagedChannel ch = ManagedChannelBuilder//
+        final NettyChannelBuilder builder = NettyChannelBuilder//
                 .forAddress(endpoint.getIp(), endpoint.getPort()) //
                 .usePlaintext() //
                 .directExecutor() //
-                .maxInboundMessageSize(this.getMaxInboundMessageSize()) //
-                .build();
+                .maxInboundMessageSize(this.getMaxInboundMessageSize());
+        if (this.eventLoopGroup != null) {
+            builder.eventLoopGroup(this.eventLoopGroup).channelType(NioSocketChannel.class);
+        }
+        final ManagedChannel ch = builder.build();
         LOGGER.info("Creating new channel to: {}.", endpoint);
         return ch;
     }
@@ -313,10 +360,64 @@ public class GrpcClient implements RpcClient {
         final String requestClzName = request.getClass().getName();
         this.requestMarshallerManager.registerMarshaller(requestClzName, request);
         this.responseMarshallerManager.registerMarshaller(requestClzName, response);
+        this.methodDescriptors.remove(request.getClass());
     }
 
     @Override
     public void close() throws IOException {
         this.shutdown();
     }
+
+    private static Option newOption(int maxInboundMessageSize, int maxOutboundMessageSize) {
+        final Option option = new Option();
+        option.setMaxInboundMessageSize(maxInboundMessageSize);
+        option.setMaxOutboundMessageSize(maxOutboundMessageSize);
+        return option;
+    }
+
+    public static class Option {
+
+        private int maxInboundMessageSize = MAX_INBOUND_MESSAGE_SIZE;
+
+        private int maxOutboundMessageSize = MAX_OUTBOUND_MESSAGE_SIZE;
+
+        private int eventLoopThreads = DEFAULT_EVENT_LOOP_THREADS;
+
+        /**
+         * executor to complete the InvokeCallback without executor, null if completed in the event loop.
+         */
+        private Executor callbackExecutor = null;
+
+        public int getMaxInboundMessageSize() {
+            return maxInboundMessageSize;
+        }
+
+        public void setMaxInboundMessageSize(int maxInboundMessageSize) {
+            this.maxInboundMessageSize = maxInboundMessageSize;
+        }
+
+        public int getMaxOutboundMessageSize() {
+            return maxOutboundMessageSize;
+        }
+
+        public void setMaxOutboundMessageSize(int maxOutboundMessageSize) {
+            this.maxOutboundMessageSize = maxOutboundMessageSize;
+        }
+
+        public int getEventLoopThreads() {
+            return eventLoopThreads;
+        }
+
+        public void setEventLoopThreads(int eventLoopThreads) {
+            this.eventLoopThreads = eventLoopThreads;
+        }
+
+        public Executor getCallbackExecutor() {
+            return callbackExecutor;
+        }
+
+        public void setCallbackExecutor(Executor callbackExecutor) {
+            this.callbackExecutor = callbackExecutor;
+        }
+    }
 }
@@ -109,6 +109,8 @@ public class GrpcFactory implements RpcFactory {
         this.register(RpcRequest.InstallSnapshotRequest.getDefaultInstance(), RpcRequest.InstallSnapshotResponse.getDefaultInstance());
         this.register(RpcRequest.GetFileRequest.getDefaultInstance(), RpcRequest.GetFileResponse.getDefaultInstance());
         this.register(RpcRequest.PingReplicaRequest.getDefaultInstance(), RpcRequest.PingReplicaResponse.getDefaultInstance());
+        this.register(RpcRequest.GetCommitPointRequest.getDefaultInstance(), RpcRequest.GetCommitPointResponse.getDefaultInstance());
+        this.register(RpcRequest.BatchAppendEntriesRequest.getDefaultInstance(), RpcRequest.BatchAppendEntriesResponse.getDefaultInstance());
     }
 
 
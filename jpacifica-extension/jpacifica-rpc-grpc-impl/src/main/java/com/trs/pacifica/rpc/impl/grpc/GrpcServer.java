@@ -25,9 +25,14 @@ import com.trs.pacifica.rpc.RpcContext;
 import com.trs.pacifica.rpc.RpcHandler;
 import com.trs.pacifica.rpc.RpcServer;
 import com.trs.pacifica.rpc.node.Endpoint;
+import com.trs.pacifica.util.SystemConstants;
 import com.trs.pacifica.util.SystemPropertyUtil;
 import io.grpc.*;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import io.grpc.util.MutableHandlerRegistry;
@@ -48,6 +53,19 @@ public class GrpcServer implements RpcServer{
     private static final int MAX_INBOUND_MESSAGE_SIZE = SystemPropertyUtil.getInt(
             "jpacifica.grpc.max.inbound.message.size", DEF_MAX_INBOUND_MESSAGE_SIZE);
 
+    /**
+     * number of the threads accepting connections
+     */
+    public static final int DEFAULT_BOSS_THREADS = SystemPropertyUtil.getInt(
+            "jpacifica.grpc.server.boss.threads", 1);
+
+    /**
+     * number of the event loop threads doing the network I/O,
+     * the requests are handled in the executor of RpcHandler if any, see {@link RpcHandler#executor(Object)}
+     */
+    public static final int DEFAULT_WORKER_THREADS = SystemPropertyUtil.getInt(
+            "jpacifica.grpc.server.worker.threads", SystemConstants.CPUS * 2);
+
 
     protected final Endpoint endpoint;
 
@@ -63,6 +81,12 @@ public class GrpcServer implements RpcServer{
 
     private volatile boolean stopped = true;
 
+    private Option option = new Option();
+
+    private EventLoopGroup bossGroup;
+
+    private EventLoopGroup workerGroup;
+
     public GrpcServer(Endpoint endpoint, MarshallerManager requestMarshallerManager, MarshallerManager responseMarshallerManager) {
         this.endpoint = endpoint;
         this.requestMarshallerManager = requestMarshallerManager;
@@ -72,6 +96,9 @@ public class GrpcServer implements RpcServer{
 
     @Override
     public synchronized void init(Object option) throws PacificaException {
+        if (option instanceof Option) {
+            this.option = (Option) option;
+        }
         this.registerDefaultInterceptor();
         this.addInterceptor(this.serverInterceptors);
     }
@@ -85,6 +112,7 @@ public class GrpcServer implements RpcServer{
                 this.stopped = false;
                 LOGGER.info("the rpc server is {} , port={}", this.server.getClass().getSimpleName(), this.server.getPort());
             } catch (IOException e) {
+                shutdownEventLoopGroups();
                 throw new PacificaException(PacificaErrorCode.IO, "failed to startup.", e);
             }
         }
@@ -95,6 +123,18 @@ public class GrpcServer implements RpcServer{
         if (!isStopped()) {
             this.stopped = true;
             shutdownAndAwaitTermination(this.server);
+            shutdownEventLoopGroups();
+        }
+    }
+
+    private void shutdownEventLoopGroups() {
+        if (this.bossGroup != null) {
+            this.bossGroup.shutdownGracefully(0, DEFAULT_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            this.bossGroup = null;
+        }
+        if (this.workerGroup != null) {
+            this.workerGroup.shutdownGracefully(0, DEFAULT_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            this.workerGroup = null;
         }
     }
 
@@ -105,9 +145,15 @@ public class GrpcServer implements RpcServer{
     protected Server buildServer(final Endpoint endpoint) {
         final int port = this.endpoint.getPort();
         final int maxInboundMessageSize = MAX_INBOUND_MESSAGE_SIZE;
+        this.bossGroup = new NioEventLoopGroup(this.option.getBossThreads(), new DefaultThreadFactory("jpacifica-grpc-boss", true));
+        this.workerGroup = new NioEventLoopGroup(this.option.getWorkerThreads(), new DefaultThreadFactory("jpacifica-grpc-worker", true));
+        // the RpcHandlers switch to their executors, so it is direct here
         return NettyServerBuilder.forPort(port)//
                 .fallbackHandlerRegistry(this.mutableHandlerRegistry)//
                 .maxInboundMessageSize(maxInboundMessageSize)//
+                .bossEventLoopGroup(this.bossGroup)//
+                .workerEventLoopGroup(this.workerGroup)//
+                .channelType(NioServerSocketChannel.class)//
                 .directExecutor()//
                 .build();
     }
@@ -238,4 +284,27 @@ public class GrpcServer implements RpcServer{
         return false;
     }
 
+    public static class Option {
+
+        private int bossThreads = DEFAULT_BOSS_THREADS;
+
+        private int workerThreads = DEFAULT_WORKER_THREADS;
+
+        public int getBossThreads() {
+            return bossThreads;
+        }
+
+        public void setBossThreads(int bossThreads) {
+            this.bossThreads = bossThreads;
+        }
+
+        public int getWorkerThreads() {
+            return workerThreads;
+        }
+
+        public void setWorkerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+        }
+    }
+
 }
@@ -17,7 +17,9 @@
 
 package com.trs.pacifica.rpc.impl.grpc;
 
+import com.trs.pacifica.rpc.error.NoHandlerException;
 import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 
 public class GrpcUtil {
 
@@ -30,5 +32,16 @@ public class GrpcUtil {
         return MethodDescriptor.generateFullMethodName(requestClzName, GrpcFactory.FIXED_METHOD_NAME);
     }
 
+    /**
+     * @param error error of the call
+     * @return NoHandlerException if the method is not implemented by the server, otherwise the error itself
+     */
+    public static Throwable toRpcError(final Throwable error) {
+        if (Status.fromThrowable(error).getCode() == Status.Code.UNIMPLEMENTED) {
+            return new NoHandlerException(error.getMessage(), error);
+        }
+        return error;
+    }
+
 
 }
@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.trs.pacifica.rpc.impl.grpc;
+
+import com.google.protobuf.Message;
+import com.trs.pacifica.proto.RpcRequest;
+import io.grpc.MethodDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GrpcClientTest {
+
+    private GrpcClient grpcClient;
+
+    @BeforeEach
+    void setup() {
+        this.grpcClient = (GrpcClient) new GrpcFactory().createRpcClient();
+    }
+
+    @AfterEach
+    void shutdown() {
+        this.grpcClient.shutdown();
+    }
+
+    @Test
+    void testGetCallMethod() {
+        final RpcRequest.PingReplicaRequest request = RpcRequest.PingReplicaRequest.newBuilder().build();
+        final MethodDescriptor<Message, Message> method = this.grpcClient.getCallMethod(request);
+        Assertions.assertEquals(GrpcUtil.getFullMethodName(RpcRequest.PingReplicaRequest.class.getName()), method.getFullMethodName());
+        Assertions.assertEquals(MethodDescriptor.MethodType.UNARY, method.getType());
+        // reused for the same type of request
+        Assertions.assertSame(method, this.grpcClient.getCallMethod(RpcRequest.PingReplicaRequest.getDefaultInstance()));
+        Assertions.assertNotSame(method, this.grpcClient.getCallMethod(RpcRequest.AppendEntriesRequest.getDefaultInstance()));
+    }
+
+    @Test
+    void testGetCallMethodAfterExtendMarshaller() {
+        final MethodDescriptor<Message, Message> method = this.grpcClient.getCallMethod(RpcRequest.PingReplicaRequest.getDefaultInstance());
+        this.grpcClient.extendMarshaller(RpcRequest.PingReplicaRequest.getDefaultInstance(), RpcRequest.PingReplicaResponse.getDefaultInstance());
+        final MethodDescriptor<Message, Message> newMethod = this.grpcClient.getCallMethod(RpcRequest.PingReplicaRequest.getDefaultInstance());
+        Assertions.assertNotSame(method, newMethod);
+        Assertions.assertEquals(method.getFullMethodName(), newMethod.getFullMethodName());
+    }
+}
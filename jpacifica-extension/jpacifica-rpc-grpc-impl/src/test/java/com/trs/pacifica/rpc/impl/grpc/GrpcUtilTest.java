@@ -17,6 +17,8 @@
 
 package com.trs.pacifica.rpc.impl.grpc;
 
+import com.trs.pacifica.rpc.error.NoHandlerException;
+import io.grpc.Status;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +27,14 @@ class GrpcUtilTest {
     @Test
     void testGetFullMethodName() {
     }
+
+    @Test
+    void testToRpcError() {
+        final Throwable unimplemented = Status.UNIMPLEMENTED.asRuntimeException();
+        final Throwable error = GrpcUtil.toRpcError(unimplemented);
+        Assertions.assertTrue(error instanceof NoHandlerException);
+        Assertions.assertSame(unimplemented, error.getCause());
+        final Throwable unavailable = Status.UNAVAILABLE.asRuntimeException();
+        Assertions.assertSame(unavailable, GrpcUtil.toRpcError(unavailable));
+    }
 }